@@ -0,0 +1,10 @@
+package pt.amane.application.castmember.retrieve.export;
+
+import java.util.function.Consumer;
+import pt.amane.UnitUseCase;
+import pt.amane.application.castmember.retrieve.list.ListCastMembersOutput;
+
+public abstract class ExportCastMembersUseCase
+    extends UnitUseCase<Consumer<ListCastMembersOutput>> {
+
+}
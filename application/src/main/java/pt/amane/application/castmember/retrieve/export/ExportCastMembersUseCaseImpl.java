@@ -0,0 +1,20 @@
+package pt.amane.application.castmember.retrieve.export;
+
+import java.util.function.Consumer;
+import pt.amane.application.castmember.retrieve.list.ListCastMembersOutput;
+import pt.amane.domain.castmember.CastMemberGateway;
+import pt.amane.domain.validation.ObjectsValidator;
+
+public class ExportCastMembersUseCaseImpl extends ExportCastMembersUseCase {
+
+  private final CastMemberGateway castMemberGateway;
+
+  public ExportCastMembersUseCaseImpl(final CastMemberGateway castMemberGateway) {
+    this.castMemberGateway = (CastMemberGateway) ObjectsValidator.objectValidation(castMemberGateway);
+  }
+
+  @Override
+  public void execute(final Consumer<ListCastMembersOutput> consumer) {
+    this.castMemberGateway.streamAll(it -> consumer.accept(ListCastMembersOutput.from(it)));
+  }
+}
@@ -0,0 +1,10 @@
+package pt.amane.application.category.retrieve.export;
+
+import java.util.function.Consumer;
+import pt.amane.UnitUseCase;
+import pt.amane.application.category.retrieve.list.CategoryListOutput;
+
+public abstract class ExportCategoriesUseCase
+    extends UnitUseCase<Consumer<CategoryListOutput>> {
+
+}
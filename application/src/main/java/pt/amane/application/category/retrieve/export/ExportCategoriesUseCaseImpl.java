@@ -0,0 +1,20 @@
+package pt.amane.application.category.retrieve.export;
+
+import java.util.function.Consumer;
+import pt.amane.application.category.retrieve.list.CategoryListOutput;
+import pt.amane.domain.category.CategoryGateway;
+import pt.amane.domain.validation.ObjectsValidator;
+
+public class ExportCategoriesUseCaseImpl extends ExportCategoriesUseCase {
+
+  private final CategoryGateway categoryGateway;
+
+  public ExportCategoriesUseCaseImpl(final CategoryGateway categoryGateway) {
+    this.categoryGateway = (CategoryGateway) ObjectsValidator.objectValidation(categoryGateway);
+  }
+
+  @Override
+  public void execute(final Consumer<CategoryListOutput> consumer) {
+    this.categoryGateway.streamAll(it -> consumer.accept(CategoryListOutput.from(it)));
+  }
+}
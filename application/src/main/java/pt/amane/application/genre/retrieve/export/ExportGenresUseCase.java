@@ -0,0 +1,10 @@
+package pt.amane.application.genre.retrieve.export;
+
+import java.util.function.Consumer;
+import pt.amane.UnitUseCase;
+import pt.amane.application.genre.retrieve.list.GenreListOutput;
+
+public abstract class ExportGenresUseCase
+    extends UnitUseCase<Consumer<GenreListOutput>> {
+
+}
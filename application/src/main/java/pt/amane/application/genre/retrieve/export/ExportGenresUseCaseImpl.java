@@ -0,0 +1,20 @@
+package pt.amane.application.genre.retrieve.export;
+
+import java.util.function.Consumer;
+import pt.amane.application.genre.retrieve.list.GenreListOutput;
+import pt.amane.domain.genre.GenreGateway;
+import pt.amane.domain.validation.ObjectsValidator;
+
+public class ExportGenresUseCaseImpl extends ExportGenresUseCase {
+
+  private final GenreGateway genreGateway;
+
+  public ExportGenresUseCaseImpl(final GenreGateway genreGateway) {
+    this.genreGateway = (GenreGateway) ObjectsValidator.objectValidation(genreGateway);
+  }
+
+  @Override
+  public void execute(final Consumer<GenreListOutput> consumer) {
+    this.genreGateway.streamAll(it -> consumer.accept(GenreListOutput.from(it)));
+  }
+}
@@ -3,8 +3,14 @@ package pt.amane.application.video.create;
 import java.time.Year;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import pt.amane.Identifier;
 import pt.amane.domain.castmember.CastMemberGateway;
@@ -21,6 +27,7 @@ import pt.amane.domain.validation.ValidationHandler;
 import pt.amane.domain.validation.handler.Notification;
 import pt.amane.domain.video.MediaResourceGateway;
 import pt.amane.domain.video.Rating;
+import pt.amane.domain.video.Resource;
 import pt.amane.domain.video.Video;
 import pt.amane.domain.video.VideoGateway;
 import pt.amane.domain.video.VideoMediaType;
@@ -33,19 +40,25 @@ public class CreateVideoUseCaseImpl extends CreateVideoUseCase {
   private final GenreGateway genreGateway;
   private final MediaResourceGateway mediaResourceGateway;
   private final VideoGateway videoGateway;
+  private final Executor executor;
 
+  /**
+   * @param executor runs the validations of the aggregates and the media stores concurrently, it should be bounded
+   */
   public CreateVideoUseCaseImpl(
       final CategoryGateway categoryGateway,
       final CastMemberGateway castMemberGateway,
       final GenreGateway genreGateway,
       final MediaResourceGateway mediaResourceGateway,
-      final VideoGateway videoGateway
+      final VideoGateway videoGateway,
+      final Executor executor
   ) {
     this.categoryGateway = (CategoryGateway) ObjectsValidator.objectValidation(categoryGateway);
     this.castMemberGateway = (CastMemberGateway) ObjectsValidator.objectValidation(castMemberGateway);
     this.genreGateway = (GenreGateway) ObjectsValidator.objectValidation(genreGateway);
     this.mediaResourceGateway = (MediaResourceGateway) ObjectsValidator.objectValidation(mediaResourceGateway);
     this.videoGateway = (VideoGateway) ObjectsValidator.objectValidation(videoGateway);
+    this.executor = (Executor) ObjectsValidator.objectValidation(executor);
   }
 
 
@@ -58,9 +71,7 @@ public class CreateVideoUseCaseImpl extends CreateVideoUseCase {
     final var members = toIdentifier(aCommand.members(), CastMemberID::from);
 
     final var notification = Notification.create();
-    notification.append(validateCategories(categories));
-    notification.append(validateGenres(genres));
-    notification.append(validateMembers(members));
+    notification.append(validateAggregates(categories, genres, members));
 
     final var aVideo = Video.newVideo(
         aCommand.title(),
@@ -85,58 +96,103 @@ public class CreateVideoUseCaseImpl extends CreateVideoUseCase {
   }
 
   /**
-   * Stored AudioVideo or Image of different Type of video.
+   * Stores the medias concurrently and creates the video once all of them are stored.
+   * When a store fails the ones not started yet are skipped, the running ones are awaited,
+   * so clearResources also removes what they wrote.
    * @param aCommand
    * @param aVideo
    * @return
    */
   private Video create(CreateVideoCommand aCommand, Video aVideo) {
     final var anId = aVideo.getId();
+    final var aborted = new AtomicBoolean(false);
+
+    final var aVideoMedia = store(aborted, aCommand.getVideo(), obj ->
+        this.mediaResourceGateway.storeAudioVideo(anId, VideoResource.with(VideoMediaType.VIDEO, obj)));
+
+    final var aBannerMedia = store(aborted, aCommand.getBanner(), obj ->
+        this.mediaResourceGateway.storeImage(anId, VideoResource.with(VideoMediaType.BANNER, obj)));
+
+    final var aTraillerMedia = store(aborted, aCommand.getTrailer(), obj ->
+        this.mediaResourceGateway.storeAudioVideo(anId, VideoResource.with(VideoMediaType.TRAILER, obj)));
+
+    final var aThumbnailMedia = store(aborted, aCommand.getThumbnail(), obj ->
+        this.mediaResourceGateway.storeImage(anId, VideoResource.with(VideoMediaType.THUMBNAIL, obj)));
+
+    final var aThumbnailHalfMedia = store(aborted, aCommand.getThumbnailHalf(), obj ->
+        this.mediaResourceGateway.storeImage(anId, VideoResource.with(VideoMediaType.THUMBNAIL_HALF, obj)));
 
     try {
-      final var aVideoMedia = aCommand.getVideo()
-          .map(obj -> this.mediaResourceGateway.storeAudioVideo(anId, VideoResource.with(
-              VideoMediaType.VIDEO, obj)))
-          .orElse(null);
-
-      final var aBannerMedia = aCommand.getBanner()
-          .map(obj -> this.mediaResourceGateway.storeImage(anId, VideoResource.with(
-              VideoMediaType.BANNER, obj)))
-          .orElse(null);
-
-      final var aTraillerMedia = aCommand.getTrailer()
-          .map(obj -> this.mediaResourceGateway.storeAudioVideo(anId, VideoResource.with(
-              VideoMediaType.TRAILER, obj)))
-          .orElse(null);
-
-      final var aThumbnailMedia = aCommand.getThumbnail()
-          .map(obj -> this.mediaResourceGateway.storeImage(anId, VideoResource.with(
-              VideoMediaType.THUMBNAIL, obj)))
-          .orElse(null);
-
-      final var aThumbnailHalfMedia = aCommand.getThumbnailHalf()
-          .map(obj -> this.mediaResourceGateway.storeImage(anId, VideoResource.with(
-              VideoMediaType.THUMBNAIL_HALF, obj)))
-          .orElse(null);
+      CompletableFuture.allOf(aVideoMedia, aBannerMedia, aTraillerMedia, aThumbnailMedia, aThumbnailHalfMedia).join();
 
       return this.videoGateway.create(
           aVideo
-              .updateVideoMedia(aVideoMedia)
-              .updateBannerMedia(aBannerMedia)
-              .updateTrailerMedia(aTraillerMedia)
-              .updateThumbnailMedia(aThumbnailMedia)
-              .updateThumbnailHalfMedia(aThumbnailHalfMedia)
+              .updateVideoMedia(aVideoMedia.join())
+              .updateBannerMedia(aBannerMedia.join())
+              .updateTrailerMedia(aTraillerMedia.join())
+              .updateThumbnailMedia(aThumbnailMedia.join())
+              .updateThumbnailHalfMedia(aThumbnailHalfMedia.join())
       );
 
     } catch (final Throwable t) {
       this.mediaResourceGateway.clearResources(anId); // clean the video resources stored before on google storage. Or Rollback.
       throw InternalErrorException.with(
           "An error on create video was observed [videoId:%s]".formatted(anId.getValue()),
-          t
+          t instanceof CompletionException && t.getCause() != null ? t.getCause() : t
       );
     }
   }
 
+  /**
+   * Stores the resource on the executor, unless another store of the video already failed.
+   */
+  private <T> CompletableFuture<T> store(
+      final AtomicBoolean aborted,
+      final Optional<Resource> aResource,
+      final Function<Resource, T> storer
+  ) {
+    if (aResource.isEmpty()) {
+      return CompletableFuture.completedFuture(null);
+    }
+
+    final Supplier<T> aStore = () -> aborted.get() ? null : storer.apply(aResource.get());
+
+    return CompletableFuture.supplyAsync(aStore, this.executor)
+        .whenComplete((media, error) -> {
+          if (error != null) {
+            aborted.set(true);
+          }
+        });
+  }
+
+  /**
+   * Checks categories, genres and cast members concurrently, each one is a round trip to the database.
+   */
+  private ValidationHandler validateAggregates(
+      final Set<CategoryID> categories,
+      final Set<GenreID> genres,
+      final Set<CastMemberID> members
+  ) {
+    final var validations = List.<Supplier<ValidationHandler>>of(
+        () -> validateCategories(categories),
+        () -> validateGenres(genres),
+        () -> validateMembers(members)
+    ).stream()
+        .map(it -> CompletableFuture.supplyAsync(it, this.executor))
+        .toList();
+
+    final var notification = Notification.create();
+    try {
+      validations.forEach(it -> notification.append(it.join()));
+    } catch (final CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+    return notification;
+  }
+
   private ValidationHandler validateMembers(Set<CastMemberID> members) {
     return validateAggregate("Cast Members", members, castMemberGateway::existsByIds);
   }
@@ -0,0 +1,11 @@
+package pt.amane.application.video.create.bulk;
+
+import java.util.List;
+import pt.amane.application.video.create.CreateVideoCommand;
+
+public record BulkCreateVideoCommand(List<CreateVideoCommand> videos) {
+
+  public static BulkCreateVideoCommand with(final List<CreateVideoCommand> videos) {
+    return new BulkCreateVideoCommand(videos);
+  }
+}
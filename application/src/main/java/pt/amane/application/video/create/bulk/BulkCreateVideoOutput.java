@@ -0,0 +1,25 @@
+package pt.amane.application.video.create.bulk;
+
+import java.util.List;
+import pt.amane.domain.validation.Error;
+
+/**
+ * One item per command, in the order of the commands.
+ */
+public record BulkCreateVideoOutput(List<Item> items) {
+
+  public record Item(String id, List<Error> errors) {
+
+    public static Item created(final String id) {
+      return new Item(id, List.of());
+    }
+
+    public static Item failed(final List<Error> errors) {
+      return new Item(null, List.copyOf(errors));
+    }
+
+    public boolean isCreated() {
+      return this.id != null;
+    }
+  }
+}
@@ -0,0 +1,8 @@
+package pt.amane.application.video.create.bulk;
+
+import pt.amane.UseCase;
+
+public abstract class BulkCreateVideoUseCase
+    extends UseCase<BulkCreateVideoCommand, BulkCreateVideoOutput> {
+
+}
@@ -0,0 +1,180 @@
+package pt.amane.application.video.create.bulk;
+
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import pt.amane.Identifier;
+import pt.amane.application.video.create.CreateVideoCommand;
+import pt.amane.domain.castmember.CastMemberGateway;
+import pt.amane.domain.castmember.CastMemberID;
+import pt.amane.domain.category.CategoryGateway;
+import pt.amane.domain.category.CategoryID;
+import pt.amane.domain.genre.GenreGateway;
+import pt.amane.domain.genre.GenreID;
+import pt.amane.domain.validation.Error;
+import pt.amane.domain.validation.ObjectsValidator;
+import pt.amane.domain.validation.handler.Notification;
+import pt.amane.domain.video.Rating;
+import pt.amane.domain.video.Video;
+import pt.amane.domain.video.VideoGateway;
+
+/**
+ * Creates a batch of videos without medias. The categories, genres and cast members of the whole batch
+ * are checked with one query per aggregate, the valid videos are created together and the invalid ones
+ * are reported without failing the others.
+ */
+public class BulkCreateVideoUseCaseImpl extends BulkCreateVideoUseCase {
+
+  private final CategoryGateway categoryGateway;
+  private final CastMemberGateway castMemberGateway;
+  private final GenreGateway genreGateway;
+  private final VideoGateway videoGateway;
+
+  public BulkCreateVideoUseCaseImpl(
+      final CategoryGateway categoryGateway,
+      final CastMemberGateway castMemberGateway,
+      final GenreGateway genreGateway,
+      final VideoGateway videoGateway
+  ) {
+    this.categoryGateway = (CategoryGateway) ObjectsValidator.objectValidation(categoryGateway);
+    this.castMemberGateway = (CastMemberGateway) ObjectsValidator.objectValidation(castMemberGateway);
+    this.genreGateway = (GenreGateway) ObjectsValidator.objectValidation(genreGateway);
+    this.videoGateway = (VideoGateway) ObjectsValidator.objectValidation(videoGateway);
+  }
+
+  @Override
+  public BulkCreateVideoOutput execute(final BulkCreateVideoCommand aCommand) {
+    final var commands = aCommand.videos();
+
+    final var categories = existing(commands, CreateVideoCommand::categories, CategoryID::from, categoryGateway::existsByIds);
+    final var genres = existing(commands, CreateVideoCommand::genres, GenreID::from, genreGateway::existsByIds);
+    final var members = existing(commands, CreateVideoCommand::members, CastMemberID::from, castMemberGateway::existsByIds);
+
+    final var items = new ArrayList<BulkCreateVideoOutput.Item>(commands.size());
+    final var valid = new ArrayList<Video>();
+    final var positions = new ArrayList<Integer>();
+
+    for (final var aCmd : commands) {
+      final var categoryIds = toIdentifier(aCmd.categories(), CategoryID::from);
+      final var genreIds = toIdentifier(aCmd.genres(), GenreID::from);
+      final var memberIds = toIdentifier(aCmd.members(), CastMemberID::from);
+
+      final var notification = Notification.create();
+      missing("Categories", categoryIds, categories, notification);
+      missing("Genres", genreIds, genres, notification);
+      missing("Cast Members", memberIds, members, notification);
+      // the flags are primitives on the video, a missing one fails its line instead of the batch
+      required("opened", aCmd.opened(), notification);
+      required("published", aCmd.published(), notification);
+
+      final var aVideo = Video.newVideo(
+          aCmd.title(),
+          aCmd.description(),
+          aCmd.launchedAt() != null ? Year.of(aCmd.launchedAt()) : null,
+          aCmd.duration(),
+          Boolean.TRUE.equals(aCmd.opened()),
+          Boolean.TRUE.equals(aCmd.published()),
+          Rating.of(aCmd.rating()).orElse(null),
+          categoryIds,
+          genreIds,
+          memberIds
+      );
+
+      aVideo.validate(notification);
+
+      if (notification.hasErrors()) {
+        items.add(BulkCreateVideoOutput.Item.failed(notification.getErrors()));
+      } else {
+        positions.add(items.size());
+        items.add(null);
+        valid.add(aVideo);
+      }
+    }
+
+    if (!valid.isEmpty()) {
+      store(valid, positions, items);
+    }
+
+    return new BulkCreateVideoOutput(items);
+  }
+
+  /**
+   * The valid videos are created in a single call, when it fails none of them was created.
+   */
+  private void store(
+      final List<Video> videos,
+      final List<Integer> positions,
+      final List<BulkCreateVideoOutput.Item> items
+  ) {
+    try {
+      final var created = this.videoGateway.createAll(videos);
+      for (int i = 0; i < created.size(); i++) {
+        items.set(positions.get(i), BulkCreateVideoOutput.Item.created(created.get(i).getId().getValue()));
+      }
+    } catch (final RuntimeException e) {
+      final var anError = new Error("An error on create video was observed: %s".formatted(e.getMessage()));
+      positions.forEach(position -> items.set(position, BulkCreateVideoOutput.Item.failed(List.of(anError))));
+    }
+  }
+
+  /**
+   * Values of the ids referenced by the commands that exist, resolved with a single call.
+   */
+  private <T extends Identifier> Set<String> existing(
+      final List<CreateVideoCommand> commands,
+      final Function<CreateVideoCommand, Set<String>> ids,
+      final Function<String, T> mapper,
+      final Function<Iterable<T>, List<T>> existsByIds
+  ) {
+    final var referenced = commands.stream()
+        .map(ids)
+        .filter(values -> values != null)
+        .flatMap(Collection::stream)
+        .map(mapper)
+        .collect(Collectors.toSet());
+
+    if (referenced.isEmpty()) {
+      return Set.of();
+    }
+
+    return existsByIds.apply(referenced).stream()
+        .map(Identifier::getValue)
+        .collect(Collectors.toCollection(HashSet::new));
+  }
+
+  private static <T extends Identifier> void missing(
+      final String aggregateName,
+      final Set<T> ids,
+      final Set<String> existing,
+      final Notification notification
+  ) {
+    final var missingIds = ids.stream()
+        .map(Identifier::getValue)
+        .filter(id -> !existing.contains(id))
+        .collect(Collectors.joining(", "));
+
+    if (!missingIds.isEmpty()) {
+      notification.append(new Error("Some %s could not be found: %s".formatted(aggregateName, missingIds)));
+    }
+  }
+
+  private static void required(final String field, final Boolean value, final Notification notification) {
+    if (value == null) {
+      notification.append(new Error("'%s' should not be null".formatted(field)));
+    }
+  }
+
+  private static <T> Set<T> toIdentifier(final Set<String> ids, final Function<String, T> mapper) {
+    if (ids == null) {
+      return Set.of();
+    }
+    return ids.stream()
+        .map(mapper)
+        .collect(Collectors.toSet());
+  }
+}
@@ -3,13 +3,17 @@ package pt.amane.application.video.media.get;
 import pt.amane.domain.video.Resource;
 
 public record MediaOutput(
-    byte[] content,
+    Resource resource,
+    long length,
+    String checksum,
     String contentType,
     String name
 ) {
   public static MediaOutput with(final Resource aResource) {
     return new MediaOutput(
-        aResource.content(),
+        aResource,
+        aResource.length(),
+        aResource.checksum(),
         aResource.contentType(),
         aResource.name()
     );
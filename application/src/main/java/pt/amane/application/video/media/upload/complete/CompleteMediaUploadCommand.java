@@ -0,0 +1,21 @@
+package pt.amane.application.video.media.upload.complete;
+
+/**
+ * @param parts number of parts sent by the client, or null to assemble the parts received
+ */
+public record CompleteMediaUploadCommand(
+    String videoId,
+    String mediaType,
+    String uploadId,
+    Integer parts
+) {
+
+  public static CompleteMediaUploadCommand with(
+      final String anId,
+      final String aType,
+      final String anUploadId,
+      final Integer parts
+  ) {
+    return new CompleteMediaUploadCommand(anId, aType, anUploadId, parts);
+  }
+}
@@ -0,0 +1,8 @@
+package pt.amane.application.video.media.upload.complete;
+
+import pt.amane.UseCase;
+import pt.amane.application.video.media.upload.UploadMediaOutput;
+
+public abstract class CompleteMediaUploadUseCase extends UseCase<CompleteMediaUploadCommand, UploadMediaOutput> {
+
+}
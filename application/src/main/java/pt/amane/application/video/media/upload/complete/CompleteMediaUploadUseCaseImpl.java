@@ -0,0 +1,98 @@
+package pt.amane.application.video.media.upload.complete;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import pt.amane.application.video.media.upload.UploadMediaCommand;
+import pt.amane.application.video.media.upload.UploadMediaOutput;
+import pt.amane.application.video.media.upload.UploadMediaUseCase;
+import pt.amane.domain.exception.NotFoundException;
+import pt.amane.domain.exception.NotificationException;
+import pt.amane.domain.validation.Error;
+import pt.amane.domain.validation.ObjectsValidator;
+import pt.amane.domain.validation.handler.Notification;
+import pt.amane.domain.video.MediaResourceGateway;
+import pt.amane.domain.video.MediaUploadPart;
+import pt.amane.domain.video.VideoID;
+import pt.amane.domain.video.VideoMediaType;
+import pt.amane.domain.video.VideoResource;
+
+/**
+ * Assembles the parts of a resumable upload into the media, through the regular {@link UploadMediaUseCase},
+ * and discards the parts afterwards.
+ */
+public class CompleteMediaUploadUseCaseImpl extends CompleteMediaUploadUseCase {
+
+  private final MediaResourceGateway mediaResourceGateway;
+  private final UploadMediaUseCase uploadMediaUseCase;
+
+  public CompleteMediaUploadUseCaseImpl(
+      final MediaResourceGateway mediaResourceGateway,
+      final UploadMediaUseCase uploadMediaUseCase
+  ) {
+    this.mediaResourceGateway = (MediaResourceGateway) ObjectsValidator.objectValidation(mediaResourceGateway);
+    this.uploadMediaUseCase = (UploadMediaUseCase) ObjectsValidator.objectValidation(uploadMediaUseCase);
+  }
+
+  @Override
+  public UploadMediaOutput execute(final CompleteMediaUploadCommand aCmd) {
+    final var anId = VideoID.from(aCmd.videoId());
+    final var aType = VideoMediaType.of(aCmd.mediaType())
+        .orElseThrow(() -> typeNotFound(aCmd.mediaType()));
+    final var anUploadId = aCmd.uploadId();
+
+    this.mediaResourceGateway.getUpload(anId, aType, anUploadId)
+        .orElseThrow(() -> uploadNotFound(anUploadId));
+
+    validateParts(this.mediaResourceGateway.getUploadParts(anId, aType, anUploadId), aCmd.parts());
+
+    final var aResource = this.mediaResourceGateway.assembleUpload(anId, aType, anUploadId)
+        .orElseThrow(() -> uploadNotFound(anUploadId));
+
+    final var output =
+        this.uploadMediaUseCase.execute(UploadMediaCommand.with(aCmd.videoId(), VideoResource.with(aType, aResource)));
+
+    this.mediaResourceGateway.clearUpload(anId, aType, anUploadId);
+
+    return output;
+  }
+
+  private void validateParts(final List<MediaUploadPart> parts, final Integer expectedParts) {
+    final var notification = Notification.create();
+
+    final var lastPart = parts.isEmpty() ? 0 : parts.get(parts.size() - 1).number();
+    final var total = expectedParts != null ? expectedParts : lastPart;
+
+    if (total <= 0) {
+      notification.append(new Error("The upload has no parts"));
+    }
+
+    if (lastPart > total) {
+      notification.append(new Error("Received part %d of an upload with %d parts".formatted(lastPart, total)));
+    }
+
+    final var received = parts.stream().map(MediaUploadPart::number).collect(Collectors.toSet());
+    final var missing = new ArrayList<Integer>();
+    for (int number = 1; number <= total; number++) {
+      if (!received.contains(number)) {
+        missing.add(number);
+      }
+    }
+
+    if (!missing.isEmpty()) {
+      notification.append(new Error("Missing parts %s".formatted(missing)));
+    }
+
+    if (notification.hasErrors()) {
+      throw new NotificationException("Could not complete the upload", notification);
+    }
+  }
+
+  private NotFoundException uploadNotFound(final String anUploadId) {
+    return NotFoundException.with(new Error("Upload %s was not found".formatted(anUploadId)));
+  }
+
+  private NotFoundException typeNotFound(final String aType) {
+    return NotFoundException.with(new Error("Media type %s doesn't exists".formatted(aType)));
+  }
+}
@@ -0,0 +1,18 @@
+package pt.amane.application.video.media.upload.initiate;
+
+public record InitiateMediaUploadCommand(
+    String videoId,
+    String mediaType,
+    String contentType,
+    String name
+) {
+
+  public static InitiateMediaUploadCommand with(
+      final String anId,
+      final String aType,
+      final String aContentType,
+      final String aName
+  ) {
+    return new InitiateMediaUploadCommand(anId, aType, aContentType, aName);
+  }
+}
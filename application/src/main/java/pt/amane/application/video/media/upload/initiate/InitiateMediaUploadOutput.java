@@ -0,0 +1,15 @@
+package pt.amane.application.video.media.upload.initiate;
+
+import pt.amane.domain.video.VideoID;
+import pt.amane.domain.video.VideoMediaType;
+
+public record InitiateMediaUploadOutput(
+    String videoId,
+    VideoMediaType mediaType,
+    String uploadId
+) {
+
+  public static InitiateMediaUploadOutput with(final VideoID anId, final VideoMediaType aType, final String anUploadId) {
+    return new InitiateMediaUploadOutput(anId.getValue(), aType, anUploadId);
+  }
+}
@@ -0,0 +1,7 @@
+package pt.amane.application.video.media.upload.initiate;
+
+import pt.amane.UseCase;
+
+public abstract class InitiateMediaUploadUseCase extends UseCase<InitiateMediaUploadCommand, InitiateMediaUploadOutput> {
+
+}
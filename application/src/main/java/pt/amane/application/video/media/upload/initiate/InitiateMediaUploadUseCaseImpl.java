@@ -0,0 +1,78 @@
+package pt.amane.application.video.media.upload.initiate;
+
+import java.util.Set;
+import pt.amane.domain.exception.NotFoundException;
+import pt.amane.domain.exception.NotificationException;
+import pt.amane.domain.utils.IdUtils;
+import pt.amane.domain.validation.Error;
+import pt.amane.domain.validation.ObjectsValidator;
+import pt.amane.domain.validation.handler.Notification;
+import pt.amane.domain.video.MediaResourceGateway;
+import pt.amane.domain.video.Video;
+import pt.amane.domain.video.VideoGateway;
+import pt.amane.domain.video.VideoID;
+import pt.amane.domain.video.VideoMediaType;
+
+/**
+ * Starts a resumable upload, so large medias are sent in parts instead of a single request.
+ */
+public class InitiateMediaUploadUseCaseImpl extends InitiateMediaUploadUseCase {
+
+  private static final Set<VideoMediaType> RESUMABLE_TYPES = Set.of(VideoMediaType.VIDEO, VideoMediaType.TRAILER);
+
+  private final MediaResourceGateway mediaResourceGateway;
+  private final VideoGateway videoGateway;
+
+  public InitiateMediaUploadUseCaseImpl(
+      final MediaResourceGateway mediaResourceGateway,
+      final VideoGateway videoGateway
+  ) {
+    this.mediaResourceGateway = (MediaResourceGateway) ObjectsValidator.objectValidation(mediaResourceGateway);
+    this.videoGateway = (VideoGateway) ObjectsValidator.objectValidation(videoGateway);
+  }
+
+  @Override
+  public InitiateMediaUploadOutput execute(final InitiateMediaUploadCommand aCmd) {
+    final var anId = VideoID.from(aCmd.videoId());
+    final var aType = VideoMediaType.of(aCmd.mediaType())
+        .orElseThrow(() -> typeNotFound(aCmd.mediaType()));
+
+    validate(aType, aCmd);
+
+    this.videoGateway.findById(anId)
+        .orElseThrow(() -> notFound(anId));
+
+    final var anUploadId = IdUtils.uuid();
+    this.mediaResourceGateway.initiateUpload(anId, aType, anUploadId, aCmd.contentType(), aCmd.name());
+
+    return InitiateMediaUploadOutput.with(anId, aType, anUploadId);
+  }
+
+  private void validate(final VideoMediaType aType, final InitiateMediaUploadCommand aCmd) {
+    final var notification = Notification.create();
+
+    if (!RESUMABLE_TYPES.contains(aType)) {
+      notification.append(new Error("Resumable upload is not supported for %s".formatted(aType.name())));
+    }
+
+    if (aCmd.contentType() == null || aCmd.contentType().isBlank()) {
+      notification.append(new Error("'content_type' should not be empty"));
+    }
+
+    if (aCmd.name() == null || aCmd.name().isBlank()) {
+      notification.append(new Error("'name' should not be empty"));
+    }
+
+    if (notification.hasErrors()) {
+      throw new NotificationException("Could not initiate the upload", notification);
+    }
+  }
+
+  private NotFoundException notFound(final VideoID anId) {
+    return NotFoundException.with(Video.class, anId);
+  }
+
+  private NotFoundException typeNotFound(final String aType) {
+    return NotFoundException.with(new Error("Media type %s doesn't exists".formatted(aType)));
+  }
+}
@@ -0,0 +1,28 @@
+package pt.amane.application.video.media.upload.part;
+
+import pt.amane.domain.video.Resource;
+
+/**
+ * @param checksum CRC32C of the part computed by the client, in the same format of the media checksum,
+ *                 or null to skip the verification
+ */
+public record UploadMediaPartCommand(
+    String videoId,
+    String mediaType,
+    String uploadId,
+    int partNumber,
+    Resource part,
+    String checksum
+) {
+
+  public static UploadMediaPartCommand with(
+      final String anId,
+      final String aType,
+      final String anUploadId,
+      final int aPartNumber,
+      final Resource aPart,
+      final String aChecksum
+  ) {
+    return new UploadMediaPartCommand(anId, aType, anUploadId, aPartNumber, aPart, aChecksum);
+  }
+}
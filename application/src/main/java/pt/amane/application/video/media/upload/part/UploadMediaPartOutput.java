@@ -0,0 +1,14 @@
+package pt.amane.application.video.media.upload.part;
+
+import pt.amane.domain.video.MediaUploadPart;
+
+public record UploadMediaPartOutput(
+    int partNumber,
+    long length,
+    String checksum
+) {
+
+  public static UploadMediaPartOutput with(final MediaUploadPart aPart) {
+    return new UploadMediaPartOutput(aPart.number(), aPart.length(), aPart.checksum());
+  }
+}
@@ -0,0 +1,7 @@
+package pt.amane.application.video.media.upload.part;
+
+import pt.amane.UseCase;
+
+public abstract class UploadMediaPartUseCase extends UseCase<UploadMediaPartCommand, UploadMediaPartOutput> {
+
+}
@@ -0,0 +1,58 @@
+package pt.amane.application.video.media.upload.part;
+
+import pt.amane.domain.exception.DomainException;
+import pt.amane.domain.exception.NotFoundException;
+import pt.amane.domain.validation.Error;
+import pt.amane.domain.validation.ObjectsValidator;
+import pt.amane.domain.video.MediaResourceGateway;
+import pt.amane.domain.video.VideoID;
+import pt.amane.domain.video.VideoMediaType;
+
+/**
+ * Stores one part of a resumable upload. Parts are independent, so a client may send them concurrently
+ * and retry only the ones that failed.
+ */
+public class UploadMediaPartUseCaseImpl extends UploadMediaPartUseCase {
+
+  public static final int MAX_PARTS = 10_000;
+
+  private final MediaResourceGateway mediaResourceGateway;
+
+  public UploadMediaPartUseCaseImpl(final MediaResourceGateway mediaResourceGateway) {
+    this.mediaResourceGateway = (MediaResourceGateway) ObjectsValidator.objectValidation(mediaResourceGateway);
+  }
+
+  @Override
+  public UploadMediaPartOutput execute(final UploadMediaPartCommand aCmd) {
+    final var anId = VideoID.from(aCmd.videoId());
+    final var aType = VideoMediaType.of(aCmd.mediaType())
+        .orElseThrow(() -> typeNotFound(aCmd.mediaType()));
+    final var anUploadId = aCmd.uploadId();
+    final var aPartNumber = aCmd.partNumber();
+
+    if (aPartNumber < 1 || aPartNumber > MAX_PARTS) {
+      throw DomainException.with(new Error("'part_number' should be between 1 and %d".formatted(MAX_PARTS)));
+    }
+
+    this.mediaResourceGateway.getUpload(anId, aType, anUploadId)
+        .orElseThrow(() -> uploadNotFound(anUploadId));
+
+    final var aPart = this.mediaResourceGateway.storeUploadPart(anId, aType, anUploadId, aPartNumber, aCmd.part());
+
+    if (aCmd.checksum() != null && !aCmd.checksum().equalsIgnoreCase(aPart.checksum())) {
+      this.mediaResourceGateway.deleteUploadPart(anId, aType, anUploadId, aPartNumber);
+      throw DomainException.with(new Error("Part %d checksum %s doesn't match the received content checksum %s"
+          .formatted(aPartNumber, aCmd.checksum(), aPart.checksum())));
+    }
+
+    return UploadMediaPartOutput.with(aPart);
+  }
+
+  private NotFoundException uploadNotFound(final String anUploadId) {
+    return NotFoundException.with(new Error("Upload %s was not found".formatted(anUploadId)));
+  }
+
+  private NotFoundException typeNotFound(final String aType) {
+    return NotFoundException.with(new Error("Media type %s doesn't exists".formatted(aType)));
+  }
+}
@@ -0,0 +1,12 @@
+package pt.amane.application.video.media.upload.retrieve;
+
+public record GetMediaUploadCommand(
+    String videoId,
+    String mediaType,
+    String uploadId
+) {
+
+  public static GetMediaUploadCommand with(final String anId, final String aType, final String anUploadId) {
+    return new GetMediaUploadCommand(anId, aType, anUploadId);
+  }
+}
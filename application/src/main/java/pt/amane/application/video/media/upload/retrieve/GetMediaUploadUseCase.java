@@ -0,0 +1,7 @@
+package pt.amane.application.video.media.upload.retrieve;
+
+import pt.amane.UseCase;
+
+public abstract class GetMediaUploadUseCase extends UseCase<GetMediaUploadCommand, MediaUploadOutput> {
+
+}
@@ -0,0 +1,46 @@
+package pt.amane.application.video.media.upload.retrieve;
+
+import pt.amane.domain.exception.NotFoundException;
+import pt.amane.domain.validation.Error;
+import pt.amane.domain.validation.ObjectsValidator;
+import pt.amane.domain.video.MediaResourceGateway;
+import pt.amane.domain.video.VideoID;
+import pt.amane.domain.video.VideoMediaType;
+
+/**
+ * Lists the parts already received, so an interrupted upload resumes from the missing ones.
+ */
+public class GetMediaUploadUseCaseImpl extends GetMediaUploadUseCase {
+
+  private final MediaResourceGateway mediaResourceGateway;
+
+  public GetMediaUploadUseCaseImpl(final MediaResourceGateway mediaResourceGateway) {
+    this.mediaResourceGateway = (MediaResourceGateway) ObjectsValidator.objectValidation(mediaResourceGateway);
+  }
+
+  @Override
+  public MediaUploadOutput execute(final GetMediaUploadCommand aCmd) {
+    final var anId = VideoID.from(aCmd.videoId());
+    final var aType = VideoMediaType.of(aCmd.mediaType())
+        .orElseThrow(() -> typeNotFound(aCmd.mediaType()));
+    final var anUploadId = aCmd.uploadId();
+
+    this.mediaResourceGateway.getUpload(anId, aType, anUploadId)
+        .orElseThrow(() -> uploadNotFound(anUploadId));
+
+    return MediaUploadOutput.with(
+        anId,
+        aType,
+        anUploadId,
+        this.mediaResourceGateway.getUploadParts(anId, aType, anUploadId)
+    );
+  }
+
+  private NotFoundException uploadNotFound(final String anUploadId) {
+    return NotFoundException.with(new Error("Upload %s was not found".formatted(anUploadId)));
+  }
+
+  private NotFoundException typeNotFound(final String aType) {
+    return NotFoundException.with(new Error("Media type %s doesn't exists".formatted(aType)));
+  }
+}
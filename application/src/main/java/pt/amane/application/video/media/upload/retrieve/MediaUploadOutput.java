@@ -0,0 +1,23 @@
+package pt.amane.application.video.media.upload.retrieve;
+
+import java.util.List;
+import pt.amane.domain.video.MediaUploadPart;
+import pt.amane.domain.video.VideoID;
+import pt.amane.domain.video.VideoMediaType;
+
+public record MediaUploadOutput(
+    String videoId,
+    VideoMediaType mediaType,
+    String uploadId,
+    List<MediaUploadPart> parts
+) {
+
+  public static MediaUploadOutput with(
+      final VideoID anId,
+      final VideoMediaType aType,
+      final String anUploadId,
+      final List<MediaUploadPart> parts
+  ) {
+    return new MediaUploadOutput(anId.getValue(), aType, anUploadId, parts);
+  }
+}
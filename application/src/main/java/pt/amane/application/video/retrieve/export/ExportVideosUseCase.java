@@ -0,0 +1,10 @@
+package pt.amane.application.video.retrieve.export;
+
+import java.util.function.Consumer;
+import pt.amane.UnitUseCase;
+import pt.amane.application.video.retrieve.list.VideoListOutput;
+
+public abstract class ExportVideosUseCase
+    extends UnitUseCase<Consumer<VideoListOutput>> {
+
+}
@@ -0,0 +1,20 @@
+package pt.amane.application.video.retrieve.export;
+
+import java.util.function.Consumer;
+import pt.amane.application.video.retrieve.list.VideoListOutput;
+import pt.amane.domain.validation.ObjectsValidator;
+import pt.amane.domain.video.VideoGateway;
+
+public class ExportVideosUseCaseImpl extends ExportVideosUseCase {
+
+  private final VideoGateway videoGateway;
+
+  public ExportVideosUseCaseImpl(final VideoGateway videoGateway) {
+    this.videoGateway = (VideoGateway) ObjectsValidator.objectValidation(videoGateway);
+  }
+
+  @Override
+  public void execute(final Consumer<VideoListOutput> consumer) {
+    this.videoGateway.streamAll(it -> consumer.accept(VideoListOutput.from(it)));
+  }
+}
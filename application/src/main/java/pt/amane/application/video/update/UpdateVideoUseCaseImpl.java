@@ -4,6 +4,9 @@ import java.time.Year;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -37,20 +40,25 @@ public class UpdateVideoUseCaseImpl extends UpdateVideoUseCase{
   private final CastMemberGateway castMemberGateway;
   private final GenreGateway genreGateway;
   private final MediaResourceGateway mediaResourceGateway;
+  private final Executor executor;
 
-
+  /**
+   * @param executor runs the validations of the aggregates concurrently, it should be bounded
+   */
   public UpdateVideoUseCaseImpl(
       final VideoGateway videoGateway,
       final CategoryGateway categoryGateway,
       final CastMemberGateway castMemberGateway,
       final GenreGateway genreGateway,
-      final MediaResourceGateway mediaResourceGateway
+      final MediaResourceGateway mediaResourceGateway,
+      final Executor executor
   ) {
     this.videoGateway = (VideoGateway) ObjectsValidator.objectValidation(videoGateway);
     this.categoryGateway = (CategoryGateway) ObjectsValidator.objectValidation(categoryGateway);
     this.castMemberGateway = (CastMemberGateway) ObjectsValidator.objectValidation(castMemberGateway);
     this.genreGateway = (GenreGateway) ObjectsValidator.objectValidation(genreGateway);
     this.mediaResourceGateway = (MediaResourceGateway) ObjectsValidator.objectValidation(mediaResourceGateway);
+    this.executor = (Executor) ObjectsValidator.objectValidation(executor);
   }
 
   @Override
@@ -66,9 +74,7 @@ public class UpdateVideoUseCaseImpl extends UpdateVideoUseCase{
         .orElseThrow(notFoundException(anId));
 
     final var notification = Notification.create();
-    notification.append(validateCategories(categories));
-    notification.append(validateGenres(genres));
-    notification.append(validateMembers(members));
+    notification.append(validateAggregates(categories, genres, members));
 
     aVideo.update(
         aCommand.title(),
@@ -137,6 +143,34 @@ public class UpdateVideoUseCaseImpl extends UpdateVideoUseCase{
     return () -> NotFoundException.with(Video.class, anId);
   }
 
+  /**
+   * Checks categories, genres and cast members concurrently, each one is a round trip to the database.
+   */
+  private ValidationHandler validateAggregates(
+      final Set<CategoryID> categories,
+      final Set<GenreID> genres,
+      final Set<CastMemberID> members
+  ) {
+    final var validations = List.<Supplier<ValidationHandler>>of(
+        () -> validateCategories(categories),
+        () -> validateGenres(genres),
+        () -> validateMembers(members)
+    ).stream()
+        .map(it -> CompletableFuture.supplyAsync(it, this.executor))
+        .toList();
+
+    final var notification = Notification.create();
+    try {
+      validations.forEach(it -> notification.append(it.join()));
+    } catch (final CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+    return notification;
+  }
+
   private ValidationHandler validateCategories(final Set<CategoryID> ids) {
     return validateAggregate("categories", ids, categoryGateway::existsByIds);
   }
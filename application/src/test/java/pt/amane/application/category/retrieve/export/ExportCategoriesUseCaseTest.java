@@ -0,0 +1,53 @@
+package pt.amane.application.category.retrieve.export;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import pt.amane.application.UseCaseTest;
+import pt.amane.application.category.retrieve.list.CategoryListOutput;
+import pt.amane.domain.category.Category;
+import pt.amane.domain.category.CategoryGateway;
+
+class ExportCategoriesUseCaseTest extends UseCaseTest {
+
+  @InjectMocks
+  private ExportCategoriesUseCaseImpl useCase;
+
+  @Mock
+  private CategoryGateway categoryGateway;
+
+  @Override
+  protected List<Object> getMocks() {
+    return List.of(categoryGateway);
+  }
+
+  @Test
+  void givenStreamedCategories_whenCallsExport_shouldHandEachOneAsOutput() {
+
+    //given
+    final var categories = List.of(
+        Category.newCategory("Filmes", null, true),
+        Category.newCategory("Series", null, true)
+    );
+
+    doAnswer(invocation -> {
+      final Consumer<Category> consumer = invocation.getArgument(0);
+      categories.forEach(consumer);
+      return null;
+    }).when(categoryGateway).streamAll(any());
+
+    //when
+    final var actualOutputs = new ArrayList<CategoryListOutput>();
+    useCase.execute(actualOutputs::add);
+
+    //then
+    Assertions.assertEquals(categories.stream().map(CategoryListOutput::from).toList(), actualOutputs);
+  }
+}
@@ -4,6 +4,7 @@ import static org.mockito.AdditionalAnswers.returnsFirstArg;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -13,9 +14,14 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import pt.amane.application.UseCaseTest;
 import pt.amane.domain.castmember.CastMemberGateway;
@@ -37,9 +43,10 @@ import pt.amane.domain.video.VideoResource;
 
 class CreateVideoUseCaseTest extends UseCaseTest {
 
-  @InjectMocks
   private CreateVideoUseCaseImpl useCase;
 
+  private ExecutorService executor;
+
   @Mock
   private VideoGateway videoGateway;
 
@@ -61,6 +68,19 @@ class CreateVideoUseCaseTest extends UseCaseTest {
     return List.of(videoGateway, categoryGateway, castMemberGateway, genreGateway, mediaResourceGateway);
   }
 
+  @BeforeEach
+  void setUp() {
+    this.executor = Executors.newFixedThreadPool(5);
+    this.useCase = new CreateVideoUseCaseImpl(
+        categoryGateway, castMemberGateway, genreGateway, mediaResourceGateway, videoGateway, executor
+    );
+  }
+
+  @AfterEach
+  void tearDown() {
+    this.executor.shutdownNow();
+  }
+
   @Test
   void givenAValidCommand_whenCallsCreateVideo_shouldReturnVideoId() {
 
@@ -1111,6 +1131,111 @@ class CreateVideoUseCaseTest extends UseCaseTest {
     verify(mediaResourceGateway).clearResources(any());
   }
 
+  @Test
+  void givenAValidCommand_whenCallsCreateVideoAndAStoreFails_shouldSkipTheOtherStoresAndCallClearResources() {
+
+    // given
+    final var expectedErrorMessage = "An error on create video was observed [videoId:";
+
+    // a single thread runs the stores in order, so the ones after the failure are not started yet
+    this.executor.shutdownNow();
+    this.executor = Executors.newSingleThreadExecutor();
+    this.useCase = new CreateVideoUseCaseImpl(
+        categoryGateway, castMemberGateway, genreGateway, mediaResourceGateway, videoGateway, executor
+    );
+
+    final var aCommand = CreateVideoCommand.with(
+        FixtureUtils.title(),
+        FixtureUtils.Videos.description(),
+        FixtureUtils.year(),
+        FixtureUtils.duration(),
+        FixtureUtils.bool(),
+        FixtureUtils.bool(),
+        FixtureUtils.Videos.rating().getName(),
+        Set.of(),
+        Set.of(),
+        Set.of(),
+        FixtureUtils.Videos.resource(VideoMediaType.VIDEO),
+        FixtureUtils.Videos.resource(VideoMediaType.TRAILER),
+        FixtureUtils.Videos.resource(VideoMediaType.BANNER),
+        FixtureUtils.Videos.resource(VideoMediaType.THUMBNAIL),
+        FixtureUtils.Videos.resource(VideoMediaType.THUMBNAIL_HALF)
+    );
+
+    when(mediaResourceGateway.storeAudioVideo(any(), any()))
+        .thenThrow(new RuntimeException("Storage unavailable"));
+
+    // when
+    final var actualResult = Assertions.assertThrows(InternalErrorException.class, () -> {
+      useCase.execute(aCommand);
+    });
+
+    // then
+    Assertions.assertTrue(actualResult.getMessage().startsWith(expectedErrorMessage));
+    Assertions.assertEquals("Storage unavailable", actualResult.getCause().getMessage());
+
+    verify(mediaResourceGateway, times(1)).storeAudioVideo(any(), any());
+    verify(mediaResourceGateway, never()).storeImage(any(), any());
+    verify(mediaResourceGateway).clearResources(any());
+    verify(videoGateway, never()).create(any());
+  }
+
+  @Test
+  void givenAValidCommand_whenCallsCreateVideo_shouldValidateTheAggregatesConcurrently() {
+
+    // given
+    final var expectedCategories = Set.of(FixtureUtils.Categories.aulas().getId());
+    final var expectedGenres = Set.of(FixtureUtils.Genres.tech().getId());
+    final var expectedMembers = Set.of(FixtureUtils.CastMembers.wesley().getId());
+
+    final var aCommand = CreateVideoCommand.with(
+        FixtureUtils.title(),
+        FixtureUtils.Videos.description(),
+        FixtureUtils.year(),
+        FixtureUtils.duration(),
+        FixtureUtils.bool(),
+        FixtureUtils.bool(),
+        FixtureUtils.Videos.rating().getName(),
+        asString(expectedCategories),
+        asString(expectedGenres),
+        asString(expectedMembers),
+        null,
+        null,
+        null,
+        null,
+        null
+    );
+
+    // each check only returns once the three of them are running
+    final var allRunning = new CyclicBarrier(3);
+
+    when(categoryGateway.existsByIds(any())).thenAnswer(t -> {
+      allRunning.await(5, TimeUnit.SECONDS);
+      return new ArrayList<>(expectedCategories);
+    });
+
+    when(genreGateway.existsByIds(any())).thenAnswer(t -> {
+      allRunning.await(5, TimeUnit.SECONDS);
+      return new ArrayList<>(expectedGenres);
+    });
+
+    when(castMemberGateway.existsByIds(any())).thenAnswer(t -> {
+      allRunning.await(5, TimeUnit.SECONDS);
+      return new ArrayList<>(expectedMembers);
+    });
+
+    when(videoGateway.create(any()))
+        .thenAnswer(returnsFirstArg());
+
+    // when
+    final var actualResult = useCase.execute(aCommand);
+
+    // then
+    Assertions.assertNotNull(actualResult.id());
+
+    verify(videoGateway, times(1)).create(any());
+  }
+
   private void mockImageMedia() {
     when(mediaResourceGateway.storeImage(any(), any())).thenAnswer(t -> {
       final var videoResource = t.getArgument(1, VideoResource.class);
@@ -0,0 +1,174 @@
+package pt.amane.application.video.create.bulk;
+
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import pt.amane.application.UseCaseTest;
+import pt.amane.application.video.create.CreateVideoCommand;
+import pt.amane.domain.castmember.CastMemberGateway;
+import pt.amane.domain.category.CategoryGateway;
+import pt.amane.domain.category.CategoryID;
+import pt.amane.domain.exception.InternalErrorException;
+import pt.amane.domain.genre.GenreGateway;
+import pt.amane.domain.utils.FixtureUtils;
+import pt.amane.domain.validation.Error;
+import pt.amane.domain.video.VideoGateway;
+
+class BulkCreateVideoUseCaseTest extends UseCaseTest {
+
+  private BulkCreateVideoUseCaseImpl useCase;
+
+  @Mock
+  private VideoGateway videoGateway;
+
+  @Mock
+  private CategoryGateway categoryGateway;
+
+  @Mock
+  private CastMemberGateway castMemberGateway;
+
+  @Mock
+  private GenreGateway genreGateway;
+
+  @Override
+  protected List<Object> getMocks() {
+    return List.of(videoGateway, categoryGateway, castMemberGateway, genreGateway);
+  }
+
+  @BeforeEach
+  void setUp() {
+    this.useCase = new BulkCreateVideoUseCaseImpl(categoryGateway, castMemberGateway, genreGateway, videoGateway);
+  }
+
+  @Test
+  void givenValidAndInvalidCommands_whenCallsBulkCreate_shouldCreateTheValidOnesAndReportTheOthers() {
+
+    //given
+    final var aulas = FixtureUtils.Categories.aulas().getId();
+    final var missing = CategoryID.unique();
+
+    final var aValid = command(FixtureUtils.title(), Set.of(aulas.getValue()));
+    final var aMissingCategory = command(FixtureUtils.title(), Set.of(aulas.getValue(), missing.getValue()));
+    final var anInvalid = command(null, Set.of());
+    final var anotherValid = command(FixtureUtils.title(), null);
+
+    when(categoryGateway.existsByIds(any()))
+        .thenReturn(List.of(aulas));
+
+    when(videoGateway.createAll(any()))
+        .thenAnswer(returnsFirstArg());
+
+    //when
+    final var actualOutput = useCase.execute(BulkCreateVideoCommand.with(List.of(aValid, aMissingCategory, anInvalid, anotherValid)));
+
+    //then
+    final var items = actualOutput.items();
+    Assertions.assertEquals(4, items.size());
+    Assertions.assertTrue(items.get(0).isCreated());
+    Assertions.assertFalse(items.get(1).isCreated());
+    Assertions.assertEquals(
+        "Some Categories could not be found: %s".formatted(missing.getValue()),
+        items.get(1).errors().get(0).message()
+    );
+    Assertions.assertFalse(items.get(2).isCreated());
+    Assertions.assertEquals("'title' should not be null", items.get(2).errors().get(0).message());
+    Assertions.assertTrue(items.get(3).isCreated());
+
+    verify(categoryGateway, times(1)).existsByIds(argThat(ids -> ids instanceof Set<?> set && set.equals(Set.of(aulas, missing))));
+    verify(genreGateway, never()).existsByIds(any());
+    verify(castMemberGateway, never()).existsByIds(any());
+    verify(videoGateway, times(1)).createAll(argThat(videos -> videos.size() == 2
+        && videos.get(0).getTitle().equals(aValid.title())
+        && videos.get(1).getTitle().equals(anotherValid.title())
+    ));
+  }
+
+  @Test
+  void givenAGatewayError_whenCallsBulkCreate_shouldReportItOnEveryValidCommand() {
+
+    //given
+    final var expectedErrorMessage = "Gateway error";
+
+    when(videoGateway.createAll(any()))
+        .thenThrow(InternalErrorException.with(expectedErrorMessage, new RuntimeException()));
+
+    //when
+    final var actualOutput = useCase.execute(BulkCreateVideoCommand.with(List.of(
+        command(FixtureUtils.title(), Set.of()),
+        command(null, Set.of())
+    )));
+
+    //then
+    final var items = actualOutput.items();
+    Assertions.assertEquals(
+        "An error on create video was observed: %s".formatted(expectedErrorMessage),
+        items.get(0).errors().get(0).message()
+    );
+    Assertions.assertEquals("'title' should not be null", items.get(1).errors().get(0).message());
+  }
+
+  @Test
+  void givenACommandWithoutTheOpenedAndPublishedFlags_whenCallsBulkCreate_shouldReportItAndCreateTheOthers() {
+
+    //given
+    final var aValid = command(FixtureUtils.title(), Set.of());
+    final var aWithoutFlags = CreateVideoCommand.with(
+        FixtureUtils.title(),
+        FixtureUtils.Videos.description(),
+        FixtureUtils.year(),
+        FixtureUtils.duration(),
+        null,
+        null,
+        FixtureUtils.Videos.rating().getName(),
+        Set.of(),
+        Set.of(),
+        Set.of()
+    );
+
+    when(videoGateway.createAll(any()))
+        .thenAnswer(returnsFirstArg());
+
+    //when
+    final var actualOutput = useCase.execute(BulkCreateVideoCommand.with(List.of(aWithoutFlags, aValid)));
+
+    //then
+    final var items = actualOutput.items();
+    Assertions.assertEquals(2, items.size());
+    Assertions.assertFalse(items.get(0).isCreated());
+    Assertions.assertEquals(
+        List.of("'opened' should not be null", "'published' should not be null"),
+        items.get(0).errors().stream().map(Error::message).toList()
+    );
+    Assertions.assertTrue(items.get(1).isCreated());
+
+    verify(videoGateway, times(1)).createAll(argThat(videos -> videos.size() == 1
+        && videos.get(0).getTitle().equals(aValid.title())
+    ));
+  }
+
+  private static CreateVideoCommand command(final String title, final Set<String> categories) {
+    return CreateVideoCommand.with(
+        title,
+        FixtureUtils.Videos.description(),
+        FixtureUtils.year(),
+        FixtureUtils.duration(),
+        FixtureUtils.bool(),
+        FixtureUtils.bool(),
+        FixtureUtils.Videos.rating().getName(),
+        categories,
+        Set.of(),
+        Set.of()
+    );
+  }
+}
@@ -44,7 +44,9 @@ class GetMediaUseCaseImplTest extends UseCaseTest {
 
     // then
     Assertions.assertEquals(expectedResource.name(), actualResult.name());
-    Assertions.assertEquals(expectedResource.content(), actualResult.content());
+    Assertions.assertEquals(expectedResource, actualResult.resource());
+    Assertions.assertEquals(expectedResource.length(), actualResult.length());
+    Assertions.assertEquals(expectedResource.checksum(), actualResult.checksum());
     Assertions.assertEquals(expectedResource.contentType(), actualResult.contentType());
   }
 
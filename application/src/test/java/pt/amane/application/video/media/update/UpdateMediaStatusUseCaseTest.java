@@ -1,24 +1,24 @@
 package pt.amane.application.video.media.update;
 
-import static org.mockito.AdditionalAnswers.returnsFirstArg;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.List;
-import java.util.Optional;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
-import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import pt.amane.application.UseCaseTest;
+import pt.amane.domain.exception.NotFoundException;
 import pt.amane.domain.utils.FixtureUtils;
 import pt.amane.domain.video.MediaStatus;
-import pt.amane.domain.video.Video;
 import pt.amane.domain.video.VideoGateway;
+import pt.amane.domain.video.VideoID;
 import pt.amane.domain.video.VideoMediaType;
 
 class UpdateMediaStatusUseCaseTest extends UseCaseTest {
@@ -40,19 +40,11 @@ class UpdateMediaStatusUseCaseTest extends UseCaseTest {
     final var expectedStatus = MediaStatus.COMPLETED;
     final var expectedFolder = "encoded_media";
     final var expectedFilename = "filename.mp4";
-    final var expectedType = VideoMediaType.VIDEO;
-    final var expectedMedia = FixtureUtils.Videos.audioVideo(expectedType);
+    final var expectedMedia = FixtureUtils.Videos.audioVideo(VideoMediaType.VIDEO);
+    final var expectedId = FixtureUtils.Videos.systemDesign().updateVideoMedia(expectedMedia).getId();
 
-    final var aVideo = FixtureUtils.Videos.systemDesign()
-        .updateVideoMedia(expectedMedia);
-
-    final var expectedId = aVideo.getId();
-
-    when(videoGateway.findById(any()))
-        .thenReturn(Optional.of(aVideo));
-
-    when(videoGateway.update(any()))
-        .thenAnswer(returnsFirstArg());
+    when(videoGateway.updateMediaStatus(any(), any(), any(), any()))
+        .thenReturn(true);
 
     final var aCmd = UpdateMediaStatusCommand.with(
         expectedStatus,
@@ -66,207 +58,123 @@ class UpdateMediaStatusUseCaseTest extends UseCaseTest {
     this.useCase.execute(aCmd);
 
     // then
-    verify(videoGateway, times(1)).findById(eq(expectedId));
-
-    final var captor = ArgumentCaptor.forClass(Video.class);
-
-    verify(videoGateway, times(1)).update(captor.capture());
-
-    final var actualVideo = captor.getValue();
-
-    Assertions.assertTrue(actualVideo.getTrailer().isEmpty());
-
-    final var actualVideoMedia = actualVideo.getVideo().get();
-
-    Assertions.assertEquals(expectedMedia.id(), actualVideoMedia.id());
-    Assertions.assertEquals(expectedMedia.rawLocation(), actualVideoMedia.rawLocation());
-    Assertions.assertEquals(expectedMedia.checksum(), actualVideoMedia.checksum());
-    Assertions.assertEquals(expectedStatus, actualVideoMedia.status());
-    Assertions.assertEquals(expectedFolder.concat("/").concat(expectedFilename), actualVideoMedia.encodedLocation());
+    verify(videoGateway, times(1)).updateMediaStatus(
+        eq(expectedId),
+        eq(expectedMedia.id()),
+        eq(expectedStatus),
+        eq(expectedFolder.concat("/").concat(expectedFilename))
+    );
+    verify(videoGateway, never()).existsById(any());
+    verify(videoGateway, never()).update(any());
   }
 
   @Test
-  void givenCommandForVideo_whenIsValidForProcessing_shouldUpdateStatusAndEncodedLocation() {
+  void givenCommandForTrailer_whenIsValidForProcessing_shouldUpdateStatusKeepingEncodedLocation() {
     // given
     final var expectedStatus = MediaStatus.PROCESSING;
-    final String expectedFolder = null;
-    final String expectedFilename = null;
-    final var expectedType = VideoMediaType.VIDEO;
-    final var expectedMedia = FixtureUtils.Videos.audioVideo(expectedType);
+    final var expectedMedia = FixtureUtils.Videos.audioVideo(VideoMediaType.TRAILER);
+    final var expectedId = FixtureUtils.Videos.systemDesign().updateTrailerMedia(expectedMedia).getId();
 
-    final var aVideo = FixtureUtils.Videos.systemDesign()
-        .updateVideoMedia(expectedMedia);
-
-    final var expectedId = aVideo.getId();
-
-    when(videoGateway.findById(any()))
-        .thenReturn(Optional.of(aVideo));
-
-    when(videoGateway.update(any()))
-        .thenAnswer(returnsFirstArg());
+    when(videoGateway.updateMediaStatus(any(), any(), any(), any()))
+        .thenReturn(true);
 
     final var aCmd = UpdateMediaStatusCommand.with(
         expectedStatus,
         expectedId.getValue(),
         expectedMedia.id(),
-        expectedFolder,
-        expectedFilename
+        null,
+        null
     );
 
     // when
     this.useCase.execute(aCmd);
 
     // then
-    verify(videoGateway, times(1)).findById(eq(expectedId));
-
-    final var captor = ArgumentCaptor.forClass(Video.class);
-
-    verify(videoGateway, times(1)).update(captor.capture());
-
-    final var actualVideo = captor.getValue();
-
-    Assertions.assertTrue(actualVideo.getTrailer().isEmpty());
-
-    final var actualVideoMedia = actualVideo.getVideo().get();
-
-    Assertions.assertEquals(expectedMedia.id(), actualVideoMedia.id());
-    Assertions.assertEquals(expectedMedia.rawLocation(), actualVideoMedia.rawLocation());
-    Assertions.assertEquals(expectedMedia.checksum(), actualVideoMedia.checksum());
-    Assertions.assertEquals(expectedStatus, actualVideoMedia.status());
-    Assertions.assertTrue(actualVideoMedia.encodedLocation().isBlank());
+    verify(videoGateway, times(1)).updateMediaStatus(
+        eq(expectedId),
+        eq(expectedMedia.id()),
+        eq(expectedStatus),
+        isNull()
+    );
+    verify(videoGateway, never()).existsById(any());
   }
 
   @Test
-  void givenCommandForTrailer_whenIsValid_shouldUpdateStatusAndEncodedLocation() {
+  void givenCommandForAnotherMediaOrOutOfOrder_whenNothingChanged_shouldDoNothing() {
     // given
-    final var expectedStatus = MediaStatus.COMPLETED;
-    final var expectedFolder = "encoded_media";
-    final var expectedFilename = "filename.mp4";
-    final var expectedType = VideoMediaType.TRAILER;
-    final var expectedMedia = FixtureUtils.Videos.audioVideo(expectedType);
-
     final var aVideo = FixtureUtils.Videos.systemDesign()
-        .updateTrailerMedia(expectedMedia);
+        .updateTrailerMedia(FixtureUtils.Videos.audioVideo(VideoMediaType.TRAILER));
 
     final var expectedId = aVideo.getId();
 
-    when(videoGateway.findById(any()))
-        .thenReturn(Optional.of(aVideo));
+    when(videoGateway.updateMediaStatus(any(), any(), any(), any()))
+        .thenReturn(false);
 
-    when(videoGateway.update(any()))
-        .thenAnswer(returnsFirstArg());
+    when(videoGateway.existsById(any()))
+        .thenReturn(true);
 
     final var aCmd = UpdateMediaStatusCommand.with(
-        expectedStatus,
+        MediaStatus.COMPLETED,
         expectedId.getValue(),
-        expectedMedia.id(),
-        expectedFolder,
-        expectedFilename
+        "randomId",
+        "encoded_media",
+        "filename.mp4"
     );
 
     // when
     this.useCase.execute(aCmd);
 
     // then
-    verify(videoGateway, times(1)).findById(eq(expectedId));
-
-    final var captor = ArgumentCaptor.forClass(Video.class);
-
-    verify(videoGateway, times(1)).update(captor.capture());
-
-    final var actualVideo = captor.getValue();
-
-    Assertions.assertTrue(actualVideo.getVideo().isEmpty());
-
-    final var actualVideoMedia = actualVideo.getTrailer().get();
-
-    Assertions.assertEquals(expectedMedia.id(), actualVideoMedia.id());
-    Assertions.assertEquals(expectedMedia.rawLocation(), actualVideoMedia.rawLocation());
-    Assertions.assertEquals(expectedMedia.checksum(), actualVideoMedia.checksum());
-    Assertions.assertEquals(expectedStatus, actualVideoMedia.status());
-    Assertions.assertEquals(expectedFolder.concat("/").concat(expectedFilename), actualVideoMedia.encodedLocation());
+    verify(videoGateway, times(1)).existsById(eq(expectedId));
+    verify(videoGateway, never()).findById(any());
+    verify(videoGateway, never()).update(any());
   }
 
   @Test
-  void givenCommandForTrailer_whenIsValidForProcessing_shouldUpdateStatusAndEncodedLocation() {
+  void givenCommandForAMissingVideo_whenCallsUpdateMediaStatus_shouldReturnNotFound() {
     // given
-    final var expectedStatus = MediaStatus.PROCESSING;
-    final String expectedFolder = null;
-    final String expectedFilename = null;
-    final var expectedType = VideoMediaType.TRAILER;
-    final var expectedMedia = FixtureUtils.Videos.audioVideo(expectedType);
-
-    final var aVideo = FixtureUtils.Videos.systemDesign()
-        .updateTrailerMedia(expectedMedia);
-
-    final var expectedId = aVideo.getId();
+    final var expectedId = VideoID.unique();
+    final var expectedErrorMessage = "Video with ID %s was not found".formatted(expectedId.getValue());
 
-    when(videoGateway.findById(any()))
-        .thenReturn(Optional.of(aVideo));
+    when(videoGateway.updateMediaStatus(any(), any(), any(), any()))
+        .thenReturn(false);
 
-    when(videoGateway.update(any()))
-        .thenAnswer(returnsFirstArg());
+    when(videoGateway.existsById(any()))
+        .thenReturn(false);
 
     final var aCmd = UpdateMediaStatusCommand.with(
-        expectedStatus,
+        MediaStatus.COMPLETED,
         expectedId.getValue(),
-        expectedMedia.id(),
-        expectedFolder,
-        expectedFilename
+        "randomId",
+        "encoded_media",
+        "filename.mp4"
     );
 
     // when
-    this.useCase.execute(aCmd);
+    final var actualException = Assertions.assertThrows(
+        NotFoundException.class,
+        () -> this.useCase.execute(aCmd)
+    );
 
     // then
-    verify(videoGateway, times(1)).findById(eq(expectedId));
-
-    final var captor = ArgumentCaptor.forClass(Video.class);
-
-    verify(videoGateway, times(1)).update(captor.capture());
-
-    final var actualVideo = captor.getValue();
-
-    Assertions.assertTrue(actualVideo.getVideo().isEmpty());
-
-    final var actualVideoMedia = actualVideo.getTrailer().get();
-
-    Assertions.assertEquals(expectedMedia.id(), actualVideoMedia.id());
-    Assertions.assertEquals(expectedMedia.rawLocation(), actualVideoMedia.rawLocation());
-    Assertions.assertEquals(expectedMedia.checksum(), actualVideoMedia.checksum());
-    Assertions.assertEquals(expectedStatus, actualVideoMedia.status());
-    Assertions.assertTrue(actualVideoMedia.encodedLocation().isBlank());
+    Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
   }
 
   @Test
-  void givenCommandForTrailer_whenIsInvalid_shouldDoNothing() {
+  void givenCommandWithPendingStatus_whenCallsUpdateMediaStatus_shouldDoNothing() {
     // given
-    final var expectedStatus = MediaStatus.COMPLETED;
-    final var expectedFolder = "encoded_media";
-    final var expectedFilename = "filename.mp4";
-    final var expectedType = VideoMediaType.TRAILER;
-    final var expectedMedia = FixtureUtils.Videos.audioVideo(expectedType);
-
-    final var aVideo = FixtureUtils.Videos.systemDesign()
-        .updateTrailerMedia(expectedMedia);
-
-    final var expectedId = aVideo.getId();
-
-    when(videoGateway.findById(any()))
-        .thenReturn(Optional.of(aVideo));
-
     final var aCmd = UpdateMediaStatusCommand.with(
-        expectedStatus,
-        expectedId.getValue(),
+        MediaStatus.PENDING,
+        VideoID.unique().getValue(),
         "randomId",
-        expectedFolder,
-        expectedFilename
+        null,
+        null
     );
 
     // when
     this.useCase.execute(aCmd);
 
     // then
-    verify(videoGateway, times(0)).update(any());
+    verify(videoGateway, never()).updateMediaStatus(any(), any(), any(), any());
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,144 @@
+package pt.amane.application.video.media.upload.complete;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import pt.amane.application.UseCaseTest;
+import pt.amane.application.video.media.upload.UploadMediaOutput;
+import pt.amane.application.video.media.upload.UploadMediaUseCase;
+import pt.amane.domain.exception.NotificationException;
+import pt.amane.domain.utils.FixtureUtils;
+import pt.amane.domain.utils.IdUtils;
+import pt.amane.domain.video.MediaResourceGateway;
+import pt.amane.domain.video.MediaUploadPart;
+import pt.amane.domain.video.VideoID;
+import pt.amane.domain.video.VideoMediaType;
+
+class CompleteMediaUploadUseCaseImplTest extends UseCaseTest {
+
+  @InjectMocks
+  private CompleteMediaUploadUseCaseImpl useCase;
+
+  @Mock
+  private MediaResourceGateway mediaResourceGateway;
+
+  @Mock
+  private UploadMediaUseCase uploadMediaUseCase;
+
+  @Override
+  protected List<Object> getMocks() {
+    return List.of(mediaResourceGateway, uploadMediaUseCase);
+  }
+
+  @Test
+  void givenAllPartsReceived_whenCallsComplete_shouldUploadTheAssembledMediaAndClearTheParts() {
+    // given
+    final var expectedId = VideoID.unique();
+    final var expectedType = VideoMediaType.VIDEO;
+    final var expectedUploadId = IdUtils.uuid();
+    final var expectedResource = FixtureUtils.Videos.resource(expectedType);
+
+    when(mediaResourceGateway.getUpload(any(), any(), any()))
+        .thenReturn(Optional.of(expectedResource));
+
+    when(mediaResourceGateway.getUploadParts(any(), any(), any()))
+        .thenReturn(List.of(
+            MediaUploadPart.with(1, 4, FixtureUtils.checksum()),
+            MediaUploadPart.with(2, 4, FixtureUtils.checksum())
+        ));
+
+    when(mediaResourceGateway.assembleUpload(any(), any(), any()))
+        .thenReturn(Optional.of(expectedResource));
+
+    when(uploadMediaUseCase.execute(any()))
+        .thenReturn(new UploadMediaOutput(expectedId.getValue(), expectedType));
+
+    final var aCmd =
+        CompleteMediaUploadCommand.with(expectedId.getValue(), expectedType.name(), expectedUploadId, 2);
+
+    // when
+    final var actualOutput = useCase.execute(aCmd);
+
+    // then
+    Assertions.assertEquals(expectedId.getValue(), actualOutput.videoId());
+    Assertions.assertEquals(expectedType, actualOutput.mediaType());
+
+    verify(uploadMediaUseCase, times(1)).execute(argThat(aUpload ->
+        expectedId.getValue().equals(aUpload.videoId())
+            && expectedType == aUpload.videoResource().type()
+            && expectedResource == aUpload.videoResource().resource()
+    ));
+    verify(mediaResourceGateway, times(1)).clearUpload(eq(expectedId), eq(expectedType), eq(expectedUploadId));
+  }
+
+  @Test
+  void givenMissingParts_whenCallsComplete_shouldReturnNotification() {
+    // given
+    final var expectedId = VideoID.unique();
+    final var expectedType = VideoMediaType.VIDEO;
+    final var expectedUploadId = IdUtils.uuid();
+    final var expectedErrorMessage = "Missing parts [2, 4]";
+
+    when(mediaResourceGateway.getUpload(any(), any(), any()))
+        .thenReturn(Optional.of(FixtureUtils.Videos.resource(expectedType)));
+
+    when(mediaResourceGateway.getUploadParts(any(), any(), any()))
+        .thenReturn(List.of(
+            MediaUploadPart.with(1, 4, FixtureUtils.checksum()),
+            MediaUploadPart.with(3, 4, FixtureUtils.checksum())
+        ));
+
+    final var aCmd =
+        CompleteMediaUploadCommand.with(expectedId.getValue(), expectedType.name(), expectedUploadId, 4);
+
+    // when
+    final var actualException = Assertions.assertThrows(
+        NotificationException.class,
+        () -> useCase.execute(aCmd)
+    );
+
+    // then
+    Assertions.assertEquals(1, actualException.getErrors().size());
+    Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+
+    verify(uploadMediaUseCase, never()).execute(any());
+    verify(mediaResourceGateway, never()).clearUpload(any(), any(), any());
+  }
+
+  @Test
+  void givenNoParts_whenCallsComplete_shouldReturnNotification() {
+    // given
+    final var expectedErrorMessage = "The upload has no parts";
+
+    when(mediaResourceGateway.getUpload(any(), any(), any()))
+        .thenReturn(Optional.of(FixtureUtils.Videos.resource(VideoMediaType.VIDEO)));
+
+    when(mediaResourceGateway.getUploadParts(any(), any(), any()))
+        .thenReturn(List.of());
+
+    final var aCmd =
+        CompleteMediaUploadCommand.with(VideoID.unique().getValue(), VideoMediaType.VIDEO.name(), IdUtils.uuid(), null);
+
+    // when
+    final var actualException = Assertions.assertThrows(
+        NotificationException.class,
+        () -> useCase.execute(aCmd)
+    );
+
+    // then
+    Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+
+    verify(uploadMediaUseCase, never()).execute(any());
+  }
+}
@@ -0,0 +1,114 @@
+package pt.amane.application.video.media.upload.initiate;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import pt.amane.application.UseCaseTest;
+import pt.amane.domain.exception.NotFoundException;
+import pt.amane.domain.exception.NotificationException;
+import pt.amane.domain.utils.FixtureUtils;
+import pt.amane.domain.video.MediaResourceGateway;
+import pt.amane.domain.video.VideoGateway;
+import pt.amane.domain.video.VideoMediaType;
+
+class InitiateMediaUploadUseCaseImplTest extends UseCaseTest {
+
+  @InjectMocks
+  private InitiateMediaUploadUseCaseImpl useCase;
+
+  @Mock
+  private MediaResourceGateway mediaResourceGateway;
+
+  @Mock
+  private VideoGateway videoGateway;
+
+  @Override
+  protected List<Object> getMocks() {
+    return List.of(mediaResourceGateway, videoGateway);
+  }
+
+  @Test
+  void givenCmdToInitiate_whenIsValid_shouldInitiateUpload() {
+    // given
+    final var aVideo = FixtureUtils.Videos.systemDesign();
+    final var expectedId = aVideo.getId();
+    final var expectedType = VideoMediaType.VIDEO;
+    final var expectedContentType = "video/mp4";
+    final var expectedName = "master.mp4";
+
+    when(videoGateway.findById(any()))
+        .thenReturn(Optional.of(aVideo));
+
+    final var aCmd =
+        InitiateMediaUploadCommand.with(expectedId.getValue(), expectedType.name(), expectedContentType, expectedName);
+
+    // when
+    final var actualOutput = useCase.execute(aCmd);
+
+    // then
+    Assertions.assertEquals(expectedId.getValue(), actualOutput.videoId());
+    Assertions.assertEquals(expectedType, actualOutput.mediaType());
+    Assertions.assertNotNull(actualOutput.uploadId());
+
+    verify(mediaResourceGateway, times(1))
+        .initiateUpload(eq(expectedId), eq(expectedType), eq(actualOutput.uploadId()), eq(expectedContentType), eq(expectedName));
+  }
+
+  @Test
+  void givenCmdToInitiate_whenTypeIsAnImage_shouldReturnNotification() {
+    // given
+    final var aVideo = FixtureUtils.Videos.systemDesign();
+    final var expectedErrorMessage = "Resumable upload is not supported for BANNER";
+
+    final var aCmd =
+        InitiateMediaUploadCommand.with(aVideo.getId().getValue(), VideoMediaType.BANNER.name(), "image/jpg", "banner.jpg");
+
+    // when
+    final var actualException = Assertions.assertThrows(
+        NotificationException.class,
+        () -> useCase.execute(aCmd)
+    );
+
+    // then
+    Assertions.assertEquals(1, actualException.getErrors().size());
+    Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+
+    verify(mediaResourceGateway, never()).initiateUpload(any(), any(), anyString(), anyString(), anyString());
+  }
+
+  @Test
+  void givenCmdToInitiate_whenVideoIsInvalid_shouldReturnNotFound() {
+    // given
+    final var aVideo = FixtureUtils.Videos.systemDesign();
+    final var expectedId = aVideo.getId();
+    final var expectedErrorMessage = "Video with ID %s was not found".formatted(expectedId.getValue());
+
+    when(videoGateway.findById(any()))
+        .thenReturn(Optional.empty());
+
+    final var aCmd =
+        InitiateMediaUploadCommand.with(expectedId.getValue(), VideoMediaType.TRAILER.name(), "video/mp4", "trailer.mp4");
+
+    // when
+    final var actualException = Assertions.assertThrows(
+        NotFoundException.class,
+        () -> useCase.execute(aCmd)
+    );
+
+    // then
+    Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+
+    verify(mediaResourceGateway, never()).initiateUpload(any(), any(), anyString(), anyString(), anyString());
+  }
+}
@@ -0,0 +1,152 @@
+package pt.amane.application.video.media.upload.part;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import pt.amane.application.UseCaseTest;
+import pt.amane.domain.exception.DomainException;
+import pt.amane.domain.exception.NotFoundException;
+import pt.amane.domain.utils.FixtureUtils;
+import pt.amane.domain.utils.IdUtils;
+import pt.amane.domain.video.MediaResourceGateway;
+import pt.amane.domain.video.MediaUploadPart;
+import pt.amane.domain.video.VideoID;
+import pt.amane.domain.video.VideoMediaType;
+
+class UploadMediaPartUseCaseImplTest extends UseCaseTest {
+
+  @InjectMocks
+  private UploadMediaPartUseCaseImpl useCase;
+
+  @Mock
+  private MediaResourceGateway mediaResourceGateway;
+
+  @Override
+  protected List<Object> getMocks() {
+    return List.of(mediaResourceGateway);
+  }
+
+  @Test
+  void givenCmdToUploadPart_whenChecksumMatches_shouldStoreIt() {
+    // given
+    final var expectedId = VideoID.unique();
+    final var expectedType = VideoMediaType.VIDEO;
+    final var expectedUploadId = IdUtils.uuid();
+    final var expectedPartNumber = 2;
+    final var expectedPart = FixtureUtils.Videos.resource(expectedType);
+    final var expectedChecksum = FixtureUtils.checksum();
+
+    when(mediaResourceGateway.getUpload(any(), any(), any()))
+        .thenReturn(Optional.of(expectedPart));
+
+    when(mediaResourceGateway.storeUploadPart(any(), any(), any(), anyInt(), any()))
+        .thenReturn(MediaUploadPart.with(expectedPartNumber, expectedPart.length(), expectedChecksum));
+
+    final var aCmd = UploadMediaPartCommand.with(
+        expectedId.getValue(), expectedType.name(), expectedUploadId, expectedPartNumber, expectedPart, expectedChecksum
+    );
+
+    // when
+    final var actualOutput = useCase.execute(aCmd);
+
+    // then
+    Assertions.assertEquals(expectedPartNumber, actualOutput.partNumber());
+    Assertions.assertEquals(expectedPart.length(), actualOutput.length());
+    Assertions.assertEquals(expectedChecksum, actualOutput.checksum());
+
+    verify(mediaResourceGateway, times(1))
+        .storeUploadPart(eq(expectedId), eq(expectedType), eq(expectedUploadId), eq(expectedPartNumber), eq(expectedPart));
+    verify(mediaResourceGateway, never()).deleteUploadPart(any(), any(), any(), anyInt());
+  }
+
+  @Test
+  void givenCmdToUploadPart_whenChecksumDoesNotMatch_shouldDeleteItAndReturnError() {
+    // given
+    final var expectedId = VideoID.unique();
+    final var expectedType = VideoMediaType.VIDEO;
+    final var expectedUploadId = IdUtils.uuid();
+    final var expectedPart = FixtureUtils.Videos.resource(expectedType);
+    final var expectedErrorMessage = "Part 1 checksum abc doesn't match the received content checksum def";
+
+    when(mediaResourceGateway.getUpload(any(), any(), any()))
+        .thenReturn(Optional.of(expectedPart));
+
+    when(mediaResourceGateway.storeUploadPart(any(), any(), any(), anyInt(), any()))
+        .thenReturn(MediaUploadPart.with(1, expectedPart.length(), "def"));
+
+    final var aCmd = UploadMediaPartCommand.with(
+        expectedId.getValue(), expectedType.name(), expectedUploadId, 1, expectedPart, "abc"
+    );
+
+    // when
+    final var actualException = Assertions.assertThrows(
+        DomainException.class,
+        () -> useCase.execute(aCmd)
+    );
+
+    // then
+    Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+
+    verify(mediaResourceGateway, times(1))
+        .deleteUploadPart(eq(expectedId), eq(expectedType), eq(expectedUploadId), eq(1));
+  }
+
+  @Test
+  void givenCmdToUploadPart_whenPartNumberIsInvalid_shouldReturnError() {
+    // given
+    final var expectedErrorMessage = "'part_number' should be between 1 and 10000";
+
+    final var aCmd = UploadMediaPartCommand.with(
+        VideoID.unique().getValue(), VideoMediaType.VIDEO.name(), IdUtils.uuid(), 0,
+        FixtureUtils.Videos.resource(VideoMediaType.VIDEO), null
+    );
+
+    // when
+    final var actualException = Assertions.assertThrows(
+        DomainException.class,
+        () -> useCase.execute(aCmd)
+    );
+
+    // then
+    Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+
+    verify(mediaResourceGateway, never()).storeUploadPart(any(), any(), any(), anyInt(), any());
+  }
+
+  @Test
+  void givenCmdToUploadPart_whenUploadIsInvalid_shouldReturnNotFound() {
+    // given
+    final var expectedUploadId = IdUtils.uuid();
+    final var expectedErrorMessage = "Upload %s was not found".formatted(expectedUploadId);
+
+    when(mediaResourceGateway.getUpload(any(), any(), any()))
+        .thenReturn(Optional.empty());
+
+    final var aCmd = UploadMediaPartCommand.with(
+        VideoID.unique().getValue(), VideoMediaType.VIDEO.name(), expectedUploadId, 1,
+        FixtureUtils.Videos.resource(VideoMediaType.VIDEO), null
+    );
+
+    // when
+    final var actualException = Assertions.assertThrows(
+        NotFoundException.class,
+        () -> useCase.execute(aCmd)
+    );
+
+    // then
+    Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+
+    verify(mediaResourceGateway, never()).storeUploadPart(any(), any(), any(), anyInt(), any());
+  }
+}
@@ -0,0 +1,88 @@
+package pt.amane.application.video.media.upload.retrieve;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import pt.amane.application.UseCaseTest;
+import pt.amane.domain.exception.NotFoundException;
+import pt.amane.domain.utils.FixtureUtils;
+import pt.amane.domain.utils.IdUtils;
+import pt.amane.domain.video.MediaResourceGateway;
+import pt.amane.domain.video.MediaUploadPart;
+import pt.amane.domain.video.VideoID;
+import pt.amane.domain.video.VideoMediaType;
+
+class GetMediaUploadUseCaseImplTest extends UseCaseTest {
+
+  @InjectMocks
+  private GetMediaUploadUseCaseImpl useCase;
+
+  @Mock
+  private MediaResourceGateway mediaResourceGateway;
+
+  @Override
+  protected List<Object> getMocks() {
+    return List.of(mediaResourceGateway);
+  }
+
+  @Test
+  void givenValidUpload_whenCallsGetMediaUpload_shouldReturnItsParts() {
+    // given
+    final var expectedId = VideoID.unique();
+    final var expectedType = VideoMediaType.TRAILER;
+    final var expectedUploadId = IdUtils.uuid();
+    final var expectedParts = List.of(
+        MediaUploadPart.with(1, 10, FixtureUtils.checksum()),
+        MediaUploadPart.with(3, 10, FixtureUtils.checksum())
+    );
+
+    when(mediaResourceGateway.getUpload(any(), any(), any()))
+        .thenReturn(Optional.of(FixtureUtils.Videos.resource(expectedType)));
+
+    when(mediaResourceGateway.getUploadParts(eq(expectedId), eq(expectedType), eq(expectedUploadId)))
+        .thenReturn(expectedParts);
+
+    // when
+    final var actualOutput =
+        useCase.execute(GetMediaUploadCommand.with(expectedId.getValue(), expectedType.name(), expectedUploadId));
+
+    // then
+    Assertions.assertEquals(expectedId.getValue(), actualOutput.videoId());
+    Assertions.assertEquals(expectedType, actualOutput.mediaType());
+    Assertions.assertEquals(expectedUploadId, actualOutput.uploadId());
+    Assertions.assertEquals(expectedParts, actualOutput.parts());
+  }
+
+  @Test
+  void givenInvalidUpload_whenCallsGetMediaUpload_shouldReturnNotFound() {
+    // given
+    final var expectedUploadId = IdUtils.uuid();
+    final var expectedErrorMessage = "Upload %s was not found".formatted(expectedUploadId);
+
+    when(mediaResourceGateway.getUpload(any(), any(), any()))
+        .thenReturn(Optional.empty());
+
+    final var aCmd =
+        GetMediaUploadCommand.with(VideoID.unique().getValue(), VideoMediaType.VIDEO.name(), expectedUploadId);
+
+    // when
+    final var actualException = Assertions.assertThrows(
+        NotFoundException.class,
+        () -> useCase.execute(aCmd)
+    );
+
+    // then
+    Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+
+    verify(mediaResourceGateway, never()).getUploadParts(any(), any(), any());
+  }
+}
@@ -0,0 +1,54 @@
+package pt.amane.application.video.retrieve.export;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import pt.amane.application.UseCaseTest;
+import pt.amane.application.video.retrieve.list.VideoListOutput;
+import pt.amane.domain.utils.FixtureUtils;
+import pt.amane.domain.video.VideoGateway;
+import pt.amane.domain.video.VideoPreview;
+
+class ExportVideosUseCaseImplTest extends UseCaseTest {
+
+  @InjectMocks
+  private ExportVideosUseCaseImpl useCase;
+
+  @Mock
+  private VideoGateway videoGateway;
+
+  @Override
+  protected List<Object> getMocks() {
+    return List.of(videoGateway);
+  }
+
+  @Test
+  void givenStreamedVideos_whenCallsExport_shouldHandEachOneAsOutput() {
+
+    // given
+    final var videos = List.of(
+        new VideoPreview(FixtureUtils.video()),
+        new VideoPreview(FixtureUtils.video())
+    );
+
+    doAnswer(invocation -> {
+      final Consumer<VideoPreview> consumer = invocation.getArgument(0);
+      videos.forEach(consumer);
+      return null;
+    }).when(videoGateway).streamAll(any());
+
+    // when
+    final var actualOutputs = new ArrayList<VideoListOutput>();
+    useCase.execute(actualOutputs::add);
+
+    // then
+    Assertions.assertEquals(videos.stream().map(VideoListOutput::from).toList(), actualOutputs);
+  }
+}
@@ -14,9 +14,12 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import pt.amane.application.UseCaseTest;
 import pt.amane.domain.castmember.CastMemberGateway;
@@ -41,9 +44,10 @@ import pt.amane.domain.video.VideoResource;
 class UpdateVideoUseCaseImplTest extends UseCaseTest {
 
 
-  @InjectMocks
   private UpdateVideoUseCaseImpl useCase;
 
+  private ExecutorService executor;
+
   @Mock
   private VideoGateway videoGateway;
 
@@ -64,6 +68,19 @@ class UpdateVideoUseCaseImplTest extends UseCaseTest {
     return List.of(videoGateway, categoryGateway, genreGateway, castMemberGateway, mediaResourceGateway);
   }
 
+  @BeforeEach
+  void setUp() {
+    this.executor = Executors.newFixedThreadPool(3);
+    this.useCase = new UpdateVideoUseCaseImpl(
+        videoGateway, categoryGateway, castMemberGateway, genreGateway, mediaResourceGateway, executor
+    );
+  }
+
+  @AfterEach
+  void tearDown() {
+    this.executor.shutdownNow();
+  }
+
   @Test
   void givenAValidCommand_whenCallsUpdateVideo_shouldReturnVideoId() {
 
@@ -2,6 +2,7 @@ package pt.amane.domain.castmember;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import pt.amane.domain.pagination.Pagination;
 import pt.amane.domain.pagination.SearchQuery;
 
@@ -19,5 +20,7 @@ public interface CastMemberGateway {
 
   List<CastMemberID> existsByIds(Iterable<CastMemberID> castmemberID);
 
+  void streamAll(Consumer<CastMember> consumer);
+
 
 }
@@ -2,6 +2,7 @@ package pt.amane.domain.category;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import pt.amane.domain.pagination.Pagination;
 import pt.amane.domain.pagination.SearchQuery;
 
@@ -19,4 +20,6 @@ public interface CategoryGateway {
 
   List<CategoryID> existsByIds(Iterable<CategoryID> ids);
 
+  void streamAll(Consumer<Category> consumer);
+
 }
@@ -3,15 +3,28 @@ package pt.amane.domain.pagination;
 import java.util.List;
 import java.util.function.Function;
 
+/**
+ * @param total      the number of items of every page, {@link #UNKNOWN_TOTAL} when not counted,
+ *                   as when the page is read from a cursor
+ * @param nextCursor opaque position of the last item, to read the next page without an offset,
+ *                   null on the last page
+ */
 public record Pagination<T>(
     int currentPage,
     int perPage,
     long total,
-    List<T> items
+    List<T> items,
+    String nextCursor
 ) {
 
+  public static final long UNKNOWN_TOTAL = -1;
+
+  public Pagination(final int currentPage, final int perPage, final long total, final List<T> items) {
+    this(currentPage, perPage, total, items, null);
+  }
+
   public <R> Pagination<R> map(final Function<T, R> mapper) {
     final List<R> aNewList = this.items.stream().map(mapper).toList();
-    return new Pagination<>(currentPage(),perPage(),total(), aNewList);
+    return new Pagination<>(currentPage(),perPage(),total(), aNewList, nextCursor());
   }
 }
@@ -1,11 +1,38 @@
 package pt.amane.domain.pagination;
 
+/**
+ * @param cursor    the {@link Pagination#nextCursor()} of the previous page, when present the page
+ *                  starts right after it and {@code page} is ignored
+ * @param withTotal whether {@link Pagination#total()} is counted, which costs an extra query
+ */
 public record SearchQuery(
     int page,
     int perPage,
     String terms,
     String sort,
-    String direction
+    String direction,
+    String cursor,
+    boolean withTotal
 ) {
 
+  public SearchQuery(
+      final int page,
+      final int perPage,
+      final String terms,
+      final String sort,
+      final String direction
+  ) {
+    this(page, perPage, terms, sort, direction, null);
+  }
+
+  public SearchQuery(
+      final int page,
+      final int perPage,
+      final String terms,
+      final String sort,
+      final String direction,
+      final String cursor
+  ) {
+    this(page, perPage, terms, sort, direction, cursor, true);
+  }
 }
@@ -1,5 +1,6 @@
 package pt.amane.domain.video;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface MediaResourceGateway {
@@ -11,4 +12,56 @@ public interface MediaResourceGateway {
   Optional<Resource> getResource(VideoID anId, VideoMediaType type);
 
   void clearResources(VideoID anId);
+
+  /**
+   * Starts a resumable upload, whose parts are kept apart from the media until the upload is completed.
+   * @param anId
+   * @param aType
+   * @param anUploadId
+   * @param contentType content type of the assembled media
+   * @param name name of the assembled media
+   */
+  void initiateUpload(VideoID anId, VideoMediaType aType, String anUploadId, String contentType, String name);
+
+  /**
+   * The upload, without content, holding the content type and name of the media.
+   * @param anId
+   * @param aType
+   * @param anUploadId
+   * @return
+   */
+  Optional<Resource> getUpload(VideoID anId, VideoMediaType aType, String anUploadId);
+
+  /**
+   * Stores a part of the upload, replacing a previous attempt of the same part.
+   * Parts are independent, so they may be stored concurrently.
+   * @param anId
+   * @param aType
+   * @param anUploadId
+   * @param aPartNumber
+   * @param aPart
+   * @return
+   */
+  MediaUploadPart storeUploadPart(VideoID anId, VideoMediaType aType, String anUploadId, int aPartNumber, Resource aPart);
+
+  void deleteUploadPart(VideoID anId, VideoMediaType aType, String anUploadId, int aPartNumber);
+
+  /**
+   * @param anId
+   * @param aType
+   * @param anUploadId
+   * @return the stored parts, ordered by number
+   */
+  List<MediaUploadPart> getUploadParts(VideoID anId, VideoMediaType aType, String anUploadId);
+
+  /**
+   * Streamed resource reading the stored parts in order, so the media is assembled while it is stored.
+   * @param anId
+   * @param aType
+   * @param anUploadId
+   * @return
+   */
+  Optional<Resource> assembleUpload(VideoID anId, VideoMediaType aType, String anUploadId);
+
+  void clearUpload(VideoID anId, VideoMediaType aType, String anUploadId);
 }
@@ -0,0 +1,18 @@
+package pt.amane.domain.video;
+
+/**
+ * Part of a resumable media upload, already stored.
+ * @param number position of the part in the media, starting at 1
+ * @param length
+ * @param checksum
+ */
+public record MediaUploadPart(
+    int number,
+    long length,
+    String checksum
+) {
+
+  public static MediaUploadPart with(final int number, final long length, final String checksum) {
+    return new MediaUploadPart(number, length, checksum);
+  }
+}
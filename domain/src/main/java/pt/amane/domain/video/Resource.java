@@ -1,10 +1,17 @@
 package pt.amane.domain.video;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
 import pt.amane.ValueObject;
 import pt.amane.domain.validation.ObjectsValidator;
 
 public class Resource extends ValueObject {
   private final byte[] content;
+  private final ResourceContent stream;
+  private final long length;
   private final String checksum;
   private final String contentType;
   private final String name;
@@ -16,11 +23,31 @@ public class Resource extends ValueObject {
       final String name
   ) {
     this.content = (byte[]) ObjectsValidator.objectValidation(content);
+    this.stream = null;
+    this.length = content.length;
     this.checksum = ObjectsValidator.objectValidation(checksum);
     this.contentType = ObjectsValidator.objectValidation(contentType);
     this.name = ObjectsValidator.objectValidation(name);
   }
 
+  private Resource(
+      final ResourceContent stream,
+      final long length,
+      final String checksum,
+      final String contentType,
+      final String name
+  ) {
+    if (length < 0) {
+      throw new IllegalArgumentException("'length' should not be negative");
+    }
+    this.content = null;
+    this.stream = (ResourceContent) ObjectsValidator.objectValidation(stream);
+    this.length = length;
+    this.checksum = checksum;
+    this.contentType = ObjectsValidator.objectValidation(contentType);
+    this.name = ObjectsValidator.objectValidation(name);
+  }
+
   public static Resource with(
       final byte[] content,
       final String checksum,
@@ -29,10 +56,81 @@ public class Resource extends ValueObject {
     return new Resource(content, checksum, contentType, name);
   }
 
+  /**
+   * Streamed resource whose checksum is not known yet, it is computed by the storage while the bytes are copied.
+   * @param stream
+   * @param length
+   * @param contentType
+   * @param name
+   * @return
+   */
+  public static Resource with(
+      final ResourceContent stream,
+      final long length,
+      final String contentType,
+      final String name) {
+    return new Resource(stream, length, null, contentType, name);
+  }
+
+  public static Resource with(
+      final ResourceContent stream,
+      final long length,
+      final String checksum,
+      final String contentType,
+      final String name) {
+    return new Resource(stream, length, checksum, contentType, name);
+  }
+
+  /**
+   * In memory content of the resource, or null when the resource is streamed.
+   * @return
+   */
   public byte[] content() {
     return content;
   }
 
+  public InputStream openStream() throws IOException {
+    if (isStreamed()) {
+      return stream.open();
+    }
+    return new ByteArrayInputStream(content);
+  }
+
+  /**
+   * Copies the byte range [position, position + count) of the content into the target.
+   * @param position
+   * @param count
+   * @param target
+   * @return the number of bytes copied
+   */
+  public long transferTo(final long position, final long count, final WritableByteChannel target) throws IOException {
+    if (position < 0 || count < 0 || position + count > length) {
+      throw new IndexOutOfBoundsException("Range %d-%d out of resource length %d".formatted(position, position + count, length));
+    }
+
+    if (isStreamed()) {
+      return stream.transferTo(position, count, target);
+    }
+
+    final var buffer = ByteBuffer.wrap(content, (int) position, (int) count);
+    while (buffer.hasRemaining()) {
+      target.write(buffer);
+    }
+    return count;
+  }
+
+  public boolean isStreamed() {
+    return stream != null;
+  }
+
+  public long length() {
+    return length;
+  }
+
+  /**
+   * Checksum of the content, or null for a streamed resource not yet stored.
+   * @return
+   */
   public String checksum() {
     return checksum;
   }
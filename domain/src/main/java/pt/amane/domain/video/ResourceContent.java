@@ -0,0 +1,48 @@
+package pt.amane.domain.video;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Source of a streamed {@link Resource}, so the bytes can be copied to the storage
+ * without being materialized in a byte[].
+ */
+@FunctionalInterface
+public interface ResourceContent {
+
+  int BUFFER_SIZE = 8192;
+
+  InputStream open() throws IOException;
+
+  /**
+   * Copies {@code count} bytes starting at {@code position} into the target.
+   * Storages able to seek should override it instead of skipping the stream.
+   * @param position
+   * @param count
+   * @param target
+   * @return the number of bytes copied
+   */
+  default long transferTo(final long position, final long count, final WritableByteChannel target) throws IOException {
+    try (final var in = open()) {
+      in.skipNBytes(position);
+
+      final var buffer = new byte[(int) Math.min(BUFFER_SIZE, Math.max(count, 1))];
+      var remaining = count;
+      while (remaining > 0) {
+        final var read = in.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+        if (read < 0) {
+          break;
+        }
+        final var chunk = ByteBuffer.wrap(buffer, 0, read);
+        while (chunk.hasRemaining()) {
+          target.write(chunk);
+        }
+        remaining -= read;
+      }
+      return count - remaining;
+    }
+  }
+
+}
@@ -1,20 +1,45 @@
 package pt.amane.domain.video;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import pt.amane.domain.pagination.Pagination;
 
 public interface VideoGateway {
 
   Video create(Video aVideo);
 
+  /**
+   * Creates all the videos in a single transaction, returning them in the given order.
+   */
+  List<Video> createAll(List<Video> videos);
+
   void deleteById(VideoID anId);
 
   Optional<Video> findById(VideoID anId);
 
+  /**
+   * Whether the video exists, without loading it.
+   */
+  boolean existsById(VideoID anId);
+
   Video update(Video aVideo);
 
+  /**
+   * Changes the status of the video or trailer media of the video with the given resource id, nothing else of the
+   * video is read or written. A status only moves forward, a PROCESSING arriving after the COMPLETED is ignored.
+   * @param anEncodedPath the new encoded location, null to keep it
+   * @return whether the media was changed
+   */
+  boolean updateMediaStatus(VideoID anId, String aResourceId, MediaStatus aStatus, String anEncodedPath);
+
   Pagination<VideoPreview> findAll(VideoSearchQuery aQuery);
 
+  /**
+   * Hands the preview of every video to the consumer, ordered by id, without loading them all at once.
+   */
+  void streamAll(Consumer<VideoPreview> consumer);
+
 
 
 }
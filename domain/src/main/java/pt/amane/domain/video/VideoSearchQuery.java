@@ -5,6 +5,12 @@ import pt.amane.domain.castmember.CastMemberID;
 import pt.amane.domain.category.CategoryID;
 import pt.amane.domain.genre.GenreID;
 
+/**
+ * See {@link pt.amane.domain.pagination.SearchQuery} for the cursor and the total.
+ * Sorting by {@value #RELEVANCE} orders the videos matching the terms the most first.
+ * @param consistent whether the query must see every committed video, otherwise it may be answered
+ *                   from a local catalog index, which may miss the latest writes of other instances
+ */
 public record VideoSearchQuery(
     int page,
     int perPage,
@@ -13,8 +19,42 @@ public record VideoSearchQuery(
     String direction,
     Set<CastMemberID> castMembers,
     Set<CategoryID> categories,
-    Set<GenreID> genres
+    Set<GenreID> genres,
+    String cursor,
+    boolean withTotal,
+    boolean consistent
 ) {
 
+  public static final String RELEVANCE = "relevance";
 
+  public VideoSearchQuery(
+      final int page,
+      final int perPage,
+      final String terms,
+      final String sort,
+      final String direction,
+      final Set<CastMemberID> castMembers,
+      final Set<CategoryID> categories,
+      final Set<GenreID> genres
+  ) {
+    this(page, perPage, terms, sort, direction, castMembers, categories, genres, null);
+  }
+
+  public VideoSearchQuery(
+      final int page,
+      final int perPage,
+      final String terms,
+      final String sort,
+      final String direction,
+      final Set<CastMemberID> castMembers,
+      final Set<CategoryID> categories,
+      final Set<GenreID> genres,
+      final String cursor
+  ) {
+    this(page, perPage, terms, sort, direction, castMembers, categories, genres, cursor, true, false);
+  }
+
+  public boolean sortByRelevance() {
+    return RELEVANCE.equalsIgnoreCase(sort);
+  }
 }
@@ -0,0 +1,138 @@
+package pt.amane.infrastructure.ampq;
+
+import com.rabbitmq.client.AMQP;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Objects;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+
+/**
+ * Moves the messages a listener could not handle out of its queue. A failed message is published to the retry queue
+ * of its attempt, which holds it for a backoff doubling on every attempt and then dead-letters it back to the queue.
+ * Once the attempts are spent, or when trying again cannot help, it is parked until {@link #replay(Source, int)}
+ * puts it back. The messages the listener rejects are dead-lettered by the broker to the dead-letter queue.
+ */
+public class DeadLetterService {
+
+  private static final Logger log = LoggerFactory.getLogger(DeadLetterService.class);
+
+  static final String ATTEMPTS_HEADER = "x-attempts";
+  static final String PARKED_REASON_HEADER = "x-parked-reason";
+
+  private static final int MAX_BACKOFF_EXPONENT = 20;
+  private static final int MAX_REASON_LENGTH = 1000;
+
+  private final RabbitOperations ops;
+  private final String exchange;
+  private final String routingKey;
+  private final String queue;
+  private final String retryExchange;
+  private final int maxAttempts;
+  private final String deadLetterQueue;
+  private final String parkingLotQueue;
+
+  public DeadLetterService(
+      final RabbitOperations ops,
+      final String exchange,
+      final String routingKey,
+      final String queue,
+      final String retryExchange,
+      final int maxAttempts,
+      final String deadLetterQueue,
+      final String parkingLotQueue
+  ) {
+    if (maxAttempts < 0) {
+      throw new IllegalArgumentException("'maxAttempts' should not be negative");
+    }
+    this.ops = Objects.requireNonNull(ops);
+    this.exchange = Objects.requireNonNull(exchange);
+    this.routingKey = Objects.requireNonNull(routingKey);
+    this.queue = Objects.requireNonNull(queue);
+    this.retryExchange = Objects.requireNonNull(retryExchange);
+    this.maxAttempts = maxAttempts;
+    this.deadLetterQueue = Objects.requireNonNull(deadLetterQueue);
+    this.parkingLotQueue = Objects.requireNonNull(parkingLotQueue);
+  }
+
+  /**
+   * Name of the queue holding the messages for the given attempt, 1 for the first retry.
+   */
+  public static String retryQueue(final String aQueue, final int attempt) {
+    return "%s.retry.%d".formatted(aQueue, attempt);
+  }
+
+  public static Duration backoff(final Duration initialBackoff, final Duration maxBackoff, final int attempt) {
+    final var exponent = Math.min(Math.max(attempt - 1, 0), MAX_BACKOFF_EXPONENT);
+    final var backoff = initialBackoff.multipliedBy(1L << exponent);
+    return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+  }
+
+  /**
+   * Publishes the message to its next retry queue, or parks it when it was already tried every time.
+   */
+  public void retryOrPark(final Message aMessage, final Throwable cause) {
+    final var attempt = attempts(aMessage) + 1;
+    if (attempt > this.maxAttempts) {
+      park(aMessage, cause.toString());
+      return;
+    }
+    aMessage.getMessageProperties().setHeader(ATTEMPTS_HEADER, attempt);
+    this.ops.send(this.retryExchange, retryQueue(this.queue, attempt), aMessage);
+    log.warn("[message:{}] [status:retrying] [attempt:{}] [cause:{}]", this.queue, attempt, cause.toString());
+  }
+
+  public void park(final Message aMessage, final String reason) {
+    final var aReason = reason == null || reason.length() <= MAX_REASON_LENGTH
+        ? reason
+        : reason.substring(0, MAX_REASON_LENGTH);
+    aMessage.getMessageProperties().setHeader(PARKED_REASON_HEADER, aReason);
+    // the default exchange routes by queue name
+    this.ops.send("", this.parkingLotQueue, aMessage);
+    log.error("[message:{}] [status:parked] [reason:{}]", this.queue, aReason);
+  }
+
+  /**
+   * Moves up to max messages of the source back to the queue, with their attempts reset. Each message is acknowledged
+   * once published again, a failure in between leaves it in the source.
+   * @return how many were moved
+   */
+  public int replay(final Source source, final int max) {
+    final var from = source == Source.PARKING_LOT ? this.parkingLotQueue : this.deadLetterQueue;
+
+    final Integer replayed = this.ops.execute(channel -> {
+      var count = 0;
+      while (count < max) {
+        final var response = channel.basicGet(from, false);
+        if (response == null) {
+          break;
+        }
+        final var properties = response.getProps() == null ? new AMQP.BasicProperties() : response.getProps();
+        final var headers = properties.getHeaders() == null
+            ? new HashMap<String, Object>()
+            : new HashMap<>(properties.getHeaders());
+        headers.remove(ATTEMPTS_HEADER);
+        headers.remove(PARKED_REASON_HEADER);
+
+        channel.basicPublish(this.exchange, this.routingKey, properties.builder().headers(headers).build(), response.getBody());
+        channel.basicAck(response.getEnvelope().getDeliveryTag(), false);
+        count++;
+      }
+      return count;
+    });
+
+    log.info("[message:{}] [status:replayed] [from:{}] [count:{}]", this.queue, from, replayed);
+    return replayed == null ? 0 : replayed;
+  }
+
+  private static int attempts(final Message aMessage) {
+    final Object attempts = aMessage.getMessageProperties().getHeader(ATTEMPTS_HEADER);
+    return attempts instanceof Number number ? number.intValue() : 0;
+  }
+
+  public enum Source {
+    PARKING_LOT, DEAD_LETTER
+  }
+}
@@ -1,19 +1,38 @@
 package pt.amane.infrastructure.ampq;
 
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.amqp.core.Message;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
-import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import pt.amane.application.video.media.update.UpdateMediaStatusCommand;
 import pt.amane.application.video.media.update.UpdateMediaStatusUseCase;
+import pt.amane.domain.exception.DomainException;
 import pt.amane.domain.video.MediaStatus;
+import pt.amane.infrastructure.configuration.annotations.VideoEncodedQueue;
 import pt.amane.infrastructure.configuration.json.Json;
+import pt.amane.infrastructure.dedupe.EncoderResultDedupeStore;
+import pt.amane.infrastructure.dedupe.persistence.ProcessedEncoderResultID;
 import pt.amane.infrastructure.video.model.VideoEncoderCompleted;
 import pt.amane.infrastructure.video.model.VideoEncoderError;
 import pt.amane.infrastructure.video.model.VideoEncoderResult;
 
+/**
+ * Applies the encoder results in batches, see {@code amqp.listeners.video-encoded}. The results of a batch are grouped
+ * by video and only the most advanced status of each media is kept, then all of them are applied in one transaction,
+ * each one a single conditional update of the media. When the batch fails each update is tried in its own transaction,
+ * the ones still failing are handed to the {@link DeadLetterService} to be tried again later or parked, so a poison
+ * message is never redelivered straight away. Applying an update again leaves the video as it was, still the updates
+ * already applied are dropped by the {@link EncoderResultDedupeStore} before any video is read, and the applied ones
+ * are recorded with them.
+ */
 @Component
 public class VideoEncoderListener {
 
@@ -22,30 +41,124 @@ public class VideoEncoderListener {
   static final String LISTENER_ID = "videoEncodedListener";
 
   private final UpdateMediaStatusUseCase updateMediaStatusUseCase;
+  private final TransactionTemplate transactionTemplate;
+  private final DeadLetterService deadLetterService;
+  private final EncoderResultDedupeStore dedupeStore;
 
-  public VideoEncoderListener(final UpdateMediaStatusUseCase updateMediaStatusUseCase) {
+  public VideoEncoderListener(
+      final UpdateMediaStatusUseCase updateMediaStatusUseCase,
+      final PlatformTransactionManager transactionManager,
+      @VideoEncodedQueue final DeadLetterService deadLetterService,
+      final EncoderResultDedupeStore dedupeStore
+  ) {
     this.updateMediaStatusUseCase = Objects.requireNonNull(updateMediaStatusUseCase);
+    this.transactionTemplate = new TransactionTemplate(Objects.requireNonNull(transactionManager));
+    this.deadLetterService = Objects.requireNonNull(deadLetterService);
+    this.dedupeStore = Objects.requireNonNull(dedupeStore);
   }
 
-  @RabbitListener(id = LISTENER_ID, queues = "${amqp.queues.video-encoded.queue}")
-  public void onVideoEncodedMessage(@Payload final String message) {
-    final var aResult = Json.readValue(message, VideoEncoderResult.class);
-
-    if (aResult instanceof VideoEncoderCompleted dto) {
-      log.error("[message:video.listener.income] [status:completed] [payload:{}]", message);
-      final var aCmd = new UpdateMediaStatusCommand(
-          MediaStatus.COMPLETED,
-          dto.id(),
-          dto.video().resourceId(),
-          dto.video().encodedVideoFolder(),
-          dto.video().filePath()
-      );
-
-      this.updateMediaStatusUseCase.execute(aCmd);
-    } else if (aResult instanceof VideoEncoderError) {
-      log.error("[message:video.listener.income] [status:error] [payload:{}]", message);
-    } else {
-      log.error("[message:video.listener.income] [status:unknown] [payload:{}]", message);
+  @RabbitListener(
+      id = LISTENER_ID,
+      queues = "${amqp.queues.video-encoded.queue}",
+      containerFactory = "videoEncodedListenerContainerFactory"
+  )
+  public void onVideoEncodedMessages(final List<Message> messages) {
+    final var updates = notProcessed(coalesce(messages));
+    if (updates.isEmpty()) {
+      return;
+    }
+
+    try {
+      this.transactionTemplate.executeWithoutResult(status -> {
+        updates.forEach(anUpdate -> this.updateMediaStatusUseCase.execute(anUpdate.command()));
+        this.dedupeStore.record(updates.stream().map(Update::id).toList());
+      });
+      return;
+    } catch (final RuntimeException e) {
+      log.warn("[message:video.listener.batch] [status:retrying] [size:{}]", updates.size(), e);
+    }
+
+    for (final var anUpdate : updates) {
+      final var aCmd = anUpdate.command();
+      try {
+        this.transactionTemplate.executeWithoutResult(status -> {
+          this.updateMediaStatusUseCase.execute(aCmd);
+          this.dedupeStore.record(List.of(anUpdate.id()));
+        });
+      } catch (final DomainException e) {
+        // the video or its media is gone, trying again cannot help
+        this.deadLetterService.park(anUpdate.message(), e.getMessage());
+      } catch (final RuntimeException e) {
+        log.warn("[message:video.listener.update] [status:failed] [video:{}] [resource:{}]",
+            aCmd.videoId(), aCmd.resourceId(), e);
+        this.deadLetterService.retryOrPark(anUpdate.message(), e);
+      }
+    }
+  }
+
+  /**
+   * One update per media, in the order of the videos first seen, with the status furthest along.
+   * The messages that cannot be read are parked.
+   */
+  List<Update> coalesce(final List<Message> messages) {
+    final var byVideo = new LinkedHashMap<String, Map<String, Update>>();
+
+    for (final var aMessage : messages) {
+      final var message = new String(aMessage.getBody(), StandardCharsets.UTF_8);
+
+      final VideoEncoderResult aResult;
+      try {
+        aResult = Json.readValue(message, VideoEncoderResult.class);
+      } catch (final RuntimeException e) {
+        this.deadLetterService.park(aMessage, "Unreadable payload: " + e.getMessage());
+        continue;
+      }
+
+      if (aResult instanceof VideoEncoderCompleted dto) {
+        log.info("[message:video.listener.income] [status:completed] [payload:{}]", message);
+        final var aCmd = new UpdateMediaStatusCommand(
+            MediaStatus.COMPLETED,
+            dto.id(),
+            dto.video().resourceId(),
+            dto.video().encodedVideoFolder(),
+            dto.video().filePath()
+        );
+
+        byVideo.computeIfAbsent(aCmd.videoId(), key -> new LinkedHashMap<>())
+            .merge(aCmd.resourceId(), new Update(aCmd, aMessage), VideoEncoderListener::furthest);
+      } else if (aResult instanceof VideoEncoderError) {
+        log.warn("[message:video.listener.income] [status:error] [payload:{}]", message);
+      } else {
+        this.deadLetterService.park(aMessage, "Unknown result");
+      }
+    }
+
+    return byVideo.values().stream()
+        .flatMap(byResource -> byResource.values().stream())
+        .toList();
+  }
+
+  private List<Update> notProcessed(final List<Update> updates) {
+    final var processed = this.dedupeStore.processed(updates.stream().map(Update::id).toList());
+    if (processed.isEmpty()) {
+      return updates;
+    }
+
+    log.info("[message:video.listener.duplicate] [status:dropped] [count:{}]", processed.size());
+    return updates.stream()
+        .filter(anUpdate -> !processed.contains(anUpdate.id()))
+        .toList();
+  }
+
+  // statuses only move forward, of two equal ones the latest is kept, the update kept covers the other
+  private static Update furthest(final Update previous, final Update next) {
+    return next.command().status().compareTo(previous.command().status()) >= 0 ? next : previous;
+  }
+
+  record Update(UpdateMediaStatusCommand command, Message message) {
+
+    ProcessedEncoderResultID id() {
+      return ProcessedEncoderResultID.from(command.videoId(), command.resourceId(), command.status());
     }
   }
-}
\ No newline at end of file
+}
@@ -8,6 +8,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import pt.amane.domain.pagination.Pagination;
 import pt.amane.infrastructure.castmember.model.CastMemberListResponse;
 import pt.amane.infrastructure.castmember.model.CastMemberResponse;
@@ -34,6 +35,7 @@ public interface CastMemberAPI {
     @Operation(summary = "List all cast members")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Cast members retrieved"),
+            @ApiResponse(responseCode = "422", description = "A invalid parameter was received"),
             @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
     })
     Pagination<CastMemberListResponse> list(
@@ -41,7 +43,20 @@ public interface CastMemberAPI {
             @RequestParam(name = "page", required = false, defaultValue = "0") final int page,
             @RequestParam(name = "perPage", required = false, defaultValue = "10") final int perPage,
             @RequestParam(name = "sort", required = false, defaultValue = "name") final String sort,
-            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction
+            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction,
+            @RequestParam(name = "cursor", required = false) final String cursor,
+            @RequestParam(name = "total", required = false, defaultValue = "true") final boolean withTotal
+    );
+
+    @GetMapping(value = "export")
+    @Operation(summary = "Export all cast members as JSON lines or CSV, streamed as they are read")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Cast members exported"),
+            @ApiResponse(responseCode = "422", description = "The format is not supported"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(name = "format", required = false, defaultValue = "ndjson") String format
     );
 
     @GetMapping(value = "{id}", produces = MediaType.APPLICATION_JSON_VALUE)
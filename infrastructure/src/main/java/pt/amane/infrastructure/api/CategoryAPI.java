@@ -16,6 +16,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import pt.amane.domain.pagination.Pagination;
 import pt.amane.infrastructure.category.model.CategoryListResponse;
 import pt.amane.infrastructure.category.model.CategoryResponse;
@@ -50,7 +51,20 @@ public interface CategoryAPI {
             @RequestParam(name = "page", required = false, defaultValue = "0") final int page,
             @RequestParam(name = "perPage", required = false, defaultValue = "10") final int perPage,
             @RequestParam(name = "sort", required = false, defaultValue = "name") final String sort,
-            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction
+            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction,
+            @RequestParam(name = "cursor", required = false) final String cursor,
+            @RequestParam(name = "total", required = false, defaultValue = "true") final boolean withTotal
+    );
+
+    @GetMapping(value = "export")
+    @Operation(summary = "Export all categories as JSON lines or CSV, streamed as they are read")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Categories exported"),
+            @ApiResponse(responseCode = "422", description = "The format is not supported"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(name = "format", required = false, defaultValue = "ndjson") String format
     );
 
     @GetMapping(
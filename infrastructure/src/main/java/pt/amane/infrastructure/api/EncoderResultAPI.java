@@ -0,0 +1,28 @@
+package pt.amane.infrastructure.api;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import pt.amane.infrastructure.video.model.ReplayEncoderResultsResponse;
+
+@RequestMapping(value = "videos/encoder_results")
+@Tag(name = "Videos")
+public interface EncoderResultAPI {
+
+    @PostMapping(value = "replay", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Put the parked or dead-lettered encoder results back on their queue, with their attempts reset")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Replayed successfully"),
+            @ApiResponse(responseCode = "422", description = "A invalid parameter was received"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    ReplayEncoderResultsResponse replay(
+            @RequestParam(name = "from", required = false, defaultValue = "parking_lot") final String from,
+            @RequestParam(name = "max", required = false, defaultValue = "100") final int max
+    );
+}
@@ -8,6 +8,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import pt.amane.domain.pagination.Pagination;
 import pt.amane.infrastructure.genre.models.CreateGenreRequest;
 import pt.amane.infrastructure.genre.models.GenreListResponse;
@@ -42,7 +43,20 @@ public interface GenreAPI {
             @RequestParam(name = "page", required = false, defaultValue = "0") final int page,
             @RequestParam(name = "perPage", required = false, defaultValue = "10") final int perPage,
             @RequestParam(name = "sort", required = false, defaultValue = "name") final String sort,
-            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction
+            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction,
+            @RequestParam(name = "cursor", required = false) final String cursor,
+            @RequestParam(name = "total", required = false, defaultValue = "true") final boolean withTotal
+    );
+
+    @GetMapping(value = "export")
+    @Operation(summary = "Export all genres as JSON lines or CSV, streamed as they are read")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Genres exported"),
+            @ApiResponse(responseCode = "422", description = "The format is not supported"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(name = "format", required = false, defaultValue = "ndjson") String format
     );
 
     @GetMapping(
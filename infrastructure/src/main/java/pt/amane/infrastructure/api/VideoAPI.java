@@ -4,16 +4,20 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import java.math.BigDecimal;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.Set;
 import pt.amane.domain.pagination.Pagination;
 import pt.amane.infrastructure.video.model.CreateVideoRequest;
+import pt.amane.infrastructure.video.model.InitiateMediaUploadRequest;
 import pt.amane.infrastructure.video.model.UpdateVideoRequest;
 import pt.amane.infrastructure.video.model.VideoListResponse;
 import pt.amane.infrastructure.video.model.VideoResponse;
@@ -22,6 +26,8 @@ import pt.amane.infrastructure.video.model.VideoResponse;
 @Tag(name = "Video")
 public interface VideoAPI {
 
+    String PART_CHECKSUM = "X-Checksum-CRC32C";
+
     @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
     @Operation(summary = "List all videos paginated")
     @ApiResponses(value = {
@@ -37,7 +43,21 @@ public interface VideoAPI {
             @RequestParam(name = "dir", required = false, defaultValue = "asc") String direction,
             @RequestParam(name = "cast_members_id", required = false, defaultValue = "") Set<String> castMembers,
             @RequestParam(name = "categories_id", required = false, defaultValue = "") Set<String> categories,
-            @RequestParam(name = "genres_id", required = false, defaultValue = "") Set<String> genres
+            @RequestParam(name = "genres_id", required = false, defaultValue = "") Set<String> genres,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "total", required = false, defaultValue = "true") boolean withTotal,
+            @RequestParam(name = "consistent", required = false, defaultValue = "false") boolean consistent
+    );
+
+    @GetMapping(value = "export")
+    @Operation(summary = "Export the listing of every video as JSON lines or CSV, streamed as they are read")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Videos exported"),
+            @ApiResponse(responseCode = "422", description = "The format is not supported"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(name = "format", required = false, defaultValue = "ndjson") String format
     );
 
     @PostMapping(
@@ -80,6 +100,18 @@ public interface VideoAPI {
     })
     ResponseEntity<?> createPartial(@RequestBody CreateVideoRequest payload);
 
+    @PostMapping(
+            value = "bulk",
+            consumes = MediaType.APPLICATION_NDJSON_VALUE,
+            produces = MediaType.APPLICATION_NDJSON_VALUE
+    )
+    @Operation(summary = "Create videos without medias from a stream of JSON lines, answering one result line per video")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lines processed, each result tells whether its video was created"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    ResponseEntity<StreamingResponseBody> createBulk(HttpServletRequest request);
+
     @GetMapping(value = "{id}", produces = MediaType.APPLICATION_JSON_VALUE)
     @Operation(summary = "Get a video by it's identifier")
     @ApiResponses(value = {
@@ -116,15 +148,19 @@ public interface VideoAPI {
     void deleteById(@PathVariable(name = "id") String id);
 
     @GetMapping(value = "{id}/medias/{type}")
-    @Operation(summary = "Get a video media by it's type")
+    @Operation(summary = "Get a video media by it's type, honouring the Range and If-Range headers")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Media retrieved successfully"),
+            @ApiResponse(responseCode = "206", description = "Media range retrieved successfully"),
             @ApiResponse(responseCode = "404", description = "Media was not found"),
+            @ApiResponse(responseCode = "416", description = "The requested range is not satisfiable"),
             @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
     })
-    ResponseEntity<byte[]> getMediaByType(
+    ResponseEntity<StreamingResponseBody> getMediaByType(
             @PathVariable(name = "id") String id,
-            @PathVariable(name = "type") String type
+            @PathVariable(name = "type") String type,
+            @RequestHeader(name = HttpHeaders.RANGE, required = false) String range,
+            @RequestHeader(name = HttpHeaders.IF_RANGE, required = false) String ifRange
     );
 
     @PostMapping(value = "{id}/medias/{type}")
@@ -139,4 +175,71 @@ public interface VideoAPI {
             @PathVariable(name = "type") String type,
             @RequestParam(name = "media_file") MultipartFile media
     );
+
+    @PostMapping(
+            value = "{id}/medias/{type}/uploads",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Initiate a resumable upload of a video or trailer media")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Upload initiated successfully"),
+            @ApiResponse(responseCode = "404", description = "Video was not found"),
+            @ApiResponse(responseCode = "422", description = "A validation error was thrown"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    ResponseEntity<?> initiateMediaUpload(
+            @PathVariable(name = "id") String id,
+            @PathVariable(name = "type") String type,
+            @RequestBody InitiateMediaUploadRequest payload
+    );
+
+    @GetMapping(value = "{id}/medias/{type}/uploads/{uploadId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Get the parts already received by a resumable upload")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Upload retrieved successfully"),
+            @ApiResponse(responseCode = "404", description = "Upload was not found"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    ResponseEntity<?> getMediaUpload(
+            @PathVariable(name = "id") String id,
+            @PathVariable(name = "type") String type,
+            @PathVariable(name = "uploadId") String uploadId
+    );
+
+    @PutMapping(
+            value = "{id}/medias/{type}/uploads/{uploadId}/parts/{partNumber}",
+            consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Upload a part of a resumable upload, verifying its CRC32C checksum when sent in the " + PART_CHECKSUM + " header")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Part stored successfully"),
+            @ApiResponse(responseCode = "404", description = "Upload was not found"),
+            @ApiResponse(responseCode = "422", description = "The part is invalid or its checksum doesn't match"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    ResponseEntity<?> uploadMediaPart(
+            @PathVariable(name = "id") String id,
+            @PathVariable(name = "type") String type,
+            @PathVariable(name = "uploadId") String uploadId,
+            @PathVariable(name = "partNumber") int partNumber,
+            @RequestHeader(name = PART_CHECKSUM, required = false) String checksum,
+            HttpServletRequest request
+    );
+
+    @PostMapping(value = "{id}/medias/{type}/uploads/{uploadId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Complete a resumable upload, assembling its parts into the media")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Media created successfully"),
+            @ApiResponse(responseCode = "404", description = "Upload or video was not found"),
+            @ApiResponse(responseCode = "422", description = "Some parts are missing"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    ResponseEntity<?> completeMediaUpload(
+            @PathVariable(name = "id") String id,
+            @PathVariable(name = "type") String type,
+            @PathVariable(name = "uploadId") String uploadId,
+            @RequestParam(name = "parts", required = false) Integer parts
+    );
 }
@@ -2,12 +2,14 @@ package pt.amane.infrastructure.api.controllers;
 
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.net.URI;
 import java.util.Objects;
 import pt.amane.application.castmember.create.CreateCastMemberCommand;
 import pt.amane.application.castmember.create.CreateCastMemberUseCase;
 import pt.amane.application.castmember.delete.DeleteCastMemberUseCase;
+import pt.amane.application.castmember.retrieve.export.ExportCastMembersUseCase;
 import pt.amane.application.castmember.retrieve.get.GetCastMemberByIdUseCase;
 import pt.amane.application.castmember.retrieve.list.ListCastMembersUseCase;
 import pt.amane.application.castmember.update.UpdateCastMemberCommand;
@@ -20,6 +22,7 @@ import pt.amane.infrastructure.castmember.model.CastMemberResponse;
 import pt.amane.infrastructure.castmember.model.CreateCastMemberRequest;
 import pt.amane.infrastructure.castmember.model.UpdateCastMemberRequest;
 import pt.amane.infrastructure.castmember.presenter.CastMemberPresenter;
+import pt.amane.infrastructure.utils.ExportUtils;
 
 @RestController
 public class CastMemberController implements CastMemberAPI {
@@ -29,19 +32,22 @@ public class CastMemberController implements CastMemberAPI {
     private final UpdateCastMemberUseCase updateCastMemberUseCase;
     private final DeleteCastMemberUseCase deleteCastMemberUseCase;
     private final ListCastMembersUseCase listCastMembersUseCase;
+    private final ExportCastMembersUseCase exportCastMembersUseCase;
 
     public CastMemberController(
             final CreateCastMemberUseCase createCastMemberUseCase,
             final GetCastMemberByIdUseCase getCastMemberByIdUseCase,
             final UpdateCastMemberUseCase updateCastMemberUseCase,
             final DeleteCastMemberUseCase deleteCastMemberUseCase,
-            final ListCastMembersUseCase listCastMembersUseCase
+            final ListCastMembersUseCase listCastMembersUseCase,
+            final ExportCastMembersUseCase exportCastMembersUseCase
     ) {
         this.createCastMemberUseCase = Objects.requireNonNull(createCastMemberUseCase);
         this.getCastMemberByIdUseCase = Objects.requireNonNull(getCastMemberByIdUseCase);
         this.updateCastMemberUseCase = Objects.requireNonNull(updateCastMemberUseCase);
         this.deleteCastMemberUseCase = Objects.requireNonNull(deleteCastMemberUseCase);
         this.listCastMembersUseCase = Objects.requireNonNull(listCastMembersUseCase);
+        this.exportCastMembersUseCase = Objects.requireNonNull(exportCastMembersUseCase);
     }
 
     @Override
@@ -60,12 +66,20 @@ public class CastMemberController implements CastMemberAPI {
             final int page,
             final int perPage,
             final String sort,
-            final String direction
+            final String direction,
+            final String cursor,
+            final boolean withTotal
     ) {
-        return this.listCastMembersUseCase.execute(new SearchQuery(page, perPage, search, sort, direction))
+        return this.listCastMembersUseCase.execute(new SearchQuery(page, perPage, search, sort, direction, cursor, withTotal))
                 .map(CastMemberPresenter::present);
     }
 
+    @Override
+    public ResponseEntity<StreamingResponseBody> export(final String format) {
+        return ExportUtils.export("cast_members", format, CastMemberListResponse.class, row ->
+                this.exportCastMembersUseCase.execute(output -> row.accept(CastMemberPresenter.present(output))));
+    }
+
     @Override
     public CastMemberResponse getById(final String id) {
         return CastMemberPresenter.present(this.getCastMemberByIdUseCase.execute(id));
@@ -2,6 +2,7 @@ package pt.amane.infrastructure.api.controllers;
 
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.net.URI;
 import java.util.Objects;
@@ -10,6 +11,7 @@ import pt.amane.application.category.create.CreateCategoryCommand;
 import pt.amane.application.category.create.CreateCategoryOutput;
 import pt.amane.application.category.create.CreateCategoryUseCase;
 import pt.amane.application.category.delete.DeleteCategoryUseCase;
+import pt.amane.application.category.retrieve.export.ExportCategoriesUseCase;
 import pt.amane.application.category.retrieve.get.GetCategoryByIdUseCase;
 import pt.amane.application.category.retrieve.list.ListCategoriesUseCase;
 import pt.amane.application.category.update.UpdateCategoryCommand;
@@ -24,6 +26,7 @@ import pt.amane.infrastructure.category.model.CategoryResponse;
 import pt.amane.infrastructure.category.model.CreateCategoryRequest;
 import pt.amane.infrastructure.category.model.UpdateCategoryRequest;
 import pt.amane.infrastructure.category.presenters.CategoryApiPresenter;
+import pt.amane.infrastructure.utils.ExportUtils;
 
 @RestController
 public class CategoryController implements CategoryAPI {
@@ -33,19 +36,22 @@ public class CategoryController implements CategoryAPI {
     private final UpdateCategoryUseCase updateCategoryUseCase;
     private final DeleteCategoryUseCase deleteCategoryUseCase;
     private final ListCategoriesUseCase listCategoriesUseCase;
+    private final ExportCategoriesUseCase exportCategoriesUseCase;
 
     public CategoryController(
             final CreateCategoryUseCase createCategoryUseCase,
             final GetCategoryByIdUseCase getCategoryByIdUseCase,
             final UpdateCategoryUseCase updateCategoryUseCase,
             final DeleteCategoryUseCase deleteCategoryUseCase,
-            final ListCategoriesUseCase listCategoriesUseCase
+            final ListCategoriesUseCase listCategoriesUseCase,
+            final ExportCategoriesUseCase exportCategoriesUseCase
     ) {
         this.createCategoryUseCase = Objects.requireNonNull(createCategoryUseCase);
         this.getCategoryByIdUseCase = Objects.requireNonNull(getCategoryByIdUseCase);
         this.updateCategoryUseCase = Objects.requireNonNull(updateCategoryUseCase);
         this.deleteCategoryUseCase = Objects.requireNonNull(deleteCategoryUseCase);
         this.listCategoriesUseCase = Objects.requireNonNull(listCategoriesUseCase);
+        this.exportCategoriesUseCase = Objects.requireNonNull(exportCategoriesUseCase);
     }
 
     @Override
@@ -72,12 +78,20 @@ public class CategoryController implements CategoryAPI {
             final int page,
             final int perPage,
             final String sort,
-            final String direction
+            final String direction,
+            final String cursor,
+            final boolean withTotal
     ) {
-        return listCategoriesUseCase.execute(new SearchQuery(page, perPage, search, sort, direction))
+        return listCategoriesUseCase.execute(new SearchQuery(page, perPage, search, sort, direction, cursor, withTotal))
                 .map(CategoryApiPresenter::present);
     }
 
+    @Override
+    public ResponseEntity<StreamingResponseBody> export(final String format) {
+        return ExportUtils.export("categories", format, CategoryListResponse.class, row ->
+                this.exportCategoriesUseCase.execute(output -> row.accept(CategoryApiPresenter.present(output))));
+    }
+
     @Override
     public CategoryResponse getById(final String id) {
         return CategoryApiPresenter.present(this.getCategoryByIdUseCase.execute(id));
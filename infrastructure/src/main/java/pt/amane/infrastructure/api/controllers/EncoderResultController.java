@@ -0,0 +1,35 @@
+package pt.amane.infrastructure.api.controllers;
+
+import java.util.Locale;
+import java.util.Objects;
+import org.springframework.web.bind.annotation.RestController;
+import pt.amane.domain.exception.DomainException;
+import pt.amane.domain.validation.Error;
+import pt.amane.infrastructure.ampq.DeadLetterService;
+import pt.amane.infrastructure.api.EncoderResultAPI;
+import pt.amane.infrastructure.configuration.annotations.VideoEncodedQueue;
+import pt.amane.infrastructure.video.model.ReplayEncoderResultsResponse;
+
+@RestController
+public class EncoderResultController implements EncoderResultAPI {
+
+    private final DeadLetterService deadLetterService;
+
+    public EncoderResultController(@VideoEncodedQueue final DeadLetterService deadLetterService) {
+        this.deadLetterService = Objects.requireNonNull(deadLetterService);
+    }
+
+    @Override
+    public ReplayEncoderResultsResponse replay(final String from, final int max) {
+        final var source = switch (from.toLowerCase(Locale.ROOT)) {
+            case "parking_lot" -> DeadLetterService.Source.PARKING_LOT;
+            case "dead_letter" -> DeadLetterService.Source.DEAD_LETTER;
+            default -> throw DomainException.with(new Error("'from' should be parking_lot or dead_letter"));
+        };
+        if (max <= 0) {
+            throw DomainException.with(new Error("'max' should be greater than zero"));
+        }
+
+        return new ReplayEncoderResultsResponse(from, this.deadLetterService.replay(source, max));
+    }
+}
@@ -2,11 +2,13 @@ package pt.amane.infrastructure.api.controllers;
 
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.net.URI;
 import pt.amane.application.genre.create.CreateGenreCommand;
 import pt.amane.application.genre.create.CreateGenreUseCase;
 import pt.amane.application.genre.delete.DeleteGenreUseCase;
+import pt.amane.application.genre.retrieve.export.ExportGenresUseCase;
 import pt.amane.application.genre.retrieve.get.GetGenreByIdUseCase;
 import pt.amane.application.genre.retrieve.list.ListGenreUseCase;
 import pt.amane.application.genre.update.UpdateGenreCommand;
@@ -19,6 +21,7 @@ import pt.amane.infrastructure.genre.models.GenreListResponse;
 import pt.amane.infrastructure.genre.models.GenreResponse;
 import pt.amane.infrastructure.genre.models.UpdateGenreRequest;
 import pt.amane.infrastructure.genre.presenters.GenreApiPresenter;
+import pt.amane.infrastructure.utils.ExportUtils;
 
 @RestController
 public class GenreController implements GenreAPI {
@@ -28,19 +31,22 @@ public class GenreController implements GenreAPI {
     private final GetGenreByIdUseCase getGenreByIdUseCase;
     private final ListGenreUseCase listGenreUseCase;
     private final UpdateGenreUseCase updateGenreUseCase;
+    private final ExportGenresUseCase exportGenresUseCase;
 
     public GenreController(
             final CreateGenreUseCase createGenreUseCase,
             final DeleteGenreUseCase deleteGenreUseCase,
             final GetGenreByIdUseCase getGenreByIdUseCase,
             final ListGenreUseCase listGenreUseCase,
-            final UpdateGenreUseCase updateGenreUseCase
+            final UpdateGenreUseCase updateGenreUseCase,
+            final ExportGenresUseCase exportGenresUseCase
     ) {
         this.createGenreUseCase = createGenreUseCase;
         this.deleteGenreUseCase = deleteGenreUseCase;
         this.getGenreByIdUseCase = getGenreByIdUseCase;
         this.listGenreUseCase = listGenreUseCase;
         this.updateGenreUseCase = updateGenreUseCase;
+        this.exportGenresUseCase = exportGenresUseCase;
     }
 
     @Override
@@ -62,12 +68,20 @@ public class GenreController implements GenreAPI {
             final int page,
             final int perPage,
             final String sort,
-            final String direction
+            final String direction,
+            final String cursor,
+            final boolean withTotal
     ) {
-        return this.listGenreUseCase.execute(new SearchQuery(page, perPage, search, sort, direction))
+        return this.listGenreUseCase.execute(new SearchQuery(page, perPage, search, sort, direction, cursor, withTotal))
                 .map(GenreApiPresenter::present);
     }
 
+    @Override
+    public ResponseEntity<StreamingResponseBody> export(final String format) {
+        return ExportUtils.export("genres", format, GenreListResponse.class, row ->
+                this.exportGenresUseCase.execute(output -> row.accept(GenreApiPresenter.present(output))));
+    }
+
     @Override
     public GenreResponse getById(final String id) {
         return GenreApiPresenter.present(this.getGenreByIdUseCase.execute(id));
@@ -2,23 +2,58 @@ package pt.amane.infrastructure.api.controllers;
 
 import static pt.amane.domain.utils.CollectionUtils.mapTo;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.servlet.http.HttpServletRequest;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.net.URI;
+import java.nio.channels.Channels;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import pt.amane.application.video.create.CreateVideoCommand;
 import pt.amane.application.video.create.CreateVideoUseCase;
+import pt.amane.application.video.create.bulk.BulkCreateVideoCommand;
+import pt.amane.application.video.create.bulk.BulkCreateVideoOutput;
+import pt.amane.application.video.create.bulk.BulkCreateVideoUseCase;
 import pt.amane.application.video.delete.DeleteVideoUseCase;
 import pt.amane.application.video.media.get.GetMediaCommand;
 import pt.amane.application.video.media.get.GetMediaUseCase;
+import pt.amane.application.video.media.get.MediaOutput;
 import pt.amane.application.video.media.upload.UploadMediaCommand;
 import pt.amane.application.video.media.upload.UploadMediaUseCase;
+import pt.amane.application.video.media.upload.complete.CompleteMediaUploadCommand;
+import pt.amane.application.video.media.upload.complete.CompleteMediaUploadUseCase;
+import pt.amane.application.video.media.upload.initiate.InitiateMediaUploadCommand;
+import pt.amane.application.video.media.upload.initiate.InitiateMediaUploadUseCase;
+import pt.amane.application.video.media.upload.part.UploadMediaPartCommand;
+import pt.amane.application.video.media.upload.part.UploadMediaPartUseCase;
+import pt.amane.application.video.media.upload.retrieve.GetMediaUploadCommand;
+import pt.amane.application.video.media.upload.retrieve.GetMediaUploadUseCase;
+import pt.amane.application.video.retrieve.export.ExportVideosUseCase;
 import pt.amane.application.video.retrieve.get.GetVideoByIdUseCase;
 import pt.amane.application.video.retrieve.list.ListVideosUseCase;
 import pt.amane.application.video.update.UpdateVideoCommand;
@@ -34,17 +69,21 @@ import pt.amane.domain.video.VideoMediaType;
 import pt.amane.domain.video.VideoResource;
 import pt.amane.domain.video.VideoSearchQuery;
 import pt.amane.infrastructure.api.VideoAPI;
-import pt.amane.infrastructure.utils.HashingUtils;
 import pt.amane.infrastructure.video.model.CreateVideoRequest;
+import pt.amane.infrastructure.video.model.InitiateMediaUploadRequest;
 import pt.amane.infrastructure.video.model.UpdateVideoRequest;
+import pt.amane.infrastructure.video.model.VideoImportLineResponse;
 import pt.amane.infrastructure.video.model.VideoListResponse;
 import pt.amane.infrastructure.video.model.VideoResponse;
+import pt.amane.infrastructure.utils.ExportUtils;
 import pt.amane.infrastructure.video.presenters.VideoApiPresenter;
 
 
 @RestController
 public class VideoController implements VideoAPI {
 
+    private static final Logger log = LoggerFactory.getLogger(VideoController.class);
+
     private final CreateVideoUseCase createVideoUseCase;
     private final GetVideoByIdUseCase getVideoByIdUseCase;
     private final UpdateVideoUseCase updateVideoUseCase;
@@ -52,6 +91,16 @@ public class VideoController implements VideoAPI {
     private final ListVideosUseCase listVideosUseCase;
     private final GetMediaUseCase getMediaUseCase;
     private final UploadMediaUseCase uploadMediaUseCase;
+    private final InitiateMediaUploadUseCase initiateMediaUploadUseCase;
+    private final GetMediaUploadUseCase getMediaUploadUseCase;
+    private final UploadMediaPartUseCase uploadMediaPartUseCase;
+    private final CompleteMediaUploadUseCase completeMediaUploadUseCase;
+    private final BulkCreateVideoUseCase bulkCreateVideoUseCase;
+    private final ExportVideosUseCase exportVideosUseCase;
+    private final ObjectReader lineReader;
+    private final ObjectWriter lineWriter;
+    private final int importChunkSize;
+    private final int importMaxLineLength;
 
     public VideoController(
             final CreateVideoUseCase createVideoUseCase,
@@ -60,8 +109,23 @@ public class VideoController implements VideoAPI {
             final DeleteVideoUseCase deleteVideoUseCase,
             final ListVideosUseCase listVideosUseCase,
             final GetMediaUseCase getMediaUseCase,
-            final UploadMediaUseCase uploadMediaUseCase
+            final UploadMediaUseCase uploadMediaUseCase,
+            final InitiateMediaUploadUseCase initiateMediaUploadUseCase,
+            final GetMediaUploadUseCase getMediaUploadUseCase,
+            final UploadMediaPartUseCase uploadMediaPartUseCase,
+            final CompleteMediaUploadUseCase completeMediaUploadUseCase,
+            final BulkCreateVideoUseCase bulkCreateVideoUseCase,
+            final ExportVideosUseCase exportVideosUseCase,
+            final ObjectMapper mapper,
+            final int importChunkSize,
+            final int importMaxLineLength
     ) {
+        if (importChunkSize <= 0) {
+            throw new IllegalArgumentException("'importChunkSize' should be greater than zero");
+        }
+        if (importMaxLineLength <= 0) {
+            throw new IllegalArgumentException("'importMaxLineLength' should be greater than zero");
+        }
         this.createVideoUseCase = Objects.requireNonNull(createVideoUseCase);
         this.getVideoByIdUseCase = Objects.requireNonNull(getVideoByIdUseCase);
         this.updateVideoUseCase = Objects.requireNonNull(updateVideoUseCase);
@@ -69,6 +133,16 @@ public class VideoController implements VideoAPI {
         this.listVideosUseCase = Objects.requireNonNull(listVideosUseCase);
         this.getMediaUseCase = Objects.requireNonNull(getMediaUseCase);
         this.uploadMediaUseCase = Objects.requireNonNull(uploadMediaUseCase);
+        this.initiateMediaUploadUseCase = Objects.requireNonNull(initiateMediaUploadUseCase);
+        this.getMediaUploadUseCase = Objects.requireNonNull(getMediaUploadUseCase);
+        this.uploadMediaPartUseCase = Objects.requireNonNull(uploadMediaPartUseCase);
+        this.completeMediaUploadUseCase = Objects.requireNonNull(completeMediaUploadUseCase);
+        this.bulkCreateVideoUseCase = Objects.requireNonNull(bulkCreateVideoUseCase);
+        this.exportVideosUseCase = Objects.requireNonNull(exportVideosUseCase);
+        this.lineReader = mapper.readerFor(CreateVideoRequest.class);
+        this.lineWriter = mapper.writerFor(VideoImportLineResponse.class);
+        this.importChunkSize = importChunkSize;
+        this.importMaxLineLength = importMaxLineLength;
     }
 
     @Override
@@ -80,18 +154,28 @@ public class VideoController implements VideoAPI {
             final String direction,
             final Set<String> castMembers,
             final Set<String> categories,
-            final Set<String> genres
+            final Set<String> genres,
+            final String cursor,
+            final boolean withTotal,
+            final boolean consistent
     ) {
         final var castMemberIDs = mapTo(castMembers, CastMemberID::from);
         final var categoriesIDs = mapTo(categories, CategoryID::from);
         final var genresIDs = mapTo(genres, GenreID::from);
 
-        final var aQuery =
-                new VideoSearchQuery(page, perPage, search, sort, direction, castMemberIDs, categoriesIDs, genresIDs);
+        final var aQuery = new VideoSearchQuery(
+                page, perPage, search, sort, direction, castMemberIDs, categoriesIDs, genresIDs, cursor, withTotal, consistent
+        );
 
         return VideoApiPresenter.present(this.listVideosUseCase.execute(aQuery));
     }
 
+    @Override
+    public ResponseEntity<StreamingResponseBody> export(final String format) {
+        return ExportUtils.export("videos", format, VideoListResponse.class, row ->
+                this.exportVideosUseCase.execute(output -> row.accept(VideoApiPresenter.present(output))));
+    }
+
     @Override
     public ResponseEntity<?> createFull(
             final String aTitle,
@@ -135,24 +219,22 @@ public class VideoController implements VideoAPI {
 
     @Override
     public ResponseEntity<?> createPartial(final CreateVideoRequest payload) {
-        final var aCmd = CreateVideoCommand.with(
-                payload.title(),
-                payload.description(),
-                payload.yearLaunched(),
-                payload.duration(),
-                payload.opened(),
-                payload.published(),
-                payload.rating(),
-                payload.categories(),
-                payload.genres(),
-                payload.castMembers()
-        );
-
-        final var output = this.createVideoUseCase.execute(aCmd);
+        final var output = this.createVideoUseCase.execute(toCommand(payload));
 
         return ResponseEntity.created(URI.create("/videos/" + output.id())).body(output);
     }
 
+    /**
+     * Reads the body line by line and answers as the chunks are created, so neither the payload
+     * nor the results are held in memory beyond a chunk.
+     */
+    @Override
+    public ResponseEntity<StreamingResponseBody> createBulk(final HttpServletRequest request) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(out -> createBulk(request.getInputStream(), out));
+    }
+
     @Override
     public VideoResponse getById(final String anId) {
         return VideoApiPresenter.present(this.getVideoByIdUseCase.execute(anId));
@@ -187,15 +269,38 @@ public class VideoController implements VideoAPI {
     }
 
     @Override
-    public ResponseEntity<byte[]> getMediaByType(final String id, final String type) {
+    public ResponseEntity<StreamingResponseBody> getMediaByType(
+            final String id,
+            final String type,
+            final String range,
+            final String ifRange
+    ) {
         final var aMedia =
                 this.getMediaUseCase.execute(GetMediaCommand.with(id, type));
 
-        return ResponseEntity.ok()
-                .contentType(MediaType.valueOf(aMedia.contentType()))
-                .contentLength(aMedia.content().length)
-                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=%s".formatted(aMedia.name()))
-                .body(aMedia.content());
+        final var length = aMedia.length();
+        final var eTag = aMedia.checksum() != null ? "\"%s\"".formatted(aMedia.checksum()) : null;
+        final var aRange = requestedRange(range, ifRange, eTag);
+
+        if (aRange == null) {
+            return mediaResponse(ResponseEntity.ok(), aMedia, eTag)
+                    .contentLength(length)
+                    .body(bodyOf(aMedia, 0, length));
+        }
+
+        final var start = aRange.getRangeStart(length);
+        final var end = aRange.getRangeEnd(length);
+
+        if (start >= length || start > end) {
+            return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                    .header(HttpHeaders.CONTENT_RANGE, "bytes */%d".formatted(length))
+                    .build();
+        }
+
+        return mediaResponse(ResponseEntity.status(HttpStatus.PARTIAL_CONTENT), aMedia, eTag)
+                .contentLength(end - start + 1)
+                .header(HttpHeaders.CONTENT_RANGE, "bytes %d-%d/%d".formatted(start, end, length))
+                .body(bodyOf(aMedia, start, end - start + 1));
     }
 
     @Override
@@ -213,20 +318,282 @@ public class VideoController implements VideoAPI {
                 .body(VideoApiPresenter.present(output));
     }
 
+    @Override
+    public ResponseEntity<?> initiateMediaUpload(
+            final String id,
+            final String type,
+            final InitiateMediaUploadRequest payload
+    ) {
+        final var aCmd =
+                InitiateMediaUploadCommand.with(id, type, payload.contentType(), payload.name());
+
+        final var output = this.initiateMediaUploadUseCase.execute(aCmd);
+
+        return ResponseEntity
+                .created(URI.create("/videos/%s/medias/%s/uploads/%s".formatted(id, type, output.uploadId())))
+                .body(VideoApiPresenter.present(output));
+    }
+
+    @Override
+    public ResponseEntity<?> getMediaUpload(final String id, final String type, final String uploadId) {
+        final var output =
+                this.getMediaUploadUseCase.execute(GetMediaUploadCommand.with(id, type, uploadId));
+
+        return ResponseEntity.ok(VideoApiPresenter.present(output));
+    }
+
+    @Override
+    public ResponseEntity<?> uploadMediaPart(
+            final String id,
+            final String type,
+            final String uploadId,
+            final int partNumber,
+            final String checksum,
+            final HttpServletRequest request
+    ) {
+        final var length = request.getContentLengthLong();
+        if (length < 0) {
+            throw NotificationException.with(new Error("'Content-Length' is required to upload a part"));
+        }
+
+        // The body is streamed to the storage, as a multipart file would be
+        final var aPart = Resource.with(
+                request::getInputStream,
+                length,
+                MediaType.APPLICATION_OCTET_STREAM_VALUE,
+                "part-%d".formatted(partNumber)
+        );
+
+        final var aCmd =
+                UploadMediaPartCommand.with(id, type, uploadId, partNumber, aPart, checksum);
+
+        return ResponseEntity.ok(VideoApiPresenter.present(this.uploadMediaPartUseCase.execute(aCmd)));
+    }
+
+    @Override
+    public ResponseEntity<?> completeMediaUpload(
+            final String id,
+            final String type,
+            final String uploadId,
+            final Integer parts
+    ) {
+        final var aCmd =
+                CompleteMediaUploadCommand.with(id, type, uploadId, parts);
+
+        final var output = this.completeMediaUploadUseCase.execute(aCmd);
+
+        return ResponseEntity
+                .created(URI.create("/videos/%s/medias/%s".formatted(id, type)))
+                .body(VideoApiPresenter.present(output));
+    }
+
+    private void createBulk(final InputStream in, final OutputStream out) throws IOException {
+        final var reader = new BoundedLineReader(
+                new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)),
+                this.importMaxLineLength
+        );
+        final var chunk = new ArrayList<ImportLine>(this.importChunkSize);
+
+        long number = 0;
+        while (reader.next()) {
+            number++;
+            if (reader.isTooLong()) {
+                chunk.add(new ImportLine(number, null, new Error(
+                        "Line longer than %d characters".formatted(this.importMaxLineLength)
+                )));
+            } else {
+                final var line = reader.line();
+                if (line.isBlank()) {
+                    continue;
+                }
+                chunk.add(parse(number, line));
+            }
+
+            if (chunk.size() == this.importChunkSize) {
+                createChunk(chunk, out);
+                chunk.clear();
+            }
+        }
+
+        if (!chunk.isEmpty()) {
+            createChunk(chunk, out);
+        }
+    }
+
+    private ImportLine parse(final long number, final String line) {
+        try {
+            final CreateVideoRequest payload = this.lineReader.readValue(line);
+            if (payload == null) {
+                return new ImportLine(number, null, new Error("Invalid JSON line: a video object is expected"));
+            }
+            return new ImportLine(number, payload, null);
+        } catch (final JsonProcessingException e) {
+            return new ImportLine(number, null, new Error("Invalid JSON line: %s".formatted(e.getOriginalMessage())));
+        }
+    }
+
+    /**
+     * The lines that could be parsed are created in a single transaction, the results are written
+     * in the order of the lines and flushed, so the client sees the progress of the import.
+     * When the chunk could not be created each of its lines is reported failed and the import goes on,
+     * the response was already committed by the previous chunks.
+     */
+    private void createChunk(final List<ImportLine> chunk, final OutputStream out) throws IOException {
+        final var commands = chunk.stream()
+                .filter(it -> it.error() == null)
+                .map(it -> toCommand(it.payload()))
+                .toList();
+
+        Iterator<BulkCreateVideoOutput.Item> items;
+        Error chunkError = null;
+        try {
+            items = commands.isEmpty()
+                    ? List.<BulkCreateVideoOutput.Item>of().iterator()
+                    : this.bulkCreateVideoUseCase.execute(BulkCreateVideoCommand.with(commands)).items().iterator();
+        } catch (final RuntimeException e) {
+            log.error("Could not import the videos of lines {} to {}",
+                    chunk.get(0).number(), chunk.get(chunk.size() - 1).number(), e);
+            items = Collections.emptyIterator();
+            chunkError = new Error("An error on create video was observed: %s".formatted(e.getMessage()));
+        }
+
+        for (final var aLine : chunk) {
+            final var anError = aLine.error() != null ? aLine.error() : chunkError;
+            final var result = anError != null
+                    ? new VideoImportLineResponse(aLine.number(), null, List.of(anError))
+                    : VideoApiPresenter.present(aLine.number(), items.next());
+
+            out.write(this.lineWriter.writeValueAsBytes(result));
+            out.write('\n');
+        }
+        out.flush();
+    }
+
+    private static CreateVideoCommand toCommand(final CreateVideoRequest payload) {
+        return CreateVideoCommand.with(
+                payload.title(),
+                payload.description(),
+                payload.yearLaunched(),
+                payload.duration(),
+                payload.opened(),
+                payload.published(),
+                payload.rating(),
+                payload.categories(),
+                payload.genres(),
+                payload.castMembers()
+        );
+    }
+
+    private ResponseEntity.BodyBuilder mediaResponse(
+            final ResponseEntity.BodyBuilder builder,
+            final MediaOutput aMedia,
+            final String eTag
+    ) {
+        builder.contentType(MediaType.valueOf(aMedia.contentType()))
+                .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=%s".formatted(aMedia.name()));
+
+        if (eTag != null) {
+            builder.eTag(eTag);
+        }
+        return builder;
+    }
+
+    /**
+     * The single byte range to serve, or null when the whole media must be sent: no Range header,
+     * a malformed or multi range header, or an If-Range validator that no longer matches.
+     */
+    private HttpRange requestedRange(final String range, final String ifRange, final String eTag) {
+        if (range == null || range.isBlank()) {
+            return null;
+        }
+
+        if (ifRange != null && !ifRange.equals(eTag)) {
+            return null;
+        }
+
+        try {
+            final var ranges = HttpRange.parseRanges(range);
+            return ranges.size() == 1 ? ranges.get(0) : null;
+        } catch (final IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * The media is copied by ranges straight from the storage into the response channel,
+     * so its content is never held in memory.
+     */
+    private StreamingResponseBody bodyOf(final MediaOutput aMedia, final long position, final long count) {
+        return out -> aMedia.resource().transferTo(position, count, Channels.newChannel(out));
+    }
+
     private Resource resourceOf(final MultipartFile part) {
         if (part == null) {
             return null;
         }
 
-        try {
-            return Resource.with(
-                    part.getBytes(),
-                    HashingUtils.checksum(part.getBytes()),
-                    part.getContentType(),
-                    part.getOriginalFilename()
-            );
-        } catch (Throwable t) {
-            throw new RuntimeException(t);
+        // The part is streamed to the storage, the checksum is computed while its bytes are copied
+        return Resource.with(
+                part::getInputStream,
+                part.getSize(),
+                part.getContentType(),
+                part.getOriginalFilename()
+        );
+    }
+
+    private record ImportLine(long number, CreateVideoRequest payload, Error error) {
+    }
+
+    /**
+     * Reads the lines of the body holding at most the maximum length of one, the rest of a longer line is skipped.
+     */
+    private static final class BoundedLineReader {
+
+        private final Reader reader;
+        private final int maxLength;
+        private final StringBuilder line;
+        private boolean tooLong;
+
+        BoundedLineReader(final Reader reader, final int maxLength) {
+            this.reader = reader;
+            this.maxLength = maxLength;
+            this.line = new StringBuilder();
+        }
+
+        /**
+         * @return false at the end of the body
+         */
+        boolean next() throws IOException {
+            this.line.setLength(0);
+            this.tooLong = false;
+
+            int c = this.reader.read();
+            if (c == -1) {
+                return false;
+            }
+            while (c != -1 && c != '\n') {
+                if (this.line.length() < this.maxLength) {
+                    this.line.append((char) c);
+                } else if (c != '\r') {
+                    this.tooLong = true;
+                }
+                c = this.reader.read();
+            }
+
+            final var last = this.line.length() - 1;
+            if (last >= 0 && this.line.charAt(last) == '\r') {
+                this.line.setLength(last);
+            }
+            return true;
+        }
+
+        boolean isTooLong() {
+            return this.tooLong;
+        }
+
+        String line() {
+            return this.line.toString();
         }
     }
-}
\ No newline at end of file
+}
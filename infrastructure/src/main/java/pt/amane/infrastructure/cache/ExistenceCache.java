@@ -0,0 +1,106 @@
+package pt.amane.infrastructure.cache;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Remembers, for a bounded time, whether an id exists, including the ids that do not exist,
+ * so repeated existence checks of the same ids do not reach the database.
+ * Writes must call {@link #invalidate(String)}, an id loaded while it was being invalidated is not cached.
+ */
+public class ExistenceCache {
+
+  private final Cache<String, Boolean> cache;
+
+  private final AtomicLong invalidations;
+
+  public ExistenceCache(final Duration ttl, final long maxSize) {
+    this.cache = CacheBuilder.newBuilder()
+        .expireAfterWrite(ttl)
+        .maximumSize(maxSize)
+        .recordStats()
+        .build();
+    this.invalidations = new AtomicLong();
+  }
+
+  /**
+   * Returns the ids that exist, in the given order and without duplicates,
+   * the ids not cached are resolved with a single call to the loader.
+   * @param ids
+   * @param loader returns which of the given ids exist
+   * @return
+   */
+  public List<String> existing(final Collection<String> ids, final Function<List<String>, List<String>> loader) {
+    if (ids.isEmpty()) {
+      return List.of();
+    }
+
+    final var known = this.cache.getAllPresent(ids);
+    final var missing = ids.stream()
+        .filter(id -> !known.containsKey(id))
+        .distinct()
+        .toList();
+
+    final var found = new HashSet<String>();
+    known.forEach((id, exists) -> {
+      if (exists) {
+        found.add(id);
+      }
+    });
+
+    if (!missing.isEmpty()) {
+      final var generation = this.invalidations.get();
+      final var loaded = new HashSet<>(loader.apply(missing));
+      found.addAll(loaded);
+
+      if (generation == this.invalidations.get()) {
+        missing.forEach(id -> this.cache.put(id, loaded.contains(id)));
+      }
+    }
+
+    return ids.stream()
+        .filter(found::contains)
+        .distinct()
+        .toList();
+  }
+
+  public void invalidate(final String id) {
+    this.invalidations.incrementAndGet();
+    this.cache.invalidate(id);
+  }
+
+  public void invalidateAll() {
+    this.invalidations.incrementAndGet();
+    this.cache.invalidateAll();
+  }
+
+  public long size() {
+    return this.cache.size();
+  }
+
+  /**
+   * Publishes the hit and miss counts and the size as the cache meters of Micrometer, tagged with the given name.
+   * @param registry
+   * @param name
+   */
+  public void bindTo(final MeterRegistry registry, final String name) {
+    GuavaCacheMetrics.monitor(registry, this.cache, name);
+  }
+
+  /**
+   * Hit and miss counts, a lookup of several ids counts one hit or miss per id.
+   * @return
+   */
+  public CacheStats stats() {
+    return this.cache.stats();
+  }
+}
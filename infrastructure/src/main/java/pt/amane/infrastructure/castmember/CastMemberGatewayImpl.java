@@ -3,9 +3,12 @@ package pt.amane.infrastructure.castmember;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.StreamSupport;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
@@ -15,8 +18,10 @@ import pt.amane.domain.castmember.CastMemberID;
 import pt.amane.domain.pagination.Pagination;
 import pt.amane.domain.pagination.SearchQuery;
 import pt.amane.domain.validation.ObjectsValidator;
+import pt.amane.infrastructure.cache.ExistenceCache;
 import pt.amane.infrastructure.castmember.persistence.CastMemberJpaEntity;
 import pt.amane.infrastructure.castmember.persistence.CastMemberRepository;
+import pt.amane.infrastructure.utils.CursorUtils;
 import pt.amane.infrastructure.utils.SpecificationUtils;
 
 @Component
@@ -24,14 +29,26 @@ public class CastMemberGatewayImpl implements CastMemberGateway {
 
   private final CastMemberRepository castMemberRepository;
 
+  private final ExistenceCache existenceCache;
+
+  private final int streamFetchSize;
+
   @Autowired
-  public CastMemberGatewayImpl(final CastMemberRepository castMemberRepository) {
+  public CastMemberGatewayImpl(
+      final CastMemberRepository castMemberRepository,
+      final ExistenceCache existenceCache,
+      final int streamFetchSize
+  ) {
     this.castMemberRepository = (CastMemberRepository) ObjectsValidator.objectValidation(castMemberRepository);
+    this.existenceCache = (ExistenceCache) ObjectsValidator.objectValidation(existenceCache);
+    this.streamFetchSize = streamFetchSize;
   }
 
   @Override
   public CastMember create(CastMember castmember) {
-    return save(castmember);
+    final var created = save(castmember);
+    existenceCache.invalidate(created.getId().getValue());
+    return created;
   }
 
   @Override
@@ -45,6 +62,7 @@ public class CastMemberGatewayImpl implements CastMemberGateway {
     if (castMemberRepository.existsById(anId)) {
       castMemberRepository.deleteById(anId);
     }
+    existenceCache.invalidate(anId);
   }
 
   @Override
@@ -55,25 +73,33 @@ public class CastMemberGatewayImpl implements CastMemberGateway {
 
   @Override
   public Pagination<CastMember> findAll(SearchQuery aQuery) {
-    final var page = PageRequest.of(
-        aQuery.page(),
-        aQuery.perPage(),
-        Sort.by(Sort.Direction.fromString(aQuery.direction()), aQuery.sort())
-    );
+    final var sort = CursorUtils.sort(aQuery.sort(), aQuery.direction());
 
     final var where = Optional.ofNullable(aQuery.terms())
         .filter(str -> !str.isBlank())
         .map(this::assembleSpecification)
         .orElse(null);
 
-    final var pageResult =
-        this.castMemberRepository.findAll(where, page);
+    if (CursorUtils.isPresent(aQuery.cursor())) {
+      final var rows = this.castMemberRepository.findBy(
+          Specification.where(where).and(CursorUtils.after(aQuery.cursor(), aQuery.sort(), aQuery.direction())),
+          query -> query.sortBy(sort).limit(aQuery.perPage() + 1).all()
+      );
+      return CursorUtils.page(rows, aQuery.perPage(), aQuery.sort(), aQuery.direction(), CastMemberJpaEntity::toAggregate);
+    }
+
+    final var page = PageRequest.of(aQuery.page(), aQuery.perPage(), sort);
+
+    final Slice<CastMemberJpaEntity> pageResult = aQuery.withTotal()
+        ? this.castMemberRepository.findAll(where, page)
+        : this.castMemberRepository.findSlice(where, page);
 
     return new Pagination<>(
         pageResult.getNumber(),
         pageResult.getSize(),
-        pageResult.getTotalElements(),
-        pageResult.map(CastMemberJpaEntity::toAggregate).toList()
+        pageResult instanceof Page<?> aPage ? aPage.getTotalElements() : Pagination.UNKNOWN_TOTAL,
+        pageResult.map(CastMemberJpaEntity::toAggregate).toList(),
+        CursorUtils.next(pageResult, aQuery.sort(), aQuery.direction())
     );
   }
 
@@ -82,11 +108,21 @@ public class CastMemberGatewayImpl implements CastMemberGateway {
     final var ids = StreamSupport.stream(castMemberIDS.spliterator(), false)
         .map(CastMemberID::getValue)
         .toList();
-    return this.castMemberRepository.idsThatExist(ids).stream()
+    return this.existenceCache.existing(ids, this.castMemberRepository::idsThatExist).stream()
         .map(CastMemberID::from)
         .toList();
   }
 
+  @Override
+  public void streamAll(final Consumer<CastMember> consumer) {
+    this.castMemberRepository.stream(
+        Specification.where(null),
+        Sort.by("id"),
+        this.streamFetchSize,
+        entity -> consumer.accept(entity.toAggregate())
+    );
+  }
+
   private CastMember save(CastMember castmember) {
     return castMemberRepository.save(CastMemberJpaEntity.from(castmember)).toAggregate();
   }
@@ -5,11 +5,15 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import pt.amane.infrastructure.persistence.SliceSpecificationExecutor;
+import pt.amane.infrastructure.persistence.StreamExecutor;
 
 @Repository
-public interface CastMemberRepository extends JpaRepository<CastMemberJpaEntity, String> {
+public interface CastMemberRepository extends JpaRepository<CastMemberJpaEntity, String>, JpaSpecificationExecutor<CastMemberJpaEntity>,
+    SliceSpecificationExecutor<CastMemberJpaEntity>, StreamExecutor<CastMemberJpaEntity> {
 
   Page<CastMemberJpaEntity> findAll(Specification<CastMemberJpaEntity> specification, Pageable page);
 
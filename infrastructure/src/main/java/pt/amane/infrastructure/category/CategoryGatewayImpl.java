@@ -2,10 +2,12 @@ package pt.amane.infrastructure.category;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.StreamSupport;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
-import org.springframework.data.domain.Sort.Direction;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 import pt.amane.domain.category.Category;
@@ -14,8 +16,10 @@ import pt.amane.domain.category.CategoryID;
 import pt.amane.domain.pagination.Pagination;
 import pt.amane.domain.pagination.SearchQuery;
 import pt.amane.domain.validation.ObjectsValidator;
+import pt.amane.infrastructure.cache.ExistenceCache;
 import pt.amane.infrastructure.category.persistence.CategoryJpaEntity;
 import pt.amane.infrastructure.category.persistence.CategoryRepository;
+import pt.amane.infrastructure.utils.CursorUtils;
 import pt.amane.infrastructure.utils.SpecificationUtils;
 
 @Component
@@ -23,19 +27,32 @@ public class CategoryGatewayImpl implements CategoryGateway {
 
   private final CategoryRepository categoryRepository;
 
-  public CategoryGatewayImpl(final CategoryRepository categoryRepository) {
+  private final ExistenceCache existenceCache;
+
+  private final int streamFetchSize;
+
+  public CategoryGatewayImpl(
+      final CategoryRepository categoryRepository,
+      final ExistenceCache existenceCache,
+      final int streamFetchSize
+  ) {
     this.categoryRepository = (CategoryRepository) ObjectsValidator.objectValidation(categoryRepository);
+    this.existenceCache = (ExistenceCache) ObjectsValidator.objectValidation(existenceCache);
+    this.streamFetchSize = streamFetchSize;
   }
 
   @Override
   public Category create(Category aCategory) {
-    return save(aCategory);
+    final var created = save(aCategory);
+    existenceCache.invalidate(created.getId().getValue());
+    return created;
   }
 
   @Override
   public void deleteById(CategoryID anId) {
     ObjectsValidator.objectValidation(anId);
     categoryRepository.deleteById(anId.getValue());
+    existenceCache.invalidate(anId.getValue());
   }
 
   @Override
@@ -52,12 +69,6 @@ public class CategoryGatewayImpl implements CategoryGateway {
 
   @Override
   public Pagination<Category> findAll(SearchQuery aQuery) {
-    //Pagination
-    final var page = PageRequest.of(
-        aQuery.page(),
-        aQuery.perPage(),
-        Sort.by(Direction.fromString(aQuery.direction()), aQuery.sort()));
-
     //Dynamic search by creative terms (name or description)
     final var specifications = Optional.ofNullable(aQuery.terms())
         .filter(str -> !str.isEmpty())
@@ -68,13 +79,31 @@ public class CategoryGatewayImpl implements CategoryGateway {
         })
         .orElse(null);
 
-    final var pageRequest = this.categoryRepository.findAll(Specification.where(specifications), page);
+    final var sort = CursorUtils.sort(aQuery.sort(), aQuery.direction());
+
+    //Keyset pagination, without offset nor count
+    if (CursorUtils.isPresent(aQuery.cursor())) {
+      final var rows = this.categoryRepository.findBy(
+          Specification.where(specifications).and(CursorUtils.after(aQuery.cursor(), aQuery.sort(), aQuery.direction())),
+          query -> query.sortBy(sort).limit(aQuery.perPage() + 1).all()
+      );
+      return CursorUtils.page(rows, aQuery.perPage(), aQuery.sort(), aQuery.direction(), CategoryJpaEntity::toAggregate);
+    }
+
+    //Pagination
+    final var page = PageRequest.of(aQuery.page(), aQuery.perPage(), sort);
+
+    //Without total, the count query is skipped
+    final Slice<CategoryJpaEntity> pageRequest = aQuery.withTotal()
+        ? this.categoryRepository.findAll(Specification.where(specifications), page)
+        : this.categoryRepository.findSlice(Specification.where(specifications), page);
 
     return new Pagination<>(
         pageRequest.getNumber(),
         pageRequest.getSize(),
-        pageRequest.getTotalElements(),
-        pageRequest.map(CategoryJpaEntity::toAggregate).toList());
+        pageRequest instanceof Page<?> aPage ? aPage.getTotalElements() : Pagination.UNKNOWN_TOTAL,
+        pageRequest.map(CategoryJpaEntity::toAggregate).toList(),
+        CursorUtils.next(pageRequest, aQuery.sort(), aQuery.direction()));
     }
 
   @Override
@@ -85,11 +114,21 @@ public class CategoryGatewayImpl implements CategoryGateway {
         .map(CategoryID::getValue)
         .toList();
 
-    return this.categoryRepository.existsByIds(ids)
+    return this.existenceCache.existing(ids, this.categoryRepository::existsByIds)
         .stream()
         .map(CategoryID::from).toList();
   }
 
+  @Override
+  public void streamAll(final Consumer<Category> consumer) {
+    this.categoryRepository.stream(
+        Specification.where(null),
+        Sort.by("id"),
+        this.streamFetchSize,
+        entity -> consumer.accept(entity.toAggregate())
+    );
+  }
+
   private Category save(Category aCategory) {
     return categoryRepository.save(CategoryJpaEntity
         .from(aCategory)).toAggregate();
@@ -1,17 +1,38 @@
 package pt.amane.infrastructure.configuration;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
 import org.springframework.amqp.core.Binding;
 import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.Declarable;
+import org.springframework.amqp.core.Declarables;
 import org.springframework.amqp.core.DirectExchange;
 import org.springframework.amqp.core.Exchange;
 import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.QueueBuilder;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.amqp.SimpleRabbitListenerContainerFactoryConfigurer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import pt.amane.infrastructure.ampq.DeadLetterService;
 import pt.amane.infrastructure.configuration.annotations.VideoCreatedQueue;
 import pt.amane.infrastructure.configuration.annotations.VideoEncodedQueue;
 import pt.amane.infrastructure.configuration.annotations.VideoEvents;
+import pt.amane.infrastructure.configuration.proprieties.amqp.ListenerProperties;
+import pt.amane.infrastructure.configuration.proprieties.amqp.PublisherProperties;
 import pt.amane.infrastructure.configuration.proprieties.amqp.QueueProperties;
+import pt.amane.infrastructure.configuration.proprieties.amqp.RetryProperties;
+import pt.amane.infrastructure.services.EventService;
+import pt.amane.infrastructure.services.impl.BufferedEventService;
+import pt.amane.infrastructure.services.impl.RabbitEventService;
+import pt.amane.infrastructure.services.local.InMemoryEventService;
 
 @Configuration
 public class AmqpConfig {
@@ -36,6 +57,112 @@ public class AmqpConfig {
     return new QueueProperties();
   }
 
+  @Bean
+  @ConfigurationProperties("amqp.queues.video-encoded.retry")
+  @VideoEncodedQueue
+  RetryProperties videoEncodedRetryProperties() {
+    return new RetryProperties();
+  }
+
+  @Bean
+  @VideoEncodedQueue
+  DeadLetterService videoEncodedDeadLetterService(
+      final RabbitOperations ops,
+      @VideoEncodedQueue final QueueProperties props,
+      @VideoEncodedQueue final RetryProperties retryProps
+  ) {
+    return new DeadLetterService(
+        ops,
+        props.getExchange(),
+        props.getRoutingKey(),
+        props.getQueue(),
+        retryProps.getExchange(),
+        retryProps.getMaxAttempts(),
+        retryProps.getDeadLetterQueue(),
+        retryProps.getParkingLotQueue()
+    );
+  }
+
+  @Bean
+  @ConfigurationProperties("amqp.listeners.video-encoded")
+  @VideoEncodedQueue
+  ListenerProperties videoEncodedListenerProperties() {
+    return new ListenerProperties();
+  }
+
+  /**
+   * Consumes the encoder results in batches: the listener gets up to batch-size messages at once,
+   * fewer when the receive timeout passes first, and they are acknowledged together once it returns.
+   * @return
+   */
+  @Bean
+  SimpleRabbitListenerContainerFactory videoEncodedListenerContainerFactory(
+      final ConnectionFactory connectionFactory,
+      final ObjectProvider<SimpleRabbitListenerContainerFactoryConfigurer> configurer,
+      @VideoEncodedQueue final ListenerProperties props
+  ) {
+    final var factory = new SimpleRabbitListenerContainerFactory();
+    configurer.ifAvailable(it -> it.configure(factory, connectionFactory));
+    factory.setConnectionFactory(connectionFactory);
+    factory.setConcurrentConsumers(props.getConcurrency());
+    factory.setMaxConcurrentConsumers(Math.max(props.getConcurrency(), props.getMaxConcurrency()));
+    // a batch is only complete when the broker may deliver all of it without waiting for an ack
+    factory.setPrefetchCount(Math.max(props.getPrefetch(), props.getBatchSize()));
+    factory.setBatchListener(true);
+    factory.setConsumerBatchEnabled(true);
+    factory.setBatchSize(props.getBatchSize());
+    factory.setReceiveTimeout(props.getReceiveTimeout().toMillis());
+    // a failure the listener did not handle goes to the dead-letter queue instead of being redelivered
+    factory.setDefaultRequeueRejected(false);
+    return factory;
+  }
+
+  @Bean
+  @ConfigurationProperties("amqp.publisher")
+  PublisherProperties publisherProperties() {
+    return new PublisherProperties();
+  }
+
+  @Bean
+  @VideoCreatedQueue
+  @Profile({"development"})
+  EventService localVideoCreatedEventService() {
+    return new InMemoryEventService();
+  }
+
+  /**
+   * Publishes to the video events exchange waiting for the confirms, from a buffer drained in batches
+   * when the publisher is buffered, whose stats are then published as meters.
+   * @return
+   */
+  @Bean
+  @VideoCreatedQueue
+  @ConditionalOnMissingBean
+  EventService videoCreatedEventService(
+      @VideoCreatedQueue final QueueProperties props,
+      final PublisherProperties publisherProps,
+      final RabbitOperations ops,
+      final MeterRegistry meterRegistry
+  ) {
+    final var rabbit = new RabbitEventService(
+        props.getExchange(),
+        props.getRoutingKey(),
+        ops,
+        publisherProps.getConfirmTimeout()
+    );
+    if (!publisherProps.isBuffered()) {
+      return rabbit;
+    }
+    final var buffered = new BufferedEventService(
+        rabbit,
+        publisherProps.getBufferCapacity(),
+        publisherProps.getBatchSize(),
+        publisherProps.getOfferTimeout()
+    );
+    buffered.bindTo(meterRegistry);
+    return buffered;
+  }
+
   @Configuration
   static class Admin {
 
@@ -63,8 +190,14 @@ public class AmqpConfig {
 
     @Bean
     @VideoEncodedQueue
-    Queue videoEncodedQueue(@VideoEncodedQueue QueueProperties props) {
-      return new Queue(props.getQueue());
+    Queue videoEncodedQueue(
+        @VideoEncodedQueue QueueProperties props,
+        @VideoEncodedQueue RetryProperties retryProps
+    ) {
+      return QueueBuilder.durable(props.getQueue())
+          .deadLetterExchange(retryProps.getDeadLetterExchange())
+          .deadLetterRoutingKey(retryProps.getDeadLetterQueue())
+          .build();
     }
 
     @Bean
@@ -76,5 +209,43 @@ public class AmqpConfig {
     ) {
       return BindingBuilder.bind(queue).to(exchange).with(props.getRoutingKey());
     }
+
+    /**
+     * One queue per retry attempt, each holding the messages for its backoff then dead-lettering them back
+     * to the video events exchange, the dead-letter queue and the parking lot.
+     * @return
+     */
+    @Bean
+    @VideoEncodedQueue
+    Declarables videoEncodedRetryDeclarables(
+        @VideoEncodedQueue QueueProperties props,
+        @VideoEncodedQueue RetryProperties retryProps
+    ) {
+      final var retryExchange = new DirectExchange(retryProps.getExchange());
+      final var deadLetterExchange = new DirectExchange(retryProps.getDeadLetterExchange());
+      final var deadLetterQueue = QueueBuilder.durable(retryProps.getDeadLetterQueue()).build();
+
+      final var declarables = new ArrayList<Declarable>(List.of(
+          retryExchange,
+          deadLetterExchange,
+          deadLetterQueue,
+          BindingBuilder.bind(deadLetterQueue).to(deadLetterExchange).with(retryProps.getDeadLetterQueue()),
+          QueueBuilder.durable(retryProps.getParkingLotQueue()).build()
+      ));
+
+      for (int attempt = 1; attempt <= retryProps.getMaxAttempts(); attempt++) {
+        final var name = DeadLetterService.retryQueue(props.getQueue(), attempt);
+        final var backoff = DeadLetterService.backoff(retryProps.getInitialBackoff(), retryProps.getMaxBackoff(), attempt);
+        final var retryQueue = QueueBuilder.durable(name)
+            .ttl((int) backoff.toMillis())
+            .deadLetterExchange(props.getExchange())
+            .deadLetterRoutingKey(props.getRoutingKey())
+            .build();
+        declarables.add(retryQueue);
+        declarables.add(BindingBuilder.bind(retryQueue).to(retryExchange).with(name));
+      }
+
+      return new Declarables(declarables);
+    }
   }
 }
\ No newline at end of file
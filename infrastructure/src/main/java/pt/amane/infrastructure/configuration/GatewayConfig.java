@@ -1,17 +1,33 @@
 package pt.amane.infrastructure.configuration;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import java.util.Objects;
+import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Lazy;
+import org.springframework.transaction.PlatformTransactionManager;
+import pt.amane.infrastructure.cache.ExistenceCache;
 import pt.amane.infrastructure.castmember.CastMemberGatewayImpl;
 import pt.amane.infrastructure.castmember.persistence.CastMemberRepository;
 import pt.amane.infrastructure.category.CategoryGatewayImpl;
 import pt.amane.infrastructure.category.persistence.CategoryRepository;
+import pt.amane.infrastructure.configuration.proprieties.cache.ExistenceCacheProperties;
+import pt.amane.infrastructure.configuration.proprieties.catalog.CatalogExportProperties;
+import pt.amane.infrastructure.configuration.proprieties.catalog.CatalogIndexProperties;
+import pt.amane.infrastructure.configuration.proprieties.dedupe.EncoderResultDedupeProperties;
+import pt.amane.infrastructure.configuration.proprieties.outbox.OutboxProperties;
+import pt.amane.infrastructure.dedupe.EncoderResultDedupeStore;
+import pt.amane.infrastructure.dedupe.persistence.ProcessedEncoderResultRepository;
 import pt.amane.infrastructure.genre.GenreGatewayImpl;
 import pt.amane.infrastructure.genre.persistence.GenreRepository;
+import pt.amane.infrastructure.outbox.Outbox;
+import pt.amane.infrastructure.outbox.OutboxRelay;
+import pt.amane.infrastructure.outbox.persistence.OutboxEventRepository;
 import pt.amane.infrastructure.services.EventService;
 import pt.amane.infrastructure.video.VideoGatewayImpl;
+import pt.amane.infrastructure.video.index.VideoCatalogIndex;
+import pt.amane.infrastructure.video.index.VideoCatalogIndexLoader;
 import pt.amane.infrastructure.video.persistence.VideoRepository;
 
 @Configuration
@@ -38,22 +54,152 @@ public class GatewayConfig {
   }
 
   @Bean
-  public CategoryGatewayImpl categoryGatewayImpl() {
-    return new CategoryGatewayImpl(categoryRepository);
+  @ConfigurationProperties(value = "cache.existence")
+  public ExistenceCacheProperties existenceCacheProperties() {
+    return new ExistenceCacheProperties();
   }
 
   @Bean
-  public CastMemberGatewayImpl castMemberGatewayImpl() {
-    return new CastMemberGatewayImpl(castMemberRepository);
+  @ConfigurationProperties(value = "catalog.export")
+  public CatalogExportProperties catalogExportProperties() {
+    return new CatalogExportProperties();
   }
 
   @Bean
-  public GenreGatewayImpl genreGatewayImpl() {
-    return new GenreGatewayImpl(genreRepository);
+  public CategoryGatewayImpl categoryGatewayImpl(
+      final ExistenceCacheProperties props,
+      final CatalogExportProperties exportProps,
+      final MeterRegistry meterRegistry
+  ) {
+    return new CategoryGatewayImpl(
+        categoryRepository,
+        existenceCache(props, meterRegistry, "categories"),
+        exportProps.getFetchSize()
+    );
+  }
+
+  @Bean
+  public CastMemberGatewayImpl castMemberGatewayImpl(
+      final ExistenceCacheProperties props,
+      final CatalogExportProperties exportProps,
+      final MeterRegistry meterRegistry
+  ) {
+    return new CastMemberGatewayImpl(
+        castMemberRepository,
+        existenceCache(props, meterRegistry, "castMembers"),
+        exportProps.getFetchSize()
+    );
+  }
+
+  @Bean
+  public GenreGatewayImpl genreGatewayImpl(
+      final ExistenceCacheProperties props,
+      final CatalogExportProperties exportProps,
+      final MeterRegistry meterRegistry
+  ) {
+    return new GenreGatewayImpl(
+        genreRepository,
+        existenceCache(props, meterRegistry, "genres"),
+        exportProps.getFetchSize()
+    );
+  }
+
+  @Bean
+  @ConfigurationProperties(value = "catalog.index")
+  public CatalogIndexProperties catalogIndexProperties() {
+    return new CatalogIndexProperties();
+  }
+
+  @Bean
+  public VideoCatalogIndex videoCatalogIndex(final CatalogIndexProperties props) {
+    return new VideoCatalogIndex(props.isEnabled());
+  }
+
+  @Bean
+  public VideoCatalogIndexLoader videoCatalogIndexLoader(
+      final VideoCatalogIndex index,
+      final PlatformTransactionManager transactionManager,
+      final CatalogIndexProperties props
+  ) {
+    return new VideoCatalogIndexLoader(index, videoRepository, transactionManager, props.getBatchSize());
+  }
+
+  @Bean
+  @ConfigurationProperties(value = "outbox")
+  public OutboxProperties outboxProperties() {
+    return new OutboxProperties();
+  }
+
+  @Bean
+  public OutboxRelay outboxRelay(
+      final OutboxEventRepository outboxEventRepository,
+      final PlatformTransactionManager transactionManager,
+      final OutboxProperties props,
+      final MeterRegistry meterRegistry
+  ) {
+    final var relay = new OutboxRelay(
+        outboxEventRepository,
+        eventService,
+        transactionManager,
+        props.isRelayEnabled(),
+        props.getBatchSize(),
+        props.getPollInterval(),
+        props.getInitialBackoff(),
+        props.getMaxBackoff()
+    );
+    relay.bindTo(meterRegistry);
+    return relay;
+  }
+
+  @Bean
+  public Outbox outbox(final OutboxEventRepository outboxEventRepository, final OutboxRelay relay) {
+    return new Outbox(outboxEventRepository, relay);
+  }
+
+  @Bean
+  @ConfigurationProperties(value = "dedupe.encoder-results")
+  public EncoderResultDedupeProperties encoderResultDedupeProperties() {
+    return new EncoderResultDedupeProperties();
+  }
+
+  @Bean
+  public EncoderResultDedupeStore encoderResultDedupeStore(
+      final ProcessedEncoderResultRepository processedEncoderResultRepository,
+      final PlatformTransactionManager transactionManager,
+      final EncoderResultDedupeProperties props,
+      final MeterRegistry meterRegistry
+  ) {
+    final var store = new EncoderResultDedupeStore(
+        processedEncoderResultRepository,
+        transactionManager,
+        props.isEnabled(),
+        props.getExpectedInsertions(),
+        props.getFalsePositiveRate(),
+        props.getRetention(),
+        props.getPurgeInterval(),
+        props.getFetchSize()
+    );
+    store.bindTo(meterRegistry);
+    return store;
   }
 
   @Bean
-  public VideoGatewayImpl videoGatewayImpl() {
-    return new VideoGatewayImpl(videoRepository, eventService);
+  public VideoGatewayImpl videoGatewayImpl(
+      final VideoCatalogIndex index,
+      final CatalogExportProperties exportProps,
+      final Outbox outbox
+  ) {
+    return new VideoGatewayImpl(videoRepository, outbox, index, exportProps.getFetchSize());
+  }
+
+  // one cache per aggregate, ids of different aggregates may collide
+  private static ExistenceCache existenceCache(
+      final ExistenceCacheProperties props,
+      final MeterRegistry meterRegistry,
+      final String name
+  ) {
+    final var cache = new ExistenceCache(props.getTtl(), props.getMaxSize());
+    cache.bindTo(meterRegistry, "existence." + name);
+    return cache;
   }
 }
@@ -0,0 +1,11 @@
+package pt.amane.infrastructure.configuration;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import pt.amane.infrastructure.persistence.SliceableJpaRepository;
+
+@Configuration
+@EnableJpaRepositories(basePackages = "pt.amane.infrastructure", repositoryBaseClass = SliceableJpaRepository.class)
+public class JpaConfig {
+
+}
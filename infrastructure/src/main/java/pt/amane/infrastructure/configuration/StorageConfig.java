@@ -1,7 +1,9 @@
 package pt.amane.infrastructure.configuration;
 
 import com.google.cloud.storage.Storage;
+import java.nio.file.Path;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -9,6 +11,7 @@ import org.springframework.context.annotation.Profile;
 //import pt.amane.infrastructure.configuration.proprieties.google.GoogleStorageProperties;
 import pt.amane.infrastructure.configuration.proprieties.storage.StorageProperties;
 import pt.amane.infrastructure.services.StorageService;
+import pt.amane.infrastructure.services.impl.FileSystemStorageService;
 import pt.amane.infrastructure.services.impl.GCStorageService;
 import pt.amane.infrastructure.services.local.InMemoryStorageService;
 
@@ -23,8 +26,17 @@ public class StorageConfig {
 
   @Bean
   @Profile({"development", "test-integration", "test-e2e"})
-  public StorageService localStorageAPI() {
-    return new InMemoryStorageService();
+  @ConditionalOnProperty(value = "storage.catalogo-videos.type", havingValue = "in-memory", matchIfMissing = true)
+  public StorageService localStorageAPI(final StorageProperties props) {
+    return props.getMaxBytes() > 0
+        ? new InMemoryStorageService(props.getMaxBytes())
+        : new InMemoryStorageService();
+  }
+
+  @Bean
+  @ConditionalOnProperty(value = "storage.catalogo-videos.type", havingValue = "filesystem")
+  public StorageService fileSystemStorageAPI(final StorageProperties props) {
+    return new FileSystemStorageService(Path.of(props.getRootLocation()));
   }
 
 //  @Bean
@@ -0,0 +1,80 @@
+package pt.amane.infrastructure.configuration.proprieties.amqp;
+
+import java.time.Duration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+public class ListenerProperties implements InitializingBean {
+
+  private static final Logger logger = LoggerFactory.getLogger(ListenerProperties.class);
+
+  private int concurrency = 1;
+
+  private int maxConcurrency = 1;
+
+  private int prefetch = 250;
+
+  private int batchSize = 1;
+
+  private Duration receiveTimeout = Duration.ofSeconds(1);
+
+  @Override
+  public void afterPropertiesSet() {
+    logger.debug(toString());
+  }
+
+  @Override
+  public String toString() {
+    return "ListenerProperties{" +
+        "concurrency=" + concurrency +
+        ", maxConcurrency=" + maxConcurrency +
+        ", prefetch=" + prefetch +
+        ", batchSize=" + batchSize +
+        ", receiveTimeout=" + receiveTimeout +
+        '}';
+  }
+
+  public ListenerProperties() {
+  }
+
+  public int getConcurrency() {
+    return concurrency;
+  }
+
+  public void setConcurrency(int concurrency) {
+    this.concurrency = concurrency;
+  }
+
+  public int getMaxConcurrency() {
+    return maxConcurrency;
+  }
+
+  public void setMaxConcurrency(int maxConcurrency) {
+    this.maxConcurrency = maxConcurrency;
+  }
+
+  public int getPrefetch() {
+    return prefetch;
+  }
+
+  public void setPrefetch(int prefetch) {
+    this.prefetch = prefetch;
+  }
+
+  public int getBatchSize() {
+    return batchSize;
+  }
+
+  public void setBatchSize(int batchSize) {
+    this.batchSize = batchSize;
+  }
+
+  public Duration getReceiveTimeout() {
+    return receiveTimeout;
+  }
+
+  public void setReceiveTimeout(Duration receiveTimeout) {
+    this.receiveTimeout = receiveTimeout;
+  }
+}
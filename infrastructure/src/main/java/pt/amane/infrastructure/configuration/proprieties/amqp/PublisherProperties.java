@@ -0,0 +1,80 @@
+package pt.amane.infrastructure.configuration.proprieties.amqp;
+
+import java.time.Duration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+public class PublisherProperties implements InitializingBean {
+
+  private static final Logger logger = LoggerFactory.getLogger(PublisherProperties.class);
+
+  private Duration confirmTimeout = Duration.ofSeconds(5);
+
+  private boolean buffered = false;
+
+  private int bufferCapacity = 8192;
+
+  private int batchSize = 100;
+
+  private Duration offerTimeout = Duration.ofSeconds(1);
+
+  @Override
+  public void afterPropertiesSet() {
+    logger.debug(toString());
+  }
+
+  @Override
+  public String toString() {
+    return "PublisherProperties{" +
+        "confirmTimeout=" + confirmTimeout +
+        ", buffered=" + buffered +
+        ", bufferCapacity=" + bufferCapacity +
+        ", batchSize=" + batchSize +
+        ", offerTimeout=" + offerTimeout +
+        '}';
+  }
+
+  public PublisherProperties() {
+  }
+
+  public Duration getConfirmTimeout() {
+    return confirmTimeout;
+  }
+
+  public void setConfirmTimeout(Duration confirmTimeout) {
+    this.confirmTimeout = confirmTimeout;
+  }
+
+  public boolean isBuffered() {
+    return buffered;
+  }
+
+  public void setBuffered(boolean buffered) {
+    this.buffered = buffered;
+  }
+
+  public int getBufferCapacity() {
+    return bufferCapacity;
+  }
+
+  public void setBufferCapacity(int bufferCapacity) {
+    this.bufferCapacity = bufferCapacity;
+  }
+
+  public int getBatchSize() {
+    return batchSize;
+  }
+
+  public void setBatchSize(int batchSize) {
+    this.batchSize = batchSize;
+  }
+
+  public Duration getOfferTimeout() {
+    return offerTimeout;
+  }
+
+  public void setOfferTimeout(Duration offerTimeout) {
+    this.offerTimeout = offerTimeout;
+  }
+}
@@ -0,0 +1,102 @@
+package pt.amane.infrastructure.configuration.proprieties.amqp;
+
+import java.time.Duration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+public class RetryProperties implements InitializingBean {
+
+  private static final Logger logger = LoggerFactory.getLogger(RetryProperties.class);
+
+  private String exchange = "video.encoded.retry";
+
+  private int maxAttempts = 4;
+
+  private Duration initialBackoff = Duration.ofSeconds(5);
+
+  private Duration maxBackoff = Duration.ofMinutes(5);
+
+  private String deadLetterExchange = "video.encoded.dlx";
+
+  private String deadLetterQueue = "video.encoded.dlq";
+
+  private String parkingLotQueue = "video.encoded.parking-lot";
+
+  @Override
+  public void afterPropertiesSet() {
+    logger.debug(toString());
+  }
+
+  @Override
+  public String toString() {
+    return "RetryProperties{" +
+        "exchange='" + exchange + '\'' +
+        ", maxAttempts=" + maxAttempts +
+        ", initialBackoff=" + initialBackoff +
+        ", maxBackoff=" + maxBackoff +
+        ", deadLetterExchange='" + deadLetterExchange + '\'' +
+        ", deadLetterQueue='" + deadLetterQueue + '\'' +
+        ", parkingLotQueue='" + parkingLotQueue + '\'' +
+        '}';
+  }
+
+  public RetryProperties() {
+  }
+
+  public String getExchange() {
+    return exchange;
+  }
+
+  public void setExchange(String exchange) {
+    this.exchange = exchange;
+  }
+
+  public int getMaxAttempts() {
+    return maxAttempts;
+  }
+
+  public void setMaxAttempts(int maxAttempts) {
+    this.maxAttempts = maxAttempts;
+  }
+
+  public Duration getInitialBackoff() {
+    return initialBackoff;
+  }
+
+  public void setInitialBackoff(Duration initialBackoff) {
+    this.initialBackoff = initialBackoff;
+  }
+
+  public Duration getMaxBackoff() {
+    return maxBackoff;
+  }
+
+  public void setMaxBackoff(Duration maxBackoff) {
+    this.maxBackoff = maxBackoff;
+  }
+
+  public String getDeadLetterExchange() {
+    return deadLetterExchange;
+  }
+
+  public void setDeadLetterExchange(String deadLetterExchange) {
+    this.deadLetterExchange = deadLetterExchange;
+  }
+
+  public String getDeadLetterQueue() {
+    return deadLetterQueue;
+  }
+
+  public void setDeadLetterQueue(String deadLetterQueue) {
+    this.deadLetterQueue = deadLetterQueue;
+  }
+
+  public String getParkingLotQueue() {
+    return parkingLotQueue;
+  }
+
+  public void setParkingLotQueue(String parkingLotQueue) {
+    this.parkingLotQueue = parkingLotQueue;
+  }
+}
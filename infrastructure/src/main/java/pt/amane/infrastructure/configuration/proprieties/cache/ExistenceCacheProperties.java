@@ -0,0 +1,47 @@
+package pt.amane.infrastructure.configuration.proprieties.cache;
+
+import java.time.Duration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+public class ExistenceCacheProperties implements InitializingBean {
+
+  private static final Logger logger = LoggerFactory.getLogger(ExistenceCacheProperties.class);
+
+  private Duration ttl = Duration.ofSeconds(30);
+
+  private long maxSize = 10_000;
+
+  @Override
+  public void afterPropertiesSet() {
+    logger.debug(toString());
+  }
+
+  @Override
+  public String toString() {
+    return "ExistenceCacheProperties{" +
+        "ttl=" + ttl +
+        ", maxSize=" + maxSize +
+        '}';
+  }
+
+  public ExistenceCacheProperties() {
+  }
+
+  public Duration getTtl() {
+    return ttl;
+  }
+
+  public void setTtl(Duration ttl) {
+    this.ttl = ttl;
+  }
+
+  public long getMaxSize() {
+    return maxSize;
+  }
+
+  public void setMaxSize(long maxSize) {
+    this.maxSize = maxSize;
+  }
+}
@@ -0,0 +1,36 @@
+package pt.amane.infrastructure.configuration.proprieties.catalog;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+public class CatalogExportProperties implements InitializingBean {
+
+  private static final Logger logger = LoggerFactory.getLogger(CatalogExportProperties.class);
+
+  // MySQL streams the rows one by one only with this fetch size
+  private int fetchSize = Integer.MIN_VALUE;
+
+  @Override
+  public void afterPropertiesSet() {
+    logger.debug(toString());
+  }
+
+  @Override
+  public String toString() {
+    return "CatalogExportProperties{" +
+        "fetchSize=" + fetchSize +
+        '}';
+  }
+
+  public CatalogExportProperties() {
+  }
+
+  public int getFetchSize() {
+    return fetchSize;
+  }
+
+  public void setFetchSize(int fetchSize) {
+    this.fetchSize = fetchSize;
+  }
+}
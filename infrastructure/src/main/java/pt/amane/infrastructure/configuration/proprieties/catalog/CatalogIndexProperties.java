@@ -0,0 +1,46 @@
+package pt.amane.infrastructure.configuration.proprieties.catalog;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+public class CatalogIndexProperties implements InitializingBean {
+
+  private static final Logger logger = LoggerFactory.getLogger(CatalogIndexProperties.class);
+
+  private boolean enabled = false;
+
+  private int batchSize = 500;
+
+  @Override
+  public void afterPropertiesSet() {
+    logger.debug(toString());
+  }
+
+  @Override
+  public String toString() {
+    return "CatalogIndexProperties{" +
+        "enabled=" + enabled +
+        ", batchSize=" + batchSize +
+        '}';
+  }
+
+  public CatalogIndexProperties() {
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public int getBatchSize() {
+    return batchSize;
+  }
+
+  public void setBatchSize(int batchSize) {
+    this.batchSize = batchSize;
+  }
+}
@@ -0,0 +1,91 @@
+package pt.amane.infrastructure.configuration.proprieties.dedupe;
+
+import java.time.Duration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+public class EncoderResultDedupeProperties implements InitializingBean {
+
+  private static final Logger logger = LoggerFactory.getLogger(EncoderResultDedupeProperties.class);
+
+  private boolean enabled = true;
+
+  private int expectedInsertions = 1_000_000;
+
+  private double falsePositiveRate = 0.01;
+
+  private Duration retention = Duration.ofDays(7);
+
+  private Duration purgeInterval = Duration.ofHours(1);
+
+  private int fetchSize = Integer.MIN_VALUE;
+
+  @Override
+  public void afterPropertiesSet() {
+    logger.debug(toString());
+  }
+
+  @Override
+  public String toString() {
+    return "EncoderResultDedupeProperties{" +
+        "enabled=" + enabled +
+        ", expectedInsertions=" + expectedInsertions +
+        ", falsePositiveRate=" + falsePositiveRate +
+        ", retention=" + retention +
+        ", purgeInterval=" + purgeInterval +
+        ", fetchSize=" + fetchSize +
+        '}';
+  }
+
+  public EncoderResultDedupeProperties() {
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public int getExpectedInsertions() {
+    return expectedInsertions;
+  }
+
+  public void setExpectedInsertions(int expectedInsertions) {
+    this.expectedInsertions = expectedInsertions;
+  }
+
+  public double getFalsePositiveRate() {
+    return falsePositiveRate;
+  }
+
+  public void setFalsePositiveRate(double falsePositiveRate) {
+    this.falsePositiveRate = falsePositiveRate;
+  }
+
+  public Duration getRetention() {
+    return retention;
+  }
+
+  public void setRetention(Duration retention) {
+    this.retention = retention;
+  }
+
+  public Duration getPurgeInterval() {
+    return purgeInterval;
+  }
+
+  public void setPurgeInterval(Duration purgeInterval) {
+    this.purgeInterval = purgeInterval;
+  }
+
+  public int getFetchSize() {
+    return fetchSize;
+  }
+
+  public void setFetchSize(int fetchSize) {
+    this.fetchSize = fetchSize;
+  }
+}
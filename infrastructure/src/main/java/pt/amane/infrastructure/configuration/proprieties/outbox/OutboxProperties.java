@@ -0,0 +1,80 @@
+package pt.amane.infrastructure.configuration.proprieties.outbox;
+
+import java.time.Duration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+public class OutboxProperties implements InitializingBean {
+
+  private static final Logger logger = LoggerFactory.getLogger(OutboxProperties.class);
+
+  private boolean relayEnabled = true;
+
+  private int batchSize = 100;
+
+  private Duration pollInterval = Duration.ofSeconds(1);
+
+  private Duration initialBackoff = Duration.ofSeconds(1);
+
+  private Duration maxBackoff = Duration.ofMinutes(5);
+
+  @Override
+  public void afterPropertiesSet() {
+    logger.debug(toString());
+  }
+
+  @Override
+  public String toString() {
+    return "OutboxProperties{" +
+        "relayEnabled=" + relayEnabled +
+        ", batchSize=" + batchSize +
+        ", pollInterval=" + pollInterval +
+        ", initialBackoff=" + initialBackoff +
+        ", maxBackoff=" + maxBackoff +
+        '}';
+  }
+
+  public OutboxProperties() {
+  }
+
+  public boolean isRelayEnabled() {
+    return relayEnabled;
+  }
+
+  public void setRelayEnabled(boolean relayEnabled) {
+    this.relayEnabled = relayEnabled;
+  }
+
+  public int getBatchSize() {
+    return batchSize;
+  }
+
+  public void setBatchSize(int batchSize) {
+    this.batchSize = batchSize;
+  }
+
+  public Duration getPollInterval() {
+    return pollInterval;
+  }
+
+  public void setPollInterval(Duration pollInterval) {
+    this.pollInterval = pollInterval;
+  }
+
+  public Duration getInitialBackoff() {
+    return initialBackoff;
+  }
+
+  public void setInitialBackoff(Duration initialBackoff) {
+    this.initialBackoff = initialBackoff;
+  }
+
+  public Duration getMaxBackoff() {
+    return maxBackoff;
+  }
+
+  public void setMaxBackoff(Duration maxBackoff) {
+    this.maxBackoff = maxBackoff;
+  }
+}
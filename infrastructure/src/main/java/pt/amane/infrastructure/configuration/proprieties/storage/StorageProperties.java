@@ -12,6 +12,12 @@ public class StorageProperties implements InitializingBean {
 
   private String  fileNamePattern;
 
+  private String  type;
+
+  private String  rootLocation;
+
+  private long  maxBytes;
+
   @Override
   public void afterPropertiesSet() {
     logger.debug(toString());
@@ -22,6 +28,9 @@ public class StorageProperties implements InitializingBean {
     return "StorageProperties{" +
         "locationPattern='" + locationPattern + '\'' +
         ", fileNamePattern='" + fileNamePattern + '\'' +
+        ", type='" + type + '\'' +
+        ", rootLocation='" + rootLocation + '\'' +
+        ", maxBytes=" + maxBytes +
         '}';
   }
 
@@ -43,4 +52,28 @@ public class StorageProperties implements InitializingBean {
   public void setFileNamePattern(String fileNamePattern) {
     this.fileNamePattern = fileNamePattern;
   }
+
+  public String getType() {
+    return type;
+  }
+
+  public void setType(String type) {
+    this.type = type;
+  }
+
+  public String getRootLocation() {
+    return rootLocation;
+  }
+
+  public void setRootLocation(String rootLocation) {
+    this.rootLocation = rootLocation;
+  }
+
+  public long getMaxBytes() {
+    return maxBytes;
+  }
+
+  public void setMaxBytes(long maxBytes) {
+    this.maxBytes = maxBytes;
+  }
 }
@@ -0,0 +1,47 @@
+package pt.amane.infrastructure.configuration.proprieties.video;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+public class VideoImportProperties implements InitializingBean {
+
+  private static final Logger logger = LoggerFactory.getLogger(VideoImportProperties.class);
+
+  private int chunkSize = 500;
+
+  // characters, a line of the import is held in memory while it is parsed
+  private int maxLineLength = 1024 * 1024;
+
+  @Override
+  public void afterPropertiesSet() {
+    logger.debug(toString());
+  }
+
+  @Override
+  public String toString() {
+    return "VideoImportProperties{" +
+        "chunkSize=" + chunkSize +
+        ", maxLineLength=" + maxLineLength +
+        '}';
+  }
+
+  public VideoImportProperties() {
+  }
+
+  public int getChunkSize() {
+    return chunkSize;
+  }
+
+  public void setChunkSize(int chunkSize) {
+    this.chunkSize = chunkSize;
+  }
+
+  public int getMaxLineLength() {
+    return maxLineLength;
+  }
+
+  public void setMaxLineLength(int maxLineLength) {
+    this.maxLineLength = maxLineLength;
+  }
+}
@@ -5,6 +5,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import pt.amane.application.castmember.create.CreateCastMemberUseCase;
 import pt.amane.application.castmember.delete.DeleteCastMemberUseCase;
+import pt.amane.application.castmember.retrieve.export.ExportCastMembersUseCase;
 import pt.amane.application.castmember.retrieve.get.GetCastMemberByIdUseCase;
 import pt.amane.application.castmember.retrieve.list.ListCastMembersUseCase;
 import pt.amane.application.castmember.update.UpdateCastMemberUseCase;
@@ -18,19 +19,22 @@ public class CastMemberControllerConfig {
   private final UpdateCastMemberUseCase updateCastMemberUseCase;
   private final DeleteCastMemberUseCase deleteCastMemberUseCase;
   private final ListCastMembersUseCase listCastMembersUseCase;
+  private final ExportCastMembersUseCase exportCastMembersUseCase;
 
   public CastMemberControllerConfig(
       final CreateCastMemberUseCase createCastMemberUseCase,
       final GetCastMemberByIdUseCase getCastMemberByIdUseCase,
       final UpdateCastMemberUseCase updateCastMemberUseCase,
       final DeleteCastMemberUseCase deleteCastMemberUseCase,
-      final ListCastMembersUseCase listCastMembersUseCase
+      final ListCastMembersUseCase listCastMembersUseCase,
+      final ExportCastMembersUseCase exportCastMembersUseCase
   ) {
     this.createCastMemberUseCase = Objects.requireNonNull(createCastMemberUseCase);
     this.getCastMemberByIdUseCase = Objects.requireNonNull(getCastMemberByIdUseCase);
     this.updateCastMemberUseCase = Objects.requireNonNull(updateCastMemberUseCase);
     this.deleteCastMemberUseCase = Objects.requireNonNull(deleteCastMemberUseCase);
     this.listCastMembersUseCase = Objects.requireNonNull(listCastMembersUseCase);
+    this.exportCastMembersUseCase = Objects.requireNonNull(exportCastMembersUseCase);
   }
 
 
@@ -41,7 +45,8 @@ public class CastMemberControllerConfig {
         getCastMemberByIdUseCase,
         updateCastMemberUseCase,
         deleteCastMemberUseCase,
-        listCastMembersUseCase
+        listCastMembersUseCase,
+        exportCastMembersUseCase
     );
   }
 }
\ No newline at end of file
@@ -9,6 +9,8 @@ import pt.amane.application.castmember.delete.DeleteCastMemberUseCase;
 import pt.amane.application.castmember.delete.DeleteCastMemberUseCaseImpl;
 import pt.amane.application.castmember.retrieve.get.GetCastMemberByIdUseCase;
 import pt.amane.application.castmember.retrieve.get.GetCastMemberByIdUseCaseImpl;
+import pt.amane.application.castmember.retrieve.export.ExportCastMembersUseCase;
+import pt.amane.application.castmember.retrieve.export.ExportCastMembersUseCaseImpl;
 import pt.amane.application.castmember.retrieve.list.ListCastMembersUseCase;
 import pt.amane.application.castmember.retrieve.list.ListCastMembersUseCaseImpl;
 import pt.amane.application.castmember.update.UpdateCastMemberUseCase;
@@ -50,6 +52,11 @@ public class CastMemberUseCaseConfig {
     return new ListCastMembersUseCaseImpl(CastMemberGateway);
   }
 
+  @Bean
+  public ExportCastMembersUseCase exportCastMembersUseCase() {
+    return new ExportCastMembersUseCaseImpl(CastMemberGateway);
+  }
+
   @Bean
   public UpdateCastMemberUseCase updateCastMemberUseCase() {
     return new UpdateCastMemberUseCaseImpl(CastMemberGateway);
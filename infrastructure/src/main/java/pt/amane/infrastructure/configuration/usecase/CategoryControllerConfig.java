@@ -5,6 +5,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import pt.amane.application.category.create.CreateCategoryUseCase;
 import pt.amane.application.category.delete.DeleteCategoryUseCase;
+import pt.amane.application.category.retrieve.export.ExportCategoriesUseCase;
 import pt.amane.application.category.retrieve.get.GetCategoryByIdUseCase;
 import pt.amane.application.category.retrieve.list.ListCategoriesUseCase;
 import pt.amane.application.category.update.UpdateCategoryUseCase;
@@ -19,19 +20,22 @@ public class CategoryControllerConfig {
   private final UpdateCategoryUseCase updateCategoryUseCase;
   private final DeleteCategoryUseCase deleteCategoryUseCase;
   private final ListCategoriesUseCase listCategoriesUseCase;
+  private final ExportCategoriesUseCase exportCategoriesUseCase;
 
   public CategoryControllerConfig(
       final CreateCategoryUseCase createCategoryUseCase,
       final GetCategoryByIdUseCase getCategoryByIdUseCase,
       final UpdateCategoryUseCase updateCategoryUseCase,
       final DeleteCategoryUseCase deleteCategoryUseCase,
-      final ListCategoriesUseCase listCategoriesUseCase
+      final ListCategoriesUseCase listCategoriesUseCase,
+      final ExportCategoriesUseCase exportCategoriesUseCase
   ) {
     this.createCategoryUseCase = Objects.requireNonNull(createCategoryUseCase);
     this.getCategoryByIdUseCase = Objects.requireNonNull(getCategoryByIdUseCase);
     this.updateCategoryUseCase = Objects.requireNonNull(updateCategoryUseCase);
     this.deleteCategoryUseCase = Objects.requireNonNull(deleteCategoryUseCase);
     this.listCategoriesUseCase = Objects.requireNonNull(listCategoriesUseCase);
+    this.exportCategoriesUseCase = Objects.requireNonNull(exportCategoriesUseCase);
   }
 
   @Bean
@@ -41,7 +45,8 @@ public class CategoryControllerConfig {
         getCategoryByIdUseCase,
         updateCategoryUseCase,
         deleteCategoryUseCase,
-        listCategoriesUseCase
+        listCategoriesUseCase,
+        exportCategoriesUseCase
     );
   }
 }
\ No newline at end of file
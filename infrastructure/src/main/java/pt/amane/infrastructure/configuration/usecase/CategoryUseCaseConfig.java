@@ -7,6 +7,8 @@ import pt.amane.application.category.create.CreateCategoryUseCase;
 import pt.amane.application.category.create.CreateCategoryUseCaseImpl;
 import pt.amane.application.category.delete.DeleteCategoryUseCase;
 import pt.amane.application.category.delete.DeleteCategoryUseCaseImpl;
+import pt.amane.application.category.retrieve.export.ExportCategoriesUseCase;
+import pt.amane.application.category.retrieve.export.ExportCategoriesUseCaseImpl;
 import pt.amane.application.category.retrieve.get.GetCategoryByIdUseCase;
 import pt.amane.application.category.retrieve.get.GetCategoryByIdUseCaseImpl;
 import pt.amane.application.category.retrieve.list.ListCategoriesUseCase;
@@ -44,6 +46,11 @@ public class CategoryUseCaseConfig {
     return new ListCategoriesUseCaseImpl(categoryGateway);
   }
 
+  @Bean
+  public ExportCategoriesUseCase exportCategoriesUseCase() {
+    return new ExportCategoriesUseCaseImpl(categoryGateway);
+  }
+
   @Bean
   public DeleteCategoryUseCase deleteCategoryUseCase() {
     return new DeleteCategoryUseCaseImpl(categoryGateway);
@@ -5,6 +5,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import pt.amane.application.genre.create.CreateGenreUseCase;
 import pt.amane.application.genre.delete.DeleteGenreUseCase;
+import pt.amane.application.genre.retrieve.export.ExportGenresUseCase;
 import pt.amane.application.genre.retrieve.get.GetGenreByIdUseCase;
 import pt.amane.application.genre.retrieve.list.ListGenreUseCase;
 import pt.amane.application.genre.update.UpdateGenreUseCase;
@@ -18,19 +19,22 @@ public class GenreControllerConfig {
   private final GetGenreByIdUseCase getGenreByIdUseCase;
   private final ListGenreUseCase listGenreUseCase;
   private final UpdateGenreUseCase updateGenreUseCase;
+  private final ExportGenresUseCase exportGenresUseCase;
 
   public GenreControllerConfig(
       final CreateGenreUseCase createGenreUseCase,
       final DeleteGenreUseCase deleteGenreUseCase,
       final GetGenreByIdUseCase getGenreByIdUseCase,
       final ListGenreUseCase listGenreUseCase,
-      final UpdateGenreUseCase updateGenreUseCase
+      final UpdateGenreUseCase updateGenreUseCase,
+      final ExportGenresUseCase exportGenresUseCase
   ) {
     this.createGenreUseCase = Objects.requireNonNull(createGenreUseCase);
     this.deleteGenreUseCase = Objects.requireNonNull(deleteGenreUseCase);
     this.getGenreByIdUseCase = Objects.requireNonNull(getGenreByIdUseCase);
     this.listGenreUseCase = Objects.requireNonNull(listGenreUseCase);
     this.updateGenreUseCase = Objects.requireNonNull(updateGenreUseCase);
+    this.exportGenresUseCase = Objects.requireNonNull(exportGenresUseCase);
   }
 
 
@@ -41,7 +45,8 @@ public class GenreControllerConfig {
         deleteGenreUseCase,
         getGenreByIdUseCase,
         listGenreUseCase,
-        updateGenreUseCase
+        updateGenreUseCase,
+        exportGenresUseCase
     );
   }
 }
\ No newline at end of file
@@ -9,6 +9,8 @@ import pt.amane.application.genre.delete.DeleteGenreUseCase;
 import pt.amane.application.genre.delete.DeleteGenreUseCaseImpl;
 import pt.amane.application.genre.retrieve.get.GetGenreByIdUseCase;
 import pt.amane.application.genre.retrieve.get.GetGenreByIdUseCaseImpl;
+import pt.amane.application.genre.retrieve.export.ExportGenresUseCase;
+import pt.amane.application.genre.retrieve.export.ExportGenresUseCaseImpl;
 import pt.amane.application.genre.retrieve.list.ListGenreUseCase;
 import pt.amane.application.genre.retrieve.list.ListGenreUseCaseImpl;
 import pt.amane.application.genre.update.UpdateGenreUseCase;
@@ -50,6 +52,11 @@ public class GenreUseCaseConfig {
     return new ListGenreUseCaseImpl(genreGateway);
   }
 
+  @Bean
+  public ExportGenresUseCase exportGenresUseCase() {
+    return new ExportGenresUseCaseImpl(genreGateway);
+  }
+
   @Bean
   public UpdateGenreUseCase updateGenreUseCase() {
     return new UpdateGenreUseCaseImpl(categoryGateway, genreGateway);
@@ -1,15 +1,24 @@
 package pt.amane.infrastructure.configuration.usecase;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import pt.amane.application.video.create.CreateVideoUseCase;
+import pt.amane.application.video.create.bulk.BulkCreateVideoUseCase;
 import pt.amane.application.video.delete.DeleteVideoUseCase;
 import pt.amane.application.video.media.get.GetMediaUseCase;
 import pt.amane.application.video.media.upload.UploadMediaUseCase;
+import pt.amane.application.video.media.upload.complete.CompleteMediaUploadUseCase;
+import pt.amane.application.video.media.upload.initiate.InitiateMediaUploadUseCase;
+import pt.amane.application.video.media.upload.part.UploadMediaPartUseCase;
+import pt.amane.application.video.media.upload.retrieve.GetMediaUploadUseCase;
+import pt.amane.application.video.retrieve.export.ExportVideosUseCase;
 import pt.amane.application.video.retrieve.get.GetVideoByIdUseCase;
 import pt.amane.application.video.retrieve.list.ListVideosUseCase;
 import pt.amane.application.video.update.UpdateVideoUseCase;
 import pt.amane.infrastructure.api.controllers.VideoController;
+import pt.amane.infrastructure.configuration.proprieties.video.VideoImportProperties;
 
 @Configuration
 public class VideoControllerConfig {
@@ -21,6 +30,13 @@ public class VideoControllerConfig {
   private final ListVideosUseCase listVideosUseCase;
   private final GetMediaUseCase getMediaUseCase;
   private final UploadMediaUseCase uploadMediaUseCase;
+  private final InitiateMediaUploadUseCase initiateMediaUploadUseCase;
+  private final GetMediaUploadUseCase getMediaUploadUseCase;
+  private final UploadMediaPartUseCase uploadMediaPartUseCase;
+  private final CompleteMediaUploadUseCase completeMediaUploadUseCase;
+  private final BulkCreateVideoUseCase bulkCreateVideoUseCase;
+  private final ExportVideosUseCase exportVideosUseCase;
+  private final ObjectMapper mapper;
 
   public VideoControllerConfig(
       final CreateVideoUseCase createVideoUseCase,
@@ -29,7 +45,14 @@ public class VideoControllerConfig {
       final DeleteVideoUseCase deleteVideoUseCase,
       final ListVideosUseCase listVideosUseCase,
       final GetMediaUseCase getMediaUseCase,
-      final UploadMediaUseCase uploadMediaUseCase
+      final UploadMediaUseCase uploadMediaUseCase,
+      final InitiateMediaUploadUseCase initiateMediaUploadUseCase,
+      final GetMediaUploadUseCase getMediaUploadUseCase,
+      final UploadMediaPartUseCase uploadMediaPartUseCase,
+      final CompleteMediaUploadUseCase completeMediaUploadUseCase,
+      final BulkCreateVideoUseCase bulkCreateVideoUseCase,
+      final ExportVideosUseCase exportVideosUseCase,
+      final ObjectMapper mapper
   ) {
     this.createVideoUseCase = createVideoUseCase;
     this.getVideoByIdUseCase = getVideoByIdUseCase;
@@ -38,11 +61,24 @@ public class VideoControllerConfig {
     this.listVideosUseCase = listVideosUseCase;
     this.getMediaUseCase = getMediaUseCase;
     this.uploadMediaUseCase = uploadMediaUseCase;
+    this.initiateMediaUploadUseCase = initiateMediaUploadUseCase;
+    this.getMediaUploadUseCase = getMediaUploadUseCase;
+    this.uploadMediaPartUseCase = uploadMediaPartUseCase;
+    this.completeMediaUploadUseCase = completeMediaUploadUseCase;
+    this.bulkCreateVideoUseCase = bulkCreateVideoUseCase;
+    this.exportVideosUseCase = exportVideosUseCase;
+    this.mapper = mapper;
+  }
+
+  @Bean
+  @ConfigurationProperties(value = "catalog.import")
+  public VideoImportProperties videoImportProperties() {
+    return new VideoImportProperties();
   }
 
 
   @Bean
-  public VideoController videoController() {
+  public VideoController videoController(final VideoImportProperties importProperties) {
     return new VideoController(
         createVideoUseCase,
         getVideoByIdUseCase,
@@ -50,7 +86,16 @@ public class VideoControllerConfig {
         deleteVideoUseCase,
         listVideosUseCase,
         getMediaUseCase,
-        uploadMediaUseCase
+        uploadMediaUseCase,
+        initiateMediaUploadUseCase,
+        getMediaUploadUseCase,
+        uploadMediaPartUseCase,
+        completeMediaUploadUseCase,
+        bulkCreateVideoUseCase,
+        exportVideosUseCase,
+        mapper,
+        importProperties.getChunkSize(),
+        importProperties.getMaxLineLength()
     );
   }
 }
\ No newline at end of file
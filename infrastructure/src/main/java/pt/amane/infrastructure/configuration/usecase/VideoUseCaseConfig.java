@@ -1,11 +1,19 @@
 package pt.amane.infrastructure.configuration.usecase;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import jakarta.annotation.PreDestroy;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import pt.amane.application.video.create.CreateVideoUseCase;
 import pt.amane.application.video.create.CreateVideoUseCaseImpl;
+import pt.amane.application.video.create.bulk.BulkCreateVideoUseCase;
+import pt.amane.application.video.create.bulk.BulkCreateVideoUseCaseImpl;
 import pt.amane.application.video.delete.DeleteVideoUseCase;
 import pt.amane.application.video.delete.DeleteVideoUseCaseImpl;
 import pt.amane.application.video.media.get.GetMediaUseCase;
@@ -14,6 +22,16 @@ import pt.amane.application.video.media.update.UpdateMediaStatusUseCase;
 import pt.amane.application.video.media.update.UpdateMediaStatusUseCaseImpl;
 import pt.amane.application.video.media.upload.UploadMediaUseCase;
 import pt.amane.application.video.media.upload.UploadMediaUseCaseImpl;
+import pt.amane.application.video.media.upload.complete.CompleteMediaUploadUseCase;
+import pt.amane.application.video.media.upload.complete.CompleteMediaUploadUseCaseImpl;
+import pt.amane.application.video.media.upload.initiate.InitiateMediaUploadUseCase;
+import pt.amane.application.video.media.upload.initiate.InitiateMediaUploadUseCaseImpl;
+import pt.amane.application.video.media.upload.part.UploadMediaPartUseCase;
+import pt.amane.application.video.media.upload.part.UploadMediaPartUseCaseImpl;
+import pt.amane.application.video.media.upload.retrieve.GetMediaUploadUseCase;
+import pt.amane.application.video.media.upload.retrieve.GetMediaUploadUseCaseImpl;
+import pt.amane.application.video.retrieve.export.ExportVideosUseCase;
+import pt.amane.application.video.retrieve.export.ExportVideosUseCaseImpl;
 import pt.amane.application.video.retrieve.get.GetVideoByIdUseCase;
 import pt.amane.application.video.retrieve.get.GetVideoByIdUseCaseImpl;
 import pt.amane.application.video.retrieve.list.ListVideosUseCase;
@@ -29,12 +47,30 @@ import pt.amane.domain.video.VideoGateway;
 @Configuration
 public class VideoUseCaseConfig {
 
+    private static final int EXECUTOR_THREADS = 16;
+    private static final int EXECUTOR_QUEUE = 64;
+
     private final CategoryGateway categoryGateway;
     private final CastMemberGateway castMemberGateway;
     private final GenreGateway genreGateway;
     private final MediaResourceGateway mediaResourceGateway;
     private final VideoGateway videoGateway;
 
+    /**
+     * Bounded pool for the work a video use case fans out. When it is saturated the request thread
+     * runs the task itself, which slows the callers down instead of queueing without limit.
+     * It is not a bean, so it doesn't replace the application task executor.
+     */
+    private final ExecutorService executor = new ThreadPoolExecutor(
+            EXECUTOR_THREADS,
+            EXECUTOR_THREADS,
+            60L,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(EXECUTOR_QUEUE),
+            new ThreadFactoryBuilder().setNameFormat("video-usecase-%d").setDaemon(true).build(),
+            new ThreadPoolExecutor.CallerRunsPolicy()
+    );
+
     public VideoUseCaseConfig(
         final CategoryGateway categoryGateway,
         final CastMemberGateway castMemberGateway,
@@ -49,14 +85,24 @@ public class VideoUseCaseConfig {
         this.videoGateway = Objects.requireNonNull(videoGateway);
     }
 
+    @PreDestroy
+    public void shutdown() {
+        this.executor.shutdown();
+    }
+
     @Bean
     public CreateVideoUseCase createVideoUseCase() {
-        return new CreateVideoUseCaseImpl(categoryGateway, castMemberGateway, genreGateway, mediaResourceGateway, videoGateway);
+        return new CreateVideoUseCaseImpl(categoryGateway, castMemberGateway, genreGateway, mediaResourceGateway, videoGateway, executor);
+    }
+
+    @Bean
+    public BulkCreateVideoUseCase bulkCreateVideoUseCase() {
+        return new BulkCreateVideoUseCaseImpl(categoryGateway, castMemberGateway, genreGateway, videoGateway);
     }
 
     @Bean
     public UpdateVideoUseCase updateVideoUseCase() {
-        return new UpdateVideoUseCaseImpl(videoGateway, categoryGateway, castMemberGateway, genreGateway, mediaResourceGateway);
+        return new UpdateVideoUseCaseImpl(videoGateway, categoryGateway, castMemberGateway, genreGateway, mediaResourceGateway, executor);
     }
 
     @Bean
@@ -74,6 +120,11 @@ public class VideoUseCaseConfig {
         return new ListVideosUseCaseImpl(videoGateway);
     }
 
+    @Bean
+    public ExportVideosUseCase exportVideosUseCase() {
+        return new ExportVideosUseCaseImpl(videoGateway);
+    }
+
     @Bean
     public GetMediaUseCase getMediaUseCase() {
         return new GetMediaUseCaseImpl(mediaResourceGateway);
@@ -84,6 +135,26 @@ public class VideoUseCaseConfig {
         return new UploadMediaUseCaseImpl(mediaResourceGateway, videoGateway);
     }
 
+    @Bean
+    public InitiateMediaUploadUseCase initiateMediaUploadUseCase() {
+        return new InitiateMediaUploadUseCaseImpl(mediaResourceGateway, videoGateway);
+    }
+
+    @Bean
+    public UploadMediaPartUseCase uploadMediaPartUseCase() {
+        return new UploadMediaPartUseCaseImpl(mediaResourceGateway);
+    }
+
+    @Bean
+    public GetMediaUploadUseCase getMediaUploadUseCase() {
+        return new GetMediaUploadUseCaseImpl(mediaResourceGateway);
+    }
+
+    @Bean
+    public CompleteMediaUploadUseCase completeMediaUploadUseCase(final UploadMediaUseCase uploadMediaUseCase) {
+        return new CompleteMediaUploadUseCaseImpl(mediaResourceGateway, uploadMediaUseCase);
+    }
+
     @Bean
     public UpdateMediaStatusUseCase updateMediaStatusUseCase() {
         return new UpdateMediaStatusUseCaseImpl(videoGateway);
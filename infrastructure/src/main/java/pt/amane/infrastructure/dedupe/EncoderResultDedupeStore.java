@@ -0,0 +1,269 @@
+package pt.amane.infrastructure.dedupe;
+
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnels;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import pt.amane.domain.utils.InstantUtils;
+import pt.amane.infrastructure.dedupe.persistence.ProcessedEncoderResultID;
+import pt.amane.infrastructure.dedupe.persistence.ProcessedEncoderResultRepository;
+
+/**
+ * Remembers the encoder results already applied, so a redelivered one is dropped before its video is touched.
+ * The results are recorded in a table, in the transaction that applied them, and in an in-memory bloom filter
+ * that answers most lookups: a result it has never seen was not applied by this instance and the table is not read,
+ * the ones it may have seen are confirmed against the table, the rate of those wrongly suspected is the
+ * configured false positive rate. A result applied by another instance is applied again, which leaves the video as it was.
+ * The rows older than the retention are deleted on every purge and the filter is rebuilt from the remaining ones.
+ */
+public class EncoderResultDedupeStore {
+
+  private static final Logger log = LoggerFactory.getLogger(EncoderResultDedupeStore.class);
+
+  private final ProcessedEncoderResultRepository repository;
+  private final TransactionTemplate transactionTemplate;
+  private final boolean enabled;
+  private final int expectedInsertions;
+  private final double falsePositiveRate;
+  private final Duration retention;
+  private final Duration purgeInterval;
+  private final int fetchSize;
+
+  private final ScheduledExecutorService scheduler;
+
+  private volatile BloomFilter<CharSequence> filter;
+  // the filter being rebuilt, the results recorded meanwhile are added to both, null when not rebuilding
+  private volatile BloomFilter<CharSequence> next;
+
+  private final AtomicLong checked;
+  private final AtomicLong duplicates;
+  private final AtomicLong falsePositives;
+  private final AtomicLong recorded;
+
+  public EncoderResultDedupeStore(
+      final ProcessedEncoderResultRepository repository,
+      final PlatformTransactionManager transactionManager,
+      final boolean enabled,
+      final int expectedInsertions,
+      final double falsePositiveRate,
+      final Duration retention,
+      final Duration purgeInterval,
+      final int fetchSize
+  ) {
+    if (expectedInsertions <= 0) {
+      throw new IllegalArgumentException("'expectedInsertions' should be greater than zero");
+    }
+    if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+      throw new IllegalArgumentException("'falsePositiveRate' should be between zero and one");
+    }
+    this.repository = Objects.requireNonNull(repository);
+    this.transactionTemplate = new TransactionTemplate(Objects.requireNonNull(transactionManager));
+    this.enabled = enabled;
+    this.expectedInsertions = expectedInsertions;
+    this.falsePositiveRate = falsePositiveRate;
+    this.retention = Objects.requireNonNull(retention);
+    this.purgeInterval = Objects.requireNonNull(purgeInterval);
+    this.fetchSize = fetchSize;
+    this.scheduler = Executors.newSingleThreadScheduledExecutor(
+        new ThreadFactoryBuilder().setNameFormat("encoder-result-dedupe-%d").setDaemon(true).build()
+    );
+    this.filter = newFilter();
+    this.checked = new AtomicLong();
+    this.duplicates = new AtomicLong();
+    this.falsePositives = new AtomicLong();
+    this.recorded = new AtomicLong();
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void start() {
+    if (!this.enabled) {
+      return;
+    }
+    this.scheduler.scheduleWithFixedDelay(this::refresh, 0, this.purgeInterval.toMillis(), TimeUnit.MILLISECONDS);
+  }
+
+  @PreDestroy
+  public void stop() {
+    this.scheduler.shutdownNow();
+  }
+
+  /**
+   * Which of the given results were already applied, the table is only read for the ones the filter may have seen.
+   * @param ids
+   * @return
+   */
+  public Set<ProcessedEncoderResultID> processed(final Collection<ProcessedEncoderResultID> ids) {
+    if (!this.enabled || ids.isEmpty()) {
+      return Set.of();
+    }
+
+    this.checked.addAndGet(ids.size());
+
+    final var current = this.filter;
+    final var suspects = ids.stream()
+        .filter(id -> current.mightContain(id.toKey()))
+        .collect(Collectors.toSet());
+
+    if (suspects.isEmpty()) {
+      return Set.of();
+    }
+
+    final var videoIds = suspects.stream().map(ProcessedEncoderResultID::getVideoId).collect(Collectors.toSet());
+    final var found = new HashSet<>(this.repository.findIdsByVideoIdIn(videoIds));
+    found.retainAll(suspects);
+
+    this.duplicates.addAndGet(found.size());
+    this.falsePositives.addAndGet(suspects.size() - found.size());
+    return found;
+  }
+
+  /**
+   * Records the results applied by the current transaction. They are added to the filter right away,
+   * the ones of a transaction rolled back afterwards are only false positives.
+   * @param ids
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void record(final Collection<ProcessedEncoderResultID> ids) {
+    if (!this.enabled || ids.isEmpty()) {
+      return;
+    }
+
+    final var now = InstantUtils.now();
+    for (final var id : ids) {
+      this.repository.insertIfAbsent(id.getVideoId(), id.getResourceId(), id.getStatus(), now);
+      this.filter.put(id.toKey());
+      final var rebuilding = this.next;
+      if (rebuilding != null) {
+        rebuilding.put(id.toKey());
+      }
+    }
+    this.recorded.addAndGet(ids.size());
+  }
+
+  /**
+   * Deletes the results older than the retention and rebuilds the filter from the remaining ones,
+   * which also keeps it from filling past its expected insertions.
+   */
+  public void refresh() {
+    try {
+      final var before = InstantUtils.now().minus(this.retention);
+      final Integer purged = this.transactionTemplate.execute(status -> this.repository.deleteProcessedBefore(before));
+
+      final var rebuilt = newFilter();
+      this.next = rebuilt;
+      this.repository.stream(
+          Specification.where(null),
+          Sort.unsorted(),
+          this.fetchSize,
+          row -> rebuilt.put(row.getId().toKey())
+      );
+      this.filter = rebuilt;
+      this.next = null;
+
+      log.info("Encoder results dedupe filter rebuilt with about {} results, {} older ones purged",
+          rebuilt.approximateElementCount(), purged);
+    } catch (final RuntimeException e) {
+      // the previous filter is kept, it may only answer more false positives
+      this.next = null;
+      log.error("Could not refresh the encoder results dedupe filter", e);
+    }
+  }
+
+  /**
+   * Counters since the start and the state of the filter.
+   * @return
+   */
+  public Stats stats() {
+    final var checkedCount = this.checked.get();
+    final var duplicateCount = this.duplicates.get();
+    final var current = this.filter;
+
+    return new Stats(
+        checkedCount,
+        duplicateCount,
+        checkedCount == 0 ? 0 : (double) duplicateCount / checkedCount,
+        this.falsePositives.get(),
+        this.recorded.get(),
+        current.approximateElementCount(),
+        current.expectedFpp()
+    );
+  }
+
+  /**
+   * Publishes the stats as Micrometer meters named dedupe.encoder.results.*, the duplicate rate is
+   * the share of the results looked up since the start that were dropped.
+   * @param registry
+   */
+  public void bindTo(final MeterRegistry registry) {
+    FunctionCounter.builder("dedupe.encoder.results.checked", this.checked, AtomicLong::get)
+        .description("Encoder results looked up")
+        .register(registry);
+    FunctionCounter.builder("dedupe.encoder.results.duplicates", this.duplicates, AtomicLong::get)
+        .description("Encoder results found already applied and dropped")
+        .register(registry);
+    FunctionCounter.builder("dedupe.encoder.results.false.positives", this.falsePositives, AtomicLong::get)
+        .description("Encoder results the filter suspected that the table did not have")
+        .register(registry);
+    FunctionCounter.builder("dedupe.encoder.results.recorded", this.recorded, AtomicLong::get)
+        .description("Encoder results recorded as applied")
+        .register(registry);
+    Gauge.builder("dedupe.encoder.results.duplicate.rate", this, store -> store.stats().duplicateRate())
+        .description("Share of the encoder results looked up that were duplicates")
+        .register(registry);
+    Gauge.builder("dedupe.encoder.results.filter.size", this, store -> store.stats().filterSize())
+        .description("Approximate number of encoder results in the filter")
+        .register(registry);
+    Gauge.builder("dedupe.encoder.results.filter.false.positive.rate", this,
+            store -> store.stats().filterFalsePositiveRate())
+        .description("Expected false positive rate of the filter with its current size")
+        .register(registry);
+  }
+
+  private BloomFilter<CharSequence> newFilter() {
+    return BloomFilter.create(Funnels.stringFunnel(StandardCharsets.UTF_8), this.expectedInsertions, this.falsePositiveRate);
+  }
+
+  /**
+   * @param checked results looked up
+   * @param duplicates results found already applied and dropped
+   * @param duplicateRate share of the results looked up that were duplicates
+   * @param falsePositives results the filter suspected that the table did not have
+   * @param recorded results recorded as applied
+   * @param filterSize approximate number of results in the filter
+   * @param filterFalsePositiveRate expected false positive rate of the filter with its current size
+   */
+  public record Stats(
+      long checked,
+      long duplicates,
+      double duplicateRate,
+      long falsePositives,
+      long recorded,
+      long filterSize,
+      double filterFalsePositiveRate
+  ) {
+  }
+}
@@ -0,0 +1,81 @@
+package pt.amane.infrastructure.dedupe.persistence;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import java.io.Serializable;
+import java.util.Objects;
+import pt.amane.domain.validation.ObjectsValidator;
+import pt.amane.domain.video.MediaStatus;
+
+@Embeddable
+public class ProcessedEncoderResultID implements Serializable {
+
+  @Column(name = "video_id", nullable = false, length = 32, columnDefinition = "CHAR(32)")
+  private String videoId;
+
+  @Column(name = "resource_id", nullable = false, length = 32, columnDefinition = "CHAR(32)")
+  private String resourceId;
+
+  @Column(name = "media_status", nullable = false, length = 50)
+  private String status;
+
+  /**
+   * Default constructor for Hibernate JPA.
+   */
+  public ProcessedEncoderResultID() {
+  }
+
+  private ProcessedEncoderResultID(
+      final String videoId,
+      final String resourceId,
+      final String status
+  ) {
+    this.videoId = ObjectsValidator.objectValidation(videoId);
+    this.resourceId = ObjectsValidator.objectValidation(resourceId);
+    this.status = ObjectsValidator.objectValidation(status);
+  }
+
+  public static ProcessedEncoderResultID from(
+      final String videoId,
+      final String resourceId,
+      final MediaStatus status
+  ) {
+    return new ProcessedEncoderResultID(videoId, resourceId, status.name());
+  }
+
+  public String getVideoId() {
+    return videoId;
+  }
+
+  public String getResourceId() {
+    return resourceId;
+  }
+
+  public String getStatus() {
+    return status;
+  }
+
+  /**
+   * The key remembered by the bloom filter of the {@link pt.amane.infrastructure.dedupe.EncoderResultDedupeStore}.
+   * @return
+   */
+  public String toKey() {
+    return videoId + ":" + resourceId + ":" + status;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    final ProcessedEncoderResultID that = (ProcessedEncoderResultID) o;
+    return Objects.equals(getVideoId(), that.getVideoId())
+        && Objects.equals(getResourceId(), that.getResourceId())
+        && Objects.equals(getStatus(), that.getStatus());
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(getVideoId(), getResourceId(), getStatus());
+  }
+}
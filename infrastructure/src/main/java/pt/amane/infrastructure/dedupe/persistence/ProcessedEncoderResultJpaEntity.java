@@ -0,0 +1,41 @@
+package pt.amane.infrastructure.dedupe.persistence;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import java.time.Instant;
+
+/**
+ * An encoder result already applied to its video, the same result received again is dropped.
+ */
+@Entity(name = "ProcessedEncoderResult")
+@Table(name = "processed_encoder_results")
+public class ProcessedEncoderResultJpaEntity {
+
+  @EmbeddedId
+  private ProcessedEncoderResultID id;
+
+  @Column(name = "processed_at", nullable = false, columnDefinition = "DATETIME(6)")
+  private Instant processedAt;
+
+  public ProcessedEncoderResultJpaEntity() {
+  }
+
+  private ProcessedEncoderResultJpaEntity(final ProcessedEncoderResultID id, final Instant processedAt) {
+    this.id = id;
+    this.processedAt = processedAt;
+  }
+
+  public static ProcessedEncoderResultJpaEntity from(final ProcessedEncoderResultID id, final Instant processedAt) {
+    return new ProcessedEncoderResultJpaEntity(id, processedAt);
+  }
+
+  public ProcessedEncoderResultID getId() {
+    return id;
+  }
+
+  public Instant getProcessedAt() {
+    return processedAt;
+  }
+}
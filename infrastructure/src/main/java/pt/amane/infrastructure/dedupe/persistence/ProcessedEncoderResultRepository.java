@@ -0,0 +1,47 @@
+package pt.amane.infrastructure.dedupe.persistence;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import pt.amane.infrastructure.persistence.StreamExecutor;
+
+public interface ProcessedEncoderResultRepository
+    extends JpaRepository<ProcessedEncoderResultJpaEntity, ProcessedEncoderResultID>,
+    StreamExecutor<ProcessedEncoderResultJpaEntity> {
+
+  /**
+   * Does nothing when the result was already recorded, by this transaction or a concurrent one.
+   * @param videoId
+   * @param resourceId
+   * @param status
+   * @param processedAt
+   * @return
+   */
+  @Modifying
+  @Query(nativeQuery = true, value = """
+      insert ignore into processed_encoder_results (video_id, resource_id, media_status, processed_at)
+      values (:videoId, :resourceId, :status, :processedAt)
+      """)
+  int insertIfAbsent(
+      @Param("videoId") String videoId,
+      @Param("resourceId") String resourceId,
+      @Param("status") String status,
+      @Param("processedAt") Instant processedAt
+  );
+
+  /**
+   * The results recorded for the given videos, the video id leads the primary key.
+   * @param videoIds
+   * @return
+   */
+  @Query("select r.id from ProcessedEncoderResult r where r.id.videoId in :videoIds")
+  List<ProcessedEncoderResultID> findIdsByVideoIdIn(@Param("videoIds") Collection<String> videoIds);
+
+  @Modifying
+  @Query("delete from ProcessedEncoderResult r where r.processedAt < :before")
+  int deleteProcessedBefore(@Param("before") Instant before);
+}
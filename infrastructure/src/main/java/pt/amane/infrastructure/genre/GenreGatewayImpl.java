@@ -1,6 +1,9 @@
 package pt.amane.infrastructure.genre;
 
+import jakarta.persistence.criteria.JoinType;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
@@ -8,14 +11,17 @@ import org.springframework.stereotype.Component;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.StreamSupport;
 import pt.amane.domain.genre.Genre;
 import pt.amane.domain.genre.GenreGateway;
 import pt.amane.domain.genre.GenreID;
 import pt.amane.domain.pagination.Pagination;
 import pt.amane.domain.pagination.SearchQuery;
+import pt.amane.infrastructure.cache.ExistenceCache;
 import pt.amane.infrastructure.genre.persistence.GenreJpaEntity;
 import pt.amane.infrastructure.genre.persistence.GenreRepository;
+import pt.amane.infrastructure.utils.CursorUtils;
 import pt.amane.infrastructure.utils.SpecificationUtils;
 
 import static org.springframework.data.jpa.domain.Specification.where;
@@ -25,13 +31,25 @@ public class GenreGatewayImpl implements GenreGateway {
 
     private final GenreRepository genreRepository;
 
-    public GenreGatewayImpl(final GenreRepository genreRepository) {
+    private final ExistenceCache existenceCache;
+
+    private final int streamFetchSize;
+
+    public GenreGatewayImpl(
+            final GenreRepository genreRepository,
+            final ExistenceCache existenceCache,
+            final int streamFetchSize
+    ) {
         this.genreRepository = Objects.requireNonNull(genreRepository);
+        this.existenceCache = Objects.requireNonNull(existenceCache);
+        this.streamFetchSize = streamFetchSize;
     }
 
     @Override
     public Genre create(final Genre aGenre) {
-        return save(aGenre);
+        final var created = save(aGenre);
+        this.existenceCache.invalidate(created.getId().getValue());
+        return created;
     }
 
     @Override
@@ -40,6 +58,7 @@ public class GenreGatewayImpl implements GenreGateway {
         if (this.genreRepository.existsById(aGenreId)) {
             this.genreRepository.deleteById(aGenreId);
         }
+        this.existenceCache.invalidate(aGenreId);
     }
 
     @Override
@@ -55,25 +74,33 @@ public class GenreGatewayImpl implements GenreGateway {
 
     @Override
     public Pagination<Genre> findAll(final SearchQuery aQuery) {
-        final var page = PageRequest.of(
-                aQuery.page(),
-                aQuery.perPage(),
-                Sort.by(Sort.Direction.fromString(aQuery.direction()), aQuery.sort())
-        );
+        final var sort = CursorUtils.sort(aQuery.sort(), aQuery.direction());
 
         final var where = Optional.ofNullable(aQuery.terms())
                 .filter(str -> !str.isBlank())
                 .map(this::assembleSpecification)
                 .orElse(null);
 
-        final var pageResult =
-                this.genreRepository.findAll(where(where), page);
+        if (CursorUtils.isPresent(aQuery.cursor())) {
+            final var rows = this.genreRepository.findBy(
+                    where(where).and(CursorUtils.after(aQuery.cursor(), aQuery.sort(), aQuery.direction())),
+                    query -> query.sortBy(sort).limit(aQuery.perPage() + 1).all()
+            );
+            return CursorUtils.page(rows, aQuery.perPage(), aQuery.sort(), aQuery.direction(), GenreJpaEntity::toAggregate);
+        }
+
+        final var page = PageRequest.of(aQuery.page(), aQuery.perPage(), sort);
+
+        final Slice<GenreJpaEntity> pageResult = aQuery.withTotal()
+                ? this.genreRepository.findAll(where(where), page)
+                : this.genreRepository.findSlice(where(where), page);
 
         return new Pagination<>(
                 pageResult.getNumber(),
                 pageResult.getSize(),
-                pageResult.getTotalElements(),
-                pageResult.map(GenreJpaEntity::toAggregate).toList()
+                pageResult instanceof Page<?> aPage ? aPage.getTotalElements() : Pagination.UNKNOWN_TOTAL,
+                pageResult.map(GenreJpaEntity::toAggregate).toList(),
+                CursorUtils.next(pageResult, aQuery.sort(), aQuery.direction())
         );
     }
 
@@ -82,11 +109,29 @@ public class GenreGatewayImpl implements GenreGateway {
         final var ids = StreamSupport.stream(genreIDS.spliterator(), false)
                 .map(GenreID::getValue)
                 .toList();
-        return this.genreRepository.existsByIds(ids).stream()
+        return this.existenceCache.existing(ids, this.genreRepository::existsByIds).stream()
                 .map(GenreID::from)
                 .toList();
     }
 
+    /**
+     * The categories are joined in the same statement, a streamed result set leaves no room for another one.
+     */
+    @Override
+    public void streamAll(final Consumer<Genre> consumer) {
+        final Specification<GenreJpaEntity> withCategories = (root, query, cb) -> {
+            root.fetch("categories", JoinType.LEFT).fetch("category", JoinType.LEFT);
+            return null;
+        };
+
+        this.genreRepository.stream(
+                withCategories,
+                Sort.by("id"),
+                this.streamFetchSize,
+                entity -> consumer.accept(entity.toAggregate())
+        );
+    }
+
     private Genre save(final Genre aGenre) {
         return this.genreRepository.save(GenreJpaEntity.from(aGenre))
                 .toAggregate();
@@ -5,10 +5,14 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import pt.amane.infrastructure.persistence.SliceSpecificationExecutor;
+import pt.amane.infrastructure.persistence.StreamExecutor;
 
-public interface GenreRepository extends JpaRepository<GenreJpaEntity, String> {
+public interface GenreRepository extends JpaRepository<GenreJpaEntity, String>, JpaSpecificationExecutor<GenreJpaEntity>,
+        SliceSpecificationExecutor<GenreJpaEntity>, StreamExecutor<GenreJpaEntity> {
 
     Page<GenreJpaEntity> findAll(Specification<GenreJpaEntity> whereClause, Pageable page);
 
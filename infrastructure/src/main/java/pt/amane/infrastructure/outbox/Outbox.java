@@ -0,0 +1,39 @@
+package pt.amane.infrastructure.outbox;
+
+import java.util.Objects;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import pt.amane.domain.event.DomainEvent;
+import pt.amane.domain.utils.InstantUtils;
+import pt.amane.infrastructure.outbox.persistence.OutboxEventJpaEntity;
+import pt.amane.infrastructure.outbox.persistence.OutboxEventRepository;
+
+/**
+ * Writes the domain events in the transaction of the aggregate that raised them, they are only sent
+ * by the {@link OutboxRelay} once that transaction committed, and never when it rolled back.
+ */
+public class Outbox {
+
+  private final OutboxEventRepository repository;
+  private final OutboxRelay relay;
+
+  public Outbox(final OutboxEventRepository repository, final OutboxRelay relay) {
+    this.repository = Objects.requireNonNull(repository);
+    this.relay = Objects.requireNonNull(relay);
+  }
+
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void append(final String anAggregateId, final DomainEvent anEvent) {
+    this.repository.persist(OutboxEventJpaEntity.from(anAggregateId, anEvent, InstantUtils.now()));
+
+    // relayed right away instead of at the next poll
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        relay.wakeUp();
+      }
+    });
+  }
+}
@@ -0,0 +1,227 @@
+package pt.amane.infrastructure.outbox;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import pt.amane.domain.utils.InstantUtils;
+import pt.amane.infrastructure.outbox.persistence.OutboxEventJpaEntity;
+import pt.amane.infrastructure.outbox.persistence.OutboxEventRepository;
+import pt.amane.infrastructure.services.EventService;
+
+/**
+ * Sends the events written to the {@link Outbox} from a single background thread, in batches,
+ * each batch published in one call and in its own transaction so the sent events are deleted with it.
+ * The events of a batch that could not be sent are tried again after an exponential backoff,
+ * the following events of their aggregates wait for them.
+ * Delivery is at least once, an event sent right before its batch failed to commit is sent again.
+ */
+public class OutboxRelay {
+
+  private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+  // 2^20 times the initial backoff is past any sensible maximum
+  private static final int MAX_BACKOFF_EXPONENT = 20;
+
+  private final OutboxEventRepository repository;
+  private final EventService eventService;
+  private final TransactionTemplate transactionTemplate;
+  private final boolean enabled;
+  private final int batchSize;
+  private final Duration pollInterval;
+  private final Duration initialBackoff;
+  private final Duration maxBackoff;
+
+  private final ScheduledExecutorService scheduler;
+  private final AtomicBoolean wakeUpPending;
+
+  private final AtomicLong relayed;
+  private final AtomicLong failures;
+  private volatile Duration lastLag;
+
+  public OutboxRelay(
+      final OutboxEventRepository repository,
+      final EventService eventService,
+      final PlatformTransactionManager transactionManager,
+      final boolean enabled,
+      final int batchSize,
+      final Duration pollInterval,
+      final Duration initialBackoff,
+      final Duration maxBackoff
+  ) {
+    if (batchSize <= 0) {
+      throw new IllegalArgumentException("'batchSize' should be greater than zero");
+    }
+    this.repository = Objects.requireNonNull(repository);
+    this.eventService = Objects.requireNonNull(eventService);
+    this.transactionTemplate = new TransactionTemplate(Objects.requireNonNull(transactionManager));
+    this.enabled = enabled;
+    this.batchSize = batchSize;
+    this.pollInterval = Objects.requireNonNull(pollInterval);
+    this.initialBackoff = Objects.requireNonNull(initialBackoff);
+    this.maxBackoff = Objects.requireNonNull(maxBackoff);
+    this.scheduler = Executors.newSingleThreadScheduledExecutor(
+        new ThreadFactoryBuilder().setNameFormat("outbox-relay-%d").setDaemon(true).build()
+    );
+    this.wakeUpPending = new AtomicBoolean();
+    this.relayed = new AtomicLong();
+    this.failures = new AtomicLong();
+    this.lastLag = Duration.ZERO;
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void start() {
+    if (!this.enabled) {
+      return;
+    }
+    this.scheduler.scheduleWithFixedDelay(this::drain, 0, this.pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+  }
+
+  @PreDestroy
+  public void stop() {
+    this.scheduler.shutdownNow();
+  }
+
+  /**
+   * Drains the outbox as soon as the relay thread is free, several calls before it is free drain it once.
+   */
+  public void wakeUp() {
+    if (!this.enabled || !this.wakeUpPending.compareAndSet(false, true)) {
+      return;
+    }
+    try {
+      this.scheduler.execute(() -> {
+        this.wakeUpPending.set(false);
+        drain();
+      });
+    } catch (final RejectedExecutionException e) {
+      // shutting down, the events stay in the outbox
+      this.wakeUpPending.set(false);
+    }
+  }
+
+  /**
+   * Relays batches until none of the due events could be sent.
+   */
+  public void drain() {
+    try {
+      // the events behind the ones just sent may be due now
+      int sent;
+      do {
+        sent = relayBatch();
+      } while (sent > 0);
+    } catch (final RuntimeException e) {
+      log.error("Could not relay the outbox events", e);
+    }
+  }
+
+  /**
+   * Sends one batch of due events.
+   * @return how many were sent
+   */
+  public int relayBatch() {
+    final Integer sent = this.transactionTemplate.execute(status -> {
+      final var now = InstantUtils.now();
+      final var events = this.repository.findRelayable(now, Limit.of(this.batchSize));
+      if (events.isEmpty()) {
+        return 0;
+      }
+
+      try {
+        this.eventService.sendAllJson(events.stream().map(OutboxEventJpaEntity::getPayload).toList());
+      } catch (final RuntimeException e) {
+        // the broker does not tell which of the batch it refused, all of them are tried again
+        events.forEach(anEvent -> anEvent.failed(now, backoff(anEvent.getAttempts() + 1), e.getMessage()));
+        log.warn("Could not relay a batch of {} outbox events, they are tried again after a backoff", events.size(), e);
+        this.failures.addAndGet(events.size());
+        return 0;
+      }
+
+      this.repository.deleteAllInBatch(events);
+      this.relayed.addAndGet(events.size());
+      this.lastLag = Duration.between(events.get(0).getCreatedAt(), now);
+      return events.size();
+    });
+    return sent == null ? 0 : sent;
+  }
+
+  Duration backoff(final int attempts) {
+    final var exponent = Math.min(Math.max(attempts - 1, 0), MAX_BACKOFF_EXPONENT);
+    final var backoff = this.initialBackoff.multipliedBy(1L << exponent);
+    return backoff.compareTo(this.maxBackoff) > 0 ? this.maxBackoff : backoff;
+  }
+
+  /**
+   * Counters since the start and the state of the outbox, read from the database.
+   * @return
+   */
+  public Stats stats() {
+    return new Stats(
+        this.relayed.get(),
+        this.failures.get(),
+        pending(),
+        lag(),
+        this.lastLag
+    );
+  }
+
+  /**
+   * Publishes the stats as Micrometer meters named outbox.*, the pending count and the lag
+   * are read from the database on every scrape.
+   * @param registry
+   */
+  public void bindTo(final MeterRegistry registry) {
+    FunctionCounter.builder("outbox.relayed", this.relayed, AtomicLong::get)
+        .description("Outbox events sent")
+        .register(registry);
+    FunctionCounter.builder("outbox.failures", this.failures, AtomicLong::get)
+        .description("Outbox events whose sending failed")
+        .register(registry);
+    Gauge.builder("outbox.pending", this, OutboxRelay::pending)
+        .description("Outbox events waiting to be sent")
+        .register(registry);
+    TimeGauge.builder("outbox.lag", this, TimeUnit.MILLISECONDS, relay -> relay.lag().toMillis())
+        .description("How long the oldest pending outbox event has been waiting")
+        .register(registry);
+    TimeGauge.builder("outbox.last.relayed.lag", this, TimeUnit.MILLISECONDS, relay -> relay.lastLag.toMillis())
+        .description("How long the oldest event of the last batch sent had waited")
+        .register(registry);
+  }
+
+  private long pending() {
+    return this.repository.count();
+  }
+
+  private Duration lag() {
+    return this.repository.findFirstByOrderByIdAsc()
+        .map(oldest -> Duration.between(oldest.getCreatedAt(), InstantUtils.now()))
+        .orElse(Duration.ZERO);
+  }
+
+  /**
+   * @param relayed events sent
+   * @param failures attempts that failed
+   * @param pending events waiting to be sent
+   * @param lag how long the oldest pending event has been waiting
+   * @param lastRelayedLag how long the oldest event of the last batch sent had waited
+   */
+  public record Stats(long relayed, long failures, long pending, Duration lag, Duration lastRelayedLag) {
+  }
+}
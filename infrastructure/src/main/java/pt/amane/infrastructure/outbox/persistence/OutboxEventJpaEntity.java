@@ -0,0 +1,126 @@
+package pt.amane.infrastructure.outbox.persistence;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.Duration;
+import java.time.Instant;
+import pt.amane.domain.event.DomainEvent;
+import pt.amane.infrastructure.configuration.json.Json;
+
+@Entity(name = "OutboxEvent")
+@Table(name = "outbox_events")
+public class OutboxEventJpaEntity {
+
+  private static final int MAX_ERROR_LENGTH = 1000;
+
+  // the order the events were written in, the events of an aggregate are relayed in this order
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @Column(name = "id")
+  private Long id;
+
+  @Column(name = "aggregate_id", nullable = false, length = 32, columnDefinition = "CHAR(32)")
+  private String aggregateId;
+
+  @Column(name = "type", nullable = false)
+  private String type;
+
+  @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+  private String payload;
+
+  @Column(name = "occurred_on", nullable = false, columnDefinition = "DATETIME(6)")
+  private Instant occurredOn;
+
+  @Column(name = "created_at", nullable = false, columnDefinition = "DATETIME(6)")
+  private Instant createdAt;
+
+  @Column(name = "attempts", nullable = false)
+  private int attempts;
+
+  @Column(name = "next_attempt_at", nullable = false, columnDefinition = "DATETIME(6)")
+  private Instant nextAttemptAt;
+
+  @Column(name = "last_error", length = MAX_ERROR_LENGTH)
+  private String lastError;
+
+  public OutboxEventJpaEntity() {
+  }
+
+  private OutboxEventJpaEntity(
+      final String aggregateId,
+      final String type,
+      final String payload,
+      final Instant occurredOn,
+      final Instant createdAt
+  ) {
+    this.aggregateId = aggregateId;
+    this.type = type;
+    this.payload = payload;
+    this.occurredOn = occurredOn;
+    this.createdAt = createdAt;
+    this.attempts = 0;
+    this.nextAttemptAt = createdAt;
+  }
+
+  public static OutboxEventJpaEntity from(final String anAggregateId, final DomainEvent anEvent, final Instant now) {
+    return new OutboxEventJpaEntity(
+        anAggregateId,
+        anEvent.getClass().getSimpleName(),
+        Json.writeValueAsString(anEvent),
+        anEvent.occurredOn(),
+        now
+    );
+  }
+
+  /**
+   * Records a failed attempt, the event is not tried again before the backoff has elapsed.
+   * @param now
+   * @param backoff
+   * @param error
+   */
+  public void failed(final Instant now, final Duration backoff, final String error) {
+    this.attempts++;
+    this.nextAttemptAt = now.plus(backoff);
+    this.lastError = error == null || error.length() <= MAX_ERROR_LENGTH ? error : error.substring(0, MAX_ERROR_LENGTH);
+  }
+
+  public Long getId() {
+    return id;
+  }
+
+  public String getAggregateId() {
+    return aggregateId;
+  }
+
+  public String getType() {
+    return type;
+  }
+
+  public String getPayload() {
+    return payload;
+  }
+
+  public Instant getOccurredOn() {
+    return occurredOn;
+  }
+
+  public Instant getCreatedAt() {
+    return createdAt;
+  }
+
+  public int getAttempts() {
+    return attempts;
+  }
+
+  public Instant getNextAttemptAt() {
+    return nextAttemptAt;
+  }
+
+  public String getLastError() {
+    return lastError;
+  }
+}
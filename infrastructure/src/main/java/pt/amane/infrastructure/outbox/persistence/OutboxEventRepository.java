@@ -0,0 +1,38 @@
+package pt.amane.infrastructure.outbox.persistence;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import pt.amane.infrastructure.persistence.PersistExecutor;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEventJpaEntity, Long>,
+    PersistExecutor<OutboxEventJpaEntity> {
+
+  /**
+   * The oldest event of each aggregate, when it is due, oldest first. The next event of an aggregate
+   * is only selected once the previous one was relayed, so they are relayed in order even when
+   * several relays run. The rows locked by another relay are skipped.
+   * @param now
+   * @param limit
+   * @return
+   */
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+  @Query("""
+      select e from OutboxEvent e
+      where e.nextAttemptAt <= :now
+        and not exists (select 1 from OutboxEvent o where o.aggregateId = e.aggregateId and o.id < e.id)
+      order by e.id
+      """)
+  List<OutboxEventJpaEntity> findRelayable(@Param("now") Instant now, Limit limit);
+
+  Optional<OutboxEventJpaEntity> findFirstByOrderByIdAsc();
+}
@@ -0,0 +1,34 @@
+package pt.amane.infrastructure.persistence;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Registers {@value #MATCH_AGAINST}(first, second, query), the relevance of a boolean mode full-text
+ * query on two columns of a FULLTEXT index, zero when they do not match.
+ * Other databases, as H2 in the tests, get a substring match of the query words with a relevance of one.
+ */
+public class FullTextFunctionContributor implements FunctionContributor {
+
+  public static final String MATCH_AGAINST = "match_against";
+
+  private static final String MYSQL_PATTERN = "match(?1, ?2) against(?3 in boolean mode)";
+
+  private static final String FALLBACK_PATTERN =
+      "case when locate(upper(replace(replace(?3, '+', ''), '*', '')), upper(concat(?1, ' ', ?2))) > 0 then 1.0 else 0.0 end";
+
+  @Override
+  public void contributeFunctions(final FunctionContributions functionContributions) {
+    final var doubleType = functionContributions.getTypeConfiguration()
+        .getBasicTypeRegistry()
+        .resolve(StandardBasicTypes.DOUBLE);
+
+    functionContributions.getFunctionRegistry().registerPattern(
+        MATCH_AGAINST,
+        functionContributions.getDialect() instanceof MySQLDialect ? MYSQL_PATTERN : FALLBACK_PATTERN,
+        doubleType
+    );
+  }
+}
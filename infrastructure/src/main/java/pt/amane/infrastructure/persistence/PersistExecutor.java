@@ -0,0 +1,15 @@
+package pt.amane.infrastructure.persistence;
+
+import org.springframework.data.repository.NoRepositoryBean;
+
+@NoRepositoryBean
+public interface PersistExecutor<T> {
+
+  /**
+   * Inserts a new entity and its cascaded children. Unlike save, which merges entities with an assigned id,
+   * nothing is selected first, so the inserts can be sent in JDBC batches.
+   * @param entity
+   * @return
+   */
+  <S extends T> S persist(S entity);
+}
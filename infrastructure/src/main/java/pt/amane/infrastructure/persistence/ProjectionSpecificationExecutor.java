@@ -0,0 +1,29 @@
+package pt.amane.infrastructure.persistence;
+
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.repository.NoRepositoryBean;
+
+/**
+ * Reads only some attributes of the matching entities into a DTO, through its constructor,
+ * so the entities and their associations are never loaded.
+ */
+@NoRepositoryBean
+public interface ProjectionSpecificationExecutor<T> {
+
+  /**
+   * @param spec
+   * @param pageable
+   * @param withTotal whether to count the matching rows, returning a {@link org.springframework.data.domain.Page},
+   *                  otherwise one row more than the page size is read to tell whether there is a next page
+   * @param type the DTO, with a constructor taking the attributes in order
+   * @param attributes
+   * @return
+   */
+  <R> Slice<R> findProjection(Specification<T> spec, Pageable pageable, boolean withTotal, Class<R> type, String... attributes);
+
+  <R> List<R> findProjection(Specification<T> spec, Sort sort, int limit, Class<R> type, String... attributes);
+}
@@ -0,0 +1,19 @@
+package pt.amane.infrastructure.persistence;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.repository.NoRepositoryBean;
+
+@NoRepositoryBean
+public interface SliceSpecificationExecutor<T> {
+
+  /**
+   * Reads a page without counting the matching rows, one row more than the page size is read
+   * to tell whether there is a next page.
+   * @param spec
+   * @param pageable
+   * @return
+   */
+  Slice<T> findSlice(Specification<T> spec, Pageable pageable);
+}
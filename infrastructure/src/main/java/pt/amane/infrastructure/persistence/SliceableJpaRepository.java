@@ -0,0 +1,164 @@
+package pt.amane.infrastructure.persistence;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.Selection;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.jpa.repository.support.JpaEntityInformation;
+import org.springframework.data.jpa.repository.support.SimpleJpaRepository;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Base class of every repository, see {@link pt.amane.infrastructure.configuration.JpaConfig}.
+ */
+public class SliceableJpaRepository<T, ID> extends SimpleJpaRepository<T, ID>
+    implements SliceSpecificationExecutor<T>, ProjectionSpecificationExecutor<T>, PersistExecutor<T>, StreamExecutor<T> {
+
+  private final EntityManager entityManager;
+
+  public SliceableJpaRepository(
+      final JpaEntityInformation<T, ?> entityInformation,
+      final EntityManager entityManager
+  ) {
+    super(entityInformation, entityManager);
+    this.entityManager = entityManager;
+  }
+
+  @Override
+  @Transactional
+  public <S extends T> S persist(final S entity) {
+    this.entityManager.persist(entity);
+    return entity;
+  }
+
+  @Override
+  public Slice<T> findSlice(final Specification<T> spec, final Pageable pageable) {
+    final var query = getQuery(spec, pageable.getSort());
+    query.setFirstResult(Math.toIntExact(pageable.getOffset()));
+    query.setMaxResults(pageable.getPageSize() + 1);
+
+    final var rows = query.getResultList();
+    final var hasNext = rows.size() > pageable.getPageSize();
+
+    return new SliceImpl<>(hasNext ? rows.subList(0, pageable.getPageSize()) : rows, pageable, hasNext);
+  }
+
+  @Override
+  public <R> Slice<R> findProjection(
+      final Specification<T> spec,
+      final Pageable pageable,
+      final boolean withTotal,
+      final Class<R> type,
+      final String... attributes
+  ) {
+    final var query = getProjectionQuery(spec, pageable.getSort(), type, attributes);
+    query.setFirstResult(Math.toIntExact(pageable.getOffset()));
+
+    if (withTotal) {
+      query.setMaxResults(pageable.getPageSize());
+      // the count query is skipped when the page tells the total
+      return PageableExecutionUtils.getPage(query.getResultList(), pageable, () -> count(spec));
+    }
+
+    query.setMaxResults(pageable.getPageSize() + 1);
+
+    final var rows = query.getResultList();
+    final var hasNext = rows.size() > pageable.getPageSize();
+
+    return new SliceImpl<>(hasNext ? rows.subList(0, pageable.getPageSize()) : rows, pageable, hasNext);
+  }
+
+  @Override
+  public <R> List<R> findProjection(
+      final Specification<T> spec,
+      final Sort sort,
+      final int limit,
+      final Class<R> type,
+      final String... attributes
+  ) {
+    return getProjectionQuery(spec, sort, type, attributes)
+        .setMaxResults(limit)
+        .getResultList();
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public void stream(
+      final Specification<T> spec,
+      final Sort sort,
+      final int fetchSize,
+      final Consumer<? super T> consumer
+  ) {
+    final var query = streaming(getQuery(spec, sort), fetchSize);
+
+    try (final var rows = query.getResultStream()) {
+      rows.forEach(entity -> {
+        consumer.accept(entity);
+        this.entityManager.detach(entity);
+      });
+    }
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public <R> void streamProjection(
+      final Specification<T> spec,
+      final Sort sort,
+      final int fetchSize,
+      final Consumer<? super R> consumer,
+      final Class<R> type,
+      final String... attributes
+  ) {
+    final var query = streaming(getProjectionQuery(spec, sort, type, attributes), fetchSize);
+
+    try (final var rows = query.getResultStream()) {
+      rows.forEach(consumer);
+    }
+  }
+
+  private static <R> TypedQuery<R> streaming(final TypedQuery<R> query, final int fetchSize) {
+    return query
+        .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+        .setHint(HibernateHints.HINT_READ_ONLY, true);
+  }
+
+  private <R> TypedQuery<R> getProjectionQuery(
+      final Specification<T> spec,
+      final Sort sort,
+      final Class<R> type,
+      final String... attributes
+  ) {
+    final var criteriaBuilder = this.entityManager.getCriteriaBuilder();
+    final var query = criteriaBuilder.createQuery(type);
+    final var root = query.from(getDomainClass());
+
+    if (spec != null) {
+      final var predicate = spec.toPredicate(root, query, criteriaBuilder);
+      if (predicate != null) {
+        query.where(predicate);
+      }
+    }
+
+    query.select(criteriaBuilder.construct(
+        type,
+        Arrays.stream(attributes).map(root::get).toArray(Selection<?>[]::new)
+    ));
+
+    // a specification may have set the order itself
+    if (sort.isSorted()) {
+      query.orderBy(QueryUtils.toOrders(sort, root, criteriaBuilder));
+    }
+
+    return this.entityManager.createQuery(query);
+  }
+}
@@ -0,0 +1,35 @@
+package pt.amane.infrastructure.persistence;
+
+import java.util.function.Consumer;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.repository.NoRepositoryBean;
+
+/**
+ * Reads all the matching rows through a single forward-only result set, handing them one by one
+ * to a consumer, so the memory used does not grow with the table.
+ * The fetch size is given to the driver as is: MySQL streams the rows one at a time with {@link Integer#MIN_VALUE},
+ * no other statement can then run on the connection until the last row is read.
+ */
+@NoRepositoryBean
+public interface StreamExecutor<T> {
+
+  /**
+   * Each entity is detached once consumed. Its associations must be fetched by the specification,
+   * loading them afterwards would need another statement.
+   * @param spec
+   * @param sort
+   * @param fetchSize
+   * @param consumer
+   */
+  void stream(Specification<T> spec, Sort sort, int fetchSize, Consumer<? super T> consumer);
+
+  <R> void streamProjection(
+      Specification<T> spec,
+      Sort sort,
+      int fetchSize,
+      Consumer<? super R> consumer,
+      Class<R> type,
+      String... attributes
+  );
+}
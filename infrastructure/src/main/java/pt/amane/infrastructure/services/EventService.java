@@ -1,5 +1,21 @@
 package pt.amane.infrastructure.services;
 
+import java.util.List;
+
 public interface EventService {
   void send(Object event);
+
+  /**
+   * Sends an event already written as JSON, as {@link #send(Object)} writes it.
+   * @param json
+   */
+  void sendJson(String json);
+
+  /**
+   * Sends the events in order, returning once all of them were accepted, a failure may leave some of them sent.
+   * @param jsons
+   */
+  default void sendAllJson(final List<String> jsons) {
+    jsons.forEach(this::sendJson);
+  }
 }
@@ -9,10 +9,30 @@ import pt.amane.domain.video.Resource;
  */
 public interface StorageService {
 
-  void store(String id, Resource resource);
+  /**
+   * Stores the resource, streamed resources are copied without being loaded in memory.
+   * @param id
+   * @param resource
+   * @return the checksum of the stored content
+   */
+  String store(String id, Resource resource);
 
+  /**
+   * Reads the whole content in memory, meant for small resources such as the images.
+   * The medias are read with {@link #open(String)}.
+   * @param id
+   * @return
+   */
   Optional<Resource> get(String id);
 
+  /**
+   * Opens the resource without reading its content, which is then read by byte ranges
+   * through {@link Resource#transferTo(long, long, java.nio.channels.WritableByteChannel)}.
+   * @param id
+   * @return
+   */
+  Optional<Resource> open(String id);
+
   List<String> list(String prefix);
 
   void deleteAll(final List<String> ids);
@@ -0,0 +1,249 @@
+package pt.amane.infrastructure.services.impl;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import pt.amane.infrastructure.configuration.json.Json;
+import pt.amane.infrastructure.services.EventService;
+
+/**
+ * Puts the events in a bounded buffer and publishes them from a dedicated thread, taking from the buffer
+ * as many as fit in a batch and handing them to the delegate in one call, so a slow broker costs one round trip
+ * per batch instead of one per event. A caller waits only when the buffer is full, and fails when it stays full
+ * for the offer timeout.
+ * {@link #send(Object)} and {@link #sendJson(String)} return once the event is buffered, an event whose batch
+ * could not be published is logged and dropped. {@link #sendAllJson(List)} waits for the batches holding its events
+ * and fails as they do, it is what the callers that cannot lose an event use.
+ */
+public class BufferedEventService implements EventService {
+
+  private static final Logger log = LoggerFactory.getLogger(BufferedEventService.class);
+
+  private static final long POLL_MILLIS = 100;
+  private static final Duration STOP_TIMEOUT = Duration.ofSeconds(10);
+
+  private final EventService delegate;
+  private final BlockingQueue<Pending> buffer;
+  private final int capacity;
+  private final int batchSize;
+  private final Duration offerTimeout;
+  private final Thread publisher;
+
+  private final AtomicLong published;
+  private final AtomicLong failed;
+  private final AtomicLong rejected;
+  private final AtomicLong batches;
+  private final AtomicLong batchNanos;
+  private volatile Duration lastBatchLatency;
+  private volatile boolean running;
+
+  public BufferedEventService(
+      final EventService delegate,
+      final int capacity,
+      final int batchSize,
+      final Duration offerTimeout
+  ) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("'capacity' should be greater than zero");
+    }
+    if (batchSize <= 0) {
+      throw new IllegalArgumentException("'batchSize' should be greater than zero");
+    }
+    this.delegate = Objects.requireNonNull(delegate);
+    this.buffer = new ArrayBlockingQueue<>(capacity);
+    this.capacity = capacity;
+    this.batchSize = batchSize;
+    this.offerTimeout = Objects.requireNonNull(offerTimeout);
+    this.published = new AtomicLong();
+    this.failed = new AtomicLong();
+    this.rejected = new AtomicLong();
+    this.batches = new AtomicLong();
+    this.batchNanos = new AtomicLong();
+    this.lastBatchLatency = Duration.ZERO;
+    this.running = true;
+    this.publisher = new Thread(this::publishLoop, "event-publisher");
+    this.publisher.setDaemon(true);
+    this.publisher.start();
+  }
+
+  @Override
+  public void send(final Object event) {
+    sendJson(Json.writeValueAsString(event));
+  }
+
+  @Override
+  public void sendJson(final String json) {
+    enqueue(json);
+  }
+
+  @Override
+  public void sendAllJson(final List<String> jsons) {
+    final var done = jsons.stream().map(this::enqueue).toArray(CompletableFuture[]::new);
+    try {
+      CompletableFuture.allOf(done).join();
+    } catch (final CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * Publishes what is already buffered and stops, the events still buffered after the stop timeout fail.
+   */
+  @PreDestroy
+  public void stop() {
+    this.running = false;
+    try {
+      this.publisher.join(STOP_TIMEOUT.toMillis());
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    final var left = new ArrayList<Pending>();
+    this.buffer.drainTo(left);
+    if (!left.isEmpty()) {
+      log.warn("Dropping {} buffered events, the publisher is stopped", left.size());
+      fail(left, new IllegalStateException("The event publisher is stopped"));
+    }
+  }
+
+  public Stats stats() {
+    final var count = this.batches.get();
+    return new Stats(
+        this.buffer.size(),
+        this.capacity,
+        this.published.get(),
+        this.failed.get(),
+        this.rejected.get(),
+        this.lastBatchLatency,
+        count == 0 ? Duration.ZERO : Duration.ofNanos(this.batchNanos.get() / count)
+    );
+  }
+
+  /**
+   * Publishes the stats as Micrometer meters named events.publisher.*.
+   * @param registry
+   */
+  public void bindTo(final MeterRegistry registry) {
+    Gauge.builder("events.publisher.buffer.depth", this.buffer, BlockingQueue::size)
+        .description("Events waiting in the buffer")
+        .register(registry);
+    Gauge.builder("events.publisher.buffer.capacity", this, service -> service.capacity)
+        .description("Events the buffer holds before the callers wait")
+        .register(registry);
+    FunctionCounter.builder("events.publisher.published", this.published, AtomicLong::get)
+        .description("Events the broker accepted")
+        .register(registry);
+    FunctionCounter.builder("events.publisher.failed", this.failed, AtomicLong::get)
+        .description("Events whose batch could not be published")
+        .register(registry);
+    FunctionCounter.builder("events.publisher.rejected", this.rejected, AtomicLong::get)
+        .description("Events refused because the buffer stayed full")
+        .register(registry);
+    TimeGauge.builder("events.publisher.batch.latency.last", this, TimeUnit.NANOSECONDS,
+            service -> service.stats().lastBatchLatency().toNanos())
+        .description("How long the last batch took to be published and confirmed")
+        .register(registry);
+    TimeGauge.builder("events.publisher.batch.latency.average", this, TimeUnit.NANOSECONDS,
+            service -> service.stats().averageBatchLatency().toNanos())
+        .description("How long a batch took to be published and confirmed, averaged over all of them")
+        .register(registry);
+  }
+
+  private CompletableFuture<Void> enqueue(final String json) {
+    if (!this.running) {
+      throw new IllegalStateException("The event publisher is stopped");
+    }
+    final var pending = new Pending(json, new CompletableFuture<>());
+    try {
+      if (!this.buffer.offer(pending, this.offerTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+        this.rejected.incrementAndGet();
+        throw new IllegalStateException("The event buffer stayed full for %s".formatted(this.offerTimeout));
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for room in the event buffer", e);
+    }
+    return pending.done();
+  }
+
+  private void publishLoop() {
+    final var batch = new ArrayList<Pending>(this.batchSize);
+    while (this.running || !this.buffer.isEmpty()) {
+      try {
+        final var first = this.buffer.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+        if (first == null) {
+          continue;
+        }
+        batch.add(first);
+        this.buffer.drainTo(batch, this.batchSize - 1);
+        publish(batch);
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      } finally {
+        batch.clear();
+      }
+    }
+  }
+
+  private void publish(final List<Pending> batch) {
+    final var start = System.nanoTime();
+    try {
+      this.delegate.sendAllJson(batch.stream().map(Pending::json).toList());
+    } catch (final RuntimeException e) {
+      log.error("Could not publish a batch of {} events", batch.size(), e);
+      fail(batch, e);
+      return;
+    }
+    final var latency = System.nanoTime() - start;
+    this.batches.incrementAndGet();
+    this.batchNanos.addAndGet(latency);
+    this.lastBatchLatency = Duration.ofNanos(latency);
+    this.published.addAndGet(batch.size());
+    batch.forEach(pending -> pending.done().complete(null));
+  }
+
+  private void fail(final List<Pending> pending, final RuntimeException e) {
+    this.failed.addAndGet(pending.size());
+    pending.forEach(aPending -> aPending.done().completeExceptionally(e));
+  }
+
+  /**
+   * @param depth events waiting in the buffer
+   * @param capacity events the buffer holds before the callers wait
+   * @param published events the broker accepted
+   * @param failed events whose batch could not be published
+   * @param rejected events refused because the buffer stayed full
+   * @param lastBatchLatency how long the last batch took to be published and confirmed
+   * @param averageBatchLatency the same, averaged over all the batches published
+   */
+  public record Stats(
+      int depth,
+      int capacity,
+      long published,
+      long failed,
+      long rejected,
+      Duration lastBatchLatency,
+      Duration averageBatchLatency
+  ) {
+  }
+
+  private record Pending(String json, CompletableFuture<Void> done) {
+  }
+}
@@ -0,0 +1,275 @@
+package pt.amane.infrastructure.services.impl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.stream.Stream;
+import pt.amane.domain.exception.InternalErrorException;
+import pt.amane.domain.video.Resource;
+import pt.amane.domain.video.ResourceContent;
+import pt.amane.infrastructure.services.StorageService;
+import pt.amane.infrastructure.utils.HashingUtils;
+
+/**
+ * Stores each resource as a file under the root location (local disk or NFS mount), next to a
+ * {@value #METADATA_SUFFIX} file holding its checksum, content type and name.
+ * Writes go to a temporary file in the same directory and are published with an atomic rename,
+ * so readers never see a partially written resource.
+ */
+public class FileSystemStorageService implements StorageService {
+
+  static final String METADATA_SUFFIX = ".meta";
+  static final String TEMP_PREFIX = ".upload-";
+
+  private static final String CHECKSUM = "checksum";
+  private static final String CONTENT_TYPE = "contentType";
+  private static final String NAME = "name";
+
+  // images and other small resources, the medias are read with open
+  private static final long DEFAULT_MAX_GET_BYTES = 64L * 1024 * 1024;
+
+  private final Path root;
+  private final long maxGetBytes;
+
+  public FileSystemStorageService(final Path root) {
+    this(root, DEFAULT_MAX_GET_BYTES);
+  }
+
+  public FileSystemStorageService(final Path root, final long maxGetBytes) {
+    if (maxGetBytes <= 0 || maxGetBytes > Integer.MAX_VALUE - 8) {
+      throw new IllegalArgumentException("'maxGetBytes' should be greater than zero and fit in an array");
+    }
+    this.maxGetBytes = maxGetBytes;
+    try {
+      this.root = Files.createDirectories(root).toAbsolutePath().normalize();
+    } catch (final IOException e) {
+      throw new UncheckedIOException("Could not create storage root %s".formatted(root), e);
+    }
+  }
+
+  @Override
+  public String store(final String id, final Resource resource) {
+    final var target = pathOf(id);
+
+    try {
+      Files.createDirectories(target.getParent());
+
+      final String checksum;
+      final var content = Files.createTempFile(target.getParent(), TEMP_PREFIX, null);
+      try (
+          final var in = resource.openStream();
+          final var channel = FileChannel.open(content, StandardOpenOption.WRITE)
+      ) {
+        final var computed = HashingUtils.copy(in, Channels.newOutputStream(channel));
+        checksum = resource.isStreamed() ? computed : resource.checksum();
+        channel.force(true);
+      } catch (final IOException e) {
+        Files.deleteIfExists(content);
+        throw e;
+      }
+
+      final var metadata = new Properties();
+      metadata.setProperty(CHECKSUM, checksum);
+      metadata.setProperty(CONTENT_TYPE, resource.contentType());
+      metadata.setProperty(NAME, resource.name());
+
+      final var metadataFile = Files.createTempFile(target.getParent(), TEMP_PREFIX, null);
+      try (final var out = Files.newOutputStream(metadataFile)) {
+        metadata.store(out, null);
+      }
+
+      // metadata goes first, so a visible content always has its metadata
+      move(metadataFile, metadataOf(target));
+      move(content, target);
+
+      return checksum;
+    } catch (final IOException e) {
+      throw InternalErrorException.with("Could not store resource %s".formatted(id), e);
+    }
+  }
+
+  /**
+   * Reads the whole content on the heap, so only resources up to the configured size are read,
+   * the larger ones are refused and should be read with {@link #open(String)}.
+   */
+  @Override
+  public Optional<Resource> get(final String id) {
+    final var path = pathOf(id);
+
+    return readMetadata(path).map(metadata -> {
+      try {
+        final var size = Files.size(path);
+        if (size > this.maxGetBytes) {
+          throw InternalErrorException.with(
+              "Resource %s has %d bytes, more than the %d read in memory, it should be opened"
+                  .formatted(id, size, this.maxGetBytes),
+              null
+          );
+        }
+        final var content = Files.readAllBytes(path);
+
+        return Resource.with(
+            content,
+            metadata.getProperty(CHECKSUM),
+            metadata.getProperty(CONTENT_TYPE),
+            metadata.getProperty(NAME)
+        );
+      } catch (final IOException e) {
+        throw InternalErrorException.with("Could not read resource %s".formatted(id), e);
+      }
+    });
+  }
+
+  @Override
+  public Optional<Resource> open(final String id) {
+    final var path = pathOf(id);
+
+    return readMetadata(path).map(metadata -> {
+      try {
+        return Resource.with(
+            new FileContent(path),
+            Files.size(path),
+            metadata.getProperty(CHECKSUM),
+            metadata.getProperty(CONTENT_TYPE),
+            metadata.getProperty(NAME)
+        );
+      } catch (final IOException e) {
+        throw InternalErrorException.with("Could not open resource %s".formatted(id), e);
+      }
+    });
+  }
+
+  /**
+   * Walks only the entries whose name starts with the last segment of the prefix,
+   * instead of every stored resource.
+   */
+  @Override
+  public List<String> list(final String prefix) {
+    final var separator = prefix.lastIndexOf('/');
+    final var directory = separator < 0 ? this.root : pathOf(prefix.substring(0, separator));
+    final var namePrefix = prefix.substring(separator + 1);
+
+    if (!Files.isDirectory(directory)) {
+      return List.of();
+    }
+
+    try (final var children = Files.list(directory)) {
+      return children
+          .filter(it -> it.getFileName().toString().startsWith(namePrefix))
+          .flatMap(this::walk)
+          .filter(this::isResource)
+          .map(this::idOf)
+          .toList();
+    } catch (final IOException e) {
+      throw InternalErrorException.with("Could not list resources %s".formatted(prefix), e);
+    }
+  }
+
+  @Override
+  public void deleteAll(final List<String> ids) {
+    if (ids == null || ids.isEmpty()) {
+      return;
+    }
+
+    ids.forEach(this::delete);
+  }
+
+  private void delete(final String id) {
+    final var path = pathOf(id);
+    try {
+      Files.deleteIfExists(path);
+      Files.deleteIfExists(metadataOf(path));
+    } catch (final IOException e) {
+      throw InternalErrorException.with("Could not delete resource %s".formatted(id), e);
+    }
+  }
+
+  private Optional<Properties> readMetadata(final Path path) {
+    if (!Files.isRegularFile(path)) {
+      return Optional.empty();
+    }
+
+    try (final var in = Files.newInputStream(metadataOf(path))) {
+      final var metadata = new Properties();
+      metadata.load(in);
+      return Optional.of(metadata);
+    } catch (final NoSuchFileException e) {
+      return Optional.empty();
+    } catch (final IOException e) {
+      throw InternalErrorException.with("Could not read metadata of %s".formatted(path), e);
+    }
+  }
+
+  private Stream<Path> walk(final Path path) {
+    try (final var paths = Files.walk(path)) {
+      return paths.toList().stream();
+    } catch (final NoSuchFileException e) {
+      return Stream.empty();
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private boolean isResource(final Path path) {
+    final var name = path.getFileName().toString();
+    return Files.isRegularFile(path) && !name.startsWith(TEMP_PREFIX) && !name.endsWith(METADATA_SUFFIX);
+  }
+
+  private Path pathOf(final String id) {
+    final var path = this.root.resolve(id).normalize();
+    if (!path.startsWith(this.root) || path.equals(this.root)) {
+      throw new IllegalArgumentException("Invalid resource id %s".formatted(id));
+    }
+    return path;
+  }
+
+  private String idOf(final Path path) {
+    return this.root.relativize(path).toString().replace(path.getFileSystem().getSeparator(), "/");
+  }
+
+  private static Path metadataOf(final Path path) {
+    return path.resolveSibling(path.getFileName() + METADATA_SUFFIX);
+  }
+
+  private static void move(final Path source, final Path target) throws IOException {
+    Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+  }
+
+  private record FileContent(Path path) implements ResourceContent {
+
+    @Override
+    public InputStream open() throws IOException {
+      return Files.newInputStream(path);
+    }
+
+    /**
+     * Lets the kernel copy the range (sendfile when the target is a socket or a file)
+     * instead of reading it through a heap buffer.
+     */
+    @Override
+    public long transferTo(final long position, final long count, final WritableByteChannel target) throws IOException {
+      try (final var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+        var transferred = 0L;
+        while (transferred < count) {
+          final var sent = channel.transferTo(position + transferred, count - transferred, target);
+          if (sent <= 0) {
+            break;
+          }
+          transferred += sent;
+        }
+        return transferred;
+      }
+    }
+  }
+}
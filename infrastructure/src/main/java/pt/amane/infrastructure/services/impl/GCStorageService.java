@@ -3,11 +3,19 @@ package pt.amane.infrastructure.services.impl;
 import com.google.cloud.storage.BlobId;
 import com.google.cloud.storage.BlobInfo;
 import com.google.cloud.storage.Storage;
+import com.google.common.io.ByteStreams;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.StreamSupport;
+import pt.amane.domain.exception.InternalErrorException;
 import pt.amane.domain.video.Resource;
+import pt.amane.domain.video.ResourceContent;
 import pt.amane.infrastructure.services.StorageService;
+import pt.amane.infrastructure.utils.HashingUtils;
 
 public class GCStorageService implements StorageService {
 
@@ -20,13 +28,29 @@ public class GCStorageService implements StorageService {
   }
 
   @Override
-  public void store(final String id, final Resource resource) {
+  public String store(final String id, final Resource resource) {
+    if (!resource.isStreamed()) {
+      final var info = BlobInfo.newBuilder(this.bucket, id)
+          .setContentType(resource.contentType())
+          .setCrc32cFromHexString(resource.checksum())
+          .build();
+
+      this.storage.create(info, resource.content());
+      return resource.checksum();
+    }
+
     final var info = BlobInfo.newBuilder(this.bucket, id)
         .setContentType(resource.contentType())
-        .setCrc32cFromHexString(resource.checksum())
         .build();
 
-    this.storage.create(info, resource.content());
+    try (
+        final var in = resource.openStream();
+        final var out = Channels.newOutputStream(this.storage.writer(info))
+    ) {
+      return HashingUtils.copy(in, out);
+    } catch (final IOException e) {
+      throw InternalErrorException.with("Could not store resource %s".formatted(id), e);
+    }
   }
 
   @Override
@@ -40,6 +64,18 @@ public class GCStorageService implements StorageService {
         ));
   }
 
+  @Override
+  public Optional<Resource> open(final String id) {
+    return Optional.ofNullable(this.storage.get(this.bucket, id))
+        .map(blob -> Resource.with(
+            new BlobContent(blob.getBlobId()),
+            blob.getSize(),
+            blob.getCrc32cToHexString(),
+            blob.getContentType(),
+            blob.getName()
+        ));
+  }
+
   @Override
   public List<String> list(final String prefix) {
     final var blobs = this.storage.list(bucket, Storage.BlobListOption.prefix(prefix));
@@ -61,4 +97,27 @@ public class GCStorageService implements StorageService {
 
     this.storage.delete(blobs);
   }
+
+  private class BlobContent implements ResourceContent {
+
+    private final BlobId blobId;
+
+    private BlobContent(final BlobId blobId) {
+      this.blobId = blobId;
+    }
+
+    @Override
+    public InputStream open() {
+      return Channels.newInputStream(storage.reader(blobId));
+    }
+
+    @Override
+    public long transferTo(final long position, final long count, final WritableByteChannel target) throws IOException {
+      try (final var reader = storage.reader(blobId)) {
+        reader.seek(position);
+        reader.limit(position + count);
+        return ByteStreams.copy(reader, target);
+      }
+    }
+  }
 }
@@ -1,28 +1,70 @@
 package pt.amane.infrastructure.services.impl;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.Objects;
 import org.springframework.amqp.rabbit.core.RabbitOperations;
 import pt.amane.infrastructure.configuration.json.Json;
 import pt.amane.infrastructure.services.EventService;
 
+/**
+ * Publishes the events to an exchange. With a confirm timeout the events of a call are published on one channel
+ * and the call returns once the broker confirmed all of them, the connection factory should have publisher confirms
+ * enabled ({@code spring.rabbitmq.publisher-confirm-type: simple}).
+ */
 public class RabbitEventService implements EventService {
 
   private final String exchange;
   private final String routingKey;
   private final RabbitOperations ops;
+  private final Duration confirmTimeout;
 
   public RabbitEventService(
       final String exchange,
       final String routingKey,
       final RabbitOperations ops
+  ) {
+    this(exchange, routingKey, ops, Duration.ZERO);
+  }
+
+  /**
+   * @param confirmTimeout how long to wait for the confirms of a call, zero not to wait for them
+   */
+  public RabbitEventService(
+      final String exchange,
+      final String routingKey,
+      final RabbitOperations ops,
+      final Duration confirmTimeout
   ) {
     this.exchange = Objects.requireNonNull(exchange);
     this.routingKey = Objects.requireNonNull(routingKey);
     this.ops = Objects.requireNonNull(ops);
+    this.confirmTimeout = Objects.requireNonNull(confirmTimeout);
   }
 
   @Override
   public void send(final Object event) {
-    this.ops.convertAndSend(this.exchange, this.routingKey, Json.writeValueAsString(event));
+    sendJson(Json.writeValueAsString(event));
+  }
+
+  @Override
+  public void sendJson(final String json) {
+    sendAllJson(List.of(json));
+  }
+
+  @Override
+  public void sendAllJson(final List<String> jsons) {
+    if (jsons.isEmpty()) {
+      return;
+    }
+    if (this.confirmTimeout.isZero()) {
+      jsons.forEach(json -> this.ops.convertAndSend(this.exchange, this.routingKey, json));
+      return;
+    }
+    this.ops.invoke(channel -> {
+      jsons.forEach(json -> channel.convertAndSend(this.exchange, this.routingKey, json));
+      channel.waitForConfirmsOrDie(this.confirmTimeout.toMillis());
+      return null;
+    });
   }
 }
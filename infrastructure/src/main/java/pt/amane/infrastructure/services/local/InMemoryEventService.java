@@ -11,6 +11,11 @@ public class InMemoryEventService implements EventService {
 
   @Override
   public void send(Object event) {
-    LOGGER.info("Event was observed: {}", Json.writeValueAsString(event));
+    sendJson(Json.writeValueAsString(event));
+  }
+
+  @Override
+  public void sendJson(final String json) {
+    LOGGER.info("Event was observed: {}", json);
   }
 }
\ No newline at end of file
@@ -1,47 +1,227 @@
 package pt.amane.infrastructure.services.local;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import pt.amane.domain.exception.InternalErrorException;
 import pt.amane.domain.video.Resource;
+import pt.amane.domain.video.ResourceContent;
 import pt.amane.infrastructure.services.StorageService;
+import pt.amane.infrastructure.utils.HashingUtils;
 
+/**
+ * Development and test storage keeping the payloads off-heap, in direct buffers.
+ * The total size is bounded by a byte budget, the least recently used resources are evicted to make room.
+ * Ids are kept sorted, so {@link #list(String)} only visits the ids sharing the prefix.
+ */
 public class InMemoryStorageService implements StorageService {
 
-  private final Map<String, Resource> storage;
+  public static final long DEFAULT_MAX_BYTES = 256L * 1024 * 1024;
+
+  private final long maxBytes;
+
+  private final ConcurrentSkipListMap<String, Entry> storage;
+
+  // access ordered, guarded by itself, with usedBytes
+  private final LinkedHashMap<String, Entry> recency;
+
+  private long usedBytes;
 
   public InMemoryStorageService() {
-    this.storage = new ConcurrentHashMap<>();
+    this(DEFAULT_MAX_BYTES);
+  }
+
+  public InMemoryStorageService(final long maxBytes) {
+    if (maxBytes <= 0) {
+      throw new IllegalArgumentException("'maxBytes' should be greater than zero");
+    }
+    this.maxBytes = maxBytes;
+    this.storage = new ConcurrentSkipListMap<>();
+    this.recency = new LinkedHashMap<>(16, 0.75f, true);
   }
 
   public void clear() {
-    this.storage.clear();
+    synchronized (this.recency) {
+      this.storage.clear();
+      this.recency.clear();
+      this.usedBytes = 0;
+    }
+  }
+
+  public int size() {
+    return this.storage.size();
+  }
+
+  public long usedBytes() {
+    synchronized (this.recency) {
+      return this.usedBytes;
+    }
   }
 
-  public Map<String, Resource> storage() {
-    return this.storage;
+  public long maxBytes() {
+    return this.maxBytes;
   }
 
   @Override
-  public void store(final String id, final Resource resource) {
-    this.storage.put(id, resource);
+  public String store(final String id, final Resource resource) {
+    if (resource.length() > this.maxBytes) {
+      throw InternalErrorException.with(
+          "Resource %s has %d bytes, more than the storage budget of %d bytes".formatted(id, resource.length(), this.maxBytes),
+          null
+      );
+    }
+
+    final var payload = ByteBuffer.allocateDirect(Math.toIntExact(resource.length()));
+    final String checksum;
+
+    if (resource.isStreamed()) {
+      try (final var in = resource.openStream()) {
+        checksum = HashingUtils.copy(in, payload);
+      } catch (final IOException e) {
+        throw InternalErrorException.with("Could not store resource %s".formatted(id), e);
+      }
+    } else {
+      payload.put(resource.content());
+      checksum = resource.checksum();
+    }
+
+    put(id, new Entry(payload.flip().asReadOnlyBuffer(), checksum, resource.contentType(), resource.name()));
+    return checksum;
   }
 
   @Override
   public Optional<Resource> get(final String id) {
-    return Optional.ofNullable(this.storage.get(id));
+    return touch(id).map(entry -> {
+      final var content = new byte[entry.payload().remaining()];
+      entry.payload().duplicate().get(content);
+      return Resource.with(content, entry.checksum(), entry.contentType(), entry.name());
+    });
+  }
+
+  @Override
+  public Optional<Resource> open(final String id) {
+    return touch(id).map(entry -> Resource.with(
+        new BufferContent(entry.payload()),
+        entry.payload().remaining(),
+        entry.checksum(),
+        entry.contentType(),
+        entry.name()
+    ));
   }
 
   @Override
   public List<String> list(final String prefix) {
-    return this.storage.keySet().stream()
-        .filter(it -> it.startsWith(prefix))
-        .toList();
+    if (prefix.isEmpty()) {
+      return new ArrayList<>(this.storage.keySet());
+    }
+    return new ArrayList<>(this.storage.subMap(prefix, true, prefix + Character.MAX_VALUE, false).keySet());
   }
 
   @Override
   public void deleteAll(final List<String> ids) {
-    ids.forEach(this.storage::remove);
+    if (ids == null || ids.isEmpty()) {
+      return;
+    }
+
+    synchronized (this.recency) {
+      ids.forEach(this::remove);
+    }
+  }
+
+  private void put(final String id, final Entry entry) {
+    synchronized (this.recency) {
+      remove(id);
+
+      final var eldest = this.recency.entrySet().iterator();
+      while (this.usedBytes + entry.size() > this.maxBytes && eldest.hasNext()) {
+        final var evicted = eldest.next();
+        eldest.remove();
+        this.storage.remove(evicted.getKey());
+        this.usedBytes -= evicted.getValue().size();
+      }
+
+      this.recency.put(id, entry);
+      this.storage.put(id, entry);
+      this.usedBytes += entry.size();
+    }
+  }
+
+  private void remove(final String id) {
+    final var removed = this.recency.remove(id);
+    if (removed != null) {
+      this.storage.remove(id);
+      this.usedBytes -= removed.size();
+    }
+  }
+
+  private Optional<Entry> touch(final String id) {
+    final var entry = this.storage.get(id);
+    if (entry != null) {
+      synchronized (this.recency) {
+        this.recency.get(id);
+      }
+    }
+    return Optional.ofNullable(entry);
+  }
+
+  private record Entry(ByteBuffer payload, String checksum, String contentType, String name) {
+
+    long size() {
+      return payload.capacity();
+    }
+  }
+
+  /**
+   * Reads a duplicate of the payload, so it stays readable after an eviction and concurrent readers
+   * do not share positions.
+   */
+  private record BufferContent(ByteBuffer payload) implements ResourceContent {
+
+    @Override
+    public InputStream open() {
+      final var buffer = payload.duplicate();
+      return new InputStream() {
+
+        @Override
+        public int read() {
+          return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) {
+          if (len == 0) {
+            return 0;
+          }
+          if (!buffer.hasRemaining()) {
+            return -1;
+          }
+          final var read = Math.min(len, buffer.remaining());
+          buffer.get(b, off, read);
+          return read;
+        }
+
+        @Override
+        public int available() {
+          return buffer.remaining();
+        }
+      };
+    }
+
+    @Override
+    public long transferTo(final long position, final long count, final WritableByteChannel target) throws IOException {
+      final var range = payload.duplicate()
+          .position(Math.toIntExact(position))
+          .limit(Math.toIntExact(position + count));
+      while (range.hasRemaining()) {
+        target.write(range);
+      }
+      return count;
+    }
   }
 }
@@ -0,0 +1,192 @@
+package pt.amane.infrastructure.utils;
+
+import jakarta.persistence.criteria.Path;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import pt.amane.domain.exception.DomainException;
+import pt.amane.domain.pagination.Pagination;
+import pt.amane.domain.validation.Error;
+
+/**
+ * Keyset pagination: a cursor holds the sort key and the id of the last item read, the next page is
+ * selected with a condition on them instead of an offset, so every page costs the same to read.
+ * Null sort keys are expected first in ascending order, as MySQL sorts them.
+ */
+public final class CursorUtils {
+
+  private static final String ID = "id";
+  private static final String SEPARATOR = ".";
+  private static final String VALUE_PREFIX = "v";
+
+  private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+  private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+  private CursorUtils() {}
+
+  public static boolean isPresent(final String cursor) {
+    return cursor != null && !cursor.isBlank();
+  }
+
+  /**
+   * Sorts by the given property then by id, so the items have a total order.
+   */
+  public static Sort sort(final String sort, final String direction) {
+    final var aDirection = Sort.Direction.fromString(direction);
+    final var by = Sort.by(aDirection, sort);
+    return ID.equals(sort) ? by : by.and(Sort.by(aDirection, ID));
+  }
+
+  /**
+   * Selects the items coming after the cursor, in the order given by {@link #sort(String, String)}.
+   */
+  public static <T> Specification<T> after(final String cursor, final String sort, final String direction) {
+    final var position = decode(cursor, sort, direction);
+    final var ascending = Sort.Direction.fromString(direction).isAscending();
+
+    return (root, query, cb) -> {
+      final Path<String> id = root.get(ID);
+      final var idAfter = ascending ? cb.greaterThan(id, position.id()) : cb.lessThan(id, position.id());
+
+      if (ID.equals(sort)) {
+        return idAfter;
+      }
+
+      final Path<Comparable<Object>> key = root.get(sort);
+
+      if (position.value() == null) {
+        return ascending
+            ? cb.or(cb.and(cb.isNull(key), idAfter), cb.isNotNull(key))
+            : cb.and(cb.isNull(key), idAfter);
+      }
+
+      final var value = convert(position.value(), key.getJavaType());
+      final var keyAfter = ascending ? cb.greaterThan(key, value) : cb.lessThan(key, value);
+      final var sameKey = cb.and(cb.equal(key, value), idAfter);
+
+      return ascending
+          ? cb.or(keyAfter, sameKey)
+          : cb.or(keyAfter, sameKey, cb.isNull(key));
+    };
+  }
+
+  /**
+   * Builds the page from rows read with a limit of {@code perPage + 1}, the extra row only tells
+   * there is a next page. The total is not counted.
+   */
+  public static <E, R> Pagination<R> page(
+      final List<E> rows,
+      final int perPage,
+      final String sort,
+      final String direction,
+      final Function<E, R> mapper
+  ) {
+    final var hasNext = rows.size() > perPage;
+    final var items = hasNext ? rows.subList(0, perPage) : rows;
+
+    return new Pagination<>(
+        0,
+        perPage,
+        Pagination.UNKNOWN_TOTAL,
+        items.stream().map(mapper).toList(),
+        hasNext ? cursorOf(items.get(items.size() - 1), sort, direction) : null
+    );
+  }
+
+  /**
+   * Cursor of the last item of an offset page, to continue from it without an offset.
+   */
+  public static String next(final Slice<?> aPage, final String sort, final String direction) {
+    return aPage.hasNext()
+        ? cursorOf(aPage.getContent().get(aPage.getNumberOfElements() - 1), sort, direction)
+        : null;
+  }
+
+  public static String cursorOf(final Object entity, final String sort, final String direction) {
+    final var accessor = PropertyAccessorFactory.forDirectFieldAccess(entity);
+    final var value = accessor.getPropertyValue(sort);
+
+    return String.join(
+        SEPARATOR,
+        encode(sort),
+        encode(direction.toLowerCase()),
+        encode(value == null ? "" : VALUE_PREFIX + asString(value)),
+        encode(String.valueOf(accessor.getPropertyValue(ID)))
+    );
+  }
+
+  /**
+   * The position a cursor continues from, for the pages read in memory.
+   * @throws DomainException when the cursor was not built for this sort and direction
+   */
+  public static Position position(final String cursor, final String sort, final String direction) {
+    return decode(cursor, sort, direction);
+  }
+
+  private static Position decode(final String cursor, final String sort, final String direction) {
+    try {
+      final var parts = cursor.split("\\" + SEPARATOR, -1);
+      if (parts.length != 4
+          || !decode(parts[0]).equals(sort)
+          || !decode(parts[1]).equalsIgnoreCase(direction)) {
+        throw invalidCursor();
+      }
+
+      final var value = decode(parts[2]);
+      return new Position(value.isEmpty() ? null : value.substring(VALUE_PREFIX.length()), decode(parts[3]));
+    } catch (final IllegalArgumentException e) {
+      throw invalidCursor();
+    }
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private static Comparable<Object> convert(final String value, final Class<?> type) {
+    try {
+      if (type == String.class) {
+        return (Comparable) value;
+      }
+      if (type == Instant.class) {
+        return (Comparable) Instant.parse(value);
+      }
+      if (type.isEnum()) {
+        return (Comparable) Enum.valueOf((Class<Enum>) type, value);
+      }
+      return (Comparable) DefaultConversionService.getSharedInstance().convert(value, type);
+    } catch (final RuntimeException e) {
+      throw invalidCursor();
+    }
+  }
+
+  private static String asString(final Object value) {
+    return value instanceof Enum<?> anEnum ? anEnum.name() : value.toString();
+  }
+
+  private static String encode(final String value) {
+    return ENCODER.encodeToString(value.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static String decode(final String value) {
+    return new String(DECODER.decode(value), StandardCharsets.UTF_8);
+  }
+
+  private static DomainException invalidCursor() {
+    return DomainException.with(new Error("'cursor' is invalid for this sort"));
+  }
+
+  public record Position(String value, String id) {
+
+    /**
+     * The sort key converted to the type of the sorted property, null when the key was null.
+     */
+    public Comparable<Object> valueAs(final Class<?> type) {
+      return this.value == null ? null : convert(this.value, type);
+    }
+  }
+}
@@ -0,0 +1,139 @@
+package pt.amane.infrastructure.utils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Consumer;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import pt.amane.domain.exception.DomainException;
+import pt.amane.domain.validation.Error;
+import pt.amane.infrastructure.configuration.json.Json;
+
+/**
+ * Writes an export as the rows are produced, one JSON object per line or one CSV record per line,
+ * nothing but the current row is held in memory.
+ */
+public final class ExportUtils {
+
+  public static final String NDJSON = "ndjson";
+  public static final String CSV = "csv";
+
+  private static final MediaType TEXT_CSV = new MediaType("text", "csv", StandardCharsets.UTF_8);
+
+  private static final ObjectMapper MAPPER = Json.mapper();
+
+  private ExportUtils() {}
+
+  /**
+   * The format is checked before the response is committed, an unknown one is answered as a validation error.
+   * @param name file name of the export, without extension
+   * @param format ndjson or csv
+   * @param type the rows written, its JSON properties are the CSV columns
+   * @param export hands every row to the given consumer
+   * @return
+   */
+  public static <T> ResponseEntity<StreamingResponseBody> export(
+      final String name,
+      final String format,
+      final Class<T> type,
+      final Consumer<Consumer<T>> export
+  ) {
+    final var aFormat = format == null ? NDJSON : format.toLowerCase(Locale.ROOT);
+    final RowWriter<T> rowWriter = switch (aFormat) {
+      case NDJSON -> ndjson();
+      case CSV -> csv(type);
+      default -> throw DomainException.with(new Error("'format' should be %s or %s".formatted(NDJSON, CSV)));
+    };
+
+    final StreamingResponseBody body = out -> {
+      final var writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+      rowWriter.header(writer);
+      try {
+        export.accept(row -> {
+          try {
+            rowWriter.row(writer, row);
+          } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        });
+      } catch (final UncheckedIOException e) {
+        throw e.getCause();
+      }
+      writer.flush();
+    };
+
+    return ResponseEntity.ok()
+        .contentType(CSV.equals(aFormat) ? TEXT_CSV : MediaType.APPLICATION_NDJSON)
+        .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+            .filename("%s.%s".formatted(name, aFormat))
+            .build()
+            .toString())
+        .body(body);
+  }
+
+  private static <T> RowWriter<T> ndjson() {
+    return new RowWriter<>() {
+      @Override
+      public void row(final Writer writer, final T row) throws IOException {
+        writer.write(MAPPER.writeValueAsString(row));
+        writer.write('\n');
+      }
+    };
+  }
+
+  private static <T> RowWriter<T> csv(final Class<T> type) {
+    final List<String> columns = MAPPER.getSerializationConfig()
+        .introspect(MAPPER.constructType(type))
+        .findProperties()
+        .stream()
+        .map(BeanPropertyDefinition::getName)
+        .toList();
+
+    return new RowWriter<>() {
+      @Override
+      public void header(final Writer writer) throws IOException {
+        writer.write(String.join(",", columns.stream().map(ExportUtils::cell).toList()));
+        writer.write('\n');
+      }
+
+      @Override
+      public void row(final Writer writer, final T row) throws IOException {
+        final var node = MAPPER.valueToTree(row);
+        for (int i = 0; i < columns.size(); i++) {
+          if (i > 0) {
+            writer.write(',');
+          }
+          final var value = node.get(columns.get(i));
+          if (value != null && !value.isNull()) {
+            writer.write(cell(value.isValueNode() ? value.asText() : value.toString()));
+          }
+        }
+        writer.write('\n');
+      }
+    };
+  }
+
+  // RFC 4180, every cell is quoted so separators and line breaks in the values are kept
+  private static String cell(final String value) {
+    return "\"" + value.replace("\"", "\"\"") + "\"";
+  }
+
+  private interface RowWriter<T> {
+
+    default void header(final Writer writer) throws IOException {
+    }
+
+    void row(Writer writer, T row) throws IOException;
+  }
+}
@@ -2,6 +2,12 @@ package pt.amane.infrastructure.utils;
 
 import com.google.common.hash.HashFunction;
 import com.google.common.hash.Hashing;
+import com.google.common.hash.HashingInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
 
 public final class HashingUtils {
 
@@ -12,4 +18,31 @@ public final class HashingUtils {
     public static String checksum(final byte[] content) {
         return CHECKSUM.hashBytes(content).toString();
     }
+
+    /**
+     * Copies the stream with a fixed size buffer, computing the checksum of the copied bytes on the way.
+     */
+    public static String copy(final InputStream in, final OutputStream out) throws IOException {
+        final var hashing = new HashingInputStream(CHECKSUM, in);
+        hashing.transferTo(out);
+        return hashing.hash().toString();
+    }
+
+    /**
+     * Fills the buffer with the stream, computing the checksum of the copied bytes on the way.
+     * Fails when the stream is not exactly as long as the remaining space of the buffer.
+     */
+    public static String copy(final InputStream in, final ByteBuffer out) throws IOException {
+        final var hashing = new HashingInputStream(CHECKSUM, in);
+        final var channel = Channels.newChannel(hashing);
+        while (out.hasRemaining()) {
+            if (channel.read(out) < 0) {
+                throw new IOException("Stream ended %d bytes before the expected length".formatted(out.remaining()));
+            }
+        }
+        if (hashing.read() >= 0) {
+            throw new IOException("Stream is longer than the expected length");
+        }
+        return hashing.hash().toString();
+    }
 }
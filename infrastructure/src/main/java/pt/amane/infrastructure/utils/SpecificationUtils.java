@@ -1,6 +1,12 @@
 package pt.amane.infrastructure.utils;
 
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import java.util.Collection;
 import org.springframework.data.jpa.domain.Specification;
+import pt.amane.infrastructure.persistence.FullTextFunctionContributor;
 
 /**
  *
@@ -15,4 +21,84 @@ public final class SpecificationUtils {
     return ((root, query, criteriaBuilder) ->
         criteriaBuilder.like(criteriaBuilder.upper(root.get(prop)), SqlUtils.like(term.toUpperCase())));
   }
+
+  /**
+   * Full-text search on the two columns of a FULLTEXT index, falls back to like on each column
+   * when the term has no word long enough to be indexed.
+   */
+  public static <T> Specification<T> matches(final String first, final String second, final String term) {
+    final var fullText = SqlUtils.fullText(term);
+    if (fullText == null) {
+      return SpecificationUtils.<T>like(first, term).or(like(second, term));
+    }
+    return (root, query, criteriaBuilder) ->
+        criteriaBuilder.greaterThan(relevance(root, criteriaBuilder, first, second, fullText), 0.0);
+  }
+
+  /**
+   * Orders by the full-text relevance of the term, the most relevant first, then by id.
+   * It replaces the order of the query, which must not be sorted otherwise.
+   */
+  public static <T> Specification<T> orderByRelevance(final String first, final String second, final String term) {
+    final var fullText = SqlUtils.fullText(term);
+    return (root, query, criteriaBuilder) -> {
+      if (fullText == null) {
+        query.orderBy(criteriaBuilder.asc(root.get("id")));
+      } else {
+        query.orderBy(
+            criteriaBuilder.desc(relevance(root, criteriaBuilder, first, second, fullText)),
+            criteriaBuilder.asc(root.get("id"))
+        );
+      }
+      return null;
+    };
+  }
+
+  /**
+   * Keeps the rows linked to at least one of the ids, with an EXISTS subquery on the link entity
+   * instead of a join, so a row linked to several of the ids is neither repeated nor de-duplicated.
+   * @param link the entity of the link table
+   * @param owner path of the link attribute holding the id of the row, as "id.videoId"
+   * @param linked path of the link attribute holding the linked id, as "id.categoryId"
+   */
+  public static <T> Specification<T> linkedTo(
+      final Class<?> link,
+      final String owner,
+      final String linked,
+      final Collection<String> ids
+  ) {
+    return (root, query, criteriaBuilder) -> {
+      final var subquery = query.subquery(Integer.class);
+      final var aLink = subquery.from(link);
+      subquery.select(criteriaBuilder.literal(1)).where(
+          criteriaBuilder.equal(path(aLink, owner), root.get("id")),
+          path(aLink, linked).in(ids)
+      );
+      return criteriaBuilder.exists(subquery);
+    };
+  }
+
+  private static Path<Object> path(final Root<?> root, final String attributes) {
+    Path<Object> path = null;
+    for (final var attribute : attributes.split("\\.")) {
+      path = path == null ? root.get(attribute) : path.get(attribute);
+    }
+    return path;
+  }
+
+  private static Expression<Double> relevance(
+      final Root<?> root,
+      final CriteriaBuilder criteriaBuilder,
+      final String first,
+      final String second,
+      final String fullText
+  ) {
+    return criteriaBuilder.function(
+        FullTextFunctionContributor.MATCH_AGAINST,
+        Double.class,
+        root.get(first),
+        root.get(second),
+        criteriaBuilder.literal(fullText)
+    );
+  }
 }
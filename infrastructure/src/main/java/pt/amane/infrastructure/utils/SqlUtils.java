@@ -1,7 +1,14 @@
 package pt.amane.infrastructure.utils;
 
+import java.util.Arrays;
+
 public final class SqlUtils {
 
+  // innodb_ft_min_token_size default, shorter words are not indexed
+  public static final int FULL_TEXT_MIN_WORD_LENGTH = 3;
+
+  private static final String FULL_TEXT_SEPARATORS = "[\\s+\\-<>()~*\"@]+";
+
   private SqlUtils() {}
 
   public static String upper(final String term) {
@@ -14,4 +21,17 @@ public final class SqlUtils {
     return "%" + term + "%";
   }
 
+  /**
+   * Boolean mode full-text query requiring each word of the term as a prefix, without the
+   * operators the term may contain, null when no word is long enough to be indexed.
+   */
+  public static String fullText(final String term) {
+    if (term == null) return null;
+    final var words = Arrays.stream(term.split(FULL_TEXT_SEPARATORS))
+        .filter(word -> word.length() >= FULL_TEXT_MIN_WORD_LENGTH)
+        .map(word -> "+" + word + "*")
+        .toList();
+    return words.isEmpty() ? null : String.join(" ", words);
+  }
+
 }
@@ -1,20 +1,33 @@
 package pt.amane.infrastructure.video;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.io.UncheckedIOException;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.stereotype.Component;
 import pt.amane.domain.video.AudioVideoMedia;
 import pt.amane.domain.video.ImageMedia;
 import pt.amane.domain.video.MediaResourceGateway;
+import pt.amane.domain.video.MediaUploadPart;
 import pt.amane.domain.video.Resource;
 import pt.amane.domain.video.VideoID;
 import pt.amane.domain.video.VideoMediaType;
 import pt.amane.domain.video.VideoResource;
 import pt.amane.infrastructure.configuration.proprieties.storage.StorageProperties;
 import pt.amane.infrastructure.services.StorageService;
+import pt.amane.infrastructure.utils.HashingUtils;
 
 @Component
 public class MediaResourceGatewayImpl implements MediaResourceGateway {
 
+  private static final String UPLOAD_SESSION = "session";
+  private static final String UPLOAD_PART_PREFIX = "part-";
+  private static final byte[] EMPTY = new byte[0];
+
   private final String filenamePattern;
   private final String locationPattern;
   private final StorageService storageService;
@@ -29,21 +42,21 @@ public class MediaResourceGatewayImpl implements MediaResourceGateway {
   public AudioVideoMedia storeAudioVideo(final VideoID anId, final VideoResource videoResource) {
     final var filepath = filepath(anId, videoResource.type());
     final var aResource = videoResource.resource();
-    store(filepath, aResource);
-    return AudioVideoMedia.with(aResource.checksum(), aResource.name(), filepath);
+    final var checksum = store(filepath, aResource);
+    return AudioVideoMedia.with(checksum, aResource.name(), filepath);
   }
 
   @Override
   public ImageMedia storeImage(final VideoID anId, final VideoResource videoResource) {
     final var filepath = filepath(anId, videoResource.type());
     final var aResource = videoResource.resource();
-    store(filepath, aResource);
-    return ImageMedia.with(aResource.checksum(), aResource.name(), filepath);
+    final var checksum = store(filepath, aResource);
+    return ImageMedia.with(checksum, aResource.name(), filepath);
   }
 
   @Override
   public Optional<Resource> getResource(final VideoID anId, final VideoMediaType type) {
-    return this.storageService.get(filepath(anId, type));
+    return this.storageService.open(filepath(anId, type));
   }
 
   @Override
@@ -52,6 +65,97 @@ public class MediaResourceGatewayImpl implements MediaResourceGateway {
     this.storageService.deleteAll(ids);
   }
 
+  @Override
+  public void initiateUpload(
+      final VideoID anId,
+      final VideoMediaType aType,
+      final String anUploadId,
+      final String contentType,
+      final String name
+  ) {
+    final var aSession = Resource.with(EMPTY, HashingUtils.checksum(EMPTY), contentType, name);
+    store(uploadFolder(anId, aType, anUploadId).concat(UPLOAD_SESSION), aSession);
+  }
+
+  @Override
+  public Optional<Resource> getUpload(final VideoID anId, final VideoMediaType aType, final String anUploadId) {
+    return this.storageService.open(uploadFolder(anId, aType, anUploadId).concat(UPLOAD_SESSION));
+  }
+
+  @Override
+  public MediaUploadPart storeUploadPart(
+      final VideoID anId,
+      final VideoMediaType aType,
+      final String anUploadId,
+      final int aPartNumber,
+      final Resource aPart
+  ) {
+    final var checksum = store(partpath(anId, aType, anUploadId, aPartNumber), aPart);
+    return MediaUploadPart.with(aPartNumber, aPart.length(), checksum);
+  }
+
+  @Override
+  public void deleteUploadPart(final VideoID anId, final VideoMediaType aType, final String anUploadId, final int aPartNumber) {
+    this.storageService.deleteAll(List.of(partpath(anId, aType, anUploadId, aPartNumber)));
+  }
+
+  @Override
+  public List<MediaUploadPart> getUploadParts(final VideoID anId, final VideoMediaType aType, final String anUploadId) {
+    final var folder = uploadFolder(anId, aType, anUploadId);
+
+    return this.storageService.list(folder.concat(UPLOAD_PART_PREFIX)).stream()
+        .flatMap(id -> this.storageService.open(id).stream().map(aPart -> MediaUploadPart.with(
+            Integer.parseInt(id.substring(folder.length() + UPLOAD_PART_PREFIX.length())),
+            aPart.length(),
+            aPart.checksum()
+        )))
+        .sorted(Comparator.comparingInt(MediaUploadPart::number))
+        .toList();
+  }
+
+  @Override
+  public Optional<Resource> assembleUpload(final VideoID anId, final VideoMediaType aType, final String anUploadId) {
+    return getUpload(anId, aType, anUploadId).map(aSession -> {
+      final var parts = getUploadParts(anId, aType, anUploadId).stream()
+          .map(aPart -> partpath(anId, aType, anUploadId, aPart.number()))
+          .map(id -> this.storageService.open(id)
+              .orElseThrow(() -> new IllegalStateException("Part %s was deleted during the upload".formatted(id))))
+          .toList();
+
+      final var length = parts.stream().mapToLong(Resource::length).sum();
+
+      return Resource.with(() -> concat(parts), length, aSession.contentType(), aSession.name());
+    });
+  }
+
+  @Override
+  public void clearUpload(final VideoID anId, final VideoMediaType aType, final String anUploadId) {
+    final var ids = this.storageService.list(uploadFolder(anId, aType, anUploadId));
+    this.storageService.deleteAll(ids);
+  }
+
+  /**
+   * Opens each part only when the previous one was fully read.
+   */
+  private static InputStream concat(final List<Resource> parts) {
+    final var iterator = parts.iterator();
+    return new SequenceInputStream(new Enumeration<>() {
+      @Override
+      public boolean hasMoreElements() {
+        return iterator.hasNext();
+      }
+
+      @Override
+      public InputStream nextElement() {
+        try {
+          return iterator.next().openStream();
+        } catch (final IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      }
+    });
+  }
+
   private String filename(final VideoMediaType aType) {
     return filenamePattern.replace("{type}", aType.name());
   }
@@ -66,8 +170,23 @@ public class MediaResourceGatewayImpl implements MediaResourceGateway {
         .concat(filename(aType));
   }
 
-  private void store(final String filepath, final Resource aResource) {
-    this.storageService.store(filepath, aResource);
+  private String uploadFolder(final VideoID anId, final VideoMediaType aType, final String anUploadId) {
+    return folder(anId)
+        .concat("/uploads/")
+        .concat(filename(aType))
+        .concat("-")
+        .concat(anUploadId)
+        .concat("/");
+  }
+
+  private String partpath(final VideoID anId, final VideoMediaType aType, final String anUploadId, final int aPartNumber) {
+    return uploadFolder(anId, aType, anUploadId)
+        .concat(UPLOAD_PART_PREFIX)
+        .concat("%05d".formatted(aPartNumber));
+  }
+
+  private String store(final String filepath, final Resource aResource) {
+    return this.storageService.store(filepath, aResource);
   }
 
 }
\ No newline at end of file
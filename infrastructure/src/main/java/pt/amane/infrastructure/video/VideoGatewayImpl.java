@@ -4,45 +4,97 @@ import static pt.amane.domain.utils.CollectionUtils.mapTo;
 import static pt.amane.domain.utils.CollectionUtils.nullIfEmpty;
 
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import pt.amane.Identifier;
+import pt.amane.domain.exception.DomainException;
 import pt.amane.domain.pagination.Pagination;
+import pt.amane.domain.validation.Error;
+import pt.amane.domain.video.MediaStatus;
 import pt.amane.domain.video.Video;
 import pt.amane.domain.video.VideoGateway;
 import pt.amane.domain.video.VideoID;
 import pt.amane.domain.video.VideoPreview;
 import pt.amane.domain.video.VideoSearchQuery;
 import pt.amane.infrastructure.configuration.annotations.VideoCreatedQueue;
-import pt.amane.infrastructure.services.EventService;
+import pt.amane.infrastructure.outbox.Outbox;
+import pt.amane.infrastructure.utils.CursorUtils;
 import pt.amane.infrastructure.utils.SpecificationUtils;
+import pt.amane.infrastructure.video.index.VideoCatalogIndex;
+import pt.amane.infrastructure.video.persistence.VideoCastMemberJpaEntity;
+import pt.amane.infrastructure.video.persistence.VideoCategoryJpaEntity;
+import pt.amane.infrastructure.video.persistence.VideoGenreJpaEntity;
 import pt.amane.infrastructure.video.persistence.VideoJpaEntity;
 import pt.amane.infrastructure.video.persistence.VideoRepository;
 
 @Component
 public class VideoGatewayImpl implements VideoGateway {
 
+  // the listing reads only these columns, the medias are never joined
+  private static final String[] PREVIEW_ATTRIBUTES = {"id", "title", "description", "createdAt", "updatedAt"};
+
+  // the statuses a media may move to each status from, it never goes back
+  private static final Map<MediaStatus, Set<MediaStatus>> PREVIOUS_STATUSES = Map.of(
+      MediaStatus.PENDING, EnumSet.of(MediaStatus.PENDING),
+      MediaStatus.PROCESSING, EnumSet.of(MediaStatus.PENDING, MediaStatus.PROCESSING),
+      MediaStatus.COMPLETED, EnumSet.allOf(MediaStatus.class),
+      MediaStatus.ERROR, EnumSet.of(MediaStatus.PENDING, MediaStatus.PROCESSING, MediaStatus.ERROR)
+  );
+
   private final VideoRepository videoRepository;
-  private final EventService eventService;
+  private final Outbox outbox;
+  private final VideoCatalogIndex catalogIndex;
+  private final int streamFetchSize;
 
   public VideoGatewayImpl(
       @VideoCreatedQueue  final VideoRepository repository,
-      final EventService eventService
+      final Outbox outbox,
+      final VideoCatalogIndex catalogIndex,
+      final int streamFetchSize
   ) {
     this.videoRepository = Objects.requireNonNull(repository);
-    this.eventService = Objects.requireNonNull(eventService);
+    this.outbox = Objects.requireNonNull(outbox);
+    this.catalogIndex = Objects.requireNonNull(catalogIndex);
+    this.streamFetchSize = streamFetchSize;
   }
 
   @Override
   @Transactional
   public Video create(Video aVideo) {
-    return save(aVideo);
+    final var result = this.videoRepository
+        .persist(VideoJpaEntity.from(aVideo))
+        .toAggregate();
+
+    return published(aVideo, result);
+  }
+
+  // the rows are only written at commit, the batched inserts of all of them then go together
+  @Override
+  @Transactional
+  public List<Video> createAll(final List<Video> videos) {
+    final var result = new ArrayList<Video>(videos.size());
+    for (final var aVideo : videos) {
+      final var created = this.videoRepository
+          .persist(VideoJpaEntity.from(aVideo))
+          .toAggregate();
+
+      result.add(published(aVideo, created));
+    }
+    return result;
   }
 
   @Override
@@ -50,6 +102,7 @@ public class VideoGatewayImpl implements VideoGateway {
     final var aVideoId = anId.getValue();
     if (this.videoRepository.existsById(aVideoId)) {
       this.videoRepository.deleteById(aVideoId);
+      afterCommit(() -> this.catalogIndex.remove(aVideoId));
     }
 
   }
@@ -57,70 +110,139 @@ public class VideoGatewayImpl implements VideoGateway {
   @Override
   @Transactional(readOnly = true)
   public Optional<Video> findById(VideoID anId) {
-    return this.videoRepository.findById(anId.getValue())
+    return this.videoRepository.findFullById(anId.getValue())
         .map(VideoJpaEntity::toAggregate);
   }
 
+  @Override
+  @Transactional(readOnly = true)
+  public boolean existsById(VideoID anId) {
+    return this.videoRepository.existsById(anId.getValue());
+  }
+
   @Override
   @Transactional
   public Video update(Video aVideo) {
-    return save(aVideo);
+    final var anEntity = this.videoRepository.findFullById(aVideo.getId().getValue())
+        .map(managed -> managed.update(aVideo))
+        .orElseGet(() -> this.videoRepository.persist(VideoJpaEntity.from(aVideo)));
+
+    return published(aVideo, anEntity.toAggregate());
+  }
+
+  @Override
+  @Transactional
+  public boolean updateMediaStatus(
+      final VideoID anId,
+      final String aResourceId,
+      final MediaStatus aStatus,
+      final String anEncodedPath
+  ) {
+    final var from = PREVIOUS_STATUSES.get(aStatus);
+    return this.videoRepository.updateMediaStatus(anId.getValue(), aResourceId, aStatus, anEncodedPath, from) > 0;
   }
 
   @Override
   @Transactional(readOnly = true)
   public Pagination<VideoPreview> findAll(final VideoSearchQuery aQuery) {
-    final var page = PageRequest.of(
-        aQuery.page(),
-        aQuery.perPage(),
-        Sort.by(Sort.Direction.fromString(aQuery.direction()), aQuery.sort())
-    );
+    if (this.catalogIndex.supports(aQuery)) {
+      return this.catalogIndex.search(aQuery);
+    }
+
+    // the relevance order is set by its specification
+    final var sort = aQuery.sortByRelevance()
+        ? Sort.unsorted()
+        : CursorUtils.sort(aQuery.sort(), aQuery.direction());
 
     Specification<VideoJpaEntity> where = Specification.where(null);
 
     if (aQuery.terms() != null && !aQuery.terms().isBlank()) {
-      where = where.and(SpecificationUtils.<VideoJpaEntity>like("title", aQuery.terms())
-          .or(SpecificationUtils.like("description", aQuery.terms())));
+      where = where.and(SpecificationUtils.matches("title", "description", aQuery.terms()));
     }
 
     if (aQuery.castMembers() != null && !aQuery.castMembers().isEmpty()) {
-      where = where.and((root, query, cb) -> {
-        final var castMemberId = root.join("castMembers").get("id").get("castMemberId");
-        return castMemberId.in(mapTo(aQuery.castMembers(), Identifier::getValue));
-      });
+      where = where.and(SpecificationUtils.linkedTo(
+          VideoCastMemberJpaEntity.class, "id.videoId", "id.castMemberId", mapTo(aQuery.castMembers(), Identifier::getValue)
+      ));
     }
 
     if (aQuery.categories() != null && !aQuery.categories().isEmpty()) {
-      where = where.and((root, query, cb) -> {
-        final var categoryId = root.join("categories").get("id").get("categoryId");
-        return categoryId.in(mapTo(aQuery.categories(), Identifier::getValue));
-      });
+      where = where.and(SpecificationUtils.linkedTo(
+          VideoCategoryJpaEntity.class, "id.videoId", "id.categoryId", mapTo(aQuery.categories(), Identifier::getValue)
+      ));
     }
 
     if (aQuery.genres() != null && !aQuery.genres().isEmpty()) {
-      where = where.and((root, query, cb) -> {
-        final var genreId = root.join("genres").get("id").get("genreId");
-        return genreId.in(mapTo(aQuery.genres(), Identifier::getValue));
-      });
+      where = where.and(SpecificationUtils.linkedTo(
+          VideoGenreJpaEntity.class, "id.videoId", "id.genreId", mapTo(aQuery.genres(), Identifier::getValue)
+      ));
+    }
+
+    if (aQuery.sortByRelevance()) {
+      if (CursorUtils.isPresent(aQuery.cursor())) {
+        throw DomainException.with(new Error("'cursor' is not supported when sorting by relevance"));
+      }
+      where = where.and(SpecificationUtils.orderByRelevance("title", "description", aQuery.terms()));
+    }
+
+    if (CursorUtils.isPresent(aQuery.cursor())) {
+      final var rows = this.videoRepository.findProjection(
+          where.and(CursorUtils.after(aQuery.cursor(), aQuery.sort(), aQuery.direction())),
+          sort,
+          aQuery.perPage() + 1,
+          VideoPreview.class,
+          PREVIEW_ATTRIBUTES
+      );
+      return CursorUtils.page(rows, aQuery.perPage(), aQuery.sort(), aQuery.direction(), Function.identity());
     }
 
-    final var actualPage = this.videoRepository.findAll(where, page);
+    final var actualPage = this.videoRepository.findProjection(
+        where,
+        PageRequest.of(aQuery.page(), aQuery.perPage(), sort),
+        aQuery.withTotal(),
+        VideoPreview.class,
+        PREVIEW_ATTRIBUTES
+    );
 
     return new Pagination<>(
         actualPage.getNumber(),
         actualPage.getSize(),
-        actualPage.getTotalElements(),
-        actualPage.map(VideoJpaEntity::toPreview).toList()
+        actualPage instanceof Page<?> aPage ? aPage.getTotalElements() : Pagination.UNKNOWN_TOTAL,
+        actualPage.getContent(),
+        aQuery.sortByRelevance() ? null : CursorUtils.next(actualPage, aQuery.sort(), aQuery.direction())
     );
   }
 
-  private Video save(Video aVideo) {
-    final var result = this.videoRepository
-        .save(VideoJpaEntity.from(aVideo))
-        .toAggregate();
+  @Override
+  public void streamAll(final Consumer<VideoPreview> consumer) {
+    this.videoRepository.streamProjection(
+        Specification.where(null),
+        Sort.by("id"),
+        this.streamFetchSize,
+        consumer,
+        VideoPreview.class,
+        PREVIEW_ATTRIBUTES
+    );
+  }
 
-    aVideo.publishDomainEvents(this.eventService::send);
+  private Video published(final Video aVideo, final Video result) {
+    aVideo.publishDomainEvents(event -> this.outbox.append(aVideo.getId().getValue(), event));
+    afterCommit(() -> this.catalogIndex.put(result));
 
     return result;
   }
+
+  // the index must not show a write that may still be rolled back
+  private static void afterCommit(final Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      action.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        action.run();
+      }
+    });
+  }
 }
@@ -0,0 +1,383 @@
+package pt.amane.infrastructure.video.index;
+
+import java.text.CollationKey;
+import java.text.Collator;
+import java.text.Normalizer;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import pt.amane.Identifier;
+import pt.amane.domain.pagination.Pagination;
+import pt.amane.domain.video.Video;
+import pt.amane.domain.video.VideoPreview;
+import pt.amane.domain.video.VideoSearchQuery;
+import pt.amane.infrastructure.utils.CursorUtils;
+import pt.amane.infrastructure.utils.SqlUtils;
+
+/**
+ * In-process index of the videos, answering the listings without reaching the database.
+ * It is rebuilt from the repository at startup and follows the writes committed by this instance,
+ * the writes of other instances are only seen at the next rebuild, queries needing them ask to be consistent.
+ * Terms match the words of the title and description by prefix, ignoring case and accents,
+ * words shorter than {@link SqlUtils#FULL_TEXT_MIN_WORD_LENGTH} are matched as a substring, as the database does.
+ * Titles and descriptions are sorted ignoring case and accents, as the default MySQL collation compares them,
+ * so a cursor given by the index can be continued by the database and the other way around.
+ */
+public class VideoCatalogIndex {
+
+  private static final Map<String, Comparator<Entry>> SORTS = Map.of(
+      "title", by(Entry::titleKey),
+      "description", by(Entry::descriptionKey),
+      "createdAt", by(Entry::createdAt),
+      "updatedAt", by(Entry::updatedAt)
+  );
+
+  private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+  private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+  // base letters only, like utf8mb4_0900_ai_ci
+  private static final Collator COLLATOR = collator();
+
+  private final boolean enabled;
+
+  private final ReentrantReadWriteLock lock;
+
+  // guarded by lock
+  private final Map<String, Entry> entries;
+  private final TreeMap<String, Set<String>> postings;
+  // ids written during a rebuild, the rows loaded for them may be older, null when not rebuilding
+  private Set<String> written;
+
+  private volatile boolean ready;
+
+  public VideoCatalogIndex(final boolean enabled) {
+    this.enabled = enabled;
+    this.lock = new ReentrantReadWriteLock();
+    this.entries = new HashMap<>();
+    this.postings = new TreeMap<>();
+  }
+
+  public boolean isEnabled() {
+    return this.enabled;
+  }
+
+  public boolean isReady() {
+    return this.ready;
+  }
+
+  public int size() {
+    this.lock.readLock().lock();
+    try {
+      return this.entries.size();
+    } finally {
+      this.lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Whether the query can be answered from the index: it is loaded, the query accepts stale results
+   * and does not sort by relevance, which only the database knows how to do.
+   * @param aQuery
+   * @return
+   */
+  public boolean supports(final VideoSearchQuery aQuery) {
+    return this.ready
+        && !aQuery.consistent()
+        && SORTS.containsKey(aQuery.sort());
+  }
+
+  public Pagination<VideoPreview> search(final VideoSearchQuery aQuery) {
+    final var ascending = "asc".equalsIgnoreCase(aQuery.direction());
+    final var byKey = SORTS.get(aQuery.sort());
+    final var byId = Comparator.comparing(Entry::id);
+    final var order = ascending
+        ? byKey.thenComparing(byId)
+        : byKey.reversed().thenComparing(byId.reversed());
+
+    final var categories = values(aQuery.categories());
+    final var genres = values(aQuery.genres());
+    final var castMembers = values(aQuery.castMembers());
+
+    final var continued = CursorUtils.isPresent(aQuery.cursor());
+    final var position = continued
+        ? Entry.at(aQuery.sort(), CursorUtils.position(aQuery.cursor(), aQuery.sort(), aQuery.direction()))
+        : null;
+
+    final List<Entry> found;
+
+    this.lock.readLock().lock();
+    try {
+      found = matching(aQuery.terms()).stream()
+          .filter(entry -> categories.isEmpty() || anyOf(entry.categories(), categories))
+          .filter(entry -> genres.isEmpty() || anyOf(entry.genres(), genres))
+          .filter(entry -> castMembers.isEmpty() || anyOf(entry.castMembers(), castMembers))
+          .filter(entry -> position == null || order.compare(entry, position) > 0)
+          .sorted(order)
+          .toList();
+    } finally {
+      this.lock.readLock().unlock();
+    }
+
+    // a cursor replaces the offset, and the total is not known, as when the database continues it
+    final var from = continued ? 0 : Math.min((long) aQuery.page() * aQuery.perPage(), found.size());
+    final var to = Math.min(from + aQuery.perPage(), found.size());
+    final var items = found.subList((int) from, (int) to);
+
+    return new Pagination<>(
+        continued ? 0 : aQuery.page(),
+        aQuery.perPage(),
+        continued ? Pagination.UNKNOWN_TOTAL : found.size(),
+        items.stream().map(Entry::toPreview).toList(),
+        to < found.size() ? CursorUtils.cursorOf(items.get(items.size() - 1), aQuery.sort(), aQuery.direction()) : null
+    );
+  }
+
+  public void put(final Video aVideo) {
+    if (!this.enabled) {
+      return;
+    }
+
+    final var entry = Entry.from(aVideo);
+
+    this.lock.writeLock().lock();
+    try {
+      if (this.written != null) {
+        this.written.add(entry.id());
+      }
+      index(entry);
+    } finally {
+      this.lock.writeLock().unlock();
+    }
+  }
+
+  public void remove(final String anId) {
+    if (!this.enabled) {
+      return;
+    }
+
+    this.lock.writeLock().lock();
+    try {
+      if (this.written != null) {
+        this.written.add(anId);
+      }
+      unindex(anId);
+    } finally {
+      this.lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Starts loading every video with {@link #load(Video)}, the writes keep being applied meanwhile
+   * and win over the rows loaded for the same videos. Queries go to the database until {@link #finishRebuild()}.
+   */
+  public void startRebuild() {
+    this.lock.writeLock().lock();
+    try {
+      this.ready = false;
+      this.written = new HashSet<>();
+      this.entries.clear();
+      this.postings.clear();
+    } finally {
+      this.lock.writeLock().unlock();
+    }
+  }
+
+  public void load(final Video aVideo) {
+    final var entry = Entry.from(aVideo);
+
+    this.lock.writeLock().lock();
+    try {
+      if (this.written != null && !this.written.contains(entry.id())) {
+        index(entry);
+      }
+    } finally {
+      this.lock.writeLock().unlock();
+    }
+  }
+
+  public void finishRebuild() {
+    this.lock.writeLock().lock();
+    try {
+      this.written = null;
+      this.ready = true;
+    } finally {
+      this.lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Drops what a failed rebuild loaded, the index stays not ready and queries keep going to the database.
+   */
+  public void abortRebuild() {
+    this.lock.writeLock().lock();
+    try {
+      this.written = null;
+      this.ready = false;
+      this.entries.clear();
+      this.postings.clear();
+    } finally {
+      this.lock.writeLock().unlock();
+    }
+  }
+
+  private Collection<Entry> matching(final String terms) {
+    if (terms == null || terms.isBlank()) {
+      return this.entries.values();
+    }
+
+    final var words = words(terms).stream()
+        .filter(word -> word.length() >= SqlUtils.FULL_TEXT_MIN_WORD_LENGTH)
+        .toList();
+
+    if (words.isEmpty()) {
+      final var term = normalize(terms.trim());
+      return this.entries.values().stream()
+          .filter(entry -> entry.text().contains(term))
+          .toList();
+    }
+
+    Set<String> ids = null;
+    for (final var word : words) {
+      final var withPrefix = this.postings.subMap(word, true, word + Character.MAX_VALUE, false).values().stream()
+          .flatMap(Set::stream)
+          .collect(Collectors.toSet());
+      if (ids == null) {
+        ids = withPrefix;
+      } else {
+        ids.retainAll(withPrefix);
+      }
+    }
+
+    return ids.stream().map(this.entries::get).toList();
+  }
+
+  private void index(final Entry entry) {
+    unindex(entry.id());
+    this.entries.put(entry.id(), entry);
+    entry.tokens().forEach(token -> this.postings.computeIfAbsent(token, key -> new HashSet<>()).add(entry.id()));
+  }
+
+  private void unindex(final String anId) {
+    final var previous = this.entries.remove(anId);
+    if (previous == null) {
+      return;
+    }
+    previous.tokens().forEach(token -> {
+      final var ids = this.postings.get(token);
+      ids.remove(anId);
+      if (ids.isEmpty()) {
+        this.postings.remove(token);
+      }
+    });
+  }
+
+  private static Set<String> values(final Set<? extends Identifier> ids) {
+    return ids == null ? Set.of() : ids.stream().map(Identifier::getValue).collect(Collectors.toSet());
+  }
+
+  private static boolean anyOf(final Set<String> ids, final Set<String> wanted) {
+    return ids.stream().anyMatch(wanted::contains);
+  }
+
+  private static String normalize(final String text) {
+    final var stripped = MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+    return stripped.toLowerCase(Locale.ROOT);
+  }
+
+  private static Set<String> words(final String text) {
+    return Arrays.stream(SEPARATORS.split(normalize(text)))
+        .filter(token -> !token.isEmpty())
+        .collect(Collectors.toSet());
+  }
+
+  private static Collator collator() {
+    final var collator = Collator.getInstance(Locale.ROOT);
+    collator.setStrength(Collator.PRIMARY);
+    return collator;
+  }
+
+  private static CollationKey collationKey(final String text) {
+    return text == null ? null : COLLATOR.getCollationKey(text);
+  }
+
+  // nulls first in ascending order, as the database sorts them
+  private static <T extends Comparable<? super T>> Comparator<Entry> by(final Function<Entry, T> key) {
+    return Comparator.comparing(key, Comparator.nullsFirst(Comparator.naturalOrder()));
+  }
+
+  private record Entry(
+      String id,
+      String title,
+      String description,
+      Instant createdAt,
+      Instant updatedAt,
+      Set<String> categories,
+      Set<String> genres,
+      Set<String> castMembers,
+      Set<String> tokens,
+      String text,
+      CollationKey titleKey,
+      CollationKey descriptionKey
+  ) {
+
+    static Entry from(final Video aVideo) {
+      final var text = aVideo.getTitle() + " " + (aVideo.getDescription() == null ? "" : aVideo.getDescription());
+      return new Entry(
+          aVideo.getId().getValue(),
+          aVideo.getTitle(),
+          aVideo.getDescription(),
+          aVideo.getCreatedAt(),
+          aVideo.getUpdatedAt(),
+          values(aVideo.getCategories()),
+          values(aVideo.getGenres()),
+          values(aVideo.getCastMembers()),
+          words(text),
+          normalize(text),
+          collationKey(aVideo.getTitle()),
+          collationKey(aVideo.getDescription())
+      );
+    }
+
+    /**
+     * An entry holding only the sort key and the id a cursor continues from, to compare the entries with.
+     */
+    static Entry at(final String sort, final CursorUtils.Position position) {
+      final var byDate = "createdAt".equals(sort) || "updatedAt".equals(sort);
+      final Object value = position.valueAs(byDate ? Instant.class : String.class);
+
+      final var title = "title".equals(sort) ? (String) value : null;
+      final var description = "description".equals(sort) ? (String) value : null;
+
+      return new Entry(
+          position.id(),
+          title,
+          description,
+          "createdAt".equals(sort) ? (Instant) value : null,
+          "updatedAt".equals(sort) ? (Instant) value : null,
+          Set.of(),
+          Set.of(),
+          Set.of(),
+          Set.of(),
+          "",
+          collationKey(title),
+          collationKey(description)
+      );
+    }
+
+    VideoPreview toPreview() {
+      return new VideoPreview(id, title, description, createdAt, updatedAt);
+    }
+  }
+}
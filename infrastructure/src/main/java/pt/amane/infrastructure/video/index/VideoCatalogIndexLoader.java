@@ -0,0 +1,95 @@
+package pt.amane.infrastructure.video.index;
+
+import java.util.List;
+import java.util.Objects;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import pt.amane.infrastructure.video.persistence.VideoJpaEntity;
+import pt.amane.infrastructure.video.persistence.VideoRepository;
+
+/**
+ * Fills the {@link VideoCatalogIndex} once the application is up, reading the videos by id in batches,
+ * each batch in its own read-only transaction so no connection is held for the whole load.
+ */
+public class VideoCatalogIndexLoader {
+
+  private static final Logger log = LoggerFactory.getLogger(VideoCatalogIndexLoader.class);
+
+  private final VideoCatalogIndex index;
+  private final VideoRepository videoRepository;
+  private final TransactionTemplate transactionTemplate;
+  private final int batchSize;
+
+  public VideoCatalogIndexLoader(
+      final VideoCatalogIndex index,
+      final VideoRepository videoRepository,
+      final PlatformTransactionManager transactionManager,
+      final int batchSize
+  ) {
+    if (batchSize <= 0) {
+      throw new IllegalArgumentException("'batchSize' should be greater than zero");
+    }
+    this.index = Objects.requireNonNull(index);
+    this.videoRepository = Objects.requireNonNull(videoRepository);
+    this.transactionTemplate = new TransactionTemplate(Objects.requireNonNull(transactionManager));
+    this.transactionTemplate.setReadOnly(true);
+    this.batchSize = batchSize;
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void onApplicationReady() {
+    if (!this.index.isEnabled()) {
+      return;
+    }
+    try {
+      rebuild();
+    } catch (final RuntimeException e) {
+      // the listings keep being answered by the database
+      log.error("Could not load the catalog index", e);
+    }
+  }
+
+  /**
+   * Loads every video into the index, when a batch fails the rebuild is aborted and the index is left not ready.
+   */
+  public void rebuild() {
+    final var start = System.nanoTime();
+    this.index.startRebuild();
+
+    var finished = false;
+    try {
+      String lastId = null;
+      List<String> read;
+      do {
+        final var after = lastId;
+        read = this.transactionTemplate.execute(status -> {
+          final var rows = this.videoRepository.findBy(
+              after(after),
+              query -> query.sortBy(Sort.by("id")).limit(this.batchSize).all()
+          );
+          rows.forEach(row -> this.index.load(row.toAggregate()));
+          return rows.stream().map(VideoJpaEntity::getId).toList();
+        });
+        lastId = read.isEmpty() ? lastId : read.get(read.size() - 1);
+      } while (read.size() == this.batchSize);
+
+      this.index.finishRebuild();
+      finished = true;
+    } finally {
+      if (!finished) {
+        this.index.abortRebuild();
+      }
+    }
+    log.info("Catalog index loaded with {} videos in {} ms", this.index.size(), (System.nanoTime() - start) / 1_000_000);
+  }
+
+  private static Specification<VideoJpaEntity> after(final String anId) {
+    return anId == null ? Specification.where(null) : (root, query, cb) -> cb.greaterThan(root.get("id"), anId);
+  }
+}
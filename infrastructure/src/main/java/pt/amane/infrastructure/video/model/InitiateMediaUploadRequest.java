@@ -0,0 +1,9 @@
+package pt.amane.infrastructure.video.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record InitiateMediaUploadRequest(
+        @JsonProperty("content_type") String contentType,
+        @JsonProperty("name") String name
+) {
+}
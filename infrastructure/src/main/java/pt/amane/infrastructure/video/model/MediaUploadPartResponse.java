@@ -0,0 +1,10 @@
+package pt.amane.infrastructure.video.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record MediaUploadPartResponse(
+        @JsonProperty("part_number") int partNumber,
+        @JsonProperty("length") long length,
+        @JsonProperty("checksum") String checksum
+) {
+}
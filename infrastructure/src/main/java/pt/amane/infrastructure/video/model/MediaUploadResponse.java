@@ -0,0 +1,13 @@
+package pt.amane.infrastructure.video.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.List;
+import pt.amane.domain.video.VideoMediaType;
+
+public record MediaUploadResponse(
+        @JsonProperty("video_id") String videoId,
+        @JsonProperty("media_type") VideoMediaType mediaType,
+        @JsonProperty("upload_id") String uploadId,
+        @JsonProperty("parts") List<MediaUploadPartResponse> parts
+) {
+}
@@ -0,0 +1,9 @@
+package pt.amane.infrastructure.video.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record ReplayEncoderResultsResponse(
+        @JsonProperty("from") String from,
+        @JsonProperty("replayed") int replayed
+) {
+}
@@ -0,0 +1,12 @@
+package pt.amane.infrastructure.video.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.List;
+import pt.amane.domain.validation.Error;
+
+public record VideoImportLineResponse(
+        @JsonProperty("line") long line,
+        @JsonProperty("id") String id,
+        @JsonProperty("errors") List<Error> errors
+) {
+}
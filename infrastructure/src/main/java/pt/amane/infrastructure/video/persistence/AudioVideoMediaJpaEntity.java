@@ -63,6 +63,15 @@ public class AudioVideoMediaJpaEntity {
     );
   }
 
+  public AudioVideoMediaJpaEntity update(final AudioVideoMedia media) {
+    this.checksum = media.checksum();
+    this.name = media.name();
+    this.filePath = media.rawLocation();
+    this.encodedPath = media.encodedLocation();
+    this.status = media.status();
+    return this;
+  }
+
   public AudioVideoMedia toDomain() {
     return AudioVideoMedia.with(
         getId(),
@@ -47,6 +47,13 @@ public class ImageMediaJpaEntity {
     );
   }
 
+  public ImageMediaJpaEntity update(final ImageMedia media) {
+    this.checksum = media.checksum();
+    this.name = media.name();
+    this.filePath = media.location();
+    return this;
+  }
+
   public ImageMedia toDomain() {
     return ImageMedia.with(
         getId(),
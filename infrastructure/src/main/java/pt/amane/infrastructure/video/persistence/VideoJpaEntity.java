@@ -6,6 +6,8 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.Table;
@@ -16,19 +18,43 @@ import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
 import pt.amane.domain.castmember.CastMemberID;
 import pt.amane.domain.category.CategoryID;
 import pt.amane.domain.genre.GenreID;
 import pt.amane.domain.utils.CollectionUtils;
+import pt.amane.domain.video.AudioVideoMedia;
+import pt.amane.domain.video.ImageMedia;
 import pt.amane.domain.video.Rating;
 import pt.amane.domain.video.Video;
 import pt.amane.domain.video.VideoID;
 import pt.amane.domain.video.VideoPreview;
 
+/**
+ * The medias and the links are loaded lazily, {@link #FULL_GRAPH} loads the medias with the video in one statement.
+ * Each kind of link is then read with one statement for all the videos of the query that loaded them,
+ * joining them all at once would read the product of their counts.
+ * Updates only set the changed columns, see {@link #update(Video)}.
+ */
 @Table(name = "videos")
 @Entity(name = "Video")
+@DynamicUpdate
+@NamedEntityGraph(
+    name = VideoJpaEntity.FULL_GRAPH,
+    attributeNodes = {
+        @NamedAttributeNode("video"),
+        @NamedAttributeNode("trailer"),
+        @NamedAttributeNode("banner"),
+        @NamedAttributeNode("thumbnail"),
+        @NamedAttributeNode("thumbnailHalf")
+    }
+)
 public class VideoJpaEntity {
 
+  public static final String FULL_GRAPH = "Video.full";
+
   @Id
   @Column(name = "id", nullable = false, length = 32, columnDefinition = "CHAR(32)")
   private String id;
@@ -60,33 +86,36 @@ public class VideoJpaEntity {
   @Column(name = "updated_at", nullable = false, columnDefinition = "DATETIME(6)")
   private Instant updatedAt;
 
-  @OneToOne(cascade = CascadeType.ALL, fetch = FetchType.EAGER, orphanRemoval = true)
+  @OneToOne(cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
   @JoinColumn(name = "video_id")
   private AudioVideoMediaJpaEntity video;
 
-  @OneToOne(cascade = CascadeType.ALL, fetch = FetchType.EAGER, orphanRemoval = true)
+  @OneToOne(cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
   @JoinColumn(name = "trailer_id")
   private AudioVideoMediaJpaEntity trailer;
 
-  @OneToOne(cascade = CascadeType.ALL, fetch = FetchType.EAGER, orphanRemoval = true)
+  @OneToOne(cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
   @JoinColumn(name = "banner_id")
   private ImageMediaJpaEntity banner;
 
-  @OneToOne(cascade = CascadeType.ALL, fetch = FetchType.EAGER, orphanRemoval = true)
+  @OneToOne(cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
   @JoinColumn(name = "thumbnail_id")
   private ImageMediaJpaEntity thumbnail;
 
-  @OneToOne(cascade = CascadeType.ALL, fetch = FetchType.EAGER, orphanRemoval = true)
+  @OneToOne(cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
   @JoinColumn(name = "thumbnail_half_id")
   private ImageMediaJpaEntity thumbnailHalf;
 
   @OneToMany(mappedBy = "video", cascade = CascadeType.ALL, orphanRemoval = true)
+  @Fetch(FetchMode.SUBSELECT)
   private Set<VideoCategoryJpaEntity> categories;
 
   @OneToMany(mappedBy = "video", cascade = CascadeType.ALL, orphanRemoval = true)
+  @Fetch(FetchMode.SUBSELECT)
   private Set<VideoGenreJpaEntity> genres;
 
   @OneToMany(mappedBy = "video", cascade = CascadeType.ALL, orphanRemoval = true)
+  @Fetch(FetchMode.SUBSELECT)
   private Set<VideoCastMemberJpaEntity> castMembers;
 
   public VideoJpaEntity() {
@@ -175,6 +204,52 @@ public class VideoJpaEntity {
     return entity;
   }
 
+  /**
+   * Applies the aggregate to this managed entity, so the flush only writes what differs:
+   * the changed columns, the medias replaced or changed and the links added or removed.
+   * @param aVideo
+   * @return
+   */
+  public VideoJpaEntity update(final Video aVideo) {
+    this.title = aVideo.getTitle();
+    this.description = aVideo.getDescription();
+    this.yearLaunched = aVideo.getLaunchedAt().getValue();
+    this.opened = aVideo.getOpened();
+    this.published = aVideo.getPublished();
+    this.rating = aVideo.getRating();
+    this.duration = aVideo.getDuration();
+    this.updatedAt = aVideo.getUpdatedAt();
+
+    this.video = merge(this.video, aVideo.getVideo().orElse(null));
+    this.trailer = merge(this.trailer, aVideo.getTrailer().orElse(null));
+    this.banner = merge(this.banner, aVideo.getBanner().orElse(null));
+    this.thumbnail = merge(this.thumbnail, aVideo.getThumbnail().orElse(null));
+    this.thumbnailHalf = merge(this.thumbnailHalf, aVideo.getThumbnailHalf().orElse(null));
+
+    final var categoryIds = CollectionUtils.mapTo(aVideo.getCategories(), CategoryID::getValue);
+    this.categories.removeIf(it -> !categoryIds.contains(it.getId().getCategoryId()));
+    final var linkedCategories = CollectionUtils.mapTo(this.categories, it -> it.getId().getCategoryId());
+    aVideo.getCategories().stream()
+        .filter(it -> !linkedCategories.contains(it.getValue()))
+        .forEach(this::addCategory);
+
+    final var genreIds = CollectionUtils.mapTo(aVideo.getGenres(), GenreID::getValue);
+    this.genres.removeIf(it -> !genreIds.contains(it.getId().getGenreId()));
+    final var linkedGenres = CollectionUtils.mapTo(this.genres, it -> it.getId().getGenreId());
+    aVideo.getGenres().stream()
+        .filter(it -> !linkedGenres.contains(it.getValue()))
+        .forEach(this::addGenre);
+
+    final var castMemberIds = CollectionUtils.mapTo(aVideo.getCastMembers(), CastMemberID::getValue);
+    this.castMembers.removeIf(it -> !castMemberIds.contains(it.getId().getCastMemberId()));
+    final var linkedCastMembers = CollectionUtils.mapTo(this.castMembers, it -> it.getId().getCastMemberId());
+    aVideo.getCastMembers().stream()
+        .filter(it -> !linkedCastMembers.contains(it.getValue()))
+        .forEach(this::addCastMember);
+
+    return this;
+  }
+
   /**
    * Factory method convert video to agegate.
    * @return
@@ -228,6 +303,27 @@ public class VideoJpaEntity {
     );
   }
 
+  // a media with another id replaces the current one, which is deleted as an orphan
+  private static AudioVideoMediaJpaEntity merge(final AudioVideoMediaJpaEntity current, final AudioVideoMedia media) {
+    if (media == null) {
+      return null;
+    }
+    if (current != null && current.getId().equals(media.id())) {
+      return current.update(media);
+    }
+    return AudioVideoMediaJpaEntity.from(media);
+  }
+
+  private static ImageMediaJpaEntity merge(final ImageMediaJpaEntity current, final ImageMedia media) {
+    if (media == null) {
+      return null;
+    }
+    if (current != null && current.getId().equals(media.id())) {
+      return current.update(media);
+    }
+    return ImageMediaJpaEntity.from(media);
+  }
+
   public void addCategory(final CategoryID anId) {
     this.categories.add(VideoCategoryJpaEntity.from(this, anId));
   }
@@ -1,42 +1,48 @@
 package pt.amane.infrastructure.video.persistence;
 
-import java.util.Set;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import java.util.Collection;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
-import pt.amane.domain.video.VideoPreview;
+import pt.amane.domain.video.MediaStatus;
+import pt.amane.infrastructure.persistence.PersistExecutor;
+import pt.amane.infrastructure.persistence.ProjectionSpecificationExecutor;
+import pt.amane.infrastructure.persistence.SliceSpecificationExecutor;
+import pt.amane.infrastructure.persistence.StreamExecutor;
 
-public interface VideoRepository extends JpaRepository<VideoJpaEntity, String>, JpaSpecificationExecutor<VideoJpaEntity> {
+public interface VideoRepository extends JpaRepository<VideoJpaEntity, String>, JpaSpecificationExecutor<VideoJpaEntity>,
+    SliceSpecificationExecutor<VideoJpaEntity>, ProjectionSpecificationExecutor<VideoJpaEntity>, PersistExecutor<VideoJpaEntity>,
+    StreamExecutor<VideoJpaEntity> {
 
+  /**
+   * Loads the video with its medias in one statement, each kind of link is read with one more statement when used.
+   * @param anId
+   * @return
+   */
+  @EntityGraph(VideoJpaEntity.FULL_GRAPH)
+  Optional<VideoJpaEntity> findFullById(String anId);
+
+  /**
+   * Changes a media of the video in one statement, when its current status is one of the given ones.
+   * @return how many medias were changed, 0 or 1
+   */
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
   @Query("""
-            select distinct new pt.amane.domain.video.VideoPreview(
-                v.id as id,
-                v.title as title,
-                v.description as description,
-                v.createdAt as createdAt,
-                v.updatedAt as updatedAt
-            )
-            from Video v
-                left join v.castMembers members
-                left join v.categories categories
-                left join v.genres genres
-            where
-                ( :terms is null or UPPER(v.title) like :terms )
-            and
-                ( :castMembers is null or members.id.castMemberId in :castMembers )
-            and
-                ( :categories is null or categories.id.categoryId in :categories )
-            and
-                ( :genres is null or genres.id.genreId in :genres )
-            """)
-  Page<VideoPreview> findAll(
-      @Param("terms") String terms,
-      @Param("castMembers") Set<String> castMembers,
-      @Param("categories") Set<String> categories,
-      @Param("genres") Set<String> genres,
-      Pageable page
+      update AudioVideoMedia m
+      set m.status = :status, m.encodedPath = coalesce(:encodedPath, m.encodedPath)
+      where m.id = :resourceId
+        and m.status in :from
+        and exists (select 1 from Video v where v.id = :videoId and (v.video.id = m.id or v.trailer.id = m.id))
+      """)
+  int updateMediaStatus(
+      @Param("videoId") String aVideoId,
+      @Param("resourceId") String aResourceId,
+      @Param("status") MediaStatus aStatus,
+      @Param("encodedPath") String anEncodedPath,
+      @Param("from") Collection<MediaStatus> from
   );
 }
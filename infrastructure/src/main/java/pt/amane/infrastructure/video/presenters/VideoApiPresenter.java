@@ -1,17 +1,26 @@
 package pt.amane.infrastructure.video.presenters;
 
+import java.util.List;
 
+import pt.amane.application.video.create.bulk.BulkCreateVideoOutput;
 import pt.amane.application.video.media.upload.UploadMediaOutput;
+import pt.amane.application.video.media.upload.initiate.InitiateMediaUploadOutput;
+import pt.amane.application.video.media.upload.part.UploadMediaPartOutput;
+import pt.amane.application.video.media.upload.retrieve.MediaUploadOutput;
 import pt.amane.application.video.retrieve.get.VideoOutput;
 import pt.amane.application.video.retrieve.list.VideoListOutput;
 import pt.amane.application.video.update.UpdateVideoOutput;
 import pt.amane.domain.pagination.Pagination;
 import pt.amane.domain.video.AudioVideoMedia;
 import pt.amane.domain.video.ImageMedia;
+import pt.amane.domain.video.MediaUploadPart;
 import pt.amane.infrastructure.video.model.AudioVideoMediaResponse;
 import pt.amane.infrastructure.video.model.ImageMediaResponse;
+import pt.amane.infrastructure.video.model.MediaUploadPartResponse;
+import pt.amane.infrastructure.video.model.MediaUploadResponse;
 import pt.amane.infrastructure.video.model.UpdateVideoResponse;
 import pt.amane.infrastructure.video.model.UploadMediaResponse;
+import pt.amane.infrastructure.video.model.VideoImportLineResponse;
 import pt.amane.infrastructure.video.model.VideoListResponse;
 import pt.amane.infrastructure.video.model.VideoResponse;
 
@@ -87,4 +96,29 @@ public interface VideoApiPresenter {
     static UploadMediaResponse present(final UploadMediaOutput output) {
         return new UploadMediaResponse(output.videoId(), output.mediaType());
     }
+
+    static MediaUploadResponse present(final InitiateMediaUploadOutput output) {
+        return new MediaUploadResponse(output.videoId(), output.mediaType(), output.uploadId(), List.of());
+    }
+
+    static MediaUploadResponse present(final MediaUploadOutput output) {
+        return new MediaUploadResponse(
+                output.videoId(),
+                output.mediaType(),
+                output.uploadId(),
+                output.parts().stream().map(VideoApiPresenter::present).toList()
+        );
+    }
+
+    static MediaUploadPartResponse present(final MediaUploadPart part) {
+        return new MediaUploadPartResponse(part.number(), part.length(), part.checksum());
+    }
+
+    static MediaUploadPartResponse present(final UploadMediaPartOutput output) {
+        return new MediaUploadPartResponse(output.partNumber(), output.length(), output.checksum());
+    }
+
+    static VideoImportLineResponse present(final long line, final BulkCreateVideoOutput.Item item) {
+        return new VideoImportLineResponse(line, item.id(), item.errors());
+    }
 }
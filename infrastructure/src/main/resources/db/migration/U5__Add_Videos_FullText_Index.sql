@@ -0,0 +1 @@
+DROP INDEX ft_videos_title_description ON videos;
@@ -0,0 +1,7 @@
+-- the foreign keys need an index on their column once the reverse indexes are gone
+CREATE INDEX fk_vcs_category_id ON videos_categories (category_id);
+CREATE INDEX fk_vgs_genre_id ON videos_genres (genre_id);
+CREATE INDEX fk_vcms_cast_member_id ON videos_cast_members (cast_member_id);
+DROP INDEX idx_vcs_category_id_video_id ON videos_categories;
+DROP INDEX idx_vgs_genre_id_video_id ON videos_genres;
+DROP INDEX idx_vcms_cast_member_id_video_id ON videos_cast_members;
@@ -0,0 +1 @@
+CREATE FULLTEXT INDEX ft_videos_title_description ON videos (title, description);
@@ -0,0 +1,3 @@
+CREATE INDEX idx_vcs_category_id_video_id ON videos_categories (category_id, video_id);
+CREATE INDEX idx_vgs_genre_id_video_id ON videos_genres (genre_id, video_id);
+CREATE INDEX idx_vcms_cast_member_id_video_id ON videos_cast_members (cast_member_id, video_id);
@@ -0,0 +1,15 @@
+CREATE TABLE outbox_events (
+    id BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    aggregate_id CHAR(32) NOT NULL,
+    type VARCHAR(255) NOT NULL,
+    payload TEXT NOT NULL,
+    occurred_on DATETIME(6) NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    attempts INT NOT NULL DEFAULT 0,
+    next_attempt_at DATETIME(6) NOT NULL,
+    last_error VARCHAR(1000) NULL
+);
+
+-- the id is part of every secondary index, this one also finds the previous event of an aggregate
+CREATE INDEX idx_oe_aggregate_id ON outbox_events (aggregate_id);
+CREATE INDEX idx_oe_next_attempt_at ON outbox_events (next_attempt_at);
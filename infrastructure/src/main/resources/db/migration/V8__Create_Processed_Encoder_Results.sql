@@ -0,0 +1,9 @@
+CREATE TABLE processed_encoder_results (
+    video_id CHAR(32) NOT NULL,
+    resource_id CHAR(32) NOT NULL,
+    media_status VARCHAR(50) NOT NULL,
+    processed_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (video_id, resource_id, media_status)
+);
+
+CREATE INDEX idx_per_processed_at ON processed_encoder_results (processed_at);
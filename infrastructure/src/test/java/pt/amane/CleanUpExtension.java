@@ -8,7 +8,9 @@ import org.springframework.data.repository.CrudRepository;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import pt.amane.infrastructure.castmember.persistence.CastMemberRepository;
 import pt.amane.infrastructure.category.persistence.CategoryRepository;
+import pt.amane.infrastructure.dedupe.persistence.ProcessedEncoderResultRepository;
 import pt.amane.infrastructure.genre.persistence.GenreRepository;
+import pt.amane.infrastructure.outbox.persistence.OutboxEventRepository;
 import pt.amane.infrastructure.video.persistence.VideoRepository;
 
 public class CleanUpExtension implements BeforeEachCallback {
@@ -21,7 +23,9 @@ public class CleanUpExtension implements BeforeEachCallback {
         appContext.getBean(VideoRepository.class),
         appContext.getBean(CastMemberRepository.class),
         appContext.getBean(GenreRepository.class),
-        appContext.getBean(CategoryRepository.class)
+        appContext.getBean(CategoryRepository.class),
+        appContext.getBean(OutboxEventRepository.class),
+        appContext.getBean(ProcessedEncoderResultRepository.class)
     ));
   }
 
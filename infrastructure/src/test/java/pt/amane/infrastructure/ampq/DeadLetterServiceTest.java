@@ -0,0 +1,122 @@
+package pt.amane.infrastructure.ampq;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.rabbitmq.client.AMQP;
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.Envelope;
+import com.rabbitmq.client.GetResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.rabbit.core.ChannelCallback;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import pt.amane.UnitTest;
+
+class DeadLetterServiceTest extends UnitTest {
+
+  private RabbitOperations ops;
+
+  private DeadLetterService target;
+
+  @BeforeEach
+  void setUp() {
+    ops = mock(RabbitOperations.class);
+    target = new DeadLetterService(
+        ops,
+        "video.events",
+        "video.encoded",
+        "video.encoded.queue",
+        "video.encoded.retry",
+        2,
+        "video.encoded.dlq",
+        "video.encoded.parking-lot"
+    );
+  }
+
+  @Test
+  void givenAFailedMessage_whenCallsRetryOrPark_shouldSendItToTheQueueOfItsNextAttempt() {
+    // given
+    final var aMessage = message();
+    aMessage.getMessageProperties().setHeader(DeadLetterService.ATTEMPTS_HEADER, 1);
+
+    // when
+    target.retryOrPark(aMessage, new IllegalStateException("database is down"));
+
+    // then
+    verify(ops).send(eq("video.encoded.retry"), eq("video.encoded.queue.retry.2"), eq(aMessage));
+    Assertions.assertEquals(2, (Integer) aMessage.getMessageProperties().getHeader(DeadLetterService.ATTEMPTS_HEADER));
+  }
+
+  @Test
+  void givenAMessageTriedEveryTime_whenCallsRetryOrPark_shouldParkIt() {
+    // given
+    final var aMessage = message();
+    aMessage.getMessageProperties().setHeader(DeadLetterService.ATTEMPTS_HEADER, 2);
+
+    // when
+    target.retryOrPark(aMessage, new IllegalStateException("database is down"));
+
+    // then
+    verify(ops).send(eq(""), eq("video.encoded.parking-lot"), eq(aMessage));
+    Assertions.assertEquals(
+        "java.lang.IllegalStateException: database is down",
+        aMessage.getMessageProperties().getHeader(DeadLetterService.PARKED_REASON_HEADER)
+    );
+  }
+
+  @Test
+  void givenParkedMessages_whenCallsReplay_shouldPublishThemWithoutTheirAttemptsThenAckThem() throws Exception {
+    // given
+    final var channel = mock(Channel.class);
+    final var properties = new AMQP.BasicProperties.Builder()
+        .headers(Map.of(DeadLetterService.ATTEMPTS_HEADER, 4, DeadLetterService.PARKED_REASON_HEADER, "gone", "trace", "abc"))
+        .build();
+    final var body = "{}".getBytes(StandardCharsets.UTF_8);
+
+    when(channel.basicGet(eq("video.encoded.parking-lot"), anyBoolean()))
+        .thenReturn(new GetResponse(new Envelope(7, false, "", "video.encoded.parking-lot"), properties, body, 1))
+        .thenReturn(null);
+    when(ops.execute(any())).thenAnswer(invocation -> ((ChannelCallback<?>) invocation.getArgument(0)).doInRabbit(channel));
+
+    // when
+    final var actualReplayed = target.replay(DeadLetterService.Source.PARKING_LOT, 10);
+
+    // then
+    Assertions.assertEquals(1, actualReplayed);
+    verify(channel).basicPublish(
+        eq("video.events"),
+        eq("video.encoded"),
+        argThat(props -> props.getHeaders().equals(Map.of("trace", "abc"))),
+        eq(body)
+    );
+    verify(channel).basicAck(eq(7L), eq(false));
+    verify(channel, times(2)).basicGet(eq("video.encoded.parking-lot"), eq(false));
+  }
+
+  @Test
+  void givenSeveralAttempts_whenCallsBackoff_shouldDoubleItUpToTheMaximum() {
+    final var initial = Duration.ofSeconds(5);
+    final var max = Duration.ofMinutes(1);
+
+    Assertions.assertEquals(Duration.ofSeconds(5), DeadLetterService.backoff(initial, max, 1));
+    Assertions.assertEquals(Duration.ofSeconds(40), DeadLetterService.backoff(initial, max, 4));
+    Assertions.assertEquals(Duration.ofMinutes(1), DeadLetterService.backoff(initial, max, 5));
+  }
+
+  private static Message message() {
+    return MessageBuilder.withBody("{}".getBytes(StandardCharsets.UTF_8)).build();
+  }
+}
@@ -1,15 +1,29 @@
 package pt.amane.infrastructure.ampq;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import com.rabbitmq.client.Channel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.rabbit.listener.AbstractMessageListenerContainer;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistry;
+import org.springframework.amqp.rabbit.listener.api.ChannelAwareBatchMessageListener;
 import org.springframework.amqp.rabbit.test.RabbitListenerTestHarness;
-import org.springframework.amqp.rabbit.test.TestRabbitTemplate;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import pt.amane.AmqpTest;
@@ -19,7 +33,7 @@ import pt.amane.domain.utils.IdUtils;
 import pt.amane.domain.video.MediaStatus;
 import pt.amane.infrastructure.configuration.annotations.VideoEncodedQueue;
 import pt.amane.infrastructure.configuration.json.Json;
-import pt.amane.infrastructure.configuration.proprieties.amqp.QueueProperties;
+import pt.amane.infrastructure.dedupe.EncoderResultDedupeStore;
 import pt.amane.infrastructure.video.model.VideoEncoderCompleted;
 import pt.amane.infrastructure.video.model.VideoEncoderError;
 import pt.amane.infrastructure.video.model.VideoMessage;
@@ -29,7 +43,7 @@ import pt.amane.infrastructure.video.model.VideoMetadata;
 class VideoEncoderListenerTest {
 
   @Autowired
-  private TestRabbitTemplate rabbitTemplate;
+  private RabbitListenerEndpointRegistry registry;
 
   @Autowired
   private RabbitListenerTestHarness harness;
@@ -37,9 +51,12 @@ class VideoEncoderListenerTest {
   @MockitoBean
   private UpdateMediaStatusUseCase updateMediaStatusUseCase;
 
-  @Autowired
+  @MockitoBean
   @VideoEncodedQueue
-  private QueueProperties queueProperties;
+  private DeadLetterService deadLetterService;
+
+  @Autowired
+  private EncoderResultDedupeStore dedupeStore;
 
   @Test
   void givenErrorResult_whenCallsListener_shouldProcess() throws InterruptedException {
@@ -52,7 +69,7 @@ class VideoEncoderListenerTest {
     final var expectedMessage = Json.writeValueAsString(expectedError);
 
     // when
-    this.rabbitTemplate.convertAndSend(queueProperties.getQueue(), expectedMessage);
+    deliver(expectedMessage);
 
     // then
     final var invocationData =
@@ -61,8 +78,7 @@ class VideoEncoderListenerTest {
     Assertions.assertNotNull(invocationData);
     Assertions.assertNotNull(invocationData.getArguments());
 
-    final var actualMessage = (String) invocationData.getArguments()[0];
-    Assertions.assertEquals(expectedMessage, actualMessage);
+    Assertions.assertEquals(List.of(expectedMessage), bodies(invocationData.getArguments()[0]));
   }
 
   @Test
@@ -84,7 +100,7 @@ class VideoEncoderListenerTest {
     doNothing().when(updateMediaStatusUseCase).execute(any());
 
     // when
-    this.rabbitTemplate.convertAndSend(queueProperties.getQueue(), expectedMessage);
+    deliver(expectedMessage);
 
     // then
     final var invocationData =
@@ -93,8 +109,7 @@ class VideoEncoderListenerTest {
     Assertions.assertNotNull(invocationData);
     Assertions.assertNotNull(invocationData.getArguments());
 
-    final var actualMessage = (String) invocationData.getArguments()[0];
-    Assertions.assertEquals(expectedMessage, actualMessage);
+    Assertions.assertEquals(List.of(expectedMessage), bodies(invocationData.getArguments()[0]));
 
     final var cmdCaptor = ArgumentCaptor.forClass(UpdateMediaStatusCommand.class);
     verify(updateMediaStatusUseCase).execute(cmdCaptor.capture());
@@ -106,4 +121,130 @@ class VideoEncoderListenerTest {
     Assertions.assertEquals(expectedEncoderVideoFolder, actualCommand.folder());
     Assertions.assertEquals(expectedFilePath, actualCommand.filename());
   }
+
+  @Test
+  void givenSeveralResultsOfTheSameMedias_whenCallsListener_shouldApplyOneUpdatePerMediaGroupedByVideo()
+      throws InterruptedException {
+    // given
+    final var aVideoId = IdUtils.uuid();
+    final var anotherVideoId = IdUtils.uuid();
+    final var aResourceId = IdUtils.uuid();
+    final var anotherResourceId = IdUtils.uuid();
+
+    final var messages = new String[] {
+        completed(aVideoId, aResourceId, "first.mp4"),
+        completed(anotherVideoId, anotherResourceId, "other.mp4"),
+        Json.writeValueAsString(new VideoEncoderError(new VideoMessage(aResourceId, "abc"), "Video not found")),
+        completed(aVideoId, aResourceId, "last.mp4")
+    };
+
+    doNothing().when(updateMediaStatusUseCase).execute(any());
+
+    // when
+    deliver(messages);
+
+    // then
+    final var invocationData =
+        harness.getNextInvocationDataFor(VideoEncoderListener.LISTENER_ID, 1, TimeUnit.SECONDS);
+
+    Assertions.assertNotNull(invocationData);
+    Assertions.assertEquals(List.of(messages), bodies(invocationData.getArguments()[0]));
+
+    final var cmdCaptor = ArgumentCaptor.forClass(UpdateMediaStatusCommand.class);
+    verify(updateMediaStatusUseCase, times(2)).execute(cmdCaptor.capture());
+
+    final var actualCommands = cmdCaptor.getAllValues();
+    Assertions.assertEquals(aVideoId, actualCommands.get(0).videoId());
+    Assertions.assertEquals("last.mp4", actualCommands.get(0).filename());
+    Assertions.assertEquals(anotherVideoId, actualCommands.get(1).videoId());
+  }
+
+  @Test
+  void givenAnUpdateThatKeepsFailing_whenCallsListener_shouldRetryItsMessageAndApplyTheOthers()
+      throws InterruptedException {
+    // given
+    final var failingVideoId = IdUtils.uuid();
+    final var anotherVideoId = IdUtils.uuid();
+    final var expectedError = new IllegalStateException("database is down");
+
+    final var failing = completed(failingVideoId, IdUtils.uuid(), "failing.mp4");
+    final var other = completed(anotherVideoId, IdUtils.uuid(), "other.mp4");
+    final var unreadable = "{not json";
+
+    doAnswer(invocation -> {
+      if (failingVideoId.equals(invocation.<UpdateMediaStatusCommand>getArgument(0).videoId())) {
+        throw expectedError;
+      }
+      return null;
+    }).when(updateMediaStatusUseCase).execute(any());
+
+    // when
+    deliver(failing, other, unreadable);
+
+    // then
+    Assertions.assertNotNull(harness.getNextInvocationDataFor(VideoEncoderListener.LISTENER_ID, 1, TimeUnit.SECONDS));
+
+    // the batch stops at the failing update, then each one is applied on its own
+    verify(updateMediaStatusUseCase, times(2)).execute(argThat(cmd -> failingVideoId.equals(cmd.videoId())));
+    verify(updateMediaStatusUseCase, times(1)).execute(argThat(cmd -> anotherVideoId.equals(cmd.videoId())));
+
+    verify(deadLetterService).retryOrPark(argThat(message -> failing.equals(body(message))), eq(expectedError));
+    verify(deadLetterService).park(argThat(message -> unreadable.equals(body(message))), any());
+    verify(deadLetterService, never()).retryOrPark(argThat(message -> other.equals(body(message))), any());
+  }
+
+  @Test
+  void givenAResultAlreadyApplied_whenItIsDeliveredAgain_shouldDropItBeforeCallingUseCase()
+      throws InterruptedException {
+    // given
+    final var aVideoId = IdUtils.uuid();
+    final var aResult = completed(aVideoId, IdUtils.uuid(), "any.mp4");
+    final var duplicatesBefore = dedupeStore.stats().duplicates();
+
+    doNothing().when(updateMediaStatusUseCase).execute(any());
+
+    deliver(aResult);
+    Assertions.assertNotNull(harness.getNextInvocationDataFor(VideoEncoderListener.LISTENER_ID, 1, TimeUnit.SECONDS));
+
+    // when
+    deliver(aResult);
+
+    // then
+    Assertions.assertNotNull(harness.getNextInvocationDataFor(VideoEncoderListener.LISTENER_ID, 1, TimeUnit.SECONDS));
+
+    verify(updateMediaStatusUseCase, times(1)).execute(argThat(cmd -> aVideoId.equals(cmd.videoId())));
+    Assertions.assertEquals(duplicatesBefore + 1, dedupeStore.stats().duplicates());
+  }
+
+  private static String completed(final String aVideoId, final String aResourceId, final String aFilePath) {
+    return Json.writeValueAsString(new VideoEncoderCompleted(
+        aVideoId,
+        "codeeducationtest",
+        new VideoMetadata("anyfolder", aResourceId, aFilePath)
+    ));
+  }
+
+  // the test template hands the messages one by one, a batch listener is called with the batch directly
+  private void deliver(final String... messages) {
+    final var container = (AbstractMessageListenerContainer) registry.getListenerContainer(VideoEncoderListener.LISTENER_ID);
+    final var listener = (ChannelAwareBatchMessageListener) container.getMessageListener();
+
+    listener.onMessageBatch(
+        Arrays.stream(messages)
+            .map(message -> MessageBuilder.withBody(message.getBytes(StandardCharsets.UTF_8)).build())
+            .toList(),
+        mock(Channel.class)
+    );
+  }
+
+  @SuppressWarnings("unchecked")
+  private static List<String> bodies(final Object messages) {
+    return ((List<Message>) messages).stream()
+        .map(VideoEncoderListenerTest::body)
+        .toList();
+  }
+
+  private static String body(final Message message) {
+    return message == null ? null : new String(message.getBody(), StandardCharsets.UTF_8);
+  }
 }
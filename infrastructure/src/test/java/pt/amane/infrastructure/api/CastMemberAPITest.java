@@ -30,6 +30,7 @@ import pt.amane.ControllerTest;
 import pt.amane.application.castmember.create.CreateCastMemberOutput;
 import pt.amane.application.castmember.create.CreateCastMemberUseCase;
 import pt.amane.application.castmember.delete.DeleteCastMemberUseCase;
+import pt.amane.application.castmember.retrieve.export.ExportCastMembersUseCase;
 import pt.amane.application.castmember.retrieve.get.GetCastMemberByIdOutput;
 import pt.amane.application.castmember.retrieve.get.GetCastMemberByIdUseCase;
 import pt.amane.application.castmember.retrieve.list.ListCastMembersOutput;
@@ -71,6 +72,9 @@ class CastMemberAPITest {
      @MockitoBean
     private UpdateCastMemberUseCase updateCastMemberUseCase;
 
+     @MockitoBean
+    private ExportCastMembersUseCase exportCastMembersUseCase;
+
     @Test
     void givenAValidCommand_whenCallsCreateCastMember_shouldReturnItsIdentifier() throws Exception {
         // given
@@ -7,11 +7,13 @@ import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.nullValue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.argThat;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -19,11 +21,15 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
@@ -33,6 +39,7 @@ import pt.amane.ControllerTest;
 import pt.amane.application.category.create.CreateCategoryOutput;
 import pt.amane.application.category.create.CreateCategoryUseCase;
 import pt.amane.application.category.delete.DeleteCategoryUseCase;
+import pt.amane.application.category.retrieve.export.ExportCategoriesUseCase;
 import pt.amane.application.category.retrieve.get.CategoryOutput;
 import pt.amane.application.category.retrieve.get.GetCategoryByIdUseCase;
 import pt.amane.application.category.retrieve.list.CategoryListOutput;
@@ -73,6 +80,9 @@ class CategoryAPITest {
      @MockitoBean
     private ListCategoriesUseCase listCategoriesUseCase;
 
+     @MockitoBean
+    private ExportCategoriesUseCase exportCategoriesUseCase;
+
     @Test
     void givenAValidCommand_whenCallsCreateCategory_shouldReturnCategoryId() throws Exception {
         // given
@@ -423,4 +433,47 @@ class CategoryAPITest {
                         && Objects.equals(expectedTerms, query.terms())
         ));
     }
-}
+
+    @Test
+    void givenCategories_whenCallsExportAsCsv_shouldStreamAHeaderAndOneRecordPerCategory() throws Exception {
+        // given
+        final var aCategory = Category.newCategory("Filmes", "Com \"aspas\", e virgula", true);
+
+        doAnswer(invocation -> {
+            final Consumer<CategoryListOutput> consumer = invocation.getArgument(0);
+            consumer.accept(CategoryListOutput.from(aCategory));
+            return null;
+        }).when(exportCategoriesUseCase).execute(any());
+
+        // when
+        final var result = this.mvc.perform(get("/categories/export").queryParam("format", "csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        final var response = this.mvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "text/csv;charset=UTF-8"))
+                .andReturn();
+
+        // then
+        final var expectedContent = """
+                "id","name","description","is_active","created_at","deleted_at"
+                "%s","Filmes","Com ""aspas"", e virgula","true","%s",
+                """.formatted(aCategory.getId().getValue(), aCategory.getCreatedAt());
+
+        Assertions.assertEquals(expectedContent, response.getResponse().getContentAsString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void givenAnUnknownFormat_whenCallsExport_shouldReturnUnprocessableEntity() throws Exception {
+        // when
+        final var response = this.mvc.perform(get("/categories/export").queryParam("format", "xml"))
+                .andDo(print());
+
+        // then
+        response.andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.errors[0].message", equalTo("'format' should be ndjson or csv")));
+
+        verify(exportCategoriesUseCase, times(0)).execute(any());
+    }
+}
\ No newline at end of file
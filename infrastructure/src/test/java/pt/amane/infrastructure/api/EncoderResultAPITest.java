@@ -0,0 +1,76 @@
+package pt.amane.infrastructure.api;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import pt.amane.ControllerTest;
+import pt.amane.infrastructure.ampq.DeadLetterService;
+import pt.amane.infrastructure.configuration.annotations.VideoEncodedQueue;
+
+@ControllerTest
+class EncoderResultAPITest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @MockitoBean
+    @VideoEncodedQueue
+    private DeadLetterService deadLetterService;
+
+    @Test
+    void givenParkedResults_whenCallsReplay_shouldPutThemBackAndReturnHowMany() throws Exception {
+        // given
+        final var expectedMax = 50;
+        final var expectedReplayed = 3;
+
+        when(deadLetterService.replay(any(), anyInt()))
+                .thenReturn(expectedReplayed);
+
+        // when
+        final var request = post("/videos/encoder_results/replay")
+                .queryParam("from", "dead_letter")
+                .queryParam("max", String.valueOf(expectedMax));
+
+        final var response = this.mvc.perform(request)
+                .andDo(print());
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$.from", equalTo("dead_letter")))
+                .andExpect(jsonPath("$.replayed", equalTo(expectedReplayed)));
+
+        verify(deadLetterService).replay(eq(DeadLetterService.Source.DEAD_LETTER), eq(expectedMax));
+    }
+
+    @Test
+    void givenAnUnknownSource_whenCallsReplay_shouldReturnUnprocessableEntity() throws Exception {
+        // given
+        final var expectedMessage = "'from' should be parking_lot or dead_letter";
+
+        // when
+        final var request = post("/videos/encoder_results/replay")
+                .queryParam("from", "inbox");
+
+        final var response = this.mvc.perform(request)
+                .andDo(print());
+
+        // then
+        response.andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.message", equalTo(expectedMessage)));
+
+        verify(deadLetterService, never()).replay(any(), anyInt());
+    }
+}
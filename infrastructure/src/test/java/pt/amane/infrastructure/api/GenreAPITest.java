@@ -30,6 +30,7 @@ import pt.amane.ControllerTest;
 import pt.amane.application.genre.create.CreateGenreOutput;
 import pt.amane.application.genre.create.CreateGenreUseCase;
 import pt.amane.application.genre.delete.DeleteGenreUseCase;
+import pt.amane.application.genre.retrieve.export.ExportGenresUseCase;
 import pt.amane.application.genre.retrieve.get.GenreOutput;
 import pt.amane.application.genre.retrieve.get.GetGenreByIdUseCase;
 import pt.amane.application.genre.retrieve.list.GenreListOutput;
@@ -71,6 +72,9 @@ class GenreAPITest {
      @MockitoBean
     private ListGenreUseCase listGenreUseCase;
 
+     @MockitoBean
+    private ExportGenresUseCase exportGenresUseCase;
+
     @Test
     void givenAValidCommand_whenCallsCreateGenre_shouldReturnGenreId() throws Exception {
         // given
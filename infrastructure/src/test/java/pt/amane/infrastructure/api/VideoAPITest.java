@@ -3,14 +3,21 @@ package pt.amane.infrastructure.api;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.http.HttpHeaders.ACCEPT_RANGES;
 import static org.springframework.http.HttpHeaders.CONTENT_DISPOSITION;
 import static org.springframework.http.HttpHeaders.CONTENT_LENGTH;
+import static org.springframework.http.HttpHeaders.CONTENT_RANGE;
 import static org.springframework.http.HttpHeaders.CONTENT_TYPE;
+import static org.springframework.http.HttpHeaders.IF_RANGE;
 import static org.springframework.http.HttpHeaders.LOCATION;
+import static org.springframework.http.HttpHeaders.RANGE;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
@@ -19,15 +26,22 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static pt.amane.domain.utils.CollectionUtils.mapTo;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import pt.amane.domain.exception.NotificationException;
 import pt.amane.domain.validation.Error;
 import java.time.Year;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Consumer;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
@@ -40,6 +54,9 @@ import pt.amane.ControllerTest;
 import pt.amane.application.video.create.CreateVideoCommand;
 import pt.amane.application.video.create.CreateVideoOutput;
 import pt.amane.application.video.create.CreateVideoUseCase;
+import pt.amane.application.video.create.bulk.BulkCreateVideoCommand;
+import pt.amane.application.video.create.bulk.BulkCreateVideoOutput;
+import pt.amane.application.video.create.bulk.BulkCreateVideoUseCase;
 import pt.amane.application.video.delete.DeleteVideoUseCase;
 import pt.amane.application.video.media.get.GetMediaCommand;
 import pt.amane.application.video.media.get.GetMediaUseCase;
@@ -47,6 +64,17 @@ import pt.amane.application.video.media.get.MediaOutput;
 import pt.amane.application.video.media.upload.UploadMediaCommand;
 import pt.amane.application.video.media.upload.UploadMediaOutput;
 import pt.amane.application.video.media.upload.UploadMediaUseCase;
+import pt.amane.application.video.media.upload.complete.CompleteMediaUploadCommand;
+import pt.amane.application.video.media.upload.complete.CompleteMediaUploadUseCase;
+import pt.amane.application.video.media.upload.initiate.InitiateMediaUploadCommand;
+import pt.amane.application.video.media.upload.initiate.InitiateMediaUploadOutput;
+import pt.amane.application.video.media.upload.initiate.InitiateMediaUploadUseCase;
+import pt.amane.application.video.media.upload.part.UploadMediaPartCommand;
+import pt.amane.application.video.media.upload.part.UploadMediaPartOutput;
+import pt.amane.application.video.media.upload.part.UploadMediaPartUseCase;
+import pt.amane.application.video.media.upload.retrieve.GetMediaUploadUseCase;
+import pt.amane.application.video.media.upload.retrieve.MediaUploadOutput;
+import pt.amane.application.video.retrieve.export.ExportVideosUseCase;
 import pt.amane.application.video.retrieve.get.GetVideoByIdUseCase;
 import pt.amane.application.video.retrieve.get.VideoOutput;
 import pt.amane.application.video.retrieve.list.ListVideosUseCase;
@@ -60,12 +88,15 @@ import pt.amane.domain.exception.NotFoundException;
 import pt.amane.domain.genre.GenreID;
 import pt.amane.domain.pagination.Pagination;
 import pt.amane.domain.utils.FixtureUtils;
+import pt.amane.domain.utils.IdUtils;
+import pt.amane.domain.video.MediaUploadPart;
 import pt.amane.domain.video.Video;
 import pt.amane.domain.video.VideoID;
 import pt.amane.domain.video.VideoMediaType;
 import pt.amane.domain.video.VideoPreview;
 import pt.amane.domain.video.VideoSearchQuery;
 import pt.amane.infrastructure.video.model.CreateVideoRequest;
+import pt.amane.infrastructure.video.model.InitiateMediaUploadRequest;
 import pt.amane.infrastructure.video.model.UpdateVideoRequest;
 
 @ControllerTest
@@ -98,6 +129,24 @@ class VideoAPITest {
     @MockitoBean
     private UploadMediaUseCase uploadMediaUseCase;
 
+    @MockitoBean
+    private InitiateMediaUploadUseCase initiateMediaUploadUseCase;
+
+    @MockitoBean
+    private GetMediaUploadUseCase getMediaUploadUseCase;
+
+    @MockitoBean
+    private UploadMediaPartUseCase uploadMediaPartUseCase;
+
+    @MockitoBean
+    private CompleteMediaUploadUseCase completeMediaUploadUseCase;
+
+    @MockitoBean
+    private BulkCreateVideoUseCase bulkCreateVideoUseCase;
+
+    @MockitoBean
+    private ExportVideosUseCase exportVideosUseCase;
+
     @Test
     void givenAValidCommand_whenCallsCreateFull_shouldReturnAnId() throws Exception {
         // given
@@ -319,6 +368,186 @@ class VideoAPITest {
                 .andExpect(jsonPath("$.errors[0].message", equalTo(expectedErrorMessage)));
     }
 
+    @Test
+    void givenJsonLines_whenCallsCreateBulk_shouldStreamOneResultPerLine() throws Exception {
+        // given
+        final var expectedId = VideoID.unique();
+        final var expectedErrorMessage = "'title' should not be null";
+
+        final var aValid = new CreateVideoRequest(
+                FixtureUtils.title(), FixtureUtils.Videos.description(), FixtureUtils.duration(), FixtureUtils.year(),
+                true, true, FixtureUtils.Videos.rating().getName(), Set.of(), Set.of(), Set.of()
+        );
+        final var anInvalid = new CreateVideoRequest(
+                null, FixtureUtils.Videos.description(), FixtureUtils.duration(), FixtureUtils.year(),
+                true, true, FixtureUtils.Videos.rating().getName(), Set.of(), Set.of(), Set.of()
+        );
+
+        final var aBody = String.join("\n",
+                mapper.writeValueAsString(aValid),
+                "",
+                "{\"title\": ",
+                mapper.writeValueAsString(anInvalid)
+        );
+
+        when(bulkCreateVideoUseCase.execute(any()))
+                .thenReturn(new BulkCreateVideoOutput(List.of(
+                        BulkCreateVideoOutput.Item.created(expectedId.getValue()),
+                        BulkCreateVideoOutput.Item.failed(List.of(new Error(expectedErrorMessage)))
+                )));
+
+        // when
+        final var aRequest = post("/videos/bulk")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content(aBody);
+
+        final var result = this.mvc.perform(aRequest)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        final var response = this.mvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string(CONTENT_TYPE, MediaType.APPLICATION_NDJSON_VALUE))
+                .andReturn();
+
+        // then
+        final var lines = new ArrayList<JsonNode>();
+        for (final var aLine : response.getResponse().getContentAsString().split("\n")) {
+            lines.add(mapper.readTree(aLine));
+        }
+
+        Assertions.assertEquals(3, lines.size());
+        Assertions.assertEquals(1, lines.get(0).get("line").asInt());
+        Assertions.assertEquals(expectedId.getValue(), lines.get(0).get("id").asText());
+        Assertions.assertTrue(lines.get(0).get("errors").isEmpty());
+        Assertions.assertEquals(3, lines.get(1).get("line").asInt());
+        Assertions.assertTrue(lines.get(1).get("id").isNull());
+        Assertions.assertTrue(lines.get(1).get("errors").get(0).get("message").asText().startsWith("Invalid JSON line"));
+        Assertions.assertEquals(4, lines.get(2).get("line").asInt());
+        Assertions.assertEquals(expectedErrorMessage, lines.get(2).get("errors").get(0).get("message").asText());
+
+        final var captor = ArgumentCaptor.forClass(BulkCreateVideoCommand.class);
+
+        verify(bulkCreateVideoUseCase).execute(captor.capture());
+
+        final var actualCommands = captor.getValue().videos();
+        Assertions.assertEquals(2, actualCommands.size());
+        Assertions.assertEquals(aValid.title(), actualCommands.get(0).title());
+        Assertions.assertNull(actualCommands.get(1).title());
+    }
+
+    @Test
+    void givenANullAndAnOverlongLine_whenCallsCreateBulk_shouldReportThemAsInvalidLines() throws Exception {
+        // given
+        final var expectedId = VideoID.unique();
+
+        final var aValid = new CreateVideoRequest(
+                FixtureUtils.title(), FixtureUtils.Videos.description(), FixtureUtils.duration(), FixtureUtils.year(),
+                true, true, FixtureUtils.Videos.rating().getName(), Set.of(), Set.of(), Set.of()
+        );
+
+        final var aBody = String.join("\r\n",
+                "null",
+                "{\"title\": \"" + "a".repeat(1024 * 1024) + "\"}",
+                mapper.writeValueAsString(aValid)
+        );
+
+        when(bulkCreateVideoUseCase.execute(any()))
+                .thenReturn(new BulkCreateVideoOutput(List.of(
+                        BulkCreateVideoOutput.Item.created(expectedId.getValue())
+                )));
+
+        // when
+        final var aRequest = post("/videos/bulk")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content(aBody);
+
+        final var result = this.mvc.perform(aRequest)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        final var response = this.mvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        // then
+        final var lines = new ArrayList<JsonNode>();
+        for (final var aLine : response.getResponse().getContentAsString().split("\n")) {
+            lines.add(mapper.readTree(aLine));
+        }
+
+        Assertions.assertEquals(3, lines.size());
+        Assertions.assertEquals(1, lines.get(0).get("line").asInt());
+        Assertions.assertTrue(lines.get(0).get("id").isNull());
+        Assertions.assertTrue(lines.get(0).get("errors").get(0).get("message").asText().startsWith("Invalid JSON line"));
+        Assertions.assertEquals(2, lines.get(1).get("line").asInt());
+        Assertions.assertTrue(lines.get(1).get("id").isNull());
+        Assertions.assertTrue(lines.get(1).get("errors").get(0).get("message").asText().startsWith("Line longer than"));
+        Assertions.assertEquals(3, lines.get(2).get("line").asInt());
+        Assertions.assertEquals(expectedId.getValue(), lines.get(2).get("id").asText());
+
+        final var captor = ArgumentCaptor.forClass(BulkCreateVideoCommand.class);
+
+        verify(bulkCreateVideoUseCase).execute(captor.capture());
+
+        final var actualCommands = captor.getValue().videos();
+        Assertions.assertEquals(1, actualCommands.size());
+        Assertions.assertEquals(aValid.title(), actualCommands.get(0).title());
+    }
+
+    @Test
+    void givenAChunkThatCouldNotBeCreated_whenCallsCreateBulk_shouldReportItsLinesAndImportTheNextChunk() throws Exception {
+        // given
+        final var expectedId = VideoID.unique();
+        final var expectedErrorMessage = "An error on create video was observed: Gateway error";
+        final var expectedChunkSize = 500;
+
+        final var aLine = mapper.writeValueAsString(new CreateVideoRequest(
+                FixtureUtils.title(), FixtureUtils.Videos.description(), FixtureUtils.duration(), FixtureUtils.year(),
+                true, true, FixtureUtils.Videos.rating().getName(), Set.of(), Set.of(), Set.of()
+        ));
+        final var aBody = String.join("\n", Collections.nCopies(expectedChunkSize + 1, aLine));
+
+        when(bulkCreateVideoUseCase.execute(any()))
+                .thenThrow(new IllegalStateException("Gateway error"))
+                .thenReturn(new BulkCreateVideoOutput(List.of(
+                        BulkCreateVideoOutput.Item.created(expectedId.getValue())
+                )));
+
+        // when
+        final var aRequest = post("/videos/bulk")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content(aBody);
+
+        final var result = this.mvc.perform(aRequest)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        final var response = this.mvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        // then
+        final var lines = new ArrayList<JsonNode>();
+        for (final var aResult : response.getResponse().getContentAsString().split("\n")) {
+            lines.add(mapper.readTree(aResult));
+        }
+
+        Assertions.assertEquals(expectedChunkSize + 1, lines.size());
+        for (int i = 0; i < expectedChunkSize; i++) {
+            Assertions.assertEquals(i + 1, lines.get(i).get("line").asInt());
+            Assertions.assertTrue(lines.get(i).get("id").isNull());
+            Assertions.assertEquals(expectedErrorMessage, lines.get(i).get("errors").get(0).get("message").asText());
+        }
+        Assertions.assertEquals(expectedChunkSize + 1, lines.get(expectedChunkSize).get("line").asInt());
+        Assertions.assertEquals(expectedId.getValue(), lines.get(expectedChunkSize).get("id").asText());
+
+        verify(bulkCreateVideoUseCase, times(2)).execute(any());
+    }
+
     @Test
     void givenAValidId_whenCallsGetById_shouldReturnVideo() throws Exception {
         // given
@@ -689,6 +918,49 @@ class VideoAPITest {
         Assertions.assertTrue(actualQuery.categories().isEmpty());
         Assertions.assertTrue(actualQuery.castMembers().isEmpty());
         Assertions.assertTrue(actualQuery.genres().isEmpty());
+        Assertions.assertNull(actualQuery.cursor());
+        Assertions.assertTrue(actualQuery.withTotal());
+        Assertions.assertFalse(actualQuery.consistent());
+    }
+
+    @Test
+    void givenACursorAndNoTotal_whenCallsListVideos_shouldReturnThePageAfterItWithTheNextCursor() throws Exception {
+        // given
+        final var aVideo = new VideoPreview(FixtureUtils.video());
+
+        final var expectedCursor = "dGl0bGU.YXNj.dkFsZ28.MTIz";
+        final var expectedNextCursor = "dGl0bGU.YXNj.dkJsZ28.NDU2";
+        final var expectedPerPage = 25;
+
+        final var expectedItems = List.of(VideoListOutput.from(aVideo));
+
+        when(listVideosUseCase.execute(any()))
+                .thenReturn(new Pagination<>(0, expectedPerPage, Pagination.UNKNOWN_TOTAL, expectedItems, expectedNextCursor));
+
+        // when
+        final var aRequest = get("/videos")
+                .queryParam("cursor", expectedCursor)
+                .queryParam("total", "false")
+                .queryParam("consistent", "true")
+                .accept(MediaType.APPLICATION_JSON);
+
+        final var response = this.mvc.perform(aRequest);
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$.total", equalTo((int) Pagination.UNKNOWN_TOTAL)))
+                .andExpect(jsonPath("$.next_cursor", equalTo(expectedNextCursor)))
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].id", equalTo(aVideo.id())));
+
+        final var captor = ArgumentCaptor.forClass(VideoSearchQuery.class);
+
+        verify(listVideosUseCase).execute(captor.capture());
+
+        Assertions.assertEquals(expectedCursor, captor.getValue().cursor());
+        Assertions.assertFalse(captor.getValue().withTotal());
+        Assertions.assertTrue(captor.getValue().consistent());
+        Assertions.assertEquals(expectedPerPage, captor.getValue().perPage());
     }
 
     @Test
@@ -699,21 +971,26 @@ class VideoAPITest {
         final var expectedMediaType = VideoMediaType.VIDEO;
         final var expectedResource = FixtureUtils.Videos.resource(expectedMediaType);
 
-        final var expectedMedia = new MediaOutput(expectedResource.content(), expectedResource.contentType(), expectedResource.name());
+        final var expectedMedia = MediaOutput.with(expectedResource);
 
         when(getMediaUseCase.execute(any())).thenReturn(expectedMedia);
 
         // when
         final var aRequest = get("/videos/{id}/medias/{type}", expectedId.getValue(), expectedMediaType.name());
 
-        final var response = this.mvc.perform(aRequest);
+        final var result = this.mvc.perform(aRequest)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        final var response = this.mvc.perform(asyncDispatch(result));
 
         // then
         response.andExpect(status().isOk())
                 .andExpect(header().string(CONTENT_TYPE, expectedMedia.contentType()))
-                .andExpect(header().string(CONTENT_LENGTH, String.valueOf(expectedMedia.content().length)))
+                .andExpect(header().string(CONTENT_LENGTH, String.valueOf(expectedResource.content().length)))
+                .andExpect(header().string(ACCEPT_RANGES, "bytes"))
                 .andExpect(header().string(CONTENT_DISPOSITION, "attachment; filename=%s".formatted(expectedMedia.name())))
-                .andExpect(content().bytes(expectedMedia.content()));
+                .andExpect(content().bytes(expectedResource.content()));
 
         final var captor = ArgumentCaptor.forClass(GetMediaCommand.class);
 
@@ -724,6 +1001,80 @@ class VideoAPITest {
         Assertions.assertEquals(expectedMediaType.name(), actualCmd.mediaType());
     }
 
+    @Test
+    void givenAValidRange_whenCallsGetMediaById_shouldReturnPartialContent() throws Exception {
+        // given
+        final var expectedId = VideoID.unique();
+        final var expectedMediaType = VideoMediaType.VIDEO;
+        final var expectedResource = FixtureUtils.Videos.resource(expectedMediaType);
+        final var expectedLength = expectedResource.content().length;
+
+        when(getMediaUseCase.execute(any())).thenReturn(MediaOutput.with(expectedResource));
+
+        // when
+        final var aRequest = get("/videos/{id}/medias/{type}", expectedId.getValue(), expectedMediaType.name())
+                .header(RANGE, "bytes=2-4");
+
+        final var result = this.mvc.perform(aRequest)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        final var response = this.mvc.perform(asyncDispatch(result));
+
+        // then
+        response.andExpect(status().isPartialContent())
+                .andExpect(header().string(CONTENT_LENGTH, "3"))
+                .andExpect(header().string(CONTENT_RANGE, "bytes 2-4/%d".formatted(expectedLength)))
+                .andExpect(content().bytes(Arrays.copyOfRange(expectedResource.content(), 2, 5)));
+    }
+
+    @Test
+    void givenAStaleIfRange_whenCallsGetMediaById_shouldReturnWholeContent() throws Exception {
+        // given
+        final var expectedId = VideoID.unique();
+        final var expectedMediaType = VideoMediaType.VIDEO;
+        final var expectedResource = FixtureUtils.Videos.resource(expectedMediaType);
+
+        when(getMediaUseCase.execute(any())).thenReturn(MediaOutput.with(expectedResource));
+
+        // when
+        final var aRequest = get("/videos/{id}/medias/{type}", expectedId.getValue(), expectedMediaType.name())
+                .header(RANGE, "bytes=2-4")
+                .header(IF_RANGE, "\"stale\"");
+
+        final var result = this.mvc.perform(aRequest)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        final var response = this.mvc.perform(asyncDispatch(result));
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(header().string(CONTENT_LENGTH, String.valueOf(expectedResource.content().length)))
+                .andExpect(content().bytes(expectedResource.content()));
+    }
+
+    @Test
+    void givenAnUnsatisfiableRange_whenCallsGetMediaById_shouldReturnRangeNotSatisfiable() throws Exception {
+        // given
+        final var expectedId = VideoID.unique();
+        final var expectedMediaType = VideoMediaType.VIDEO;
+        final var expectedResource = FixtureUtils.Videos.resource(expectedMediaType);
+        final var expectedLength = expectedResource.content().length;
+
+        when(getMediaUseCase.execute(any())).thenReturn(MediaOutput.with(expectedResource));
+
+        // when
+        final var aRequest = get("/videos/{id}/medias/{type}", expectedId.getValue(), expectedMediaType.name())
+                .header(RANGE, "bytes=%d-".formatted(expectedLength));
+
+        final var response = this.mvc.perform(aRequest);
+
+        // then
+        response.andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string(CONTENT_RANGE, "bytes */%d".formatted(expectedLength)));
+    }
+
     @Test
     void givenAValidVideoIdAndFile_whenCallsUploadMedia_shouldStoreIt() throws Exception {
         // given
@@ -758,7 +1109,9 @@ class VideoAPITest {
 
         final var actualCmd = captor.getValue();
         Assertions.assertEquals(expectedId.getValue(), actualCmd.videoId());
-        Assertions.assertEquals(expectedResource.content(), actualCmd.videoResource().resource().content());
+        Assertions.assertTrue(actualCmd.videoResource().resource().isStreamed());
+        Assertions.assertEquals(expectedResource.length(), actualCmd.videoResource().resource().length());
+        Assertions.assertArrayEquals(expectedResource.content(), actualCmd.videoResource().resource().openStream().readAllBytes());
         Assertions.assertEquals(expectedResource.name(), actualCmd.videoResource().resource().name());
         Assertions.assertEquals(expectedResource.contentType(), actualCmd.videoResource().resource().contentType());
         Assertions.assertEquals(expectedType, actualCmd.videoResource().type());
@@ -786,4 +1139,176 @@ class VideoAPITest {
                 .andExpect(header().string(CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE))
                 .andExpect(jsonPath("$.message", equalTo("Invalid INVALID for VideoMediaType")));
     }
-}
+
+    @Test
+    void givenAValidCommand_whenCallsInitiateMediaUpload_shouldReturnTheUploadId() throws Exception {
+        // given
+        final var expectedId = VideoID.unique();
+        final var expectedType = VideoMediaType.VIDEO;
+        final var expectedUploadId = IdUtils.uuid();
+        final var aRequestBody = new InitiateMediaUploadRequest("video/mp4", "master.mp4");
+
+        when(initiateMediaUploadUseCase.execute(any()))
+                .thenReturn(new InitiateMediaUploadOutput(expectedId.getValue(), expectedType, expectedUploadId));
+
+        // when
+        final var aRequest = post("/videos/{id}/medias/{type}/uploads", expectedId.getValue(), expectedType.name())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(this.mapper.writeValueAsString(aRequestBody));
+
+        final var response = this.mvc.perform(aRequest);
+
+        // then
+        response.andExpect(status().isCreated())
+                .andExpect(header().string(LOCATION, "/videos/%s/medias/%s/uploads/%s".formatted(expectedId.getValue(), expectedType.name(), expectedUploadId)))
+                .andExpect(jsonPath("$.video_id", equalTo(expectedId.getValue())))
+                .andExpect(jsonPath("$.media_type", equalTo(expectedType.name())))
+                .andExpect(jsonPath("$.upload_id", equalTo(expectedUploadId)))
+                .andExpect(jsonPath("$.parts", hasSize(0)));
+
+        final var captor = ArgumentCaptor.forClass(InitiateMediaUploadCommand.class);
+
+        verify(this.initiateMediaUploadUseCase).execute(captor.capture());
+
+        final var actualCmd = captor.getValue();
+        Assertions.assertEquals(expectedId.getValue(), actualCmd.videoId());
+        Assertions.assertEquals(expectedType.name(), actualCmd.mediaType());
+        Assertions.assertEquals(aRequestBody.contentType(), actualCmd.contentType());
+        Assertions.assertEquals(aRequestBody.name(), actualCmd.name());
+    }
+
+    @Test
+    void givenAValidUpload_whenCallsGetMediaUpload_shouldReturnItsParts() throws Exception {
+        // given
+        final var expectedId = VideoID.unique();
+        final var expectedType = VideoMediaType.VIDEO;
+        final var expectedUploadId = IdUtils.uuid();
+        final var expectedPart = MediaUploadPart.with(1, 8, FixtureUtils.checksum());
+
+        when(getMediaUploadUseCase.execute(any()))
+                .thenReturn(new MediaUploadOutput(expectedId.getValue(), expectedType, expectedUploadId, List.of(expectedPart)));
+
+        // when
+        final var aRequest = get("/videos/{id}/medias/{type}/uploads/{uploadId}", expectedId.getValue(), expectedType.name(), expectedUploadId);
+
+        final var response = this.mvc.perform(aRequest);
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$.upload_id", equalTo(expectedUploadId)))
+                .andExpect(jsonPath("$.parts", hasSize(1)))
+                .andExpect(jsonPath("$.parts[0].part_number", equalTo(expectedPart.number())))
+                .andExpect(jsonPath("$.parts[0].length", equalTo(8)))
+                .andExpect(jsonPath("$.parts[0].checksum", equalTo(expectedPart.checksum())));
+    }
+
+    @Test
+    void givenAPart_whenCallsUploadMediaPart_shouldStreamItWithTheChecksum() throws Exception {
+        // given
+        final var expectedId = VideoID.unique();
+        final var expectedType = VideoMediaType.VIDEO;
+        final var expectedUploadId = IdUtils.uuid();
+        final var expectedContent = "Conteudo".getBytes();
+        final var expectedChecksum = FixtureUtils.checksum();
+
+        when(uploadMediaPartUseCase.execute(any()))
+                .thenAnswer(invocation -> {
+                    final UploadMediaPartCommand aCmd = invocation.getArgument(0);
+                    // the body must be read while the request is alive
+                    Assertions.assertArrayEquals(expectedContent, aCmd.part().openStream().readAllBytes());
+                    return new UploadMediaPartOutput(aCmd.partNumber(), aCmd.part().length(), expectedChecksum);
+                });
+
+        // when
+        final var aRequest = put("/videos/{id}/medias/{type}/uploads/{uploadId}/parts/{partNumber}",
+                expectedId.getValue(), expectedType.name(), expectedUploadId, 3)
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .header(VideoAPI.PART_CHECKSUM, expectedChecksum)
+                .content(expectedContent);
+
+        final var response = this.mvc.perform(aRequest);
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$.part_number", equalTo(3)))
+                .andExpect(jsonPath("$.length", equalTo(expectedContent.length)))
+                .andExpect(jsonPath("$.checksum", equalTo(expectedChecksum)));
+
+        final var captor = ArgumentCaptor.forClass(UploadMediaPartCommand.class);
+
+        verify(this.uploadMediaPartUseCase).execute(captor.capture());
+
+        final var actualCmd = captor.getValue();
+        Assertions.assertEquals(expectedId.getValue(), actualCmd.videoId());
+        Assertions.assertEquals(expectedType.name(), actualCmd.mediaType());
+        Assertions.assertEquals(expectedUploadId, actualCmd.uploadId());
+        Assertions.assertEquals(expectedChecksum, actualCmd.checksum());
+        Assertions.assertTrue(actualCmd.part().isStreamed());
+    }
+
+    @Test
+    void givenAValidUpload_whenCallsCompleteMediaUpload_shouldCreateTheMedia() throws Exception {
+        // given
+        final var expectedId = VideoID.unique();
+        final var expectedType = VideoMediaType.TRAILER;
+        final var expectedUploadId = IdUtils.uuid();
+
+        when(completeMediaUploadUseCase.execute(any()))
+                .thenReturn(new UploadMediaOutput(expectedId.getValue(), expectedType));
+
+        // when
+        final var aRequest = post("/videos/{id}/medias/{type}/uploads/{uploadId}", expectedId.getValue(), expectedType.name(), expectedUploadId)
+                .param("parts", "4");
+
+        final var response = this.mvc.perform(aRequest);
+
+        // then
+        response.andExpect(status().isCreated())
+                .andExpect(header().string(LOCATION, "/videos/%s/medias/%s".formatted(expectedId.getValue(), expectedType.name())))
+                .andExpect(jsonPath("$.video_id", equalTo(expectedId.getValue())))
+                .andExpect(jsonPath("$.media_type", equalTo(expectedType.name())));
+
+        final var captor = ArgumentCaptor.forClass(CompleteMediaUploadCommand.class);
+
+        verify(this.completeMediaUploadUseCase).execute(captor.capture());
+
+        Assertions.assertEquals(expectedUploadId, captor.getValue().uploadId());
+        Assertions.assertEquals(4, captor.getValue().parts());
+    }
+
+    @Test
+    void givenVideos_whenCallsExport_shouldStreamOneJsonLinePerVideo() throws Exception {
+        // given
+        final var videos = List.of(
+                new VideoPreview(FixtureUtils.video()),
+                new VideoPreview(FixtureUtils.video())
+        );
+
+        doAnswer(invocation -> {
+            final Consumer<VideoListOutput> consumer = invocation.getArgument(0);
+            videos.forEach(it -> consumer.accept(VideoListOutput.from(it)));
+            return null;
+        }).when(exportVideosUseCase).execute(any());
+
+        // when
+        final var result = this.mvc.perform(get("/videos/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        final var response = this.mvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string(CONTENT_TYPE, MediaType.APPLICATION_NDJSON_VALUE))
+                .andExpect(header().string(CONTENT_DISPOSITION, "attachment; filename=\"videos.ndjson\""))
+                .andReturn();
+
+        // then
+        final var lines = response.getResponse().getContentAsString(StandardCharsets.UTF_8).split("\n");
+
+        Assertions.assertEquals(2, lines.length);
+        for (int i = 0; i < lines.length; i++) {
+            final var aLine = mapper.readTree(lines[i]);
+            Assertions.assertEquals(videos.get(i).id(), aLine.get("id").asText());
+            Assertions.assertEquals(videos.get(i).title(), aLine.get("title").asText());
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,115 @@
+package pt.amane.infrastructure.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import pt.amane.UnitTest;
+
+class ExistenceCacheTest extends UnitTest {
+
+  private final ExistenceCache target = new ExistenceCache(Duration.ofMinutes(1), 100);
+
+  private final List<List<String>> loads = new ArrayList<>();
+
+  @Test
+  void givenLoadedIds_whenCallsExistingAgain_shouldNotCallTheLoader() {
+
+    //given
+    target.existing(List.of("1", "2"), loader("1"));
+
+    //when
+    final var actualIds = target.existing(List.of("2", "1"), loader("1"));
+
+    //then
+    Assertions.assertEquals(List.of("1"), actualIds);
+    Assertions.assertEquals(List.of(List.of("1", "2")), loads);
+    Assertions.assertEquals(2, target.stats().hitCount());
+    Assertions.assertEquals(2, target.stats().missCount());
+  }
+
+  @Test
+  void givenARegistry_whenCallsBindTo_shouldPublishTheHitsAndMisses() {
+
+    //given
+    final var registry = new SimpleMeterRegistry();
+    target.bindTo(registry, "existence.categories");
+
+    //when
+    target.existing(List.of("1", "2"), loader("1"));
+    target.existing(List.of("1"), loader("1"));
+
+    //then
+    Assertions.assertEquals(1, registry.get("cache.gets")
+        .tags("cache", "existence.categories", "result", "hit").functionCounter().count());
+    Assertions.assertEquals(2, registry.get("cache.gets")
+        .tags("cache", "existence.categories", "result", "miss").functionCounter().count());
+  }
+
+  @Test
+  void givenSomeCachedIds_whenCallsExisting_shouldLoadOnlyTheOthers() {
+
+    //given
+    target.existing(List.of("1"), loader("1"));
+
+    //when
+    final var actualIds = target.existing(List.of("3", "1", "2", "3"), loader("3"));
+
+    //then
+    Assertions.assertEquals(List.of("3", "1"), actualIds);
+    Assertions.assertEquals(List.of(List.of("1"), List.of("3", "2")), loads);
+  }
+
+  @Test
+  void givenAMissingIdCached_whenCallsInvalidate_shouldLoadItAgain() {
+
+    //given
+    target.existing(List.of("1"), loader());
+
+    //when
+    target.invalidate("1");
+    final var actualIds = target.existing(List.of("1"), loader("1"));
+
+    //then
+    Assertions.assertEquals(List.of("1"), actualIds);
+    Assertions.assertEquals(2, loads.size());
+  }
+
+  @Test
+  void givenAnInvalidationWhileLoading_whenCallsExisting_shouldNotCacheTheLoadedIds() {
+
+    //given
+    final var expectedIds = List.of("1");
+
+    //when
+    final var actualIds = target.existing(expectedIds, ids -> {
+      target.invalidate("1");
+      return List.of();
+    });
+
+    //then
+    Assertions.assertTrue(actualIds.isEmpty());
+    Assertions.assertEquals(0, target.size());
+  }
+
+  @Test
+  void givenEmptyIds_whenCallsExisting_shouldNotCallTheLoader() {
+
+    //when
+    final var actualIds = target.existing(List.of(), loader("1"));
+
+    //then
+    Assertions.assertTrue(actualIds.isEmpty());
+    Assertions.assertTrue(loads.isEmpty());
+  }
+
+  private Function<List<String>, List<String>> loader(final String... existing) {
+    return ids -> {
+      loads.add(ids);
+      return ids.stream().filter(List.of(existing)::contains).toList();
+    };
+  }
+}
@@ -127,6 +127,21 @@ class CastMemberGatewayImplTest {
     Assertions.assertEquals(expectedId.getValue(), actualMember.get(0).getValue());
   }
 
+  @Test
+  void givenACheckedCastMember_whenCallsDeleteByIdAndExistsByIds_shouldReturnEmpty() {
+    // given
+    final var aMember = castMemberGateway.create(CastMember.newCastmember("Vin", CastMemberType.DIRECTOR));
+    final var expectedId = aMember.getId();
+
+    Assertions.assertEquals(List.of(expectedId), castMemberGateway.existsByIds(List.of(expectedId)));
+
+    // when
+    castMemberGateway.deleteById(expectedId);
+
+    // then
+    Assertions.assertTrue(castMemberGateway.existsByIds(List.of(expectedId)).isEmpty());
+  }
+
 
   @Test
   void givenAValidCastMember_whenCallsDeleteById_shouldDeleteIt() {
@@ -1,5 +1,6 @@
 package pt.amane.infrastructure.category;
 
+import java.util.ArrayList;
 import java.util.List;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -11,6 +12,8 @@ import pt.amane.Main;
 import pt.amane.domain.category.Category;
 import pt.amane.domain.category.CategoryGateway;
 import pt.amane.domain.category.CategoryID;
+import pt.amane.domain.exception.DomainException;
+import pt.amane.domain.pagination.Pagination;
 import pt.amane.domain.pagination.SearchQuery;
 import pt.amane.infrastructure.category.persistence.CategoryJpaEntity;
 import pt.amane.infrastructure.category.persistence.CategoryRepository;
@@ -361,4 +364,115 @@ class CategoryGatewayTest {
     Assertions.assertEquals(expectedPerPage, actualResult.items().size());
     Assertions.assertEquals(filmes.getId(), actualResult.items().get(0).getId());
   }
+
+  @Test
+  void givenPrePersistedCategories_whenCallsFindAllFollowingTheCursor_shouldReturnEachCategoryOnce() {
+
+    final var filmes = Category.newCategory("Filmes", null, true);
+    final var series = Category.newCategory("Séries", null, true);
+    final var documentarios = Category.newCategory("Documentários", null, true);
+
+    categoryRepository.saveAll(List.of(
+        CategoryJpaEntity.from(filmes),
+        CategoryJpaEntity.from(series),
+        CategoryJpaEntity.from(documentarios)
+    ));
+
+    final var expectedIds = List.of(documentarios.getId(), filmes.getId(), series.getId());
+
+    final var firstPage = categoryGateway.findAll(new SearchQuery(0, 1, "", "name", "asc"));
+    final var actualIds = new ArrayList<>(firstPage.items().stream().map(Category::getId).toList());
+
+    var cursor = firstPage.nextCursor();
+    while (cursor != null) {
+      final var actualResult = categoryGateway.findAll(new SearchQuery(0, 1, "", "name", "asc", cursor));
+
+      Assertions.assertEquals(Pagination.UNKNOWN_TOTAL, actualResult.total());
+      Assertions.assertEquals(1, actualResult.items().size());
+
+      actualIds.addAll(actualResult.items().stream().map(Category::getId).toList());
+      cursor = actualResult.nextCursor();
+    }
+
+    Assertions.assertEquals(3, firstPage.total());
+    Assertions.assertEquals(expectedIds, actualIds);
+  }
+
+  @Test
+  void givenCategoriesWithNullDescriptions_whenCallsFindAllFollowingTheCursorByDescription_shouldReturnEachCategoryOnce() {
+
+    final var filmes = Category.newCategory("Filmes", null, true);
+    final var series = Category.newCategory("Séries", "A categoria mais assistida", true);
+    final var documentarios = Category.newCategory("Documentários", null, true);
+
+    categoryRepository.saveAll(List.of(
+        CategoryJpaEntity.from(filmes),
+        CategoryJpaEntity.from(series),
+        CategoryJpaEntity.from(documentarios)
+    ));
+
+    for (final var direction : List.of("asc", "desc")) {
+      final var expectedIds = categoryGateway.findAll(new SearchQuery(0, 3, "", "description", direction)).items()
+          .stream()
+          .map(Category::getId)
+          .toList();
+
+      final var actualIds = new ArrayList<CategoryID>();
+      String cursor = null;
+      do {
+        final var actualResult = categoryGateway.findAll(new SearchQuery(0, 1, "", "description", direction, cursor));
+        actualIds.addAll(actualResult.items().stream().map(Category::getId).toList());
+        cursor = actualResult.nextCursor();
+      } while (cursor != null);
+
+      Assertions.assertEquals(3, expectedIds.size());
+      Assertions.assertEquals(expectedIds, actualIds);
+    }
+  }
+
+  @Test
+  void givenACursorOfAnotherSort_whenCallsFindAll_shouldThrowDomainException() {
+
+    final var expectedErrorMessage = "'cursor' is invalid for this sort";
+
+    categoryRepository.saveAll(List.of(
+        CategoryJpaEntity.from(Category.newCategory("Filmes", null, true)),
+        CategoryJpaEntity.from(Category.newCategory("Séries", null, true))
+    ));
+
+    final var aCursor = categoryGateway.findAll(new SearchQuery(0, 1, "", "name", "asc")).nextCursor();
+
+    final var actualException = Assertions.assertThrows(
+        DomainException.class,
+        () -> categoryGateway.findAll(new SearchQuery(0, 1, "", "createdAt", "asc", aCursor))
+    );
+
+    Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+  }
+
+  @Test
+  void givenPrePersistedCategoriesAndNoTotal_whenCallsFindAll_shouldReturnPageWithoutCounting() {
+
+    final var filmes = Category.newCategory("Filmes", null, true);
+    final var series = Category.newCategory("Séries", null, true);
+    final var documentarios = Category.newCategory("Documentários", null, true);
+
+    categoryRepository.saveAll(List.of(
+        CategoryJpaEntity.from(filmes),
+        CategoryJpaEntity.from(series),
+        CategoryJpaEntity.from(documentarios)
+    ));
+
+    final var actualMiddlePage = categoryGateway.findAll(new SearchQuery(1, 1, "", "name", "asc", null, false));
+    final var actualLastPage = categoryGateway.findAll(new SearchQuery(2, 1, "", "name", "asc", null, false));
+
+    Assertions.assertEquals(1, actualMiddlePage.currentPage());
+    Assertions.assertEquals(Pagination.UNKNOWN_TOTAL, actualMiddlePage.total());
+    Assertions.assertEquals(List.of(filmes.getId()), actualMiddlePage.items().stream().map(Category::getId).toList());
+    Assertions.assertNotNull(actualMiddlePage.nextCursor());
+
+    Assertions.assertEquals(Pagination.UNKNOWN_TOTAL, actualLastPage.total());
+    Assertions.assertEquals(List.of(series.getId()), actualLastPage.items().stream().map(Category::getId).toList());
+    Assertions.assertNull(actualLastPage.nextCursor());
+  }
 }
@@ -0,0 +1,137 @@
+package pt.amane.infrastructure.dedupe;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import pt.amane.IntegrationTest;
+import pt.amane.domain.utils.IdUtils;
+import pt.amane.domain.utils.InstantUtils;
+import pt.amane.domain.video.MediaStatus;
+import pt.amane.infrastructure.dedupe.persistence.ProcessedEncoderResultID;
+import pt.amane.infrastructure.dedupe.persistence.ProcessedEncoderResultJpaEntity;
+import pt.amane.infrastructure.dedupe.persistence.ProcessedEncoderResultRepository;
+
+@IntegrationTest
+class EncoderResultDedupeStoreTest {
+
+  @Autowired
+  private ProcessedEncoderResultRepository repository;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  private TransactionTemplate transactionTemplate;
+
+  private EncoderResultDedupeStore store;
+
+  @BeforeEach
+  void setUp() {
+    transactionTemplate = new TransactionTemplate(transactionManager);
+    store = new EncoderResultDedupeStore(
+        repository,
+        transactionManager,
+        true,
+        1000,
+        0.01,
+        Duration.ofDays(1),
+        Duration.ofHours(1),
+        100
+    );
+  }
+
+  @Test
+  void givenRecordedResults_whenCallsProcessed_shouldReturnOnlyTheRecordedOnesAndCountThemAsDuplicates() {
+    // given
+    final var aVideoId = IdUtils.uuid();
+    final var aResourceId = IdUtils.uuid();
+    final var completed = ProcessedEncoderResultID.from(aVideoId, aResourceId, MediaStatus.COMPLETED);
+    final var processing = ProcessedEncoderResultID.from(aVideoId, aResourceId, MediaStatus.PROCESSING);
+    final var another = ProcessedEncoderResultID.from(IdUtils.uuid(), IdUtils.uuid(), MediaStatus.COMPLETED);
+
+    transactionTemplate.executeWithoutResult(status -> store.record(List.of(completed, another)));
+    // recorded twice, by a redelivery racing the first one
+    transactionTemplate.executeWithoutResult(status -> store.record(List.of(completed)));
+
+    // when
+    final var actualProcessed = store.processed(List.of(completed, processing));
+
+    // then
+    Assertions.assertEquals(Set.of(completed), actualProcessed);
+    Assertions.assertEquals(2, repository.count());
+
+    final var actualStats = store.stats();
+    Assertions.assertEquals(2, actualStats.checked());
+    Assertions.assertEquals(1, actualStats.duplicates());
+    Assertions.assertEquals(0.5, actualStats.duplicateRate());
+    Assertions.assertEquals(3, actualStats.recorded());
+  }
+
+  @Test
+  void givenABoundRegistry_whenDuplicatesAreDropped_shouldPublishTheDuplicateRate() {
+    // given
+    final var registry = new SimpleMeterRegistry();
+    store.bindTo(registry);
+
+    final var recorded = ProcessedEncoderResultID.from(IdUtils.uuid(), IdUtils.uuid(), MediaStatus.COMPLETED);
+    final var another = ProcessedEncoderResultID.from(IdUtils.uuid(), IdUtils.uuid(), MediaStatus.COMPLETED);
+
+    transactionTemplate.executeWithoutResult(status -> store.record(List.of(recorded)));
+
+    // when
+    store.processed(List.of(recorded, another, another, another));
+
+    // then
+    Assertions.assertEquals(4, registry.get("dedupe.encoder.results.checked").functionCounter().count());
+    Assertions.assertEquals(1, registry.get("dedupe.encoder.results.duplicates").functionCounter().count());
+    Assertions.assertEquals(1, registry.get("dedupe.encoder.results.recorded").functionCounter().count());
+    Assertions.assertEquals(0.25, registry.get("dedupe.encoder.results.duplicate.rate").gauge().value());
+    Assertions.assertEquals(1, registry.get("dedupe.encoder.results.filter.size").gauge().value());
+  }
+
+  @Test
+  void givenAResultRecordedByARolledBackTransaction_whenCallsProcessed_shouldConfirmItAgainstTheTable() {
+    // given
+    final var anId = ProcessedEncoderResultID.from(IdUtils.uuid(), IdUtils.uuid(), MediaStatus.COMPLETED);
+
+    transactionTemplate.executeWithoutResult(status -> {
+      store.record(List.of(anId));
+      status.setRollbackOnly();
+    });
+
+    // when
+    final var actualProcessed = store.processed(List.of(anId));
+
+    // then
+    Assertions.assertTrue(actualProcessed.isEmpty());
+    Assertions.assertEquals(0, store.stats().duplicates());
+    Assertions.assertEquals(1, store.stats().falsePositives());
+  }
+
+  @Test
+  void givenResultsOlderThanTheRetention_whenCallsRefresh_shouldPurgeThemAndKeepTheOthers() {
+    // given
+    final var old = ProcessedEncoderResultID.from(IdUtils.uuid(), IdUtils.uuid(), MediaStatus.COMPLETED);
+    final var recent = ProcessedEncoderResultID.from(IdUtils.uuid(), IdUtils.uuid(), MediaStatus.COMPLETED);
+
+    repository.saveAllAndFlush(List.of(
+        ProcessedEncoderResultJpaEntity.from(old, InstantUtils.now().minus(2, ChronoUnit.DAYS)),
+        ProcessedEncoderResultJpaEntity.from(recent, InstantUtils.now())
+    ));
+
+    // when
+    store.refresh();
+
+    // then
+    Assertions.assertEquals(List.of(recent), repository.findAll().stream().map(ProcessedEncoderResultJpaEntity::getId).toList());
+    Assertions.assertEquals(Set.of(recent), store.processed(List.of(old, recent)));
+    Assertions.assertEquals(1, store.stats().filterSize());
+  }
+}
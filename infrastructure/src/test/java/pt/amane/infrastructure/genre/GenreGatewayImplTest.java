@@ -1,5 +1,6 @@
 package pt.amane.infrastructure.genre;
 
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import org.junit.jupiter.api.Assertions;
@@ -555,6 +556,36 @@ class GenreGatewayImplTest {
     genreRepository.saveAndFlush(GenreJpaEntity.from(Genre.newGenre("Ficção científica", true)));
   }
 
+  @Test
+  void givenGenresWithCategories_whenCallsStreamAll_shouldHandThemWithTheirCategories() {
+    // given
+    final var filmes = categoryGateway.create(Category.newCategory("Filmes", null, true));
+    final var series = categoryGateway.create(Category.newCategory("Series", null, true));
+
+    final var acao = Genre.newGenre("Ação", true);
+    acao.addCategories(List.of(filmes.getId(), series.getId()));
+    final var drama = Genre.newGenre("Drama", true);
+
+    genreGateway.create(acao);
+    genreGateway.create(drama);
+
+    // when
+    final var actualGenres = new ArrayList<Genre>();
+    genreGateway.streamAll(actualGenres::add);
+
+    // then
+    Assertions.assertEquals(2, actualGenres.size());
+
+    final var actualAcao = actualGenres.stream().filter(it -> it.getId().equals(acao.getId())).findFirst().orElseThrow();
+    final var actualDrama = actualGenres.stream().filter(it -> it.getId().equals(drama.getId())).findFirst().orElseThrow();
+
+    Assertions.assertEquals(
+        sorted(List.of(filmes.getId(), series.getId())),
+        sorted(actualAcao.getCategories())
+    );
+    Assertions.assertTrue(actualDrama.getCategories().isEmpty());
+  }
+
   private List<CategoryID> sorted(final List<CategoryID> expectedCategories) {
     return expectedCategories.stream()
         .sorted(Comparator.comparing(CategoryID::getValue))
@@ -0,0 +1,155 @@
+package pt.amane.infrastructure.outbox;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import pt.amane.IntegrationTest;
+import pt.amane.domain.utils.IdUtils;
+import pt.amane.domain.utils.InstantUtils;
+import pt.amane.domain.video.VideoMediaCreated;
+import pt.amane.infrastructure.outbox.persistence.OutboxEventJpaEntity;
+import pt.amane.infrastructure.outbox.persistence.OutboxEventRepository;
+import pt.amane.infrastructure.services.EventService;
+
+@IntegrationTest
+class OutboxRelayTest {
+
+  @Autowired
+  private OutboxEventRepository outboxEventRepository;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  private EventService eventService;
+
+  private OutboxRelay relay;
+
+  @BeforeEach
+  void setUp() {
+    eventService = mock(EventService.class);
+    relay = new OutboxRelay(
+        outboxEventRepository,
+        eventService,
+        transactionManager,
+        false,
+        10,
+        Duration.ofSeconds(1),
+        Duration.ofSeconds(1),
+        Duration.ofSeconds(30)
+    );
+  }
+
+  @Test
+  void givenPendingEventsOfSeveralVideos_whenCallsDrain_shouldSendEachVideoEventsInOrderAndDeleteThem() {
+    // given
+    final var aVideoId = IdUtils.uuid();
+    final var anotherVideoId = IdUtils.uuid();
+
+    final var first = append(aVideoId, "/media/video");
+    final var second = append(aVideoId, "/media/trailer");
+    final var other = append(anotherVideoId, "/media/video");
+
+    // when
+    relay.drain();
+
+    // then
+    final var inOrder = inOrder(eventService);
+    inOrder.verify(eventService).sendAllJson(List.of(first.getPayload(), other.getPayload()));
+    inOrder.verify(eventService).sendAllJson(List.of(second.getPayload()));
+
+    Assertions.assertEquals(0, outboxEventRepository.count());
+    Assertions.assertEquals(3, relay.stats().relayed());
+    Assertions.assertEquals(0, relay.stats().pending());
+  }
+
+  @Test
+  void givenABatchThatCouldNotBeSent_whenCallsRelayBatch_shouldRetryItLaterAndHoldTheNextEventsOfItsVideos() {
+    // given
+    final var aVideoId = IdUtils.uuid();
+    final var anotherVideoId = IdUtils.uuid();
+
+    final var failing = append(aVideoId, "/media/video");
+    final var held = append(aVideoId, "/media/trailer");
+    final var other = append(anotherVideoId, "/media/video");
+
+    doThrow(new IllegalStateException("broker is down")).when(eventService)
+        .sendAllJson(List.of(failing.getPayload(), other.getPayload()));
+
+    // when
+    final var actualSent = relay.relayBatch();
+
+    // then
+    Assertions.assertEquals(0, actualSent);
+
+    final var actualFailing = outboxEventRepository.findById(failing.getId()).get();
+    Assertions.assertEquals(1, actualFailing.getAttempts());
+    Assertions.assertEquals("broker is down", actualFailing.getLastError());
+    Assertions.assertTrue(actualFailing.getNextAttemptAt().isAfter(InstantUtils.now()));
+    Assertions.assertEquals(1, outboxEventRepository.findById(other.getId()).get().getAttempts());
+
+    Assertions.assertEquals(0, relay.relayBatch());
+    verify(eventService, times(1)).sendAllJson(anyList());
+    Assertions.assertEquals(0, outboxEventRepository.findById(held.getId()).get().getAttempts());
+    Assertions.assertEquals(3, relay.stats().pending());
+    Assertions.assertEquals(2, relay.stats().failures());
+  }
+
+  @Test
+  void givenABoundRegistry_whenEventsArePendingAndRelayed_shouldPublishTheStatsAsMeters() {
+    // given
+    final var registry = new SimpleMeterRegistry();
+    relay.bindTo(registry);
+
+    final var aVideoId = IdUtils.uuid();
+    outboxEventRepository.save(OutboxEventJpaEntity.from(
+        aVideoId,
+        new VideoMediaCreated(aVideoId, "/media/video"),
+        InstantUtils.now().minus(5, ChronoUnit.SECONDS)
+    ));
+    append(IdUtils.uuid(), "/media/video");
+
+    // when
+    final var actualPending = registry.get("outbox.pending").gauge().value();
+    final var actualLag = registry.get("outbox.lag").timeGauge().value(TimeUnit.SECONDS);
+
+    relay.drain();
+
+    // then
+    Assertions.assertEquals(2, actualPending);
+    Assertions.assertTrue(actualLag >= 5);
+    Assertions.assertEquals(0, registry.get("outbox.pending").gauge().value());
+    Assertions.assertEquals(0, registry.get("outbox.lag").timeGauge().value());
+    Assertions.assertEquals(2, registry.get("outbox.relayed").functionCounter().count());
+    Assertions.assertEquals(0, registry.get("outbox.failures").functionCounter().count());
+    Assertions.assertTrue(registry.get("outbox.last.relayed.lag").timeGauge().value(TimeUnit.SECONDS) >= 5);
+  }
+
+  @Test
+  void givenSeveralAttempts_whenCallsBackoff_shouldDoubleItUpToTheMaximum() {
+    Assertions.assertEquals(Duration.ofSeconds(1), relay.backoff(1));
+    Assertions.assertEquals(Duration.ofSeconds(2), relay.backoff(2));
+    Assertions.assertEquals(Duration.ofSeconds(16), relay.backoff(5));
+    Assertions.assertEquals(Duration.ofSeconds(30), relay.backoff(6));
+    Assertions.assertEquals(Duration.ofSeconds(30), relay.backoff(1_000));
+  }
+
+  private OutboxEventJpaEntity append(final String aVideoId, final String aLocation) {
+    return outboxEventRepository.save(
+        OutboxEventJpaEntity.from(aVideoId, new VideoMediaCreated(aVideoId, aLocation), InstantUtils.now())
+    );
+  }
+}
@@ -0,0 +1,159 @@
+package pt.amane.infrastructure.services.impl;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import pt.amane.UnitTest;
+import pt.amane.infrastructure.services.EventService;
+
+class BufferedEventServiceTest extends UnitTest {
+
+  private BufferedEventService target;
+
+  @AfterEach
+  void tearDown() {
+    if (target != null) {
+      target.stop();
+    }
+  }
+
+  @Test
+  void givenBufferedEvents_whenCallsSendAllJson_shouldPublishThemInOrderAndWaitForTheirBatch() {
+    // given
+    final var delegate = new RecordingEventService();
+    target = new BufferedEventService(delegate, 16, 10, Duration.ofSeconds(1));
+
+    // when
+    target.sendJson("1");
+    target.sendJson("2");
+    target.sendAllJson(List.of("3", "4"));
+
+    // then
+    Assertions.assertEquals(List.of("1", "2", "3", "4"), delegate.sent());
+    Assertions.assertEquals(4, target.stats().published());
+    Assertions.assertEquals(0, target.stats().depth());
+  }
+
+  @Test
+  void givenABrokerFailure_whenCallsSendAllJson_shouldThrowIt() {
+    // given
+    final var expectedError = new IllegalStateException("broker is down");
+    final var delegate = new RecordingEventService() {
+      @Override
+      public void sendAllJson(final List<String> jsons) {
+        throw expectedError;
+      }
+    };
+    target = new BufferedEventService(delegate, 16, 10, Duration.ofSeconds(1));
+
+    // when
+    final var actualError = Assertions.assertThrows(
+        IllegalStateException.class,
+        () -> target.sendAllJson(List.of("1", "2"))
+    );
+
+    // then
+    Assertions.assertSame(expectedError, actualError);
+    Assertions.assertEquals(2, target.stats().failed());
+  }
+
+  @Test
+  void givenAFullBuffer_whenCallsSendJson_shouldWaitThenRefuseTheEvent() throws InterruptedException {
+    // given
+    final var publishing = new CountDownLatch(1);
+    final var release = new CountDownLatch(1);
+    final var delegate = new RecordingEventService() {
+      @Override
+      public void sendAllJson(final List<String> jsons) {
+        publishing.countDown();
+        await(release);
+        super.sendAllJson(jsons);
+      }
+    };
+    target = new BufferedEventService(delegate, 1, 10, Duration.ofMillis(50));
+
+    target.sendJson("1");
+    Assertions.assertTrue(publishing.await(1, TimeUnit.SECONDS));
+    target.sendJson("2");
+
+    // when
+    Assertions.assertThrows(IllegalStateException.class, () -> target.sendJson("3"));
+
+    // then
+    Assertions.assertEquals(1, target.stats().depth());
+    Assertions.assertEquals(1, target.stats().rejected());
+
+    release.countDown();
+    target.stop();
+    Assertions.assertEquals(List.of("1", "2"), delegate.sent());
+  }
+
+  @Test
+  void givenABoundRegistry_whenEventsArePublished_shouldPublishTheStatsAsMeters() {
+    // given
+    final var registry = new SimpleMeterRegistry();
+    target = new BufferedEventService(new RecordingEventService(), 16, 10, Duration.ofSeconds(1));
+    target.bindTo(registry);
+
+    // when
+    target.sendAllJson(List.of("1", "2", "3"));
+
+    // then
+    Assertions.assertEquals(0, registry.get("events.publisher.buffer.depth").gauge().value());
+    Assertions.assertEquals(16, registry.get("events.publisher.buffer.capacity").gauge().value());
+    Assertions.assertEquals(3, registry.get("events.publisher.published").functionCounter().count());
+    Assertions.assertEquals(0, registry.get("events.publisher.failed").functionCounter().count());
+    Assertions.assertEquals(0, registry.get("events.publisher.rejected").functionCounter().count());
+    Assertions.assertEquals(
+        target.stats().lastBatchLatency().toNanos(),
+        registry.get("events.publisher.batch.latency.last").timeGauge().value(TimeUnit.NANOSECONDS),
+        1
+    );
+    Assertions.assertEquals(
+        target.stats().averageBatchLatency().toNanos(),
+        registry.get("events.publisher.batch.latency.average").timeGauge().value(TimeUnit.NANOSECONDS),
+        1
+    );
+  }
+
+  private static void await(final CountDownLatch latch) {
+    try {
+      latch.await(1, TimeUnit.SECONDS);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static class RecordingEventService implements EventService {
+
+    private final List<List<String>> batches = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void send(final Object event) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void sendJson(final String json) {
+      sendAllJson(List.of(json));
+    }
+
+    @Override
+    public void sendAllJson(final List<String> jsons) {
+      this.batches.add(jsons);
+    }
+
+    List<String> sent() {
+      final var sent = new ArrayList<String>();
+      this.batches.forEach(sent::addAll);
+      return sent;
+    }
+  }
+}
@@ -0,0 +1,146 @@
+package pt.amane.infrastructure.services.impl;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.Channels;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import pt.amane.UnitTest;
+import pt.amane.domain.exception.InternalErrorException;
+import pt.amane.domain.utils.FixtureUtils;
+import pt.amane.domain.video.Resource;
+import pt.amane.domain.video.VideoMediaType;
+import pt.amane.infrastructure.utils.HashingUtils;
+
+class FileSystemStorageServiceTest extends UnitTest {
+
+  @TempDir
+  private Path root;
+
+  private FileSystemStorageService target;
+
+  @BeforeEach
+  void setUp() {
+    this.target = new FileSystemStorageService(root);
+  }
+
+  @Test
+  void givenValidResource_whenCallsStore_shouldStoreIt() {
+    final var expectedResource = FixtureUtils.Videos.resource(VideoMediaType.THUMBNAIL);
+    final var expectedId = "videoId-123/type-THUMBNAIL";
+
+    final var actualChecksum = this.target.store(expectedId, expectedResource);
+
+    final var actualContent = this.target.get(expectedId).get();
+
+    Assertions.assertEquals(expectedResource.checksum(), actualChecksum);
+    Assertions.assertArrayEquals(expectedResource.content(), actualContent.content());
+    Assertions.assertEquals(expectedResource.checksum(), actualContent.checksum());
+    Assertions.assertEquals(expectedResource.contentType(), actualContent.contentType());
+    Assertions.assertEquals(expectedResource.name(), actualContent.name());
+  }
+
+  @Test
+  void givenStreamedResource_whenCallsStore_shouldStoreItAndReturnChecksum() {
+    final var expectedContent = "Conteudo".getBytes();
+    final var expectedChecksum = HashingUtils.checksum(expectedContent);
+    final var expectedId = "videoId-123/type-VIDEO";
+    final var aResource = Resource.with(
+        () -> new ByteArrayInputStream(expectedContent),
+        expectedContent.length,
+        "video/mp4",
+        "video"
+    );
+
+    final var actualChecksum = this.target.store(expectedId, aResource);
+
+    final var actualContent = this.target.get(expectedId).get();
+
+    Assertions.assertEquals(expectedChecksum, actualChecksum);
+    Assertions.assertEquals(expectedChecksum, actualContent.checksum());
+    Assertions.assertArrayEquals(expectedContent, actualContent.content());
+  }
+
+  @Test
+  void givenStoredResource_whenCallsOpenAndTransferRange_shouldCopyOnlyTheRange() throws Exception {
+    final var expectedResource = FixtureUtils.Videos.resource(VideoMediaType.VIDEO);
+    final var expectedId = "videoId-123/type-VIDEO";
+
+    this.target.store(expectedId, expectedResource);
+
+    final var actualResource = this.target.open(expectedId).get();
+    final var out = new ByteArrayOutputStream();
+    final var actualCopied = actualResource.transferTo(2, 3, Channels.newChannel(out));
+
+    Assertions.assertTrue(actualResource.isStreamed());
+    Assertions.assertEquals(expectedResource.content().length, actualResource.length());
+    Assertions.assertEquals(3, actualCopied);
+    Assertions.assertEquals("nte", out.toString());
+  }
+
+  @Test
+  void givenResourceLargerThanTheGetLimit_whenCallsGet_shouldRefuseItButOpenIt() {
+    final var aResource = FixtureUtils.Videos.resource(VideoMediaType.VIDEO);
+    final var expectedId = "videoId-123/type-VIDEO";
+    final var aTarget = new FileSystemStorageService(root, aResource.content().length - 1);
+
+    aTarget.store(expectedId, aResource);
+
+    Assertions.assertThrows(InternalErrorException.class, () -> aTarget.get(expectedId));
+    Assertions.assertEquals(aResource.content().length, aTarget.open(expectedId).get().length());
+  }
+
+  @Test
+  void givenInvalidResource_whenCallsGet_shouldRetrieveEmpty() {
+    this.target.store("item", FixtureUtils.Videos.resource(VideoMediaType.THUMBNAIL));
+
+    Assertions.assertTrue(this.target.get("jajaja").isEmpty());
+    Assertions.assertTrue(this.target.open("jajaja").isEmpty());
+  }
+
+  @Test
+  void givenPrefix_whenCallsList_shouldRetrieveOnlyMatches() {
+    final var expectedResource = FixtureUtils.Videos.resource(VideoMediaType.THUMBNAIL);
+    final var expectedIds = List.of("videoId-1/type-VIDEO", "videoId-1/type-BANNER");
+
+    this.target.store("videoId-1/type-VIDEO", expectedResource);
+    this.target.store("videoId-1/type-BANNER", expectedResource);
+    this.target.store("videoId-2/type-VIDEO", expectedResource);
+
+    final var actualContent = this.target.list("videoId-1");
+
+    Assertions.assertTrue(
+        expectedIds.size() == actualContent.size()
+            && expectedIds.containsAll(actualContent)
+    );
+  }
+
+  @Test
+  void givenResource_whenCallsDeleteAll_shouldEmptyStorage() {
+    final var expectedResource = FixtureUtils.Videos.resource(VideoMediaType.THUMBNAIL);
+    final var expectedIds = List.of("videoId-1/type-VIDEO", "videoId-1/type-BANNER");
+
+    this.target.store("videoId-1/type-VIDEO", expectedResource);
+    this.target.store("videoId-1/type-BANNER", expectedResource);
+
+    this.target.deleteAll(expectedIds);
+
+    Assertions.assertTrue(this.target.list("videoId-1").isEmpty());
+    Assertions.assertFalse(Files.exists(root.resolve("videoId-1/type-VIDEO" + FileSystemStorageService.METADATA_SUFFIX)));
+  }
+
+  @Test
+  void givenIdOutsideRoot_whenCallsStore_shouldThrowsIllegalArgumentException() {
+    final var expectedResource = FixtureUtils.Videos.resource(VideoMediaType.THUMBNAIL);
+
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> this.target.store("../escape", expectedResource)
+    );
+  }
+}
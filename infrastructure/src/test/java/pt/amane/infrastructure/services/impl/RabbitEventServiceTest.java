@@ -8,6 +8,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 import pt.amane.AmqpTest;
 import pt.amane.domain.video.VideoMediaCreated;
@@ -49,6 +50,27 @@ class RabbitEventServiceTest {
         Assertions.assertEquals(expectedMessage, actualMessage);
     }
 
+    @Test
+    void givenSeveralEvents_whenCallsSendAllJson_shouldSendThemInOrder() throws InterruptedException {
+        // given
+        final var expectedMessages = List.of(
+                Json.writeValueAsString(new VideoMediaCreated("resource", "video")),
+                Json.writeValueAsString(new VideoMediaCreated("resource", "trailer"))
+        );
+
+        // when
+        this.publisher.sendAllJson(expectedMessages);
+
+        // then
+        for (final var expectedMessage : expectedMessages) {
+            final var invocationData =
+                    harness.getNextInvocationDataFor(LISTENER, 1, TimeUnit.SECONDS);
+
+            Assertions.assertNotNull(invocationData);
+            Assertions.assertEquals(expectedMessage, invocationData.getArguments()[0]);
+        }
+    }
+
     @Component
     static class VideoCreatedNewsListener {
 
@@ -1,11 +1,17 @@
 package pt.amane.infrastructure.services.local;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.Channels;
 import java.util.List;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import pt.amane.domain.exception.InternalErrorException;
 import pt.amane.domain.utils.FixtureUtils;
+import pt.amane.domain.video.Resource;
 import pt.amane.domain.video.VideoMediaType;
+import pt.amane.infrastructure.utils.HashingUtils;
 
 class InMemoryStorageServiceTest {
 
@@ -26,10 +32,59 @@ class InMemoryStorageServiceTest {
     target.store(expectedId, expectedResource);
 
     //when
-    final var actualContent = this.target.storage().get(expectedId);
+    final var actualContent = this.target.get(expectedId).get();
 
     //then
-    Assertions.assertEquals(expectedResource, actualContent);
+    Assertions.assertArrayEquals(expectedResource.content(), actualContent.content());
+    Assertions.assertEquals(expectedResource.checksum(), actualContent.checksum());
+    Assertions.assertEquals(expectedResource.contentType(), actualContent.contentType());
+    Assertions.assertEquals(expectedResource.name(), actualContent.name());
+    Assertions.assertEquals(expectedResource.length(), this.target.usedBytes());
+  }
+
+  @Test
+  void givenStreamedResource_whenCallsStore_shouldStoreItAndReturnChecksum() throws Exception {
+
+    //given
+    final var expectedContent = "Conteudo".getBytes();
+    final var expectedChecksum = HashingUtils.checksum(expectedContent);
+    final var expectedId = "item";
+    final var aResource = Resource.with(
+        () -> new ByteArrayInputStream(expectedContent),
+        expectedContent.length,
+        "video/mp4",
+        "video"
+    );
+
+    //when
+    final var actualChecksum = target.store(expectedId, aResource);
+
+    //then
+    final var actualContent = this.target.get(expectedId).get();
+
+    Assertions.assertEquals(expectedChecksum, actualChecksum);
+    Assertions.assertEquals(expectedChecksum, actualContent.checksum());
+    Assertions.assertArrayEquals(expectedContent, actualContent.content());
+    Assertions.assertEquals(aResource.contentType(), actualContent.contentType());
+    Assertions.assertEquals(aResource.name(), actualContent.name());
+  }
+
+  @Test
+  void givenStreamedResourceShorterThanItsLength_whenCallsStore_shouldThrowsInternalErrorException() {
+
+    //given
+    final var aResource = Resource.with(
+        () -> new ByteArrayInputStream("Conteudo".getBytes()),
+        20,
+        "video/mp4",
+        "video"
+    );
+
+    //when
+    Assertions.assertThrows(InternalErrorException.class, () -> target.store("item", aResource));
+
+    //then
+    Assertions.assertTrue(this.target.get("item").isEmpty());
   }
 
   @Test
@@ -39,13 +94,15 @@ class InMemoryStorageServiceTest {
     final var expectedResource = FixtureUtils.Videos.resource(VideoMediaType.THUMBNAIL);
     final var expectedId = "item";
 
-    this.target.storage().put(expectedId, expectedResource);
+    this.target.store(expectedId, expectedResource);
 
     //when
     final var actualContent = target.get(expectedId).get();
 
     //then
-    Assertions.assertEquals(expectedResource, actualContent);
+    Assertions.assertFalse(actualContent.isStreamed());
+    Assertions.assertArrayEquals(expectedResource.content(), actualContent.content());
+    Assertions.assertEquals(expectedResource.checksum(), actualContent.checksum());
   }
 
   @Test
@@ -55,13 +112,40 @@ class InMemoryStorageServiceTest {
     final var expectedResource = FixtureUtils.Videos.resource(VideoMediaType.THUMBNAIL);
     final var expectedId = "jajaja";
 
-    this.target.storage().put("item", expectedResource);
+    this.target.store("item", expectedResource);
 
     //when
     final var actualContent = target.get(expectedId);
 
     //then
     Assertions.assertTrue(actualContent.isEmpty());
+    Assertions.assertTrue(target.open(expectedId).isEmpty());
+  }
+
+  @Test
+  void givenStoredResource_whenCallsOpenAndTransferRange_shouldCopyOnlyTheRange() throws Exception {
+
+    //given
+    final var expectedResource = FixtureUtils.Videos.resource(VideoMediaType.VIDEO);
+    final var expectedId = "item";
+
+    this.target.store(expectedId, expectedResource);
+
+    //when
+    final var actualResource = this.target.open(expectedId).get();
+    final var out = new ByteArrayOutputStream();
+    final var actualCopied = actualResource.transferTo(2, 3, Channels.newChannel(out));
+
+    //then
+    Assertions.assertTrue(actualResource.isStreamed());
+    Assertions.assertEquals(expectedResource.content().length, actualResource.length());
+    Assertions.assertEquals(expectedResource.checksum(), actualResource.checksum());
+    Assertions.assertEquals(3, actualCopied);
+    Assertions.assertEquals("nte", out.toString());
+
+    try (final var in = actualResource.openStream()) {
+      Assertions.assertArrayEquals(expectedResource.content(), in.readAllBytes());
+    }
   }
 
   @Test
@@ -72,8 +156,9 @@ class InMemoryStorageServiceTest {
 
     final var expectedIds = List.of("item1", "item2");
 
-    this.target.storage().put("item1", expectedResource);
-    this.target.storage().put("item2", expectedResource);
+    this.target.store("item1", expectedResource);
+    this.target.store("item2", expectedResource);
+    this.target.store("other", expectedResource);
 
     //when
     final var actualContent = target.list("it");
@@ -93,13 +178,66 @@ class InMemoryStorageServiceTest {
 
     final var expectedIds = List.of("item1", "item2");
 
-    this.target.storage().put("item1", expectedResource);
-    this.target.storage().put("item2", expectedResource);
+    this.target.store("item1", expectedResource);
+    this.target.store("item2", expectedResource);
 
     //when
     target.deleteAll(expectedIds);
 
     //then
-    Assertions.assertTrue(this.target.storage().isEmpty());
+    Assertions.assertEquals(0, this.target.size());
+    Assertions.assertEquals(0, this.target.usedBytes());
+  }
+
+  @Test
+  void givenFullStorage_whenCallsStore_shouldEvictTheLeastRecentlyUsed() {
+
+    //given
+    final var aResource = FixtureUtils.Videos.resource(VideoMediaType.THUMBNAIL);
+    final var target = new InMemoryStorageService(aResource.length() * 2);
+
+    target.store("item1", aResource);
+    target.store("item2", aResource);
+    target.get("item1");
+
+    //when
+    target.store("item3", aResource);
+
+    //then
+    Assertions.assertEquals(2, target.size());
+    Assertions.assertEquals(aResource.length() * 2, target.usedBytes());
+    Assertions.assertTrue(target.get("item1").isPresent());
+    Assertions.assertTrue(target.get("item2").isEmpty());
+    Assertions.assertTrue(target.get("item3").isPresent());
+  }
+
+  @Test
+  void givenStoredResource_whenCallsStoreSameId_shouldReplaceIt() {
+
+    //given
+    final var aResource = FixtureUtils.Videos.resource(VideoMediaType.THUMBNAIL);
+
+    this.target.store("item", aResource);
+
+    //when
+    this.target.store("item", aResource);
+
+    //then
+    Assertions.assertEquals(1, this.target.size());
+    Assertions.assertEquals(aResource.length(), this.target.usedBytes());
+  }
+
+  @Test
+  void givenResourceLargerThanBudget_whenCallsStore_shouldThrowsInternalErrorException() {
+
+    //given
+    final var aResource = FixtureUtils.Videos.resource(VideoMediaType.THUMBNAIL);
+    final var target = new InMemoryStorageService(aResource.length() - 1);
+
+    //when
+    Assertions.assertThrows(InternalErrorException.class, () -> target.store("item", aResource));
+
+    //then
+    Assertions.assertEquals(0, target.size());
   }
-}
\ No newline at end of file
+}
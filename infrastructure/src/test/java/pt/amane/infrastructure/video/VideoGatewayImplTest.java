@@ -1,8 +1,13 @@
 package pt.amane.infrastructure.video;
 
+import jakarta.persistence.EntityManager;
 import java.time.Year;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.hibernate.SessionFactory;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -19,16 +24,21 @@ import pt.amane.domain.castmember.CastMemberID;
 import pt.amane.domain.category.Category;
 import pt.amane.domain.category.CategoryGateway;
 import pt.amane.domain.category.CategoryID;
+import pt.amane.domain.exception.DomainException;
 import pt.amane.domain.genre.Genre;
 import pt.amane.domain.genre.GenreGateway;
 import pt.amane.domain.genre.GenreID;
 import pt.amane.domain.utils.FixtureUtils;
 import pt.amane.domain.video.AudioVideoMedia;
 import pt.amane.domain.video.ImageMedia;
+import pt.amane.domain.video.MediaStatus;
 import pt.amane.domain.video.Video;
 import pt.amane.domain.video.VideoGateway;
 import pt.amane.domain.video.VideoID;
+import pt.amane.domain.video.VideoMediaType;
+import pt.amane.domain.video.VideoPreview;
 import pt.amane.domain.video.VideoSearchQuery;
+import pt.amane.infrastructure.outbox.persistence.OutboxEventRepository;
 import pt.amane.infrastructure.video.persistence.VideoJpaEntity;
 import pt.amane.infrastructure.video.persistence.VideoRepository;
 
@@ -52,6 +62,12 @@ class VideoGatewayImplTest {
   @Autowired
   private VideoRepository videoRepository;
 
+  @Autowired
+  private EntityManager entityManager;
+
+  @Autowired
+  private OutboxEventRepository outboxEventRepository;
+
   private CastMember wesley;
   private CastMember gabriel;
 
@@ -178,6 +194,190 @@ class VideoGatewayImplTest {
     Assertions.assertEquals(persistedVideo.getCreatedAt(), persistedVideo.getUpdatedAt());
   }
 
+  @Test
+  void givenAVideoWithFiftyRelations_whenCallsCreate_shouldInsertThemInBatches() {
+    // given
+    final var expectedCategories = Stream.generate(CategoryID::unique).limit(20).collect(Collectors.toSet());
+    final var expectedGenres = Stream.generate(GenreID::unique).limit(15).collect(Collectors.toSet());
+    final var expectedMembers = Stream.generate(CastMemberID::unique).limit(15).collect(Collectors.toSet());
+    final var expectedInserts = 51;
+
+    final var aVideo = Video.newVideo(
+        FixtureUtils.title(),
+        FixtureUtils.Videos.description(),
+        Year.of(FixtureUtils.year()),
+        FixtureUtils.duration(),
+        FixtureUtils.bool(),
+        FixtureUtils.bool(),
+        FixtureUtils.Videos.rating(),
+        expectedCategories,
+        expectedGenres,
+        expectedMembers
+    );
+
+    final var statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    entityManager.flush();
+    statistics.clear();
+
+    // when
+    videoGateway.create(aVideo);
+    entityManager.flush();
+
+    // then
+    Assertions.assertEquals(expectedInserts, statistics.getEntityInsertCount());
+    Assertions.assertEquals(4, statistics.getPrepareStatementCount());
+  }
+
+  @Test
+  void givenAVideoWithAMediaToEncode_whenCallsCreate_shouldWriteItsEventToTheOutbox() {
+    // given
+    final var aVideo = Video.newVideo(
+            FixtureUtils.title(),
+            FixtureUtils.Videos.description(),
+            Year.of(FixtureUtils.year()),
+            FixtureUtils.duration(),
+            FixtureUtils.bool(),
+            FixtureUtils.bool(),
+            FixtureUtils.Videos.rating(),
+            Set.<CategoryID>of(),
+            Set.<GenreID>of(),
+            Set.<CastMemberID>of()
+        )
+        .updateTrailerMedia(AudioVideoMedia.with("456", "trailer", "/media/trailer"));
+
+    final var expectedId = aVideo.getId().getValue();
+
+    // when
+    videoGateway.create(aVideo);
+
+    // then
+    final var actualEvents = outboxEventRepository.findAll();
+
+    Assertions.assertEquals(1, actualEvents.size());
+    Assertions.assertEquals(expectedId, actualEvents.get(0).getAggregateId());
+    Assertions.assertEquals("VideoMediaCreated", actualEvents.get(0).getType());
+    Assertions.assertTrue(actualEvents.get(0).getPayload().contains("/media/trailer"));
+    Assertions.assertEquals(0, actualEvents.get(0).getAttempts());
+    Assertions.assertTrue(aVideo.getDomainEvents().isEmpty());
+  }
+
+  @Test
+  void givenAVideoWithMedias_whenCallsUpdateMediaStatus_shouldChangeOnlyThatMedia() {
+    // given
+    final var aVideo = videoGateway.create(newVideo()
+        .updateVideoMedia(FixtureUtils.Videos.audioVideo(VideoMediaType.VIDEO))
+        .updateTrailerMedia(FixtureUtils.Videos.audioVideo(VideoMediaType.TRAILER)));
+
+    final var expectedId = aVideo.getId();
+    final var expectedTrailerId = aVideo.getTrailer().get().id();
+    final var expectedEncodedPath = "/encoded/trailer.mp4";
+
+    // when
+    final var actualUpdated =
+        videoGateway.updateMediaStatus(expectedId, expectedTrailerId, MediaStatus.COMPLETED, expectedEncodedPath);
+
+    // then
+    Assertions.assertTrue(actualUpdated);
+
+    final var actualVideo = videoRepository.findFullById(expectedId.getValue()).get().toAggregate();
+    Assertions.assertEquals(MediaStatus.COMPLETED, actualVideo.getTrailer().get().status());
+    Assertions.assertEquals(expectedEncodedPath, actualVideo.getTrailer().get().encodedLocation());
+    Assertions.assertEquals(MediaStatus.PENDING, actualVideo.getVideo().get().status());
+    Assertions.assertEquals(aVideo.getUpdatedAt(), actualVideo.getUpdatedAt());
+  }
+
+  @Test
+  void givenACompletedMedia_whenCallsUpdateMediaStatusWithProcessingOrForAnotherVideo_shouldIgnoreIt() {
+    // given
+    final var aVideo = videoGateway.create(newVideo()
+        .updateVideoMedia(FixtureUtils.Videos.audioVideo(VideoMediaType.VIDEO)));
+    final var anotherVideo = videoGateway.create(newVideo());
+
+    final var expectedId = aVideo.getId();
+    final var expectedMediaId = aVideo.getVideo().get().id();
+    final var expectedEncodedPath = "/encoded/video.mp4";
+
+    videoGateway.updateMediaStatus(expectedId, expectedMediaId, MediaStatus.COMPLETED, expectedEncodedPath);
+
+    // when
+    final var actualLate = videoGateway.updateMediaStatus(expectedId, expectedMediaId, MediaStatus.PROCESSING, null);
+    final var actualOther =
+        videoGateway.updateMediaStatus(anotherVideo.getId(), expectedMediaId, MediaStatus.COMPLETED, "/other.mp4");
+
+    // then
+    Assertions.assertFalse(actualLate);
+    Assertions.assertFalse(actualOther);
+
+    final var actualMedia = videoRepository.findFullById(expectedId.getValue()).get().toAggregate().getVideo().get();
+    Assertions.assertEquals(MediaStatus.COMPLETED, actualMedia.status());
+    Assertions.assertEquals(expectedEncodedPath, actualMedia.encodedLocation());
+  }
+
+  @Test
+  void givenSeveralVideos_whenCallsCreateAll_shouldInsertThemInOneBatch() {
+    // given
+    final var expectedVideos = Stream.generate(() -> Video.newVideo(
+            FixtureUtils.title(),
+            FixtureUtils.Videos.description(),
+            Year.of(FixtureUtils.year()),
+            FixtureUtils.duration(),
+            FixtureUtils.bool(),
+            FixtureUtils.bool(),
+            FixtureUtils.Videos.rating(),
+            Set.<CategoryID>of(),
+            Set.<GenreID>of(),
+            Set.<CastMemberID>of()
+        ))
+        .limit(10)
+        .toList();
+
+    final var statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    entityManager.flush();
+    statistics.clear();
+
+    // when
+    final var actualVideos = videoGateway.createAll(expectedVideos);
+    entityManager.flush();
+
+    // then
+    Assertions.assertEquals(
+        expectedVideos.stream().map(Video::getId).toList(),
+        actualVideos.stream().map(Video::getId).toList()
+    );
+    Assertions.assertEquals(10, statistics.getEntityInsertCount());
+    Assertions.assertEquals(1, statistics.getPrepareStatementCount());
+    Assertions.assertEquals(10, videoRepository.count());
+  }
+
+  @Test
+  void givenPersistedVideos_whenCallsStreamAll_shouldHandTheirPreviewsOrderedById() {
+    // given
+    final var videos = videoGateway.createAll(Stream.generate(() -> Video.newVideo(
+            FixtureUtils.title(),
+            FixtureUtils.Videos.description(),
+            Year.of(FixtureUtils.year()),
+            FixtureUtils.duration(),
+            FixtureUtils.bool(),
+            FixtureUtils.bool(),
+            FixtureUtils.Videos.rating(),
+            Set.<CategoryID>of(),
+            Set.<GenreID>of(),
+            Set.<CastMemberID>of()
+        ))
+        .limit(3)
+        .toList());
+
+    final var expectedIds = videos.stream().map(it -> it.getId().getValue()).sorted().toList();
+
+    // when
+    final var actualPreviews = new ArrayList<VideoPreview>();
+    videoGateway.streamAll(actualPreviews::add);
+
+    // then
+    Assertions.assertEquals(expectedIds, actualPreviews.stream().map(VideoPreview::id).toList());
+    Assertions.assertTrue(actualPreviews.stream().allMatch(it -> it.title() != null && it.createdAt() != null));
+  }
+
   @Test
   void givenAValidVideoWithoutRelations_whenCallsCreate_shouldPersistIt() {
     // given
@@ -360,6 +560,71 @@ class VideoGatewayImplTest {
     Assertions.assertTrue(persistedVideo.getUpdatedAt().isAfter(aVideo.getUpdatedAt()));
   }
 
+  @Test
+  void givenAPersistedVideo_whenCallsUpdate_shouldApplyTheChangesToTheManagedEntity() {
+    // given
+    final var aVideo = videoGateway.create(Video.newVideo(
+            FixtureUtils.title(),
+            FixtureUtils.Videos.description(),
+            Year.of(FixtureUtils.year()),
+            FixtureUtils.duration(),
+            false,
+            false,
+            FixtureUtils.Videos.rating(),
+            Set.of(aulas.getId()),
+            Set.of(tech.getId()),
+            Set.of(wesley.getId(), gabriel.getId())
+        )
+        .updateVideoMedia(AudioVideoMedia.with("video-1", "video", "/media/video")));
+
+    final var anId = aVideo.getId().getValue();
+    final var expectedEncodedPath = "/encoded/video";
+
+    entityManager.flush();
+    entityManager.clear();
+
+    final var managedVideo = videoRepository.findFullById(anId).get();
+    final var keptMember = managedVideo.getCastMembers().stream()
+        .filter(it -> it.getId().getCastMemberId().equals(wesley.getId().getValue()))
+        .findFirst()
+        .get();
+    final var keptMedia = managedVideo.getVideo();
+
+    final var aChangedVideo = videoGateway.findById(aVideo.getId()).get()
+        .update(
+            aVideo.getTitle(),
+            aVideo.getDescription(),
+            aVideo.getLaunchedAt(),
+            aVideo.getDuration(),
+            false,
+            true,
+            aVideo.getRating(),
+            Set.of(lives.getId()),
+            Set.of(tech.getId()),
+            Set.of(wesley.getId())
+        )
+        .completed(VideoMediaType.VIDEO, expectedEncodedPath);
+
+    // when
+    videoGateway.update(aChangedVideo);
+
+    // then
+    Assertions.assertSame(keptMedia, managedVideo.getVideo());
+    Assertions.assertEquals(Set.of(keptMember), managedVideo.getCastMembers());
+    Assertions.assertSame(keptMember, managedVideo.getCastMembers().iterator().next());
+
+    entityManager.flush();
+    entityManager.clear();
+
+    final var actualVideo = videoGateway.findById(aVideo.getId()).get();
+    Assertions.assertTrue(actualVideo.getPublished());
+    Assertions.assertEquals(Set.of(lives.getId()), actualVideo.getCategories());
+    Assertions.assertEquals(Set.of(tech.getId()), actualVideo.getGenres());
+    Assertions.assertEquals(Set.of(wesley.getId()), actualVideo.getCastMembers());
+    Assertions.assertEquals(MediaStatus.COMPLETED, actualVideo.getVideo().get().status());
+    Assertions.assertEquals(expectedEncodedPath, actualVideo.getVideo().get().encodedLocation());
+  }
+
   @Test
   void givenAValidVideoId_whenCallsDeleteById_shouldDeleteIt() {
     // given
@@ -487,6 +752,92 @@ class VideoGatewayImplTest {
     Assertions.assertEquals(expectedThumbHalf.name(), actualVideo.getThumbnailHalf().get().name());
   }
 
+  @Test
+  void givenAVideoWithMediasAndLinks_whenCallsFindFullById_shouldLoadThemWithTheVideo() {
+    // given
+    final var aVideo = videoGateway.create(Video.newVideo(
+            FixtureUtils.title(),
+            FixtureUtils.Videos.description(),
+            Year.of(FixtureUtils.year()),
+            FixtureUtils.duration(),
+            FixtureUtils.bool(),
+            FixtureUtils.bool(),
+            FixtureUtils.Videos.rating(),
+            Set.of(aulas.getId()),
+            Set.of(tech.getId()),
+            Set.of(wesley.getId())
+        )
+        .updateVideoMedia(AudioVideoMedia.with("video-1", "video", "/media/video"))
+        .updateBannerMedia(ImageMedia.with("banner-1", "banner", "/media/banner")));
+
+    final var anId = aVideo.getId().getValue();
+    final var persistenceUnit = entityManager.getEntityManagerFactory().getPersistenceUnitUtil();
+
+    entityManager.flush();
+    entityManager.clear();
+
+    final var lazyVideo = videoRepository.findById(anId).get();
+    final var lazyLoaded = List.of(
+        persistenceUnit.isLoaded(lazyVideo, "video"),
+        persistenceUnit.isLoaded(lazyVideo, "banner"),
+        persistenceUnit.isLoaded(lazyVideo, "categories")
+    );
+
+    entityManager.clear();
+
+    // when
+    final var actualVideo = videoRepository.findFullById(anId).get();
+
+    // then
+    Assertions.assertEquals(List.of(false, false, false), lazyLoaded);
+    Assertions.assertTrue(persistenceUnit.isLoaded(actualVideo, "video"));
+    Assertions.assertTrue(persistenceUnit.isLoaded(actualVideo, "banner"));
+    Assertions.assertEquals("video", actualVideo.getVideo().getName());
+    Assertions.assertEquals(1, actualVideo.getCategories().size());
+  }
+
+  @Test
+  void givenAVideoWithSeveralLinksOfEachKind_whenCallsFindById_shouldReadEachKindWithItsOwnStatement() {
+    // given
+    final var expectedCategories = Stream.generate(CategoryID::unique).limit(4).collect(Collectors.toSet());
+    final var expectedGenres = Stream.generate(GenreID::unique).limit(3).collect(Collectors.toSet());
+    final var expectedMembers = Stream.generate(CastMemberID::unique).limit(3).collect(Collectors.toSet());
+
+    final var aVideo = videoGateway.create(Video.newVideo(
+            FixtureUtils.title(),
+            FixtureUtils.Videos.description(),
+            Year.of(FixtureUtils.year()),
+            FixtureUtils.duration(),
+            FixtureUtils.bool(),
+            FixtureUtils.bool(),
+            FixtureUtils.Videos.rating(),
+            expectedCategories,
+            expectedGenres,
+            expectedMembers
+        )
+        .updateVideoMedia(AudioVideoMedia.with("video-1", "video", "/media/video")));
+
+    final var statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    entityManager.flush();
+    entityManager.clear();
+    statistics.clear();
+
+    // when
+    final var actualVideo = videoGateway.findById(aVideo.getId()).get();
+
+    // then
+    Assertions.assertEquals(expectedCategories, actualVideo.getCategories());
+    Assertions.assertEquals(expectedGenres, actualVideo.getGenres());
+    Assertions.assertEquals(expectedMembers, actualVideo.getCastMembers());
+    Assertions.assertEquals("video", actualVideo.getVideo().get().name());
+
+    // the video with its medias, then one statement per kind of link, never their product
+    Assertions.assertEquals(4, statistics.getPrepareStatementCount());
+    Assertions.assertEquals(3, statistics.getCollectionLoadCount());
+    // the video, its media and one row per link
+    Assertions.assertEquals(12, statistics.getEntityLoadCount());
+  }
+
   @Test
   void givenAInvalidVideoId_whenCallsFindById_shouldEmpty() {
     // given
@@ -512,6 +863,31 @@ class VideoGatewayImplTest {
     Assertions.assertTrue(actualVideo.isEmpty());
   }
 
+  @Test
+  void givenAPersistedAndAMissingVideoId_whenCallsExistsById_shouldTellThemApart() {
+    // given
+    final var aVideo = videoGateway.create(Video.newVideo(
+        FixtureUtils.title(),
+        FixtureUtils.Videos.description(),
+        Year.of(FixtureUtils.year()),
+        FixtureUtils.duration(),
+        FixtureUtils.bool(),
+        FixtureUtils.bool(),
+        FixtureUtils.Videos.rating(),
+        Set.of(),
+        Set.of(),
+        Set.of()
+    ));
+
+    // when
+    final var actualExists = videoGateway.existsById(aVideo.getId());
+    final var actualMissing = videoGateway.existsById(VideoID.unique());
+
+    // then
+    Assertions.assertTrue(actualExists);
+    Assertions.assertFalse(actualMissing);
+  }
+
   @Test
   void givenEmptyParams_whenCallFindAll_shouldReturnAllList() {
     // given
@@ -683,6 +1059,37 @@ class VideoGatewayImplTest {
     Assertions.assertEquals("Aula de empreendedorismo", actualPage.items().get(0).title());
   }
 
+  @Test
+  void givenCastMembersOfTheSameVideo_whenCallFindAll_shouldReturnTheVideoOnce() {
+    // given
+    mockVideos();
+
+    final var expectedTotal = 3;
+    final var expectedVideos = List.of(
+        "21.1 Implementação dos testes integrados do findAll",
+        "Aula de empreendedorismo",
+        "System Design no Mercado Livre na prática"
+    );
+
+    final var aQuery = new VideoSearchQuery(
+        0,
+        10,
+        "",
+        "title",
+        "asc",
+        Set.of(wesley.getId(), gabriel.getId()),
+        Set.of(),
+        Set.of()
+    );
+
+    // when
+    final var actualPage = videoGateway.findAll(aQuery);
+
+    // then
+    Assertions.assertEquals(expectedTotal, actualPage.total());
+    Assertions.assertEquals(expectedVideos, actualPage.items().stream().map(VideoPreview::title).toList());
+  }
+
   @Test
   void givenAllParameters_whenCallFindAll_shouldReturnFilteredList() {
     // given
@@ -851,6 +1258,92 @@ class VideoGatewayImplTest {
     Assertions.assertEquals(expectedVideo, actualPage.items().get(0).title());
   }
 
+  @Test
+  void givenANextCursor_whenCallsFindAllWithIt_shouldReturnTheFollowingPage() {
+    // given
+    mockVideos();
+
+    final var firstPage = videoGateway.findAll(
+        new VideoSearchQuery(0, 2, "", "createdAt", "desc", Set.of(), Set.of(), Set.of())
+    );
+
+    final var aQuery = new VideoSearchQuery(
+        0,
+        2,
+        "",
+        "createdAt",
+        "desc",
+        Set.of(),
+        Set.of(),
+        Set.of(),
+        firstPage.nextCursor()
+    );
+
+    // when
+    final var actualPage = videoGateway.findAll(aQuery);
+
+    // then
+    Assertions.assertEquals(
+        List.of("Aula de empreendedorismo", "21.1 Implementação dos testes integrados do findAll"),
+        firstPage.items().stream().map(VideoPreview::title).toList()
+    );
+    Assertions.assertEquals(
+        List.of("Não cometa esses erros ao trabalhar com Microsserviços", "System Design no Mercado Livre na prática"),
+        actualPage.items().stream().map(VideoPreview::title).toList()
+    );
+    Assertions.assertNull(actualPage.nextCursor());
+  }
+
+  @Test
+  void givenATermAndTheRelevanceSort_whenCallsFindAll_shouldReturnTheMatchingVideos() {
+    // given
+    mockVideos();
+
+    final var aQuery = new VideoSearchQuery(
+        0,
+        10,
+        "testes integrados",
+        VideoSearchQuery.RELEVANCE,
+        "desc",
+        Set.of(),
+        Set.of(),
+        Set.of()
+    );
+
+    // when
+    final var actualPage = videoGateway.findAll(aQuery);
+
+    // then
+    Assertions.assertEquals(1, actualPage.total());
+    Assertions.assertEquals(1, actualPage.items().size());
+    Assertions.assertEquals("21.1 Implementação dos testes integrados do findAll", actualPage.items().get(0).title());
+    Assertions.assertNull(actualPage.nextCursor());
+  }
+
+  @Test
+  void givenTheRelevanceSortAndACursor_whenCallsFindAll_shouldThrowDomainException() {
+    // given
+    final var expectedErrorMessage = "'cursor' is not supported when sorting by relevance";
+
+    final var aQuery = new VideoSearchQuery(
+        0,
+        10,
+        "testes",
+        VideoSearchQuery.RELEVANCE,
+        "desc",
+        Set.of(),
+        Set.of(),
+        Set.of(),
+        "cursor"
+    );
+
+    // when
+    final var actualException = Assertions.assertThrows(DomainException.class, () -> videoGateway.findAll(aQuery));
+
+    // then
+    Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+  }
+
   private void mockVideos() {
     try {
         final var video1 = Video.newVideo(
@@ -915,4 +1408,19 @@ class VideoGatewayImplTest {
         // ignore
     }
   }
+
+  private static Video newVideo() {
+    return Video.newVideo(
+        FixtureUtils.title(),
+        FixtureUtils.Videos.description(),
+        Year.of(FixtureUtils.year()),
+        FixtureUtils.duration(),
+        FixtureUtils.bool(),
+        FixtureUtils.bool(),
+        FixtureUtils.Videos.rating(),
+        Set.<CategoryID>of(),
+        Set.<GenreID>of(),
+        Set.<CastMemberID>of()
+    );
+  }
 }
@@ -0,0 +1,37 @@
+package pt.amane.infrastructure.video.index;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.PlatformTransactionManager;
+import pt.amane.UnitTest;
+import pt.amane.domain.utils.FixtureUtils;
+import pt.amane.infrastructure.video.persistence.VideoRepository;
+
+class VideoCatalogIndexLoaderTest extends UnitTest {
+
+  @Test
+  void givenABatchThatFails_whenCallsRebuild_shouldAbortTheRebuildAndStopLoading() {
+
+    //given
+    final var index = new VideoCatalogIndex(true);
+    final var videoRepository = mock(VideoRepository.class);
+    final var target = new VideoCatalogIndexLoader(index, videoRepository, mock(PlatformTransactionManager.class), 10);
+
+    when(videoRepository.findBy(any(Specification.class), any()))
+        .thenThrow(new IllegalStateException("database is down"));
+
+    //when
+    Assertions.assertThrows(IllegalStateException.class, target::rebuild);
+
+    //then
+    index.load(FixtureUtils.Videos.systemDesign());
+
+    Assertions.assertFalse(index.isReady());
+    Assertions.assertEquals(0, index.size());
+  }
+}
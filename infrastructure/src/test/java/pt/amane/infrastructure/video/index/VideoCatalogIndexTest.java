@@ -0,0 +1,187 @@
+package pt.amane.infrastructure.video.index;
+
+import java.math.BigDecimal;
+import java.time.Year;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import pt.amane.UnitTest;
+import pt.amane.domain.castmember.CastMemberID;
+import pt.amane.domain.category.CategoryID;
+import pt.amane.domain.genre.GenreID;
+import pt.amane.domain.pagination.Pagination;
+import pt.amane.domain.video.Rating;
+import pt.amane.domain.video.Video;
+import pt.amane.domain.video.VideoPreview;
+import pt.amane.domain.video.VideoSearchQuery;
+
+class VideoCatalogIndexTest extends UnitTest {
+
+  private final VideoCatalogIndex target = new VideoCatalogIndex(true);
+
+  @BeforeEach
+  void setUp() {
+    target.startRebuild();
+    target.finishRebuild();
+  }
+
+  @Test
+  void givenIndexedVideos_whenCallsSearchWithTerms_shouldMatchWordPrefixesIgnoringAccents() {
+
+    //given
+    final var systemDesign = video("System Design", "Aulas de arquitetura", Set.of());
+    final var microservices = video("Microsserviços", "Arquitetura distribuída", Set.of());
+    target.put(systemDesign);
+    target.put(microservices);
+    target.put(video("Cozinha", "Receitas", Set.of()));
+
+    //when
+    final var actualPage = target.search(query("ARQUITET", "title", "asc", Set.of(), false));
+
+    //then
+    Assertions.assertEquals(2, actualPage.total());
+    Assertions.assertEquals(
+        List.of(microservices.getId().getValue(), systemDesign.getId().getValue()),
+        actualPage.items().stream().map(VideoPreview::id).toList()
+    );
+  }
+
+  @Test
+  void givenIndexedVideos_whenCallsSearchWithCategoriesAndPage_shouldFilterSortAndPage() {
+
+    //given
+    final var aulas = CategoryID.unique();
+    final var first = video("A", null, Set.of(aulas));
+    final var second = video("B", null, Set.of(aulas));
+    target.put(first);
+    target.put(second);
+    target.put(video("C", null, Set.of()));
+
+    //when
+    final var aQuery = new VideoSearchQuery(0, 1, "", "title", "desc", Set.of(), Set.of(aulas), Set.of());
+    final var actualPage = target.search(aQuery);
+
+    //then
+    Assertions.assertEquals(2, actualPage.total());
+    Assertions.assertEquals(second.getId().getValue(), actualPage.items().get(0).id());
+    Assertions.assertNotNull(actualPage.nextCursor());
+  }
+
+  @Test
+  void givenAnIndexedVideo_whenCallsPutWithANewTitleAndRemove_shouldUpdateTheMatches() {
+
+    //given
+    final var aVideo = video("Java", "Streams", Set.of());
+    target.put(aVideo);
+
+    //when
+    aVideo.update("Kotlin", "Coroutines", Year.of(2022), BigDecimal.ONE, true, true, Rating.L, Set.of(), Set.of(), Set.of());
+    target.put(aVideo);
+
+    //then
+    Assertions.assertEquals(0, target.search(query("java", "title", "asc", Set.of(), false)).total());
+    Assertions.assertEquals(1, target.search(query("kotlin", "title", "asc", Set.of(), false)).total());
+
+    target.remove(aVideo.getId().getValue());
+
+    Assertions.assertEquals(0, target.search(query("kotlin", "title", "asc", Set.of(), false)).total());
+    Assertions.assertEquals(0, target.size());
+  }
+
+  @Test
+  void givenARebuild_whenAVideoIsWrittenBeforeItsRowIsLoaded_shouldKeepTheWrite() {
+
+    //given
+    final var aVideo = video("Antigo", null, Set.of());
+    final var aLoadedRow = Video.with(aVideo);
+    target.startRebuild();
+
+    //when
+    target.remove(aVideo.getId().getValue());
+    target.load(aLoadedRow);
+    target.finishRebuild();
+
+    //then
+    Assertions.assertEquals(0, target.size());
+  }
+
+  @Test
+  void givenARebuildThatFailed_whenCallsAbortRebuild_shouldDropTheLoadedRowsAndStopTrackingWrites() {
+
+    //given
+    target.startRebuild();
+    target.load(video("Carregado", null, Set.of()));
+
+    //when
+    target.abortRebuild();
+    target.load(video("Atrasado", null, Set.of()));
+
+    //then
+    Assertions.assertFalse(target.isReady());
+    Assertions.assertEquals(0, target.size());
+    Assertions.assertFalse(target.supports(query("", "title", "asc", Set.of(), false)));
+  }
+
+  @Test
+  void givenQueriesTheIndexCannotAnswer_whenCallsSupports_shouldReturnFalse() {
+
+    //given
+    final var notReady = new VideoCatalogIndex(true);
+
+    //when
+    //then
+    Assertions.assertTrue(target.supports(query("", "title", "asc", Set.of(), false)));
+    Assertions.assertFalse(target.supports(query("", "title", "asc", Set.of(), true)));
+    Assertions.assertFalse(target.supports(query("java", VideoSearchQuery.RELEVANCE, "desc", Set.of(), false)));
+    Assertions.assertFalse(notReady.supports(query("", "title", "asc", Set.of(), false)));
+    Assertions.assertTrue(target.supports(
+        new VideoSearchQuery(0, 10, "", "title", "asc", Set.of(), Set.of(), Set.of(), "cursor", true, false)
+    ));
+  }
+
+  @Test
+  void givenTitlesDifferingInCaseAndAccents_whenCallsSearchWithTheCursorOfThePreviousPage_shouldContinueInCollationOrder() {
+
+    //given
+    final var b = video("b", null, Set.of());
+    final var upperC = video("C", null, Set.of());
+    final var a = video("a", null, Set.of());
+    final var accentedA = video("Á", null, Set.of());
+    List.of(b, upperC, a, accentedA).forEach(target::put);
+
+    final var firstPage = target.search(new VideoSearchQuery(0, 2, "", "title", "asc", Set.of(), Set.of(), Set.of()));
+
+    //when
+    final var secondPage = target.search(
+        new VideoSearchQuery(0, 2, "", "title", "asc", Set.of(), Set.of(), Set.of(), firstPage.nextCursor(), true, false)
+    );
+
+    //then
+    Assertions.assertEquals(
+        Set.of(a.getId().getValue(), accentedA.getId().getValue()),
+        Set.copyOf(firstPage.items().stream().map(VideoPreview::id).toList())
+    );
+    Assertions.assertEquals(
+        List.of(b.getId().getValue(), upperC.getId().getValue()),
+        secondPage.items().stream().map(VideoPreview::id).toList()
+    );
+    Assertions.assertEquals(Pagination.UNKNOWN_TOTAL, secondPage.total());
+    Assertions.assertNull(secondPage.nextCursor());
+  }
+
+  private static VideoSearchQuery query(
+      final String terms,
+      final String sort,
+      final String direction,
+      final Set<CategoryID> categories,
+      final boolean consistent
+  ) {
+    return new VideoSearchQuery(0, 10, terms, sort, direction, Set.<CastMemberID>of(), categories, Set.<GenreID>of(), null, true, consistent);
+  }
+
+  private static Video video(final String title, final String description, final Set<CategoryID> categories) {
+    return Video.newVideo(title, description, Year.of(2022), BigDecimal.ONE, true, true, Rating.L, categories, Set.of(), Set.of());
+  }
+}